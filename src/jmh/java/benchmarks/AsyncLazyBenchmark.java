@@ -0,0 +1,96 @@
+package benchmarks;
+
+import io.vavr.Lazy;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.concurrent.AsyncExecutors;
+import vavr.exercises.concurrent.AsyncLazy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for 10k concurrent awaiters to obtain one lazily computed value. Blocking awaiters run on
+ * virtual threads on Java 21+, where {@code Lazy.get()} pins carrier threads while the value is being
+ * computed, and on a pool of 256 platform threads on older runtimes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncLazyBenchmark {
+	@Param({"10000"})
+	int count;
+
+	final Executor executor = AsyncExecutors.defaultExecutor();
+	ExecutorService awaiters;
+
+	@Setup
+	public void setup() {
+		// blocking the common pool with 10k awaiters would starve the computation itself
+		awaiters = executor == ForkJoinPool.commonPool() ? Executors.newFixedThreadPool(256) : (ExecutorService) executor;
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (awaiters != executor) {
+			awaiters.shutdown();
+		}
+	}
+
+	static double compute() {
+		double x = 0;
+		for (int i = 1; i < 100_000; i++) {
+			x += Math.sqrt(i);
+		}
+		return x;
+	}
+
+	@Benchmark
+	public void lazyBlocking() throws InterruptedException {
+		Lazy<Double> value = Lazy.of(AsyncLazyBenchmark::compute);
+		CountDownLatch done = new CountDownLatch(count);
+		for (int i = 0; i < count; i++) {
+			awaiters.execute(() -> {
+				try {
+					value.get();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+	}
+
+	@Benchmark
+	public void asyncLazyBlocking() throws InterruptedException {
+		AsyncLazy<Double> value = AsyncLazy.of(executor, AsyncLazyBenchmark::compute);
+		CountDownLatch done = new CountDownLatch(count);
+		for (int i = 0; i < count; i++) {
+			awaiters.execute(() -> {
+				try {
+					value.get();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await();
+	}
+
+	@Benchmark
+	public void asyncLazyCallbacks() {
+		AsyncLazy<Double> value = AsyncLazy.of(executor, AsyncLazyBenchmark::compute);
+		CompletableFuture<?>[] callbacks = new CompletableFuture<?>[count];
+		for (int i = 0; i < count; i++) {
+			callbacks[i] = value.toCompletionStage().thenApply(x -> x + 1).toCompletableFuture();
+		}
+		CompletableFuture.allOf(callbacks).join();
+	}
+}
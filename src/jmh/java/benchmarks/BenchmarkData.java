@@ -0,0 +1,80 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Vector;
+
+/**
+ * Builds the benchmark inputs shared by all benchmarks. Collections are selected by name so they
+ * can be used as JMH {@code @Param} values.
+ */
+final class BenchmarkData {
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Characters 'a'..'z' repeated up to {@code size}; {@code collection} is one of
+	 * Array, List, Vector, Stream or CharSeq.
+	 */
+	static Traversable<Character> characters(String collection, int size) {
+		char[] chars = new char[size];
+		for (int i = 0; i < size; i++) {
+			chars[i] = (char) ('a' + i % 26);
+		}
+		switch (collection) {
+			case "Array": return Array.ofAll(chars);
+			case "List": return List.ofAll(chars);
+			case "Vector": return Vector.ofAll(chars);
+			case "Stream": return force(Stream.ofAll(chars));
+			case "CharSeq": return CharSeq.of(new String(chars));
+			default: throw new IllegalArgumentException("Unknown collection: " + collection);
+		}
+	}
+
+	/**
+	 * Pseudo-random doubles in [-1000, 1000); {@code collection} is one of Array, List, Vector or Stream.
+	 */
+	static Traversable<Double> numbers(String collection, int size) {
+		double[] numbers = doubles(size);
+		switch (collection) {
+			case "Array": return Array.ofAll(numbers);
+			case "List": return List.ofAll(numbers);
+			case "Vector": return Vector.ofAll(numbers);
+			case "Stream": return force(Stream.ofAll(numbers));
+			default: throw new IllegalArgumentException("Unknown collection: " + collection);
+		}
+	}
+
+	/**
+	 * Deterministic pseudo-random doubles in [-1000, 1000), so every run sees the same data.
+	 */
+	static double[] doubles(int size) {
+		java.util.Random random = new java.util.Random(42);
+		double[] numbers = new double[size];
+		for (int i = 0; i < size; i++) {
+			numbers[i] = random.nextInt(2_000_000) / 1000.0 - 1000.0;
+		}
+		return numbers;
+	}
+
+	/**
+	 * Deterministic pseudo-random ints in [0, bound).
+	 */
+	static int[] ints(int size, int bound) {
+		java.util.Random random = new java.util.Random(42);
+		int[] numbers = new int[size];
+		for (int i = 0; i < size; i++) {
+			numbers[i] = random.nextInt(bound);
+		}
+		return numbers;
+	}
+
+	// Stream is lazy: evaluate every cell up front so the benchmark measures the operation, not the setup.
+	private static <T> Stream<T> force(Stream<T> stream) {
+		stream.length();
+		return stream;
+	}
+}
@@ -0,0 +1,102 @@
+package benchmarks;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Map;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.BulkOps;
+import vavr.exercises.collection.HashMapBuilder;
+import vavr.exercises.collection.HashSetBuilder;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Array.groupBy/partition/distinct/distinctBy} versus the builder-based {@code BulkOps}, and building
+ * a {@code HashMap}/{@code HashSet} by persistent inserts versus with a transient builder. {@code keys} is the
+ * number of distinct values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkOpsBenchmark {
+	@Param({"100000", "1000000"})
+	int size;
+
+	@Param({"100", "100000"})
+	int keys;
+
+	Array<Integer> numbers;
+
+	@Setup
+	public void setup() {
+		numbers = Array.ofAll(BenchmarkData.ints(size, keys));
+	}
+
+	@Benchmark
+	public Map<Integer, Array<Integer>> groupBy() {
+		return numbers.groupBy(x -> x);
+	}
+
+	@Benchmark
+	public Map<Integer, Array<Integer>> bulkGroupBy() {
+		return BulkOps.groupBy(numbers, x -> x);
+	}
+
+	@Benchmark
+	public Tuple2<Array<Integer>, Array<Integer>> partition() {
+		return numbers.partition(x -> x < keys / 2);
+	}
+
+	@Benchmark
+	public Tuple2<Array<Integer>, Array<Integer>> bulkPartition() {
+		return BulkOps.partition(numbers, x -> x < keys / 2);
+	}
+
+	@Benchmark
+	public Array<Integer> distinct() {
+		return numbers.distinct();
+	}
+
+	@Benchmark
+	public Array<Integer> bulkDistinct() {
+		return BulkOps.distinct(numbers);
+	}
+
+	@Benchmark
+	public Array<Integer> distinctByComparator() {
+		return numbers.distinctBy(Comparator.naturalOrder());
+	}
+
+	@Benchmark
+	public Array<Integer> bulkDistinctByComparator() {
+		return BulkOps.distinctBy(numbers, Comparator.<Integer>naturalOrder());
+	}
+
+	@Benchmark
+	public HashMap<Integer, Integer> countByPut() {
+		return numbers.foldLeft(HashMap.empty(), (counts, x) -> counts.put(x, counts.get(x).getOrElse(0) + 1));
+	}
+
+	@Benchmark
+	public HashMap<Integer, Integer> countByBuilder() {
+		HashMapBuilder<Integer, Integer> counts = HashMapBuilder.withExpectedSize(keys);
+		numbers.forEach(x -> counts.merge(x, 1, Integer::sum));
+		return counts.build();
+	}
+
+	@Benchmark
+	public HashSet<Integer> setByAdd() {
+		return HashSet.ofAll(numbers);
+	}
+
+	@Benchmark
+	public HashSet<Integer> setByBuilder() {
+		return HashSetBuilder.<Integer>withExpectedSize(keys).addAll(numbers).build();
+	}
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.CharSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import vavr.exercises.collection.CharClass;
+import vavr.exercises.collection.CharSeqs;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * TestValidation.validateName's sanitizing of a batch of names, {@code replaceAll("[a-zA-Z ]", "").distinct().sorted()}:
+ * the {@code CharSeq} path versus a precompiled {@code Pattern} and versus the unboxed {@code CharClass} path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CharSeqBenchmark {
+	static final String VALID_NAME_CHARS = "[a-zA-Z ]";
+	static final Pattern VALID_NAME_PATTERN = Pattern.compile(VALID_NAME_CHARS);
+	static final CharClass VALID_NAME = CharClass.parse(VALID_NAME_CHARS);
+	static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ     0123456789$#(%*-'";
+
+	@Param({"1000"})
+	int names;
+
+	Array<CharSeq> batch;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		batch = Array.fill(names, () -> {
+			char[] name = new char[5 + random.nextInt(20)];
+			for (int i = 0; i < name.length; i++) {
+				name[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+			}
+			return CharSeq.of(new String(name));
+		});
+	}
+
+	@Benchmark
+	public void charSeq(Blackhole blackhole) {
+		for (CharSeq name : batch) {
+			blackhole.consume(name.replaceAll(VALID_NAME_CHARS, "").distinct().sorted());
+		}
+	}
+
+	@Benchmark
+	public void precompiledPattern(Blackhole blackhole) {
+		for (CharSeq name : batch) {
+			blackhole.consume(CharSeqs.replaceAll(name, VALID_NAME_PATTERN, "").distinct().sorted());
+		}
+	}
+
+	@Benchmark
+	public void charClass(Blackhole blackhole) {
+		for (CharSeq name : batch) {
+			blackhole.consume(CharSeqs.distinctSorted(CharSeqs.reject(name, VALID_NAME)));
+		}
+	}
+
+	@Benchmark
+	public void charSeqMkString(Blackhole blackhole) {
+		for (CharSeq name : batch) {
+			blackhole.consume(name.mkString(","));
+		}
+	}
+
+	@Benchmark
+	public void charSeqsMkString(Blackhole blackhole) {
+		for (CharSeq name : batch) {
+			blackhole.consume(CharSeqs.mkString(name, ","));
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package benchmarks;
+
+import io.vavr.collection.Stream;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.ChunkedStream;
+import vavr.exercises.collection.IntChunkedStream;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A generated map/filter/take pipeline of {@code length} elements, consumed by a fold, on {@code Stream}
+ * versus {@code ChunkedStream} (memoizing and not) and the unboxed {@code IntChunkedStream}. Run with the
+ * gc profiler ({@code gradle jmh} enables it) to compare allocation per element; the {@code peakHeapBytes}
+ * counter compares what is retained while the pipeline runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChunkedStreamBenchmark {
+	@Param({"1000000", "10000000"})
+	int length;
+
+	// a state of its own, so that the chunk sizes multiply the ChunkedStream benchmarks only
+	@State(Scope.Benchmark)
+	public static class Chunking {
+		@Param({"64", "256", "1024"})
+		int chunkSize;
+	}
+
+	/**
+	 * Peak heap usage of an iteration: the sum of the peaks of the heap memory pools since a full gc before
+	 * the iteration. Pools peak at different times, so this is an upper bound, and it includes the young
+	 * generation, which fills up between collections whatever the benchmark retains.
+	 */
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Heap {
+		public long peakHeapBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			System.gc();
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+				if (pool.getType() == MemoryType.HEAP) {
+					pool.resetPeakUsage();
+				}
+			}
+			peakHeapBytes = 0;
+		}
+
+		@TearDown(Level.Iteration)
+		public void record() {
+			long peak = 0;
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+				if (pool.getType() == MemoryType.HEAP) {
+					peak += pool.getPeakUsage().getUsed();
+				}
+			}
+			peakHeapBytes = peak;
+		}
+	}
+
+	@Benchmark
+	public long stream(Heap heap) {
+		return Stream.from(0).map(x -> x * 3).filter(x -> (x & 1) == 0).take(length)
+				.foldLeft(0L, (sum, x) -> sum + x);
+	}
+
+	@Benchmark
+	public long chunkedMemoizing(Chunking chunking, Heap heap) {
+		return ChunkedStream.from(0).withChunkSize(chunking.chunkSize).map(x -> x * 3).filter(x -> (x & 1) == 0).take(length)
+				.foldLeft(0L, (sum, x) -> sum + x);
+	}
+
+	@Benchmark
+	public long chunkedNonMemoizing(Chunking chunking, Heap heap) {
+		return ChunkedStream.from(0).withChunkSize(chunking.chunkSize).nonMemoizing().map(x -> x * 3).filter(x -> (x & 1) == 0)
+				.take(length).foldLeft(0L, (sum, x) -> sum + x);
+	}
+
+	@Benchmark
+	public long intChunked(Chunking chunking, Heap heap) {
+		return IntChunkedStream.from(0).withChunkSize(chunking.chunkSize).map(x -> x * 3).filter(x -> (x & 1) == 0).take(length)
+				.sum();
+	}
+}
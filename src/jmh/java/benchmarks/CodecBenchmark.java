@@ -0,0 +1,112 @@
+package benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.TreeSet;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.io.BinaryWriter.Feature;
+import vavr.exercises.io.Codec;
+import vavr.exercises.io.Codecs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding {@code size} elements with {@link Codecs}, plain and compressed, versus Java
+ * serialization through {@code ObjectOutputStream}. The {@code collection} is an {@code Array<Integer>}, a
+ * {@code List<String>}, a {@code HashMap<Integer, String>} or a {@code TreeSet<Integer>} of random values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+	@Param({"100000"})
+	int size;
+
+	@Param({"Array", "List", "HashMap", "TreeSet"})
+	String collection;
+
+	Object value;
+	Codec<Object> codec;
+	byte[] encoded;
+	byte[] compressed;
+	byte[] serialized;
+
+	@Setup
+	public void setup() throws IOException {
+		int[] ints = BenchmarkData.ints(size, Integer.MAX_VALUE);
+		switch (collection) {
+			case "Array":
+				value = Array.ofAll(ints);
+				codec = erase(Codecs.array(Codecs.INT));
+				break;
+			case "List":
+				value = Array.ofAll(ints).map(i -> "item-" + i).toList();
+				codec = erase(Codecs.list(Codecs.STRING));
+				break;
+			case "HashMap":
+				value = HashMap.ofEntries(Array.ofAll(ints).map(i -> Tuple.of(i, Integer.toHexString(i))));
+				codec = erase(Codecs.hashMap(Codecs.INT, Codecs.STRING));
+				break;
+			case "TreeSet":
+				value = TreeSet.ofAll(ints);
+				codec = erase(Codecs.treeSet(Codecs.INT));
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown collection: " + collection);
+		}
+		encoded = codec.encode(value);
+		compressed = codec.encode(value, Feature.COMPRESSION);
+		serialized = serialize();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Codec<Object> erase(Codec<?> codec) {
+		return (Codec<Object>) codec;
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public Object deserialize() throws IOException, ClassNotFoundException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+			return in.readObject();
+		}
+	}
+
+	@Benchmark
+	public byte[] encode() {
+		return codec.encode(value);
+	}
+
+	@Benchmark
+	public Object decode() {
+		return codec.decode(encoded);
+	}
+
+	@Benchmark
+	public byte[] encodeCompressed() {
+		return codec.encode(value, Feature.COMPRESSION);
+	}
+
+	@Benchmark
+	public Object decodeCompressed() {
+		return codec.decode(compressed);
+	}
+}
@@ -0,0 +1,84 @@
+package benchmarks;
+
+import io.vavr.Function1;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.function.Memoize;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lock-free {@code Memoize.concurrent} versus vavr's {@code memoized()}, which serializes all callers
+ * on one lock, at 1 to 64 threads. Most calls hit already computed keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentMemoizationBenchmark {
+	static final int KEYS = 4096;
+
+	Function1<Integer, Double> memoized;
+	Function1<Integer, Double> concurrent;
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next = (int) (Thread.currentThread().getId() * 7919);
+	}
+
+	@Setup
+	public void setup() {
+		Function1<Integer, Double> lookup = x -> Math.sqrt(x) * Math.log1p(x);
+		memoized = lookup.memoized();
+		concurrent = Memoize.concurrent(lookup);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Double memoized1(Cursor cursor) {
+		return memoized.apply(cursor.next++ & (KEYS - 1));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Double memoized4(Cursor cursor) {
+		return memoized.apply(cursor.next++ & (KEYS - 1));
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Double memoized16(Cursor cursor) {
+		return memoized.apply(cursor.next++ & (KEYS - 1));
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Double memoized64(Cursor cursor) {
+		return memoized.apply(cursor.next++ & (KEYS - 1));
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Double concurrent1(Cursor cursor) {
+		return concurrent.apply(cursor.next++ & (KEYS - 1));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Double concurrent4(Cursor cursor) {
+		return concurrent.apply(cursor.next++ & (KEYS - 1));
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Double concurrent16(Cursor cursor) {
+		return concurrent.apply(cursor.next++ & (KEYS - 1));
+	}
+
+	@Benchmark
+	@Threads(64)
+	public Double concurrent64(Cursor cursor) {
+		return concurrent.apply(cursor.next++ & (KEYS - 1));
+	}
+}
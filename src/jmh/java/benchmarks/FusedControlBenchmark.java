@@ -0,0 +1,176 @@
+package benchmarks;
+
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.control.Eithers;
+import vavr.exercises.control.Options;
+import vavr.exercises.control.Trys;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Option}, {@code Either} and {@code Try} chains versus the fused {@code Options}, {@code Eithers} and
+ * {@code Trys} combinators, over {@code size} values of which one in eight is empty, left, a failure or not a
+ * number. Run with {@code -prof gc} to see whether escape analysis removed the intermediate wrappers and boxes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FusedControlBenchmark {
+	@Param({"1000"})
+	int size;
+
+	String[] texts;
+	Option<String>[] options;
+	Either<String, String>[] eithers;
+	Try<String>[] tries;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		int[] numbers = BenchmarkData.ints(size, 1_000_000);
+		texts = new String[size];
+		options = new Option[size];
+		eithers = new Either[size];
+		tries = new Try[size];
+		for (int i = 0; i < size; i++) {
+			boolean missing = i % 8 == 7;
+			String text = String.valueOf(numbers[i]);
+			texts[i] = missing ? "n/a" : text;
+			options[i] = missing ? Option.none() : Option.some(text);
+			eithers[i] = missing ? Either.left("n/a") : Either.right(text);
+			tries[i] = missing ? Try.failure(new IllegalArgumentException("n/a")) : Try.success(text);
+		}
+	}
+
+	@Benchmark
+	public long optionMapFilterGetOrElse() {
+		long sum = 0;
+		for (Option<String> option : options) {
+			sum += option.map(String::hashCode).filter(h -> (h & 1) == 0).getOrElse(0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fusedOptionMapFilterGetOrElse() {
+		long sum = 0;
+		for (Option<String> option : options) {
+			sum += Options.mapFilterGetOrElse(option, String::hashCode, h -> (h & 1) == 0, 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fusedOptionMapToIntFilterGetOrElse() {
+		long sum = 0;
+		for (Option<String> option : options) {
+			sum += Options.mapToIntFilterGetOrElse(option, String::hashCode, h -> (h & 1) == 0, 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long optionMapGetOrElse() {
+		long sum = 0;
+		for (Option<String> option : options) {
+			sum += option.map(String::hashCode).getOrElse(0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fusedOptionFoldToInt() {
+		long sum = 0;
+		for (Option<String> option : options) {
+			sum += Options.foldToInt(option, 0, String::hashCode);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long eitherMapFilterGetOrElse() {
+		long sum = 0;
+		for (Either<String, String> either : eithers) {
+			sum += either.map(String::hashCode).filter(h -> (h & 1) == 0).flatMap(Either::toOption).getOrElse(0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fusedEitherMapFilterGetOrElse() {
+		long sum = 0;
+		for (Either<String, String> either : eithers) {
+			sum += Eithers.mapFilterGetOrElse(either, String::hashCode, h -> (h & 1) == 0, 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fusedEitherMapToIntFilterGetOrElse() {
+		long sum = 0;
+		for (Either<String, String> either : eithers) {
+			sum += Eithers.mapToIntFilterGetOrElse(either, String::hashCode, h -> (h & 1) == 0, 0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long eitherFold() {
+		long sum = 0;
+		for (Either<String, String> either : eithers) {
+			sum += either.fold(String::length, String::hashCode);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fusedEitherFoldToInt() {
+		long sum = 0;
+		for (Either<String, String> either : eithers) {
+			sum += Eithers.foldToInt(either, String::length, String::hashCode);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long tryMapGetOrElse() {
+		long sum = 0;
+		for (Try<String> attempt : tries) {
+			sum += attempt.map(String::hashCode).getOrElse(0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fusedTryFoldToInt() {
+		long sum = 0;
+		for (Try<String> attempt : tries) {
+			sum += Trys.foldToInt(attempt, t -> 0, String::hashCode);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long tryOfParse() {
+		long sum = 0;
+		for (String text : texts) {
+			sum += Try.of(() -> Integer.parseInt(text)).map(n -> n * 2).getOrElse(-1);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fusedTryApplyToInt() {
+		long sum = 0;
+		for (String text : texts) {
+			sum += Trys.applyToInt(text, t -> Integer.parseInt(t) * 2, -1);
+		}
+		return sum;
+	}
+}
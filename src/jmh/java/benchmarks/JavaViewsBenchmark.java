@@ -0,0 +1,90 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.JavaViews;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zero-copy spliterators and views versus vavr's {@code toJavaStream()}, {@code toJavaList()} and
+ * {@code toJavaSet()} conversions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavaViewsBenchmark {
+	@Param({"Array", "Vector"})
+	String collection;
+
+	@Param({"100000", "1000000", "10000000"})
+	int size;
+
+	IndexedSeq<Integer> numbers;
+	HashSet<Integer> set;
+
+	@Setup
+	public void setup() {
+		Array<Integer> values = Array.ofAll(BenchmarkData.ints(size, size));
+		numbers = collection.equals("Vector") ? Vector.ofAll(values) : values;
+		set = HashSet.ofAll(values.take(100_000));
+	}
+
+	@Benchmark
+	public long toJavaStream() {
+		return numbers.toJavaStream().mapToLong(x -> x).sum();
+	}
+
+	@Benchmark
+	public long spliteratorStream() {
+		return JavaViews.toJavaStream(numbers).mapToLong(x -> x).sum();
+	}
+
+	@Benchmark
+	public long toJavaParallelStream() {
+		return numbers.toJavaParallelStream().mapToLong(x -> x).sum();
+	}
+
+	@Benchmark
+	public long spliteratorParallelStream() {
+		return JavaViews.toJavaParallelStream(numbers).mapToLong(x -> x).sum();
+	}
+
+	@Benchmark
+	public Integer toJavaListGet() {
+		java.util.List<Integer> list = numbers.toJavaList();
+		return list.get(list.size() / 2);
+	}
+
+	@Benchmark
+	public Integer asJavaListGet() {
+		java.util.List<Integer> list = JavaViews.asJavaList(numbers);
+		return list.get(list.size() / 2);
+	}
+
+	@Benchmark
+	public boolean toJavaSetContains() {
+		return set.toJavaSet().contains(42);
+	}
+
+	@Benchmark
+	public boolean asJavaSetContains() {
+		return JavaViews.asJavaSet(set).contains(42);
+	}
+
+	@Benchmark
+	public Object[] toJavaArray() {
+		return numbers.toJavaArray();
+	}
+
+	@Benchmark
+	public Object[] asJavaListToArray() {
+		return JavaViews.asJavaList(numbers).toArray();
+	}
+}
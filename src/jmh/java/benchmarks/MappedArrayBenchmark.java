@@ -0,0 +1,148 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.io.MappedIntArray;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * A file of {@code size} random ints, loaded as an {@code Array<Integer>} (read and boxed onto the heap) or as a
+ * {@link MappedIntArray} (mapped in place): the time to load it, a full scan, 1024 random reads, and the pause of
+ * a full {@code System.gc()} while the loaded sequence is reachable, for the heap and the mapped variant in
+ * separate states so that each collection sees only its own dataset. Loading is a single-shot measurement, as at
+ * startup; mapping in a tight loop would exhaust the process's mappings before the collector releases them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedArrayBenchmark {
+	static final int READS = 1024;
+
+	@Param({"10000000"})
+	int size;
+
+	Path file;
+	int[] indices;
+
+	@Setup
+	public void setup() throws IOException {
+		file = Files.createTempFile("mapped", ".ints");
+		MappedIntArray.write(file, IntStream.of(BenchmarkData.ints(size, Integer.MAX_VALUE)));
+		indices = BenchmarkData.ints(READS, size);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	static Array<Integer> loadArray(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) {
+					throw new IOException(file + " is shorter than its size");
+				}
+			}
+			buffer.flip();
+			int[] values = new int[buffer.remaining() / Integer.BYTES];
+			buffer.asIntBuffer().get(values);
+			return Array.ofAll(values);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class OnHeap {
+		Array<Integer> array;
+
+		@Setup
+		public void setup(MappedArrayBenchmark data) throws IOException {
+			array = loadArray(data.file);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class OffHeap {
+		MappedIntArray mapped;
+
+		@Setup
+		public void setup(MappedArrayBenchmark data) throws IOException {
+			mapped = MappedIntArray.map(data.file);
+			// page the file in, as the scans of the heap variant would
+			mapped.sum();
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 20)
+	public Array<Integer> loadArray() throws IOException {
+		return loadArray(file);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 20)
+	public MappedIntArray loadMapped() throws IOException {
+		return MappedIntArray.map(file);
+	}
+
+	@Benchmark
+	public long sumArray(OnHeap state) {
+		long sum = 0;
+		for (int value : state.array) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long sumMapped(OffHeap state) {
+		return state.mapped.sum();
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public long getArray(OnHeap state) {
+		long sum = 0;
+		for (int index : indices) {
+			sum += state.array.get(index);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public long getMapped(OffHeap state) {
+		long sum = 0;
+		for (int index : indices) {
+			sum += state.mapped.get(index);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public Object gcArray(OnHeap state) {
+		System.gc();
+		return state.array;
+	}
+
+	@Benchmark
+	public Object gcMapped(OffHeap state) {
+		System.gc();
+		return state.mapped;
+	}
+}
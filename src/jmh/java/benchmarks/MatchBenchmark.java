@@ -0,0 +1,143 @@
+package benchmarks;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.match.CompiledMatch;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.vavr.API.*;
+import static io.vavr.Patterns.$Success;
+import static io.vavr.Patterns.$Tuple2;
+import static io.vavr.Predicates.instanceOf;
+import static io.vavr.Predicates.isIn;
+
+/**
+ * Inline {@code Match(x).of(Case(...), ...)}, which allocates every case per call, versus a
+ * {@link CompiledMatch} built once, for the matches in TestMatch and a 32-way router.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchBenchmark {
+	static final String[] ROUTES = new String[32];
+
+	static {
+		for (int i = 0; i < ROUTES.length; i++) {
+			ROUTES[i] = "/route/" + i;
+		}
+	}
+
+	final Object[] messages = {"text", 42, 3.14, new IllegalStateException(), 'c', 7L};
+	final Try<Tuple2<String, Integer>>[] tries = tries();
+	int next;
+
+	CompiledMatch<Integer, String> fizzBuzz = CompiledMatch.<Integer, String>builder()
+			.when(x -> x % 15 == 0, "fizz-buzz")
+			.when(x -> x % 3 == 0, "fizz")
+			.when(x -> x % 5 == 0, "buzz")
+			.otherwise(String::valueOf);
+
+	CompiledMatch<Object, String> byType = CompiledMatch.<Object, String>builder()
+			.instanceOf(String.class, "string")
+			.instanceOf(Integer.class, "integer")
+			.instanceOf(Double.class, "double")
+			.instanceOf(Long.class, "long")
+			.instanceOf(Throwable.class, "failure")
+			.otherwise("something unknown");
+
+	CompiledMatch<String, Integer> router = router();
+
+	CompiledMatch<Try<Tuple2<String, Integer>>, String> patterns = CompiledMatch.<Try<Tuple2<String, Integer>>, String>builder()
+			.pattern($Success($Tuple2($(isIn("hello", "world")), $())), tuple2 -> String.valueOf(tuple2._2))
+			.pattern($Success($Tuple2($(), $(42))), tuple2 -> tuple2._1)
+			.otherwise("oops");
+
+	@SuppressWarnings("unchecked")
+	static Try<Tuple2<String, Integer>>[] tries() {
+		return new Try[]{Try.success(Tuple.of("answer", 42)), Try.success(Tuple.of("hello", 7)), Try.failure(new RuntimeException())};
+	}
+
+	static CompiledMatch<String, Integer> router() {
+		CompiledMatch.Builder<String, Integer> builder = CompiledMatch.builder();
+		for (int i = 0; i < ROUTES.length; i++) {
+			builder.equalTo(ROUTES[i], i);
+		}
+		return builder.otherwise(-1);
+	}
+
+	@Benchmark
+	public String inlineFizzBuzz() {
+		int number = next++;
+		return Match(number).of(
+				Case($(x -> x % 15 == 0), "fizz-buzz"),
+				Case($(x -> x % 3 == 0), "fizz"),
+				Case($(x -> x % 5 == 0), "buzz"),
+				Case($(), String::valueOf)
+		);
+	}
+
+	@Benchmark
+	public String compiledFizzBuzz() {
+		return fizzBuzz.apply(next++);
+	}
+
+	@Benchmark
+	public String inlineByType() {
+		Object message = messages[next++ % messages.length];
+		return Match(message).of(
+				Case($(instanceOf(String.class)), "string"),
+				Case($(instanceOf(Integer.class)), "integer"),
+				Case($(instanceOf(Double.class)), "double"),
+				Case($(instanceOf(Long.class)), "long"),
+				Case($(instanceOf(Throwable.class)), "failure"),
+				Case($(), "something unknown")
+		);
+	}
+
+	@Benchmark
+	public String compiledByType() {
+		return byType.apply(messages[next++ % messages.length]);
+	}
+
+	@Benchmark
+	public Integer inlineRouter() {
+		String route = ROUTES[next++ & 31];
+		return Match(route).of(
+				Case($(ROUTES[0]), 0), Case($(ROUTES[1]), 1), Case($(ROUTES[2]), 2), Case($(ROUTES[3]), 3),
+				Case($(ROUTES[4]), 4), Case($(ROUTES[5]), 5), Case($(ROUTES[6]), 6), Case($(ROUTES[7]), 7),
+				Case($(ROUTES[8]), 8), Case($(ROUTES[9]), 9), Case($(ROUTES[10]), 10), Case($(ROUTES[11]), 11),
+				Case($(ROUTES[12]), 12), Case($(ROUTES[13]), 13), Case($(ROUTES[14]), 14), Case($(ROUTES[15]), 15),
+				Case($(ROUTES[16]), 16), Case($(ROUTES[17]), 17), Case($(ROUTES[18]), 18), Case($(ROUTES[19]), 19),
+				Case($(ROUTES[20]), 20), Case($(ROUTES[21]), 21), Case($(ROUTES[22]), 22), Case($(ROUTES[23]), 23),
+				Case($(ROUTES[24]), 24), Case($(ROUTES[25]), 25), Case($(ROUTES[26]), 26), Case($(ROUTES[27]), 27),
+				Case($(ROUTES[28]), 28), Case($(ROUTES[29]), 29), Case($(ROUTES[30]), 30), Case($(ROUTES[31]), 31),
+				Case($(), -1)
+		);
+	}
+
+	@Benchmark
+	public Integer compiledRouter() {
+		return router.apply(ROUTES[next++ & 31]);
+	}
+
+	@Benchmark
+	public String inlinePatterns() {
+		Try<Tuple2<String, Integer>> value = tries[next++ % tries.length];
+		return Match(value).of(
+				Case($Success($Tuple2($(isIn("hello", "world")), $())), tuple2 -> String.valueOf(tuple2._2)),
+				Case($Success($Tuple2($(), $(42))), tuple2 -> tuple2._1),
+				Case($(), "oops")
+		);
+	}
+
+	@Benchmark
+	public String compiledPatterns() {
+		return patterns.apply(tries[next++ % tries.length]);
+	}
+}
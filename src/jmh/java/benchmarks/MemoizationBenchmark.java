@@ -0,0 +1,54 @@
+package benchmarks;
+
+import io.vavr.Function1;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.function.MemoCache;
+import vavr.exercises.function.Memoize;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded memoization (LRU, LFU) versus vavr's unbounded {@code memoized()}. Arguments are drawn from
+ * {@code keys} distinct values; with {@code keys} above the cache size the bounded caches evict.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoizationBenchmark {
+	static final int CACHE_SIZE = 1024;
+
+	@Param({"512", "4096"})
+	int keys;
+
+	@Param({"unbounded", "LRU", "LFU"})
+	String cache;
+
+	Function1<Integer, Double> memoized;
+	int[] arguments;
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next;
+	}
+
+	@Setup
+	public void setup() {
+		Function1<Integer, Double> lookup = x -> Math.sqrt(x) * Math.log1p(x);
+		if (cache.equals("unbounded")) {
+			memoized = lookup.memoized();
+		} else {
+			MemoCache memoCache = MemoCache.builder().maximumSize(CACHE_SIZE).eviction(MemoCache.Eviction.valueOf(cache)).build();
+			memoized = Memoize.bounded(lookup, memoCache);
+		}
+		arguments = BenchmarkData.ints(1 << 16, keys);
+	}
+
+	@Benchmark
+	public Double apply(Cursor cursor) {
+		int index = cursor.next++ & (arguments.length - 1);
+		return memoized.apply(arguments[index]);
+	}
+}
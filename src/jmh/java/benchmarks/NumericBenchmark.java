@@ -0,0 +1,57 @@
+package benchmarks;
+
+import io.vavr.collection.Traversable;
+import io.vavr.control.Option;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the numeric Traversable operations exercised in TestTraversable.numericOperations.
+ * CharSeq is not included: it can only hold characters.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumericBenchmark {
+	@Param({"Array", "List", "Vector", "Stream"})
+	String collection;
+
+	@Param({"100000", "1000000", "10000000"})
+	int size;
+
+	Traversable<Double> numbers;
+
+	@Setup
+	public void setup() {
+		numbers = BenchmarkData.numbers(collection, size);
+	}
+
+	@Benchmark
+	public Option<Double> average() {
+		return numbers.average();
+	}
+
+	@Benchmark
+	public Option<Double> max() {
+		return numbers.max();
+	}
+
+	@Benchmark
+	public Option<Double> min() {
+		return numbers.min();
+	}
+
+	@Benchmark
+	public Number sum() {
+		return numbers.sum();
+	}
+
+	@Benchmark
+	public Number product() {
+		return numbers.product();
+	}
+}
@@ -0,0 +1,120 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.parallel.ParTraversable;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static vavr.exercises.parallel.Par.par;
+
+/**
+ * Scaling of the parallel views from 1 to N worker threads; compare with the sequential operations
+ * on the same collection (parallelism is ignored by the sequential benchmarks).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelBenchmark {
+	@Param({"Array", "Vector", "HashSet"})
+	String collection;
+
+	@Param({"1000000"})
+	int size;
+
+	@Param({"1", "2", "4", "8"})
+	int parallelism;
+
+	Traversable<Integer> numbers;
+	ParTraversable<Integer> parallel;
+	ForkJoinPool pool;
+
+	@Setup
+	public void setup() {
+		Array<Integer> values = Array.ofAll(BenchmarkData.ints(size, size));
+		pool = new ForkJoinPool(parallelism);
+		switch (collection) {
+			case "Array":
+				numbers = values;
+				parallel = par(values, pool);
+				break;
+			case "Vector":
+				numbers = Vector.ofAll(values);
+				parallel = par((Vector<Integer>) numbers, pool);
+				break;
+			case "HashSet":
+				numbers = HashSet.ofAll(values);
+				parallel = par((HashSet<Integer>) numbers, pool);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown collection: " + collection);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	// CPU-heavy enough per element for parallelism to pay off
+	static boolean isProbablyPrime(int x) {
+		return java.math.BigInteger.valueOf(x).isProbablePrime(10);
+	}
+
+	@Benchmark
+	public Integer sequentialReduce() {
+		return numbers.reduce(Math::max);
+	}
+
+	@Benchmark
+	public Integer parallelReduce() {
+		return parallel.reduce(Math::max);
+	}
+
+	@Benchmark
+	public int sequentialCount() {
+		return numbers.count(ParallelBenchmark::isProbablyPrime);
+	}
+
+	@Benchmark
+	public int parallelCount() {
+		return parallel.count(ParallelBenchmark::isProbablyPrime);
+	}
+
+	@Benchmark
+	public Object sequentialMap() {
+		return numbers.map(x -> x * 31 + 7);
+	}
+
+	@Benchmark
+	public Object parallelMap() {
+		return parallel.map(x -> x * 31 + 7);
+	}
+
+	@Benchmark
+	public Object sequentialFilter() {
+		return numbers.filter(ParallelBenchmark::isProbablyPrime);
+	}
+
+	@Benchmark
+	public Object parallelFilter() {
+		return parallel.filter(ParallelBenchmark::isProbablyPrime);
+	}
+
+	@Benchmark
+	public Object sequentialGroupBy() {
+		return numbers.groupBy(x -> x % 16);
+	}
+
+	@Benchmark
+	public Object parallelGroupBy() {
+		return parallel.groupBy(x -> x % 16);
+	}
+}
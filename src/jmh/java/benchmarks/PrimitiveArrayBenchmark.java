@@ -0,0 +1,93 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.control.Option;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.DoubleArray;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unboxed DoubleArray reductions versus the same reductions on {@code Array<Double>}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveArrayBenchmark {
+	@Param({"100000", "1000000", "10000000"})
+	int size;
+
+	Array<Double> boxed;
+	DoubleArray unboxed;
+
+	@Setup
+	public void setup() {
+		double[] numbers = BenchmarkData.doubles(size);
+		boxed = Array.ofAll(numbers);
+		unboxed = DoubleArray.of(numbers);
+	}
+
+	@Benchmark
+	public Number boxedSum() {
+		return boxed.sum();
+	}
+
+	@Benchmark
+	public double unboxedSum() {
+		return unboxed.sum();
+	}
+
+	@Benchmark
+	public Option<Double> boxedAverage() {
+		return boxed.average();
+	}
+
+	@Benchmark
+	public OptionalDouble unboxedAverage() {
+		return unboxed.average();
+	}
+
+	@Benchmark
+	public Number boxedProduct() {
+		return boxed.product();
+	}
+
+	@Benchmark
+	public double unboxedProduct() {
+		return unboxed.product();
+	}
+
+	@Benchmark
+	public Option<Double> boxedMin() {
+		return boxed.min();
+	}
+
+	@Benchmark
+	public OptionalDouble unboxedMin() {
+		return unboxed.min();
+	}
+
+	@Benchmark
+	public Option<Double> boxedMax() {
+		return boxed.max();
+	}
+
+	@Benchmark
+	public OptionalDouble unboxedMax() {
+		return unboxed.max();
+	}
+
+	@Benchmark
+	public Array<Double> boxedMapFilter() {
+		return boxed.map(x -> x * 2).filter(x -> x > 0);
+	}
+
+	@Benchmark
+	public DoubleArray unboxedMapFilter() {
+		return unboxed.map(x -> x * 2).filter(x -> x > 0);
+	}
+}
@@ -0,0 +1,140 @@
+package benchmarks;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.IntHashMap;
+import vavr.exercises.collection.IntHashSet;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code HashMap<Integer, String>} and {@code HashSet<Integer>} versus {@code IntHashMap<String>} and
+ * {@code IntHashSet} of {@code size} random keys: 1024 lookups, puts and removes on the full map, and building
+ * it (run with {@code -prof gc} for the allocation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveHashMapBenchmark {
+	static final int OPERATIONS = 1024;
+
+	@Param({"100000", "1000000"})
+	int size;
+
+	int[] keys;
+	int[] present;
+	int[] absent;
+	HashMap<Integer, String> boxedMap;
+	IntHashMap<String> intMap;
+	HashSet<Integer> boxedSet;
+	IntHashSet intSet;
+
+	@Setup
+	public void setup() {
+		keys = BenchmarkData.ints(size, Integer.MAX_VALUE);
+		present = new int[OPERATIONS];
+		absent = new int[OPERATIONS];
+		for (int i = 0; i < OPERATIONS; i++) {
+			present[i] = keys[i * (size / OPERATIONS)];
+			absent[i] = -1 - i;
+		}
+		boxedMap = buildBoxedMap();
+		intMap = buildIntMap();
+		boxedSet = HashSet.ofAll(boxedMap.keySet());
+		intSet = intMap.keySet();
+	}
+
+	@Benchmark
+	public int getBoxed() {
+		int found = 0;
+		for (int key : present) {
+			found += boxedMap.get(key).isDefined() ? 1 : 0;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int getInt() {
+		int found = 0;
+		for (int key : present) {
+			found += intMap.containsKey(key) ? 1 : 0;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public HashMap<Integer, String> putBoxed() {
+		HashMap<Integer, String> map = boxedMap;
+		for (int key : absent) {
+			map = map.put(key, "x");
+		}
+		return map;
+	}
+
+	@Benchmark
+	public IntHashMap<String> putInt() {
+		IntHashMap<String> map = intMap;
+		for (int key : absent) {
+			map = map.put(key, "x");
+		}
+		return map;
+	}
+
+	@Benchmark
+	public HashMap<Integer, String> removeBoxed() {
+		HashMap<Integer, String> map = boxedMap;
+		for (int key : present) {
+			map = map.remove(key);
+		}
+		return map;
+	}
+
+	@Benchmark
+	public IntHashMap<String> removeInt() {
+		IntHashMap<String> map = intMap;
+		for (int key : present) {
+			map = map.remove(key);
+		}
+		return map;
+	}
+
+	@Benchmark
+	public int containsBoxedSet() {
+		int found = 0;
+		for (int key : present) {
+			found += boxedSet.contains(key) ? 1 : 0;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int containsIntSet() {
+		int found = 0;
+		for (int key : present) {
+			found += intSet.contains(key) ? 1 : 0;
+		}
+		return found;
+	}
+
+	@Benchmark
+	public HashMap<Integer, String> buildBoxedMap() {
+		HashMap<Integer, String> map = HashMap.empty();
+		for (int key : keys) {
+			map = map.put(key, "x");
+		}
+		return map;
+	}
+
+	@Benchmark
+	public IntHashMap<String> buildIntMap() {
+		IntHashMap<String> map = IntHashMap.empty();
+		for (int key : keys) {
+			map = map.put(key, "x");
+		}
+		return map;
+	}
+}
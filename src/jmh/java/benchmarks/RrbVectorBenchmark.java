@@ -0,0 +1,209 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Vector;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.RrbVector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The slicing operations of {@code TestTraversable.selection}, concatenation and single-element updates on an
+ * {@code Array}, a {@code Vector} and an {@link RrbVector} of {@code size} elements, plus 1024 indexed reads to
+ * show what the relaxed tree costs for {@code get}. The {@code RrbVector} is built from concatenated slices, so
+ * its tree is relaxed rather than packed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RrbVectorBenchmark {
+	static final int READS = 1024;
+
+	@Param({"10000", "1000000"})
+	int size;
+
+	Array<Integer> array;
+	Vector<Integer> vector;
+	RrbVector<Integer> rrbVector;
+	int[] indices;
+	int cut;
+
+	@Setup
+	public void setup() {
+		int[] values = BenchmarkData.ints(size, Integer.MAX_VALUE);
+		array = Array.ofAll(values);
+		vector = Vector.ofAll(values);
+		RrbVector<Integer> packed = RrbVector.ofAll(array);
+		rrbVector = RrbVector.empty();
+		for (int from = 0; from < size; from += size / 10) {
+			rrbVector = rrbVector.appendAll(packed.slice(from, from + size / 10));
+		}
+		indices = BenchmarkData.ints(READS, size);
+		cut = size / 3;
+	}
+
+	@Benchmark
+	public Array<Integer> dropArray() {
+		return array.drop(cut);
+	}
+
+	@Benchmark
+	public Vector<Integer> dropVector() {
+		return vector.drop(cut);
+	}
+
+	@Benchmark
+	public RrbVector<Integer> dropRrbVector() {
+		return rrbVector.drop(cut);
+	}
+
+	@Benchmark
+	public Array<Integer> dropRightArray() {
+		return array.dropRight(cut);
+	}
+
+	@Benchmark
+	public Vector<Integer> dropRightVector() {
+		return vector.dropRight(cut);
+	}
+
+	@Benchmark
+	public RrbVector<Integer> dropRightRrbVector() {
+		return rrbVector.dropRight(cut);
+	}
+
+	@Benchmark
+	public Array<Integer> takeArray() {
+		return array.take(cut);
+	}
+
+	@Benchmark
+	public Vector<Integer> takeVector() {
+		return vector.take(cut);
+	}
+
+	@Benchmark
+	public RrbVector<Integer> takeRrbVector() {
+		return rrbVector.take(cut);
+	}
+
+	@Benchmark
+	public Array<Integer> takeRightArray() {
+		return array.takeRight(cut);
+	}
+
+	@Benchmark
+	public Vector<Integer> takeRightVector() {
+		return vector.takeRight(cut);
+	}
+
+	@Benchmark
+	public RrbVector<Integer> takeRightRrbVector() {
+		return rrbVector.takeRight(cut);
+	}
+
+	@Benchmark
+	public Array<Integer> tailArray() {
+		return array.tail();
+	}
+
+	@Benchmark
+	public Vector<Integer> tailVector() {
+		return vector.tail();
+	}
+
+	@Benchmark
+	public RrbVector<Integer> tailRrbVector() {
+		return rrbVector.tail();
+	}
+
+	@Benchmark
+	public Array<Integer> initArray() {
+		return array.init();
+	}
+
+	@Benchmark
+	public Vector<Integer> initVector() {
+		return vector.init();
+	}
+
+	@Benchmark
+	public RrbVector<Integer> initRrbVector() {
+		return rrbVector.init();
+	}
+
+	@Benchmark
+	public Array<Integer> appendAllArray() {
+		return array.appendAll(array);
+	}
+
+	@Benchmark
+	public Vector<Integer> appendAllVector() {
+		return vector.appendAll(vector);
+	}
+
+	@Benchmark
+	public RrbVector<Integer> appendAllRrbVector() {
+		return rrbVector.appendAll(rrbVector);
+	}
+
+	@Benchmark
+	public Array<Integer> appendArray() {
+		return array.append(0);
+	}
+
+	@Benchmark
+	public Vector<Integer> appendVector() {
+		return vector.append(0);
+	}
+
+	@Benchmark
+	public RrbVector<Integer> appendRrbVector() {
+		return rrbVector.append(0);
+	}
+
+	@Benchmark
+	public Array<Integer> prependArray() {
+		return array.prepend(0);
+	}
+
+	@Benchmark
+	public Vector<Integer> prependVector() {
+		return vector.prepend(0);
+	}
+
+	@Benchmark
+	public RrbVector<Integer> prependRrbVector() {
+		return rrbVector.prepend(0);
+	}
+
+	@Benchmark
+	public long getArray() {
+		long sum = 0;
+		for (int index : indices) {
+			sum += array.get(index);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long getVector() {
+		long sum = 0;
+		for (int index : indices) {
+			sum += vector.get(index);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long getRrbVector() {
+		long sum = 0;
+		for (int index : indices) {
+			sum += rrbVector.get(index);
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,135 @@
+package benchmarks;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.TreeSet;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.IntHashSet;
+import vavr.exercises.collection.Sets;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Union, intersection and difference of two sets {@code x} and {@code y}: vavr's {@code HashSet} and
+ * {@code TreeSet} methods versus {@link Sets} and the trie merge of {@link IntHashSet}.
+ *
+ * In the {@code balanced} shape both sets have {@code size} random elements, in {@code skewed} {@code x} has
+ * {@code size / 1000}, and in {@code derived} {@code y} is {@code x} with 64 elements replaced, so the two tries
+ * share most of their nodes. Union and intersection take {@code x} as the receiver, and retainAll and
+ * difference {@code y}, the directions in which vavr copies or filters the larger set element by element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SetAlgebraBenchmark {
+	static final int REPLACED = 64;
+
+	@Param({"100000"})
+	int size;
+
+	@Param({"balanced", "skewed", "derived"})
+	String shape;
+
+	HashSet<Integer> x;
+	HashSet<Integer> y;
+	IntHashSet intX;
+	IntHashSet intY;
+	TreeSet<Integer> treeY;
+
+	@Setup
+	public void setup() {
+		// the data is seeded, so x and y are drawn from one sequence
+		int[] data = BenchmarkData.ints(2 * size, 2 * size);
+		int[] ys = Arrays.copyOf(data, size);
+		intY = IntHashSet.of(ys);
+		switch (shape) {
+			case "balanced":
+				intX = IntHashSet.of(Arrays.copyOfRange(data, size, 2 * size));
+				break;
+			case "skewed":
+				intX = IntHashSet.of(Arrays.copyOfRange(data, size, size + size / 1000));
+				break;
+			default:
+				intX = intY;
+				for (int i = 0; i < REPLACED; i++) {
+					intX = intX.remove(ys[i * (size / REPLACED)]).add(2 * size + i);
+				}
+		}
+		x = intX.toHashSet();
+		y = intY.toHashSet();
+		treeY = TreeSet.ofAll(y);
+	}
+
+	@Benchmark
+	public HashSet<Integer> unionHashSet() {
+		return x.union(y);
+	}
+
+	@Benchmark
+	public HashSet<Integer> unionSets() {
+		return Sets.union(x, y);
+	}
+
+	@Benchmark
+	public IntHashSet unionInt() {
+		return intX.union(intY);
+	}
+
+	@Benchmark
+	public HashSet<Integer> intersectHashSet() {
+		return x.intersect(y);
+	}
+
+	@Benchmark
+	public HashSet<Integer> retainAllHashSet() {
+		return y.retainAll(x);
+	}
+
+	@Benchmark
+	public HashSet<Integer> retainAllSets() {
+		return Sets.retainAll(y, x);
+	}
+
+	@Benchmark
+	public IntHashSet intersectInt() {
+		return intX.intersect(intY);
+	}
+
+	@Benchmark
+	public HashSet<Integer> diffHashSet() {
+		return y.diff(x);
+	}
+
+	@Benchmark
+	public HashSet<Integer> diffSets() {
+		return Sets.diff(y, x);
+	}
+
+	@Benchmark
+	public IntHashSet diffInt() {
+		return intY.diff(intX);
+	}
+
+	@Benchmark
+	public TreeSet<Integer> retainAllTreeSet() {
+		return treeY.retainAll(x);
+	}
+
+	@Benchmark
+	public TreeSet<Integer> retainAllTreeSets() {
+		return Sets.retainAll(treeY, x);
+	}
+
+	@Benchmark
+	public TreeSet<Integer> removeAllTreeSet() {
+		return treeY.removeAll(x);
+	}
+
+	@Benchmark
+	public TreeSet<Integer> removeAllTreeSets() {
+		return Sets.removeAll(treeY, x);
+	}
+}
@@ -0,0 +1,40 @@
+package benchmarks;
+
+import io.vavr.collection.Stream;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.ChunkedStream;
+import vavr.exercises.collection.Streams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folding a generated stream of {@code length} elements while retaining the head ({@code Stream.foldLeft})
+ * versus without retaining it ({@code Streams.foldLeft}, non-memoizing {@code ChunkedStream}). The gc profiler
+ * shows the difference in promoted and collected memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamConsumptionBenchmark {
+	@Param({"100000", "1000000"})
+	int length;
+
+	@Benchmark
+	public long retainingHead() {
+		Stream<Integer> stream = Stream.from(0).take(length);
+		return stream.foldLeft(0L, (sum, x) -> sum + x);
+	}
+
+	@Benchmark
+	public long streamsFoldLeft() {
+		return Streams.foldLeft(() -> Stream.from(0).take(length), 0L, (sum, x) -> sum + x);
+	}
+
+	@Benchmark
+	public long chunkedNonMemoizing() {
+		return ChunkedStream.from(0).nonMemoizing().take(length).foldLeft(0L, (sum, x) -> sum + x);
+	}
+}
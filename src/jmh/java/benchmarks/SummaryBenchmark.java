@@ -0,0 +1,71 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import vavr.exercises.collection.DoubleArray;
+import vavr.exercises.collection.Summary;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Count, sum, product, min, max and average computed by separate traversals versus one {@code Summary} pass,
+ * on {@code Array<Double>} and on {@code DoubleArray}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummaryBenchmark {
+	@Param({"100000", "1000000", "10000000"})
+	int size;
+
+	Array<Double> boxed;
+	DoubleArray unboxed;
+
+	@Setup
+	public void setup() {
+		double[] numbers = BenchmarkData.doubles(size);
+		boxed = Array.ofAll(numbers);
+		unboxed = DoubleArray.of(numbers);
+	}
+
+	@Benchmark
+	public void boxedSeparate(Blackhole blackhole) {
+		blackhole.consume(boxed.count(x -> true));
+		blackhole.consume(boxed.sum());
+		blackhole.consume(boxed.product());
+		blackhole.consume(boxed.min());
+		blackhole.consume(boxed.max());
+		blackhole.consume(boxed.average());
+	}
+
+	@Benchmark
+	public Summary boxedSummary() {
+		return Summary.of(boxed);
+	}
+
+	@Benchmark
+	public void unboxedSeparate(Blackhole blackhole) {
+		blackhole.consume(unboxed.length());
+		blackhole.consume(unboxed.sum());
+		blackhole.consume(unboxed.product());
+		blackhole.consume(unboxed.min());
+		blackhole.consume(unboxed.max());
+		blackhole.consume(unboxed.average());
+	}
+
+	@Benchmark
+	public Summary unboxedSummary() {
+		return unboxed.summary();
+	}
+
+	@Benchmark
+	public Summary unboxedSummaryWithQuantiles() {
+		Summary summary = Summary.withQuantiles(0.01);
+		unboxed.forEach(summary);
+		return summary;
+	}
+}
@@ -0,0 +1,69 @@
+package benchmarks;
+
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.control.Trampoline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chains of {@code steps} {@code flatMap}s: eager {@code Try} and {@code Either} chains versus building and
+ * running a {@code Trampoline}, with {@code flatMap} and with {@code map} steps, and a {@code Trampoline}
+ * recursion {@code steps} deep, which an eager {@code Try} recursion cannot run without overflowing the stack.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrampolineBenchmark {
+	@Param({"100000"})
+	int steps;
+
+	@Benchmark
+	public Try<Long> tryChain() {
+		Try<Long> chain = Try.success(0L);
+		for (int i = 0; i < steps; i++) {
+			chain = chain.flatMap(x -> Try.success(x + 1));
+		}
+		return chain;
+	}
+
+	@Benchmark
+	public Either<Throwable, Long> eitherChain() {
+		Either<Throwable, Long> chain = Either.right(0L);
+		for (int i = 0; i < steps; i++) {
+			chain = chain.flatMap(x -> Either.right(x + 1));
+		}
+		return chain;
+	}
+
+	@Benchmark
+	public Try<Long> trampolineFlatMapChain() {
+		Trampoline<Long> chain = Trampoline.done(0L);
+		for (int i = 0; i < steps; i++) {
+			chain = chain.flatMap(x -> Trampoline.done(x + 1));
+		}
+		return chain.run();
+	}
+
+	@Benchmark
+	public Try<Long> trampolineMapChain() {
+		Trampoline<Long> chain = Trampoline.done(0L);
+		for (int i = 0; i < steps; i++) {
+			chain = chain.map(x -> x + 1);
+		}
+		return chain.run();
+	}
+
+	@Benchmark
+	public Try<Long> trampolineRecursion() {
+		return count(steps).run();
+	}
+
+	static Trampoline<Long> count(long n) {
+		return n == 0 ? Trampoline.done(0L) : Trampoline.defer(() -> count(n - 1).map(x -> x + 1));
+	}
+}
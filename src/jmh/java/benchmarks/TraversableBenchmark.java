@@ -0,0 +1,477 @@
+package benchmarks;
+
+import io.vavr.PartialFunction;
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.CharSeq;
+import io.vavr.collection.Traversable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cost of every Traversable operation exercised in TestTraversable, per collection type and size.
+ * Lazy results (Stream, Iterator) are fully consumed so that all collections pay for the same work.
+ *
+ * Run a subset with e.g. {@code ./gradlew jmh -Pjmh.includes='TraversableBenchmark.(filter|map)$' -Pjmh.params=size=100000}
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraversableBenchmark {
+	@Param({"Array", "List", "Vector", "Stream", "CharSeq"})
+	String collection;
+
+	@Param({"100000", "1000000", "10000000"})
+	int size;
+
+	Traversable<Character> characters;
+	java.util.List<Character> retained;
+
+	static final PartialFunction<Character, Character> UPPERCASE = new PartialFunction<>() {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public Character apply(Character x) {
+			return (char) (x - 'a' + 'A');
+		}
+
+		@Override
+		public boolean isDefinedAt(Character x) {
+			return x >= 'a' && x <= 'm';
+		}
+	};
+	static final Comparator<Character> DISTANCE_FROM_M = Comparator.comparingInt(x -> Math.abs(x - 'm'));
+	static final Function<Character, String> TO_STRING = String::valueOf;
+
+	@Setup
+	public void setup() {
+		characters = BenchmarkData.characters(collection, size);
+		retained = Arrays.asList('a', 'e', 'i', 'o', 'u');
+	}
+
+	// basic operations
+
+	@Benchmark
+	public void collect(Blackhole bh) {
+		consume(bh, characters.collect(UPPERCASE));
+	}
+
+	@Benchmark
+	public boolean contains() {
+		return characters.contains('$');
+	}
+
+	@Benchmark
+	public boolean containsAll() {
+		return characters.containsAll(Arrays.asList('x', 'y', 'z', '$'));
+	}
+
+	@Benchmark
+	public int length() {
+		return characters.length();
+	}
+
+	@Benchmark
+	public Character head() {
+		return characters.head();
+	}
+
+	@Benchmark
+	public Object headOption() {
+		return characters.headOption();
+	}
+
+	@Benchmark
+	public void init(Blackhole bh) {
+		consume(bh, characters.init());
+	}
+
+	@Benchmark
+	public void initOption(Blackhole bh) {
+		consume(bh, characters.initOption().get());
+	}
+
+	@Benchmark
+	public boolean isEmpty() {
+		return characters.isEmpty();
+	}
+
+	@Benchmark
+	public Character last() {
+		return characters.last();
+	}
+
+	@Benchmark
+	public Object lastOption() {
+		return characters.lastOption();
+	}
+
+	@Benchmark
+	public void tail(Blackhole bh) {
+		consume(bh, characters.tail());
+	}
+
+	@Benchmark
+	public void tailOption(Blackhole bh) {
+		consume(bh, characters.tailOption().get());
+	}
+
+	@Benchmark
+	public int size() {
+		return characters.size();
+	}
+
+	// iteration
+
+	@Benchmark
+	public void forEachWithIndex(Blackhole bh) {
+		characters.forEachWithIndex((character, index) -> bh.consume(index));
+	}
+
+	@Benchmark
+	public void grouped(Blackhole bh) {
+		characters.grouped(1000).forEach(group -> consume(bh, group));
+	}
+
+	@Benchmark
+	public void iterator(Blackhole bh) {
+		consume(bh, characters);
+	}
+
+	@Benchmark
+	public void slideBy(Blackhole bh) {
+		characters.slideBy(character -> character / 4).forEach(window -> consume(bh, window));
+	}
+
+	@Benchmark
+	public void slidingWithStep(Blackhole bh) {
+		characters.sliding(100, 100).forEach(window -> consume(bh, window));
+	}
+
+	@Benchmark
+	public void sliding(Blackhole bh) {
+		// sliding(int) materializes size * windowSize elements; keep the window small
+		characters.sliding(4).forEach(window -> consume(bh, window));
+	}
+
+	// numeric operations on Characters; Double-specific ones live in NumericBenchmark
+
+	@Benchmark
+	public Object max() {
+		return characters.max();
+	}
+
+	@Benchmark
+	public Object maxByComparator() {
+		return characters.maxBy(DISTANCE_FROM_M);
+	}
+
+	@Benchmark
+	public Object maxByFunction() {
+		return characters.maxBy(TO_STRING);
+	}
+
+	@Benchmark
+	public Object min() {
+		return characters.min();
+	}
+
+	@Benchmark
+	public Object minByComparator() {
+		return characters.minBy(DISTANCE_FROM_M);
+	}
+
+	@Benchmark
+	public Object minByFunction() {
+		return characters.minBy(TO_STRING);
+	}
+
+	// reduction, folding
+
+	@Benchmark
+	public int count() {
+		return characters.count(character -> character <= 'm');
+	}
+
+	@Benchmark
+	public Character fold() {
+		return characters.fold('a', (x, y) -> x < y ? y : x);
+	}
+
+	@Benchmark
+	public int foldLeft() {
+		return characters.foldLeft(0, (x, y) -> x + y);
+	}
+
+	@Benchmark
+	public int foldRight() {
+		return characters.foldRight(0, (x, y) -> x + y);
+	}
+
+	@Benchmark
+	public Character reduce() {
+		return characters.reduce((x, y) -> x < y ? y : x);
+	}
+
+	@Benchmark
+	public Object reduceOption() {
+		return characters.reduceOption((x, y) -> x < y ? y : x);
+	}
+
+	@Benchmark
+	public Character reduceLeft() {
+		return characters.reduceLeft((x, y) -> x < y ? y : x);
+	}
+
+	@Benchmark
+	public Object reduceLeftOption() {
+		return characters.reduceLeftOption((x, y) -> x < y ? y : x);
+	}
+
+	@Benchmark
+	public Character reduceRight() {
+		return characters.reduceRight((x, y) -> x < y ? y : x);
+	}
+
+	@Benchmark
+	public Object reduceRightOption() {
+		return characters.reduceRightOption((x, y) -> x < y ? y : x);
+	}
+
+	@Benchmark
+	public String mkString() {
+		return characters.mkString();
+	}
+
+	@Benchmark
+	public String mkStringWithDelimiter() {
+		return characters.mkString(CharSeq.of("+"));
+	}
+
+	@Benchmark
+	public String mkStringWithPrefixDelimiterSuffix() {
+		return characters.mkString(CharSeq.of("["), CharSeq.of(","), CharSeq.of("]"));
+	}
+
+	// selection
+
+	@Benchmark
+	public void drop(Blackhole bh) {
+		consume(bh, characters.drop(size / 2));
+	}
+
+	@Benchmark
+	public void dropRight(Blackhole bh) {
+		consume(bh, characters.dropRight(size / 2));
+	}
+
+	@Benchmark
+	public void dropUntil(Blackhole bh) {
+		consume(bh, characters.dropUntil(character -> character == 'z'));
+	}
+
+	@Benchmark
+	public void dropWhile(Blackhole bh) {
+		consume(bh, characters.dropWhile(character -> character != 'z'));
+	}
+
+	@Benchmark
+	public void filter(Blackhole bh) {
+		consume(bh, characters.filter(character -> character <= 'm'));
+	}
+
+	@Benchmark
+	public void reject(Blackhole bh) {
+		consume(bh, characters.reject(character -> character <= 'm'));
+	}
+
+	@Benchmark
+	public Object find() {
+		return characters.find(character -> character == '$');
+	}
+
+	@Benchmark
+	public Object findLast() {
+		return characters.findLast(character -> character == '$');
+	}
+
+	@Benchmark
+	public void groupBy(Blackhole bh) {
+		characters.groupBy(character -> character <= 'm' ? "FIRST_HALF" : "SECOND_HALF").values().forEach(group -> consume(bh, group));
+	}
+
+	@Benchmark
+	public void partition(Blackhole bh) {
+		characters.partition(character -> character <= 'm').apply((first, second) -> {
+			consume(bh, first);
+			consume(bh, second);
+			return null;
+		});
+	}
+
+	@Benchmark
+	public void retainAll(Blackhole bh) {
+		consume(bh, characters.retainAll(retained));
+	}
+
+	@Benchmark
+	public void take(Blackhole bh) {
+		consume(bh, characters.take(size / 2));
+	}
+
+	@Benchmark
+	public void takeRight(Blackhole bh) {
+		consume(bh, characters.takeRight(size / 2));
+	}
+
+	@Benchmark
+	public void takeUntil(Blackhole bh) {
+		consume(bh, characters.takeUntil(character -> character == '$'));
+	}
+
+	@Benchmark
+	public void takeWhile(Blackhole bh) {
+		consume(bh, characters.takeWhile(character -> character != '$'));
+	}
+
+	// tests
+
+	@Benchmark
+	public boolean existsUnique() {
+		return characters.existsUnique(character -> character == 'a');
+	}
+
+	@Benchmark
+	public boolean hasDefiniteSize() {
+		return characters.hasDefiniteSize();
+	}
+
+	@Benchmark
+	public boolean isDistinct() {
+		return characters.isDistinct();
+	}
+
+	@Benchmark
+	public boolean isOrdered() {
+		return characters.isOrdered();
+	}
+
+	@Benchmark
+	public boolean isSequential() {
+		return characters.isSequential();
+	}
+
+	@Benchmark
+	public boolean isTraversableAgain() {
+		return characters.isTraversableAgain();
+	}
+
+	// transformation
+
+	@Benchmark
+	public void distinct(Blackhole bh) {
+		consume(bh, characters.distinct());
+	}
+
+	@Benchmark
+	public void distinctByFunction(Blackhole bh) {
+		consume(bh, characters.distinctBy(character -> character <= 'm'));
+	}
+
+	@Benchmark
+	public void distinctByComparator(Blackhole bh) {
+		consume(bh, characters.distinctBy(DISTANCE_FROM_M));
+	}
+
+	@Benchmark
+	public void flatMap(Blackhole bh) {
+		consume(bh, characters.flatMap(character -> Array.of(character, character)));
+	}
+
+	@Benchmark
+	public void map(Blackhole bh) {
+		consume(bh, characters.map(character -> (char) (character + 1)));
+	}
+
+	@Benchmark
+	public void replace(Blackhole bh) {
+		consume(bh, characters.replace('b', 'B'));
+	}
+
+	@Benchmark
+	public void replaceAll(Blackhole bh) {
+		consume(bh, characters.replaceAll('b', 'B'));
+	}
+
+	@Benchmark
+	public void scan(Blackhole bh) {
+		consume(bh, characters.scan('a', (x, y) -> x < y ? y : x));
+	}
+
+	@Benchmark
+	public void scanLeft(Blackhole bh) {
+		consume(bh, characters.scanLeft(0, (x, y) -> x + y));
+	}
+
+	@Benchmark
+	public void scanRight(Blackhole bh) {
+		consume(bh, characters.scanRight(0, (x, y) -> x + y));
+	}
+
+	@Benchmark
+	public void span(Blackhole bh) {
+		characters.span(character -> character != 'z').apply((first, second) -> {
+			consume(bh, first);
+			consume(bh, second);
+			return null;
+		});
+	}
+
+	@Benchmark
+	public void unzip(Blackhole bh) {
+		characters.unzip(character -> Tuple.of(character, (int) character)).apply((first, second) -> {
+			consume(bh, first);
+			consume(bh, second);
+			return null;
+		});
+	}
+
+	@Benchmark
+	public void unzip3(Blackhole bh) {
+		characters.unzip3(character -> Tuple.of(character, (int) character, Character.isAlphabetic(character))).apply((first, second, third) -> {
+			consume(bh, first);
+			consume(bh, second);
+			consume(bh, third);
+			return null;
+		});
+	}
+
+	@Benchmark
+	public void zip(Blackhole bh) {
+		consume(bh, characters.zip(characters));
+	}
+
+	@Benchmark
+	public void zipAll(Blackhole bh) {
+		consume(bh, characters.zipAll(characters.take(size / 2), '-', '+'));
+	}
+
+	@Benchmark
+	public void zipWithIndex(Blackhole bh) {
+		consume(bh, characters.zipWithIndex());
+	}
+
+	static void consume(Blackhole bh, Iterable<?> elements) {
+		for (Object element : elements) {
+			bh.consume(element);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Seq;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static vavr.exercises.parallel.Par.par;
+
+/**
+ * Sequential {@code Option/Try/Either/Validation.traverse} versus the parallel {@code traverse*} of a parallel
+ * view, looking up {@code size} ids with a CPU-heavy lookup. The lookup fails for the id at index
+ * {@code missing} (none if -1), which lets the short-circuiting variants stop early.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraverseBenchmark {
+	@Param({"100000"})
+	int size;
+
+	@Param({"-1", "10000"})
+	int missing;
+
+	@Param({"1", "4"})
+	int parallelism;
+
+	Array<Integer> ids;
+	ForkJoinPool pool;
+
+	@Setup
+	public void setup() {
+		ids = Array.range(0, size);
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	// CPU-heavy enough per element for parallelism to pay off
+	boolean found(int id) {
+		return java.math.BigInteger.valueOf(id * 2L + 1).isProbablePrime(5) || id != missing;
+	}
+
+	@Benchmark
+	public Option<Seq<Integer>> sequentialOption() {
+		return Option.traverse(ids, id -> found(id) ? Option.some(id) : Option.none());
+	}
+
+	@Benchmark
+	public Option<Seq<Integer>> parallelOption() {
+		return par(ids, pool).traverseOption(id -> found(id) ? Option.some(id) : Option.none());
+	}
+
+	@Benchmark
+	public Try<Seq<Integer>> sequentialTry() {
+		return Try.traverse(ids, id -> found(id) ? Try.success(id) : Try.failure(new IllegalStateException()));
+	}
+
+	@Benchmark
+	public Try<Seq<Integer>> parallelTry() {
+		return par(ids, pool).traverseTry(id -> found(id) ? Try.success(id) : Try.failure(new IllegalStateException()));
+	}
+
+	@Benchmark
+	public Either<String, Seq<Integer>> sequentialEitherRight() {
+		return Either.traverseRight(ids, id -> found(id) ? Either.right(id) : Either.left("missing"));
+	}
+
+	@Benchmark
+	public Either<String, Seq<Integer>> parallelEitherRight() {
+		return par(ids, pool).traverseRight(id -> found(id) ? Either.right(id) : Either.left("missing"));
+	}
+
+	@Benchmark
+	public Validation<Seq<String>, Seq<Integer>> sequentialValidation() {
+		return Validation.traverse(ids, id -> found(id) ? Validation.valid(id) : Validation.invalid(Array.of("missing")));
+	}
+
+	@Benchmark
+	public Validation<Seq<String>, Seq<Integer>> parallelValidation() {
+		return par(ids, pool).traverseValidation(id -> found(id) ? Validation.valid(id) : Validation.invalid(Array.of("missing")));
+	}
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.DoubleArray;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.collection.Tuple2Seq;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Array<Tuple2<Integer, Double>>} versus the columnar {@code Tuple2Seq}: building the pairs from raw
+ * {@code int[]} and {@code double[]} (run with {@code -prof gc}, whose {@code gc.alloc.rate.norm} is the
+ * footprint of the result), summing one component, mapping one component and unzipping.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TupleSeqBenchmark {
+	@Param({"1000", "100000"})
+	int size;
+
+	int[] ids;
+	double[] prices;
+	Array<Tuple2<Integer, Double>> tuples;
+	Tuple2Seq<Integer, Double> columns;
+
+	@Setup
+	public void setup() {
+		ids = BenchmarkData.ints(size, Integer.MAX_VALUE);
+		prices = BenchmarkData.doubles(size);
+		tuples = zipTuples();
+		columns = zipColumns();
+	}
+
+	@Benchmark
+	public Array<Tuple2<Integer, Double>> zipTuples() {
+		return Array.ofAll(ids).zip(Array.ofAll(prices));
+	}
+
+	@Benchmark
+	public Tuple2Seq<Integer, Double> zipColumns() {
+		return Tuple2Seq.zip(IntArray.of(ids), DoubleArray.of(prices));
+	}
+
+	@Benchmark
+	public double sumTuples() {
+		double sum = 0;
+		for (Tuple2<Integer, Double> tuple : tuples) {
+			sum += tuple._2;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double sumColumns() {
+		double sum = 0;
+		for (int i = 0; i < columns.length(); i++) {
+			sum += columns._2(i);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public Array<Tuple2<Integer, Double>> map2Tuples() {
+		return tuples.map(tuple -> tuple.map2(price -> price * 1.2));
+	}
+
+	@Benchmark
+	public Tuple2Seq<Integer, Double> map2Columns() {
+		return columns.map2(price -> price * 1.2);
+	}
+
+	@Benchmark
+	public Tuple2<Array<Integer>, Array<Double>> unzipTuples() {
+		return tuples.unzip(tuple -> tuple);
+	}
+
+	@Benchmark
+	public Tuple2<Array<Integer>, Array<Double>> unzipColumns() {
+		return columns.unzip();
+	}
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.validation.BatchResult;
+import vavr.exercises.validation.RecordValidator;
+import vavr.exercises.validation.RecordValidator.Field;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Validating {@code records} records of 30 fields, a share {@code invalidRate} of the fields being invalid:
+ * {@code Validation.sequence} over the field validations (the way past the 8 fields of
+ * {@code Validation.combine}) versus {@code RecordValidator}, sequentially and in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+	static final int FIELDS = 30;
+
+	@Param({"100000"})
+	int records;
+
+	@Param({"0.0", "0.1"})
+	double invalidRate;
+
+	Array<int[]> rows;
+	Array<Function<int[], Validation<String, Integer>>> fieldValidations;
+	RecordValidator<int[], String, int[]> validator;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		rows = Array.fill(records, () -> random.ints(FIELDS, 0, 1000).map(x -> random.nextDouble() < invalidRate ? -x - 1 : x).toArray());
+		fieldValidations = Array.range(0, FIELDS).map(i -> row -> row[i] >= 0
+				? Validation.<String, Integer>valid(row[i])
+				: Validation.<String, Integer>invalid("field " + i + " is negative"));
+		RecordValidator.Builder<int[], String> builder = RecordValidator.builder();
+		Array<Field<Integer>> fields = fieldValidations.map(builder::field);
+		validator = builder.build(values -> {
+			int[] result = new int[FIELDS];
+			for (int i = 0; i < FIELDS; i++) {
+				result[i] = values.get(fields.get(i));
+			}
+			return result;
+		});
+	}
+
+	@Benchmark
+	public Array<Validation<Seq<String>, int[]>> sequence() {
+		return rows.map(row -> Validation.sequence(fieldValidations.map(f -> f.apply(row).mapError(List::of)))
+				.map(values -> values.toJavaStream().mapToInt(Integer::intValue).toArray()));
+	}
+
+	@Benchmark
+	public BatchResult<String, int[]> recordValidator() {
+		return validator.validateAll(rows);
+	}
+
+	@Benchmark
+	public BatchResult<String, int[]> recordValidatorInParallel() {
+		return validator.validateAllInParallel(rows);
+	}
+}
@@ -0,0 +1,55 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import org.openjdk.jmh.annotations.*;
+import vavr.exercises.collection.View;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A five-stage map/filter/drop/map/take pipeline with a fold, chained eagerly on the collection versus fused
+ * in a {@code View}. Run with the gc profiler ({@code gradle jmh} enables it) to compare allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ViewBenchmark {
+	@Param({"1000000"})
+	int size;
+
+	@Param({"Array", "List"})
+	String collection;
+
+	Seq<Integer> numbers;
+
+	@Setup
+	public void setup() {
+		Array<Integer> values = Array.ofAll(BenchmarkData.ints(size, 1_000_000));
+		numbers = collection.equals("List") ? List.ofAll(values) : values;
+	}
+
+	@Benchmark
+	public long eager() {
+		return numbers.map(x -> x * 3)
+				.filter(x -> (x & 1) == 0)
+				.drop(10)
+				.map(x -> x + 1)
+				.take(size / 4)
+				.foldLeft(0L, (sum, x) -> sum + x);
+	}
+
+	@Benchmark
+	public long view() {
+		return View.of(numbers).map(x -> x * 3)
+				.filter(x -> (x & 1) == 0)
+				.drop(10)
+				.map(x -> x + 1)
+				.take(size / 4)
+				.foldLeft(0L, (sum, x) -> sum + x);
+	}
+}
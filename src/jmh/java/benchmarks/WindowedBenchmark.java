@@ -0,0 +1,55 @@
+package benchmarks;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Traversable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import vavr.exercises.collection.Windowed;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving sum and moving maximum over {@code size} points: materialized {@code sliding(window)} windows
+ * versus the incremental {@code Windowed} aggregations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WindowedBenchmark {
+	@Param({"100000", "1000000"})
+	int size;
+
+	@Param({"10", "1000"})
+	int window;
+
+	Array<Double> points;
+
+	@Setup
+	public void setup() {
+		points = Array.ofAll(BenchmarkData.doubles(size));
+	}
+
+	@Benchmark
+	public void slidingSum(Blackhole blackhole) {
+		points.sliding(window).map(Traversable::sum).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void windowedSum(Blackhole blackhole) {
+		Windowed.sum(points, window).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void slidingMax(Blackhole blackhole) {
+		points.sliding(window).map(w -> w.max().get()).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void windowedMax(Blackhole blackhole) {
+		Windowed.max(points, window, 1, Comparator.naturalOrder()).forEach(blackhole::consume);
+	}
+}
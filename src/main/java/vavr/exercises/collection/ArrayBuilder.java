@@ -0,0 +1,73 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.Array;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Transient builder of an {@code Array}: elements are appended in place to a growable buffer, which
+ * {@link #build()} freezes with a single copy. Appending to an {@code Array} one element at a time copies the
+ * whole array every time.
+ *
+ * A builder is single-use and not thread-safe; once built, it rejects further modification.
+ */
+public final class ArrayBuilder<T> {
+	private Object[] elements;
+	private int size;
+	private boolean built;
+
+	private ArrayBuilder(int capacity) {
+		this.elements = new Object[capacity];
+	}
+
+	public static <T> ArrayBuilder<T> create() {
+		return new ArrayBuilder<>(16);
+	}
+
+	/**
+	 * A builder presized for {@code expectedSize} elements.
+	 */
+	public static <T> ArrayBuilder<T> withExpectedSize(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("expectedSize is negative: " + expectedSize);
+		}
+		return new ArrayBuilder<>(expectedSize);
+	}
+
+	public ArrayBuilder<T> add(T element) {
+		checkNotBuilt();
+		if (size == elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(16, size + (size >> 1)));
+		}
+		elements[size++] = element;
+		return this;
+	}
+
+	public ArrayBuilder<T> addAll(Iterable<? extends T> elements) {
+		Objects.requireNonNull(elements, "elements is null");
+		for (T element : elements) {
+			add(element);
+		}
+		return this;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public Array<T> build() {
+		checkNotBuilt();
+		built = true;
+		@SuppressWarnings("unchecked")
+		Array<T> result = (Array<T>) Array.ofAll(Arrays.asList(elements).subList(0, size));
+		elements = null;
+		return result;
+	}
+
+	private void checkNotBuilt() {
+		if (built) {
+			throw new IllegalStateException("builder was already built");
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package vavr.exercises.collection;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.Seq;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * {@code groupBy}, {@code partition}, {@code distinct} and {@code distinctBy} built with transient builders
+ * instead of one persistent insert per element. Results are equal to those of the corresponding {@code Array}
+ * methods, including the order of groups and elements.
+ *
+ * The {@code Seq} overloads take a {@code fromIterable} factory, e.g. {@code Vector::ofAll}, that freezes each
+ * result with the collection type of the source.
+ */
+public final class BulkOps {
+	private BulkOps() {
+	}
+
+	public static <T, C> LinkedHashMap<C, Array<T>> groupBy(Array<T> elements, Function<? super T, ? extends C> classifier) {
+		return groupBy(elements, classifier, Array::ofAll);
+	}
+
+	/**
+	 * Groups by {@code classifier}, ordering groups by first occurrence like {@code Traversable.groupBy}.
+	 */
+	public static <T, C, S extends Seq<T>> LinkedHashMap<C, S> groupBy(Iterable<? extends T> elements,
+			Function<? super T, ? extends C> classifier, Function<? super Iterable<T>, ? extends S> fromIterable) {
+		Objects.requireNonNull(elements, "elements is null");
+		Objects.requireNonNull(classifier, "classifier is null");
+		java.util.LinkedHashMap<C, java.util.ArrayList<T>> groups = new java.util.LinkedHashMap<>();
+		for (T element : elements) {
+			groups.computeIfAbsent(classifier.apply(element), key -> new java.util.ArrayList<>()).add(element);
+		}
+		LinkedHashMapBuilder<C, S> result = LinkedHashMapBuilder.withExpectedSize(groups.size());
+		groups.forEach((key, group) -> result.put(key, fromIterable.apply(group)));
+		return result.build();
+	}
+
+	public static <T> Tuple2<Array<T>, Array<T>> partition(Array<T> elements, Predicate<? super T> predicate) {
+		return partition(elements, predicate, Array::ofAll);
+	}
+
+	/**
+	 * The elements satisfying {@code predicate} and the others, in one pass.
+	 */
+	public static <T, S extends Seq<T>> Tuple2<S, S> partition(Iterable<? extends T> elements, Predicate<? super T> predicate,
+			Function<? super Iterable<T>, ? extends S> fromIterable) {
+		Objects.requireNonNull(elements, "elements is null");
+		Objects.requireNonNull(predicate, "predicate is null");
+		java.util.ArrayList<T> accepted = new java.util.ArrayList<>();
+		java.util.ArrayList<T> rejected = new java.util.ArrayList<>();
+		for (T element : elements) {
+			(predicate.test(element) ? accepted : rejected).add(element);
+		}
+		return Tuple.of(fromIterable.apply(accepted), fromIterable.apply(rejected));
+	}
+
+	public static <T> Array<T> distinct(Array<T> elements) {
+		return distinctBy(elements, Function.identity());
+	}
+
+	/**
+	 * The first element for every distinct {@code keyExtractor} value, in encounter order.
+	 */
+	public static <T, U> Array<T> distinctBy(Array<T> elements, Function<? super T, ? extends U> keyExtractor) {
+		Objects.requireNonNull(keyExtractor, "keyExtractor is null");
+		java.util.HashSet<U> seen = new java.util.HashSet<>();
+		ArrayBuilder<T> result = ArrayBuilder.create();
+		for (T element : elements) {
+			if (seen.add(keyExtractor.apply(element))) {
+				result.add(element);
+			}
+		}
+		return result.build();
+	}
+
+	/**
+	 * The first element of every class of elements equal by {@code comparator}, in encounter order.
+	 */
+	public static <T> Array<T> distinctBy(Array<T> elements, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator, "comparator is null");
+		java.util.TreeSet<T> seen = new java.util.TreeSet<>(comparator);
+		ArrayBuilder<T> result = ArrayBuilder.create();
+		for (T element : elements) {
+			if (seen.add(element)) {
+				result.add(element);
+			}
+		}
+		return result.build();
+	}
+}
@@ -0,0 +1,110 @@
+package vavr.exercises.collection;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Precompiled set of chars for filtering text without a regex engine and without boxing. ASCII membership is
+ * a bit test; other chars are tested against the set's ranges.
+ *
+ * {@link #parse(String)} accepts the bracket expressions used with {@code replaceAll}, e.g. {@code "[a-zA-Z ]"}
+ * or {@code "[^0-9]"}, so a single-char-class regex can be replaced by a {@code CharClass} filter.
+ */
+public final class CharClass implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	// membership of chars 0..63 and 64..127
+	private final long low;
+	private final long high;
+	// inclusive ranges of non-ASCII chars, as (from, to) pairs
+	private final char[] ranges;
+	private final boolean negated;
+
+	private CharClass(long low, long high, char[] ranges, boolean negated) {
+		this.low = low;
+		this.high = high;
+		this.ranges = ranges;
+		this.negated = negated;
+	}
+
+	public static CharClass of(CharSequence chars) {
+		Objects.requireNonNull(chars, "chars is null");
+		CharClass result = new CharClass(0L, 0L, new char[0], false);
+		for (int i = 0; i < chars.length(); i++) {
+			result = result.union(range(chars.charAt(i), chars.charAt(i)));
+		}
+		return result;
+	}
+
+	public static CharClass range(char from, char to) {
+		if (from > to) {
+			throw new IllegalArgumentException("empty range: " + from + "-" + to);
+		}
+		long low = 0L;
+		long high = 0L;
+		for (int c = from; c <= Math.min(to, 127); c++) {
+			if (c < 64) {
+				low |= 1L << c;
+			} else {
+				high |= 1L << (c - 64);
+			}
+		}
+		char[] ranges = to < 128 ? new char[0] : new char[]{(char) Math.max(from, 128), to};
+		return new CharClass(low, high, ranges, false);
+	}
+
+	/**
+	 * Parses a regex bracket expression of literal chars and ranges, optionally negated with {@code ^}.
+	 * Escapes ({@code \}) and predefined classes are not supported.
+	 */
+	public static CharClass parse(String expression) {
+		Objects.requireNonNull(expression, "expression is null");
+		if (expression.length() < 2 || expression.charAt(0) != '[' || expression.charAt(expression.length() - 1) != ']') {
+			throw new IllegalArgumentException("not a bracket expression: " + expression);
+		}
+		boolean negated = expression.length() > 2 && expression.charAt(1) == '^';
+		CharClass result = of("");
+		for (int i = negated ? 2 : 1; i < expression.length() - 1; i++) {
+			char c = expression.charAt(i);
+			if (c == '\\' || c == '[') {
+				throw new IllegalArgumentException("unsupported construct at " + i + " in " + expression);
+			}
+			if (i + 2 < expression.length() - 1 && expression.charAt(i + 1) == '-') {
+				result = result.union(range(c, expression.charAt(i + 2)));
+				i += 2;
+			} else {
+				result = result.union(range(c, c));
+			}
+		}
+		return negated ? result.negate() : result;
+	}
+
+	public CharClass union(CharClass other) {
+		if (negated || other.negated) {
+			throw new UnsupportedOperationException("union of negated char classes");
+		}
+		char[] merged = new char[ranges.length + other.ranges.length];
+		System.arraycopy(ranges, 0, merged, 0, ranges.length);
+		System.arraycopy(other.ranges, 0, merged, ranges.length, other.ranges.length);
+		return new CharClass(low | other.low, high | other.high, merged, false);
+	}
+
+	public CharClass negate() {
+		return new CharClass(low, high, ranges, !negated);
+	}
+
+	public boolean contains(char c) {
+		boolean contained;
+		if (c < 64) {
+			contained = (low & (1L << c)) != 0;
+		} else if (c < 128) {
+			contained = (high & (1L << (c - 64))) != 0;
+		} else {
+			contained = false;
+			for (int i = 0; i < ranges.length && !contained; i += 2) {
+				contained = c >= ranges[i] && c <= ranges[i + 1];
+			}
+		}
+		return contained != negated;
+	}
+}
@@ -0,0 +1,190 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.CharSeq;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * {@code CharSeq} text operations that neither recompile a regex per call nor box chars.
+ *
+ * {@code CharSeq.replaceAll(String, String)} compiles its regex on every call, and {@code filter},
+ * {@code distinct}, {@code sorted} and {@code mkString} go through a {@code Character} per char. The
+ * operations here take a precompiled {@link Pattern} or a {@link CharClass} and work on the chars of the
+ * underlying {@code String}; {@code CharSeqs.distinctSorted(CharSeqs.reject(name, CharClass.parse("[a-zA-Z ]")))}
+ * computes {@code CharSeq.of(name).replaceAll("[a-zA-Z ]", "").distinct().sorted()}.
+ */
+public final class CharSeqs {
+	private CharSeqs() {
+	}
+
+	// Pattern based
+
+	public static CharSeq replaceAll(CharSeq text, Pattern pattern, String replacement) {
+		Objects.requireNonNull(pattern, "pattern is null");
+		return CharSeq.of(pattern.matcher(text).replaceAll(replacement));
+	}
+
+	public static CharSeq replaceFirst(CharSeq text, Pattern pattern, String replacement) {
+		Objects.requireNonNull(pattern, "pattern is null");
+		return CharSeq.of(pattern.matcher(text).replaceFirst(replacement));
+	}
+
+	public static boolean matches(CharSeq text, Pattern pattern) {
+		Objects.requireNonNull(pattern, "pattern is null");
+		return pattern.matcher(text).matches();
+	}
+
+	public static Array<CharSeq> split(CharSeq text, Pattern pattern) {
+		Objects.requireNonNull(pattern, "pattern is null");
+		return Array.of(pattern.split(text)).map(CharSeq::of);
+	}
+
+	// char-specialized
+
+	/**
+	 * The chars in {@code chars}, in order.
+	 */
+	public static CharSeq filter(CharSeq text, CharClass chars) {
+		Objects.requireNonNull(chars, "chars is null");
+		String string = text.toString();
+		char[] result = new char[string.length()];
+		int length = 0;
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (chars.contains(c)) {
+				result[length++] = c;
+			}
+		}
+		return length == string.length() ? text : CharSeq.of(new String(result, 0, length));
+	}
+
+	/**
+	 * The chars not in {@code chars}, in order; what {@code replaceAll} of a char-class regex by "" keeps.
+	 */
+	public static CharSeq reject(CharSeq text, CharClass chars) {
+		Objects.requireNonNull(chars, "chars is null");
+		return filter(text, chars.negate());
+	}
+
+	public static int count(CharSeq text, CharClass chars) {
+		Objects.requireNonNull(chars, "chars is null");
+		String string = text.toString();
+		int count = 0;
+		for (int i = 0; i < string.length(); i++) {
+			if (chars.contains(string.charAt(i))) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public static boolean forAll(CharSeq text, CharClass chars) {
+		return count(text, chars) == text.length();
+	}
+
+	/**
+	 * The first occurrence of every char, in order, like {@code CharSeq.distinct()}.
+	 */
+	public static CharSeq distinct(CharSeq text) {
+		String string = text.toString();
+		char[] result = new char[string.length()];
+		int length = 0;
+		CharSet seen = new CharSet();
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (seen.add(c)) {
+				result[length++] = c;
+			}
+		}
+		return length == string.length() ? text : CharSeq.of(new String(result, 0, length));
+	}
+
+	public static CharSeq sorted(CharSeq text) {
+		char[] chars = text.toString().toCharArray();
+		Arrays.sort(chars);
+		return CharSeq.of(new String(chars));
+	}
+
+	/**
+	 * {@code distinct().sorted()} in one pass over the text.
+	 */
+	public static CharSeq distinctSorted(CharSeq text) {
+		String string = text.toString();
+		CharSet seen = new CharSet();
+		int length = 0;
+		for (int i = 0; i < string.length(); i++) {
+			if (seen.add(string.charAt(i))) {
+				length++;
+			}
+		}
+		return CharSeq.of(new String(seen.toSortedArray(length)));
+	}
+
+	/**
+	 * Like {@code CharSeq.mkString(delimiter)}, without boxing.
+	 */
+	public static String mkString(CharSeq text, CharSequence delimiter) {
+		return mkString(text, "", delimiter, "");
+	}
+
+	public static String mkString(CharSeq text, CharSequence prefix, CharSequence delimiter, CharSequence suffix) {
+		String string = text.toString();
+		StringBuilder builder = new StringBuilder(prefix.length() + string.length() * (1 + delimiter.length()) + suffix.length());
+		builder.append(prefix);
+		for (int i = 0; i < string.length(); i++) {
+			if (i > 0) {
+				builder.append(delimiter);
+			}
+			builder.append(string.charAt(i));
+		}
+		return builder.append(suffix).toString();
+	}
+
+	// bit set of chars, allocating for non-ASCII chars only when one occurs
+	private static final class CharSet {
+		private long low;
+		private long high;
+		private java.util.BitSet other;
+
+		boolean add(char c) {
+			long bit;
+			if (c < 64) {
+				bit = 1L << c;
+				boolean added = (low & bit) == 0;
+				low |= bit;
+				return added;
+			} else if (c < 128) {
+				bit = 1L << (c - 64);
+				boolean added = (high & bit) == 0;
+				high |= bit;
+				return added;
+			}
+			if (other == null) {
+				other = new java.util.BitSet();
+			}
+			boolean added = !other.get(c);
+			other.set(c);
+			return added;
+		}
+
+		char[] toSortedArray(int size) {
+			char[] result = new char[size];
+			int length = 0;
+			for (long bits = low; bits != 0; bits &= bits - 1) {
+				result[length++] = (char) Long.numberOfTrailingZeros(bits);
+			}
+			for (long bits = high; bits != 0; bits &= bits - 1) {
+				result[length++] = (char) (64 + Long.numberOfTrailingZeros(bits));
+			}
+			if (other != null) {
+				for (int c = other.nextSetBit(0); c >= 0; c = other.nextSetBit(c + 1)) {
+					result[length++] = (char) c;
+				}
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,670 @@
+package vavr.exercises.collection;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Option;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lazy sequence evaluated a chunk at a time, with the creation and manipulation API of
+ * {@code io.vavr.collection.Stream}. Where {@code Stream} allocates a cons cell and a lazy tail per element,
+ * a traversal here moves elements through one reusable buffer per pipeline stage.
+ *
+ * By default a {@code ChunkedStream} memoizes like {@code Stream}: evaluated elements are kept, one cell per
+ * chunk, and a second traversal does not recompute them. Only the stream being traversed memoizes; the stages
+ * it was derived from are fused into its pipeline. {@link #nonMemoizing()} switches to re-evaluating the pipeline
+ * on every traversal, which retains nothing and is the mode for long generated pipelines.
+ *
+ * Because a derived stream re-evaluates the pipeline of its parent rather than reading the parent's memoized
+ * elements, a stream derived from an impure source like {@code continually(Math::random)} does not see the
+ * elements its parent saw. A single-use source, a {@code java.util.Iterator} passed to {@link #ofAll(Iterable)}
+ * such as a vavr {@code Iterator}, is memoized where it is read, so every traversal of every stream derived from
+ * it sees all of its elements.
+ *
+ * Evaluation is chunk-granular: a traversal evaluates the elements of the source and of each stage a chunk at a
+ * time, so a side effect of a generator or mapper may run for up to a chunk of elements beyond the last one
+ * consumed. {@link #take(long)} is exact, its source evaluates no more than {@code n} elements; a
+ * {@link #takeWhile(Predicate)} reads a whole chunk of its source before testing the first element.
+ *
+ * @param <T> element type
+ */
+public final class ChunkedStream<T> implements Iterable<T> {
+	public static final int DEFAULT_CHUNK_SIZE = 256;
+
+	private final Supplier<Chunks<T>> source;
+	private final int chunkSize;
+	private final Memo<T> memo;
+
+	private ChunkedStream(Supplier<Chunks<T>> source, int chunkSize, boolean memoizing) {
+		this(source, chunkSize, memoizing ? new Memo<>(source, chunkSize) : null);
+	}
+
+	private ChunkedStream(Supplier<Chunks<T>> source, int chunkSize, Memo<T> memo) {
+		this.source = source;
+		this.chunkSize = chunkSize;
+		this.memo = memo;
+	}
+
+	private static <T> ChunkedStream<T> of(Supplier<Chunks<T>> source) {
+		return new ChunkedStream<>(source, DEFAULT_CHUNK_SIZE, true);
+	}
+
+	// derived streams keep the chunk size and memoization mode of the stream they are derived from, and read
+	// the un-memoized pipeline of their parent, so that only the stream being traversed retains elements
+	private <U> ChunkedStream<U> derive(Supplier<Chunks<U>> derived) {
+		return new ChunkedStream<>(derived, chunkSize, memo != null);
+	}
+
+	// creation
+
+	public static <T> ChunkedStream<T> empty() {
+		return of(() -> new Chunks<T>() {
+			@Override
+			int fill(Object[] buffer) {
+				return 0;
+			}
+		});
+	}
+
+	@SafeVarargs
+	public static <T> ChunkedStream<T> of(T... elements) {
+		return ofAll(Arrays.asList(elements.clone()));
+	}
+
+	public static <T> ChunkedStream<T> ofAll(Iterable<? extends T> elements) {
+		Objects.requireNonNull(elements, "elements is null");
+		if (elements instanceof java.util.Iterator) {
+			// iterator() returns the iterator itself, so the elements can be read once only: the stream and the
+			// streams derived from it all read them from one memo
+			Memo<T> memo = new Memo<>(iterating(elements), DEFAULT_CHUNK_SIZE);
+			return new ChunkedStream<>(memo::chunks, DEFAULT_CHUNK_SIZE, memo);
+		}
+		return of(iterating(elements));
+	}
+
+	private static <T> Supplier<Chunks<T>> iterating(Iterable<? extends T> elements) {
+		return () -> {
+			java.util.Iterator<? extends T> iterator = elements.iterator();
+			return new Chunks<T>() {
+				@Override
+				int fill(Object[] buffer) {
+					int count = 0;
+					while (count < buffer.length && iterator.hasNext()) {
+						buffer[count++] = iterator.next();
+					}
+					return count;
+				}
+			};
+		};
+	}
+
+	/**
+	 * Infinite sequence {@code start, start + 1, ...}, like {@code Stream.from(int)}.
+	 */
+	public static ChunkedStream<Integer> from(int start) {
+		return iterate(start, x -> x + 1);
+	}
+
+	public static ChunkedStream<Integer> range(int from, int toExclusive) {
+		return from(from).take(Math.max(0, (long) toExclusive - from));
+	}
+
+	public static <T> ChunkedStream<T> iterate(T seed, Function<? super T, ? extends T> f) {
+		return of(() -> new Chunks<T>() {
+			private T next = seed;
+
+			@Override
+			int fill(Object[] buffer) {
+				for (int i = 0; i < buffer.length; i++) {
+					buffer[i] = next;
+					next = f.apply(next);
+				}
+				return buffer.length;
+			}
+		});
+	}
+
+	public static <T> ChunkedStream<T> continually(Supplier<? extends T> supplier) {
+		return of(() -> new Chunks<T>() {
+			@Override
+			int fill(Object[] buffer) {
+				for (int i = 0; i < buffer.length; i++) {
+					buffer[i] = supplier.get();
+				}
+				return buffer.length;
+			}
+		});
+	}
+
+	/**
+	 * Like {@code Stream.unfoldRight}: {@code f} returns the next element and the next seed, or none to stop.
+	 */
+	public static <T, S> ChunkedStream<T> unfoldRight(S seed, Function<? super S, Option<Tuple2<? extends T, ? extends S>>> f) {
+		return of(() -> new Chunks<T>() {
+			private S next = seed;
+			private boolean done;
+
+			@Override
+			int fill(Object[] buffer) {
+				int count = 0;
+				while (!done && count < buffer.length) {
+					Option<Tuple2<? extends T, ? extends S>> step = f.apply(next);
+					if (step.isEmpty()) {
+						done = true;
+					} else {
+						buffer[count++] = step.get()._1;
+						next = step.get()._2;
+					}
+				}
+				return count;
+			}
+		});
+	}
+
+	public static <T> ChunkedStream<T> concat(Iterable<? extends T> first, Iterable<? extends T> second) {
+		return ChunkedStream.<T>ofAll(first).appendAll(second);
+	}
+
+	// modes
+
+	/**
+	 * The same pipeline, re-evaluated on every traversal and retaining nothing between traversals.
+	 */
+	public ChunkedStream<T> nonMemoizing() {
+		return memo == null ? this : new ChunkedStream<>(source, chunkSize, false);
+	}
+
+	public ChunkedStream<T> memoizing() {
+		return memo != null ? this : new ChunkedStream<>(source, chunkSize, true);
+	}
+
+	public boolean isMemoizing() {
+		return memo != null;
+	}
+
+	/**
+	 * The same pipeline, evaluated {@code chunkSize} elements at a time.
+	 */
+	public ChunkedStream<T> withChunkSize(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		return new ChunkedStream<>(source, chunkSize, memo != null);
+	}
+
+	public int chunkSize() {
+		return chunkSize;
+	}
+
+	// manipulation
+
+	public <U> ChunkedStream<U> map(Function<? super T, ? extends U> mapper) {
+		return derive(() -> {
+			Chunks<T> parent = source.get();
+			return new Chunks<U>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				int fill(Object[] buffer) {
+					int count = parent.fill(buffer);
+					for (int i = 0; i < count; i++) {
+						buffer[i] = mapper.apply((T) buffer[i]);
+					}
+					return count;
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<T> filter(Predicate<? super T> predicate) {
+		return derive(() -> {
+			Chunks<T> parent = source.get();
+			return new Chunks<T>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				int fill(Object[] buffer) {
+					int count;
+					do {
+						int read = parent.fill(buffer);
+						if (read == 0) {
+							return 0;
+						}
+						count = 0;
+						for (int i = 0; i < read; i++) {
+							if (predicate.test((T) buffer[i])) {
+								buffer[count++] = buffer[i];
+							}
+						}
+					} while (count == 0);
+					Arrays.fill(buffer, count, buffer.length, null);
+					return count;
+				}
+			};
+		});
+	}
+
+	public <U> ChunkedStream<U> flatMap(Function<? super T, ? extends Iterable<? extends U>> mapper) {
+		return derive(() -> {
+			java.util.Iterator<T> parent = iterator(source.get());
+			return new Chunks<U>() {
+				private java.util.Iterator<? extends U> current = java.util.Collections.emptyIterator();
+
+				@Override
+				int fill(Object[] buffer) {
+					int count = 0;
+					while (count < buffer.length) {
+						if (current.hasNext()) {
+							buffer[count++] = current.next();
+						} else if (parent.hasNext()) {
+							current = mapper.apply(parent.next()).iterator();
+						} else {
+							break;
+						}
+					}
+					return count;
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<T> take(long n) {
+		return derive(() -> {
+			Chunks<T> parent = source.get();
+			return new Chunks<T>() {
+				private long remaining = n;
+				// the last, shorter chunk, so that the parent evaluates no more than n elements
+				private Object[] rest;
+
+				@Override
+				int fill(Object[] buffer) {
+					if (remaining <= 0) {
+						return 0;
+					}
+					if (remaining >= buffer.length) {
+						int count = parent.fill(buffer);
+						remaining -= count;
+						return count;
+					}
+					if (rest == null || rest.length > remaining) {
+						rest = new Object[(int) remaining];
+					}
+					int count = parent.fill(rest);
+					System.arraycopy(rest, 0, buffer, 0, count);
+					Arrays.fill(rest, 0, count, null);
+					remaining -= count;
+					return count;
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<T> takeWhile(Predicate<? super T> predicate) {
+		return derive(() -> {
+			Chunks<T> parent = source.get();
+			return new Chunks<T>() {
+				private boolean done;
+
+				@Override
+				@SuppressWarnings("unchecked")
+				int fill(Object[] buffer) {
+					if (done) {
+						return 0;
+					}
+					int read = parent.fill(buffer);
+					for (int i = 0; i < read; i++) {
+						if (!predicate.test((T) buffer[i])) {
+							done = true;
+							return i;
+						}
+					}
+					return read;
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<T> drop(long n) {
+		return derive(() -> {
+			Chunks<T> parent = source.get();
+			return new Chunks<T>() {
+				private long toDrop = n;
+
+				@Override
+				int fill(Object[] buffer) {
+					while (true) {
+						int read = parent.fill(buffer);
+						if (toDrop == 0 || read == 0) {
+							return read;
+						}
+						if (read > toDrop) {
+							int skip = (int) toDrop;
+							toDrop = 0;
+							System.arraycopy(buffer, skip, buffer, 0, read - skip);
+							return read - skip;
+						}
+						toDrop -= read;
+					}
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<T> dropWhile(Predicate<? super T> predicate) {
+		return derive(() -> {
+			Chunks<T> parent = source.get();
+			return new Chunks<T>() {
+				private boolean dropping = true;
+
+				@Override
+				@SuppressWarnings("unchecked")
+				int fill(Object[] buffer) {
+					while (true) {
+						int read = parent.fill(buffer);
+						if (!dropping || read == 0) {
+							return read;
+						}
+						int skip = 0;
+						while (skip < read && predicate.test((T) buffer[skip])) {
+							skip++;
+						}
+						if (skip < read) {
+							dropping = false;
+							System.arraycopy(buffer, skip, buffer, 0, read - skip);
+							return read - skip;
+						}
+					}
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<T> appendAll(Iterable<? extends T> elements) {
+		ChunkedStream<T> second = elements instanceof ChunkedStream ? cast(elements) : ofAll(elements);
+		return derive(() -> {
+			Chunks<T> first = source.get();
+			return new Chunks<T>() {
+				private Chunks<T> current = first;
+
+				@Override
+				int fill(Object[] buffer) {
+					int read = current.fill(buffer);
+					if (read == 0 && current == first) {
+						current = second.source.get();
+						read = current.fill(buffer);
+					}
+					return read;
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<T> prependAll(Iterable<? extends T> elements) {
+		return ChunkedStream.<T>ofAll(elements).withChunkSize(chunkSize).appendAll(this);
+	}
+
+	public <U> ChunkedStream<Tuple2<T, U>> zip(Iterable<? extends U> that) {
+		return zipWith(that, Tuple::of);
+	}
+
+	public <U, R> ChunkedStream<R> zipWith(Iterable<? extends U> that, BiFunction<? super T, ? super U, ? extends R> mapper) {
+		return derive(() -> {
+			Chunks<T> left = source.get();
+			java.util.Iterator<? extends U> right = that.iterator();
+			return new Chunks<R>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				int fill(Object[] buffer) {
+					int read = left.fill(buffer);
+					int count = 0;
+					while (count < read && right.hasNext()) {
+						buffer[count] = mapper.apply((T) buffer[count], right.next());
+						count++;
+					}
+					return count;
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<Tuple2<T, Integer>> zipWithIndex() {
+		return zip(from(0).nonMemoizing());
+	}
+
+	// terminal operations
+
+	@Override
+	public Iterator<T> iterator() {
+		return iterator(chunks());
+	}
+
+	private Iterator<T> iterator(Chunks<T> chunks) {
+		Object[] buffer = new Object[chunkSize];
+		return new Iterator<T>() {
+			private int index;
+			private int count;
+
+			@Override
+			public boolean hasNext() {
+				if (index < count) {
+					return true;
+				}
+				count = chunks.fill(buffer);
+				index = 0;
+				return count > 0;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return (T) buffer[index++];
+			}
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super T> action) {
+		Chunks<T> chunks = chunks();
+		Object[] buffer = new Object[chunkSize];
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				action.accept((T) buffer[i]);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> combine) {
+		Chunks<T> chunks = chunks();
+		Object[] buffer = new Object[chunkSize];
+		U accumulator = zero;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				accumulator = combine.apply(accumulator, (T) buffer[i]);
+			}
+		}
+		return accumulator;
+	}
+
+	public T head() {
+		return headOption().getOrElseThrow(() -> new NoSuchElementException("head of empty ChunkedStream"));
+	}
+
+	public Option<T> headOption() {
+		Iterator<T> iterator = iterator();
+		return iterator.hasNext() ? Option.some(iterator.next()) : Option.none();
+	}
+
+	public boolean isEmpty() {
+		return !iterator().hasNext();
+	}
+
+	/**
+	 * Number of elements; does not terminate for infinite streams.
+	 */
+	public long length() {
+		Chunks<T> chunks = chunks();
+		Object[] buffer = new Object[chunkSize];
+		long length = 0;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			length += count;
+		}
+		return length;
+	}
+
+	public Array<T> toArray() {
+		return Array.ofAll(this);
+	}
+
+	public String mkString(CharSequence delimiter) {
+		StringBuilder builder = new StringBuilder();
+		boolean[] first = {true};
+		forEach(element -> {
+			if (!first[0]) {
+				builder.append(delimiter);
+			}
+			first[0] = false;
+			builder.append(element);
+		});
+		return builder.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "ChunkedStream(" + (memo == null ? "..." : memo.describe()) + ")";
+	}
+
+	/**
+	 * Number of chunks evaluated and currently retained; always 0 when not memoizing.
+	 */
+	public int memoizedChunks() {
+		return memo == null ? 0 : memo.evaluatedChunks();
+	}
+
+	Chunks<T> chunks() {
+		return memo == null ? source.get() : memo.chunks();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ChunkedStream<T> cast(Iterable<? extends T> elements) {
+		return (ChunkedStream<T>) elements;
+	}
+
+	/**
+	 * Evaluated chunks of a memoizing stream, as a linked list of cells evaluated on demand from one shared
+	 * source. Every traversal reads the cells; only the first one to reach the end of the list evaluates more.
+	 */
+	private static final class Memo<T> {
+		private final Supplier<Chunks<T>> sourceFactory;
+		private final int chunkSize;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Cell head = new Cell(new Object[0], 0);
+		private Chunks<T> source;
+		private int evaluated;
+
+		Memo(Supplier<Chunks<T>> sourceFactory, int chunkSize) {
+			this.sourceFactory = sourceFactory;
+			this.chunkSize = chunkSize;
+		}
+
+		Chunks<T> chunks() {
+			return new Chunks<T>() {
+				private Cell current = head;
+				private int offset;
+
+				@Override
+				int fill(Object[] buffer) {
+					int count = 0;
+					while (count < buffer.length) {
+						if (offset == current.length) {
+							Cell next = next(current);
+							if (next == null) {
+								break;
+							}
+							current = next;
+							offset = 0;
+						}
+						int n = Math.min(buffer.length - count, current.length - offset);
+						System.arraycopy(current.values, offset, buffer, count, n);
+						offset += n;
+						count += n;
+					}
+					return count;
+				}
+			};
+		}
+
+		int evaluatedChunks() {
+			lock.lock();
+			try {
+				return evaluated;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		String describe() {
+			StringBuilder builder = new StringBuilder();
+			Cell cell = head;
+			for (; cell.next != null && cell.next != Cell.END; cell = cell.next) {
+				for (int i = 0; i < cell.next.length; i++) {
+					builder.append(builder.length() == 0 ? "" : ", ").append(cell.next.values[i]);
+				}
+			}
+			return cell.next == Cell.END ? builder.toString() : builder.append(builder.length() == 0 ? "?" : ", ?").toString();
+		}
+
+		private Cell next(Cell cell) {
+			Cell next = cell.next;
+			if (next == null) {
+				lock.lock();
+				try {
+					next = cell.next;
+					if (next == null) {
+						if (source == null) {
+							source = sourceFactory.get();
+						}
+						Object[] values = new Object[chunkSize];
+						int count = source.fill(values);
+						next = count == 0 ? Cell.END : new Cell(count == chunkSize ? values : Arrays.copyOf(values, count), count);
+						if (count > 0) {
+							evaluated++;
+						} else {
+							source = null;
+						}
+						cell.next = next;
+					}
+				} finally {
+					lock.unlock();
+				}
+			}
+			return next == Cell.END ? null : next;
+		}
+
+		private static final class Cell {
+			static final Cell END = new Cell(new Object[0], 0);
+
+			final Object[] values;
+			final int length;
+			volatile Cell next;
+
+			Cell(Object[] values, int length) {
+				this.values = values;
+				this.length = length;
+			}
+		}
+	}
+}
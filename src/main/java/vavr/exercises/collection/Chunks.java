@@ -0,0 +1,14 @@
+package vavr.exercises.collection;
+
+/**
+ * Pull-based source of elements, delivered a chunk at a time into a caller-owned buffer so that a
+ * traversal allocates one buffer per pipeline stage instead of one cell per element.
+ */
+abstract class Chunks<T> {
+	/**
+	 * Copies the next elements into {@code buffer}, starting at index 0.
+	 *
+	 * @return the number of elements written; 0 only when the source is exhausted
+	 */
+	abstract int fill(Object[] buffer);
+}
@@ -0,0 +1,265 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.Array;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * One component of a columnar tuple sequence. Immutable sources are shared, not copied: an {@code Array} is
+ * read in place, and an {@code IntArray}, {@code LongArray} or {@code DoubleArray} stays unboxed until an
+ * element is read.
+ */
+abstract class Column<T> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	abstract T get(int index);
+
+	abstract int length();
+
+	/**
+	 * The elements at {@code indices[0..count)}, in a column of the same kind.
+	 */
+	abstract Column<T> gather(int[] indices, int count);
+
+	/**
+	 * The elements from {@code offset} to {@code offset + length} as an {@code Array}, without copying if that
+	 * is the whole of an {@code Array} column.
+	 */
+	Array<T> toArray(int offset, int length) {
+		ArrayBuilder<T> builder = ArrayBuilder.withExpectedSize(length);
+		for (int i = 0; i < length; i++) {
+			builder.add(get(offset + i));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * The elements from {@code offset} to {@code offset + length} with the one at {@code index} of them replaced,
+	 * in a column of the same kind if {@code value} fits it.
+	 */
+	Column<T> update(int offset, int length, int index, T value) {
+		return new Objects<>(toArray(offset, length).update(index, value));
+	}
+
+	<U> Column<U> map(int offset, int length, Function<? super T, ? extends U> mapper) {
+		ArrayBuilder<U> builder = ArrayBuilder.withExpectedSize(length);
+		for (int i = 0; i < length; i++) {
+			builder.add(mapper.apply(get(offset + i)));
+		}
+		return new Objects<>(builder.build());
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> Column<T> of(Iterable<? extends T> elements) {
+		if (elements instanceof IntArray) {
+			return (Column<T>) new Ints((IntArray) elements);
+		} else if (elements instanceof LongArray) {
+			return (Column<T>) new Longs((LongArray) elements);
+		} else if (elements instanceof DoubleArray) {
+			return (Column<T>) new Doubles((DoubleArray) elements);
+		}
+		return new Objects<>(Array.narrow(Array.ofAll(elements)));
+	}
+
+	static <T> Column<T> ofArray(Array<T> elements) {
+		return new Objects<>(elements);
+	}
+
+	/**
+	 * The column {@code 0, 1, 2, ...} of {@code length} elements, computed on access.
+	 */
+	static Column<Integer> index(int length) {
+		return new Index(length);
+	}
+
+	private static final class Objects<T> extends Column<T> {
+		private static final long serialVersionUID = 1L;
+
+		private final Array<T> values;
+
+		Objects(Array<T> values) {
+			this.values = values;
+		}
+
+		@Override
+		T get(int index) {
+			return values.get(index);
+		}
+
+		@Override
+		int length() {
+			return values.length();
+		}
+
+		@Override
+		Column<T> gather(int[] indices, int count) {
+			ArrayBuilder<T> builder = ArrayBuilder.withExpectedSize(count);
+			for (int i = 0; i < count; i++) {
+				builder.add(values.get(indices[i]));
+			}
+			return new Objects<>(builder.build());
+		}
+
+		@Override
+		Array<T> toArray(int offset, int length) {
+			return offset == 0 && length == values.length() ? values : values.subSequence(offset, offset + length);
+		}
+	}
+
+	private static final class Ints extends Column<Integer> {
+		private static final long serialVersionUID = 1L;
+
+		private final IntArray values;
+
+		Ints(IntArray values) {
+			this.values = values;
+		}
+
+		@Override
+		Integer get(int index) {
+			return values.get(index);
+		}
+
+		@Override
+		int length() {
+			return values.length();
+		}
+
+		@Override
+		Column<Integer> gather(int[] indices, int count) {
+			int[] gathered = new int[count];
+			for (int i = 0; i < count; i++) {
+				gathered[i] = values.get(indices[i]);
+			}
+			return new Ints(IntArray.wrap(gathered));
+		}
+
+		@Override
+		Column<Integer> update(int offset, int length, int index, Integer value) {
+			if (value == null) {
+				return super.update(offset, length, index, value);
+			}
+			int[] updated = values.slice(offset, offset + length).toJavaArray();
+			updated[index] = value;
+			return new Ints(IntArray.wrap(updated));
+		}
+	}
+
+	private static final class Longs extends Column<Long> {
+		private static final long serialVersionUID = 1L;
+
+		private final LongArray values;
+
+		Longs(LongArray values) {
+			this.values = values;
+		}
+
+		@Override
+		Long get(int index) {
+			return values.get(index);
+		}
+
+		@Override
+		int length() {
+			return values.length();
+		}
+
+		@Override
+		Column<Long> gather(int[] indices, int count) {
+			long[] gathered = new long[count];
+			for (int i = 0; i < count; i++) {
+				gathered[i] = values.get(indices[i]);
+			}
+			return new Longs(LongArray.wrap(gathered));
+		}
+
+		@Override
+		Column<Long> update(int offset, int length, int index, Long value) {
+			if (value == null) {
+				return super.update(offset, length, index, value);
+			}
+			long[] updated = values.slice(offset, offset + length).toJavaArray();
+			updated[index] = value;
+			return new Longs(LongArray.wrap(updated));
+		}
+	}
+
+	private static final class Doubles extends Column<Double> {
+		private static final long serialVersionUID = 1L;
+
+		private final DoubleArray values;
+
+		Doubles(DoubleArray values) {
+			this.values = values;
+		}
+
+		@Override
+		Double get(int index) {
+			return values.get(index);
+		}
+
+		@Override
+		int length() {
+			return values.length();
+		}
+
+		@Override
+		Column<Double> gather(int[] indices, int count) {
+			double[] gathered = new double[count];
+			for (int i = 0; i < count; i++) {
+				gathered[i] = values.get(indices[i]);
+			}
+			return new Doubles(DoubleArray.wrap(gathered));
+		}
+
+		@Override
+		Column<Double> update(int offset, int length, int index, Double value) {
+			if (value == null) {
+				return super.update(offset, length, index, value);
+			}
+			double[] updated = values.slice(offset, offset + length).toJavaArray();
+			updated[index] = value;
+			return new Doubles(DoubleArray.wrap(updated));
+		}
+	}
+
+	private static final class Index extends Column<Integer> {
+		private static final long serialVersionUID = 1L;
+
+		private final int length;
+
+		Index(int length) {
+			this.length = length;
+		}
+
+		@Override
+		Integer get(int index) {
+			return index;
+		}
+
+		@Override
+		int length() {
+			return length;
+		}
+
+		@Override
+		Column<Integer> gather(int[] indices, int count) {
+			return new Ints(IntArray.wrap(Arrays.copyOf(indices, count)));
+		}
+
+		@Override
+		Column<Integer> update(int offset, int length, int index, Integer value) {
+			if (value == null) {
+				return super.update(offset, length, index, value);
+			}
+			int[] updated = new int[length];
+			for (int i = 0; i < length; i++) {
+				updated[i] = offset + i;
+			}
+			updated[index] = value;
+			return new Ints(IntArray.wrap(updated));
+		}
+	}
+}
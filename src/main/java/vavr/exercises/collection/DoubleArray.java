@@ -0,0 +1,425 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * Immutable sequence of unboxed {@code double} values, the primitive counterpart of {@code Array<Double>}.
+ *
+ * Reductions ({@link #sum()}, {@link #average()}, {@link #min()}, ...) never box. Slicing operations
+ * ({@link #take(int)}, {@link #drop(int)}, {@link #tail()}, {@link #sliding(int)}, {@link #grouped(int)})
+ * share the backing array instead of copying it.
+ */
+public final class DoubleArray implements Iterable<Double>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final DoubleArray EMPTY = new DoubleArray(new double[0], 0, 0);
+
+	private final double[] values;
+	private final int offset;
+	private final int length;
+
+	private DoubleArray(double[] values, int offset, int length) {
+		this.values = values;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	// takes ownership of values
+	static DoubleArray wrap(double[] values) {
+		return values.length == 0 ? EMPTY : new DoubleArray(values, 0, values.length);
+	}
+
+	public static DoubleArray empty() {
+		return EMPTY;
+	}
+
+	public static DoubleArray of(double... values) {
+		return wrap(values.clone());
+	}
+
+	public static DoubleArray ofAll(Iterable<? extends Number> numbers) {
+		if (numbers instanceof DoubleArray) {
+			return (DoubleArray) numbers;
+		}
+		return wrap(Iterator.ofAll(numbers).toJavaStream().mapToDouble(Number::doubleValue).toArray());
+	}
+
+	public static DoubleArray ofAll(DoubleStream stream) {
+		return wrap(stream.toArray());
+	}
+
+	// basic operations
+
+	public int length() {
+		return length;
+	}
+
+	public int size() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public double get(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("get(" + index + ")");
+		}
+		return values[offset + index];
+	}
+
+	public double head() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("head of empty DoubleArray");
+		}
+		return values[offset];
+	}
+
+	public double last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("last of empty DoubleArray");
+		}
+		return values[offset + length - 1];
+	}
+
+	public DoubleArray tail() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("tail of empty DoubleArray");
+		}
+		return slice(1, length);
+	}
+
+	public DoubleArray init() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("init of empty DoubleArray");
+		}
+		return slice(0, length - 1);
+	}
+
+	public DoubleArray take(int n) {
+		return slice(0, n);
+	}
+
+	public DoubleArray drop(int n) {
+		return slice(n, length);
+	}
+
+	/**
+	 * Elements from {@code beginIndex} (inclusive) to {@code endIndex} (exclusive), clamped to the bounds
+	 * like {@code io.vavr.collection.Array.slice}. The result shares this array's storage.
+	 */
+	public DoubleArray slice(int beginIndex, int endIndex) {
+		int from = Math.max(0, beginIndex);
+		int to = Math.min(length, endIndex);
+		if (from >= to) {
+			return EMPTY;
+		}
+		if (from == 0 && to == length) {
+			return this;
+		}
+		return new DoubleArray(values, offset + from, to - from);
+	}
+
+	public DoubleArray append(double value) {
+		double[] copy = Arrays.copyOfRange(values, offset, offset + length + 1);
+		copy[length] = value;
+		return wrap(copy);
+	}
+
+	public DoubleArray appendAll(DoubleArray other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return other;
+		}
+		double[] copy = Arrays.copyOfRange(values, offset, offset + length + other.length);
+		System.arraycopy(other.values, other.offset, copy, length, other.length);
+		return wrap(copy);
+	}
+
+	// transformation
+
+	public DoubleArray map(DoubleUnaryOperator mapper) {
+		double[] result = new double[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = mapper.applyAsDouble(values[offset + i]);
+		}
+		return wrap(result);
+	}
+
+	public <U> Array<U> mapToObj(DoubleFunction<? extends U> mapper) {
+		Object[] result = new Object[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = mapper.apply(values[offset + i]);
+		}
+		@SuppressWarnings("unchecked")
+		Array<U> array = (Array<U>) Array.of(result);
+		return array;
+	}
+
+	public DoubleArray filter(DoublePredicate predicate) {
+		double[] result = new double[length];
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			double value = values[offset + i];
+			if (predicate.test(value)) {
+				result[count++] = value;
+			}
+		}
+		return count == length ? this : wrap(Arrays.copyOf(result, count));
+	}
+
+	public DoubleArray reject(DoublePredicate predicate) {
+		return filter(predicate.negate());
+	}
+
+	/**
+	 * Running fold starting with {@code zero}; the result has {@code length() + 1} elements.
+	 */
+	public DoubleArray scan(double zero, DoubleBinaryOperator operation) {
+		double[] result = new double[length + 1];
+		double accumulator = zero;
+		result[0] = accumulator;
+		for (int i = 0; i < length; i++) {
+			accumulator = operation.applyAsDouble(accumulator, values[offset + i]);
+			result[i + 1] = accumulator;
+		}
+		return wrap(result);
+	}
+
+	// iteration
+
+	public void forEach(DoubleConsumer action) {
+		for (int i = 0; i < length; i++) {
+			action.accept(values[offset + i]);
+		}
+	}
+
+	@Override
+	public PrimitiveIterator.OfDouble iterator() {
+		return new PrimitiveIterator.OfDouble() {
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < length;
+			}
+
+			@Override
+			public double nextDouble() {
+				if (index >= length) {
+					throw new NoSuchElementException();
+				}
+				return values[offset + index++];
+			}
+		};
+	}
+
+	/**
+	 * Blocks of {@code size} elements; the last block may be shorter. Blocks share this array's storage.
+	 */
+	public Iterator<DoubleArray> grouped(int size) {
+		return sliding(size, size);
+	}
+
+	public Iterator<DoubleArray> sliding(int size) {
+		return sliding(size, 1);
+	}
+
+	/**
+	 * Windows of {@code size} elements, each starting {@code step} elements after the previous one,
+	 * with the same semantics as {@code Traversable.sliding(int, int)}. Windows share this array's storage.
+	 */
+	public Iterator<DoubleArray> sliding(int size, int step) {
+		if (size <= 0 || step <= 0) {
+			throw new IllegalArgumentException("size: " + size + " or step: " + step + " not positive");
+		}
+		if (isEmpty()) {
+			return Iterator.empty();
+		}
+		// a window starts every step elements until one reaches the end
+		int windows = length <= size ? 1 : 1 + Math.min((length - 1) / step, (length - size - 1) / step + 1);
+		return Iterator.range(0, windows).map(window -> slice(window * step, window * step + size));
+	}
+
+	// reduction, folding
+
+	public double fold(double zero, DoubleBinaryOperator operation) {
+		return foldLeft(zero, operation);
+	}
+
+	public double foldLeft(double zero, DoubleBinaryOperator operation) {
+		double accumulator = zero;
+		for (int i = 0; i < length; i++) {
+			accumulator = operation.applyAsDouble(accumulator, values[offset + i]);
+		}
+		return accumulator;
+	}
+
+	public double foldRight(double zero, DoubleBinaryOperator operation) {
+		double accumulator = zero;
+		for (int i = length - 1; i >= 0; i--) {
+			accumulator = operation.applyAsDouble(values[offset + i], accumulator);
+		}
+		return accumulator;
+	}
+
+	public OptionalDouble reduceOption(DoubleBinaryOperator operation) {
+		if (isEmpty()) {
+			return OptionalDouble.empty();
+		}
+		double accumulator = values[offset];
+		for (int i = 1; i < length; i++) {
+			accumulator = operation.applyAsDouble(accumulator, values[offset + i]);
+		}
+		return OptionalDouble.of(accumulator);
+	}
+
+	public double reduce(DoubleBinaryOperator operation) {
+		if (isEmpty()) {
+			throw new NoSuchElementException("reduce of empty DoubleArray");
+		}
+		return reduceOption(operation).getAsDouble();
+	}
+
+	public int count(DoublePredicate predicate) {
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			if (predicate.test(values[offset + i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public boolean exists(DoublePredicate predicate) {
+		for (int i = 0; i < length; i++) {
+			if (predicate.test(values[offset + i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean forAll(DoublePredicate predicate) {
+		return !exists(predicate.negate());
+	}
+
+	// numeric operations
+
+	/**
+	 * Compensated (Neumaier) sum, as {@code Traversable.sum()} computes it for doubles.
+	 */
+	public double sum() {
+		double sum = 0.0;
+		double compensation = 0.0;
+		for (int i = 0; i < length; i++) {
+			double value = values[offset + i];
+			double t = sum + value;
+			if (Math.abs(sum) >= Math.abs(value)) {
+				compensation += (sum - t) + value;
+			} else {
+				compensation += (value - t) + sum;
+			}
+			sum = t;
+		}
+		return sum + compensation;
+	}
+
+	public double product() {
+		double product = 1.0;
+		for (int i = 0; i < length; i++) {
+			product *= values[offset + i];
+		}
+		return product;
+	}
+
+	public OptionalDouble average() {
+		return isEmpty() ? OptionalDouble.empty() : OptionalDouble.of(sum() / length);
+	}
+
+	/**
+	 * Count, sum, min, max, mean and variance in a single pass; see {@link Summary}.
+	 */
+	public Summary summary() {
+		Summary summary = Summary.create();
+		summary.acceptAll(values, offset, offset + length);
+		return summary;
+	}
+
+	/**
+	 * Smallest element; NaN if any element is NaN.
+	 */
+	public OptionalDouble min() {
+		return reduceOption(Math::min);
+	}
+
+	/**
+	 * Largest element; NaN if any element is NaN.
+	 */
+	public OptionalDouble max() {
+		return reduceOption(Math::max);
+	}
+
+	// conversion
+
+	public DoubleStream stream() {
+		return Arrays.stream(values, offset, offset + length);
+	}
+
+	public double[] toJavaArray() {
+		return Arrays.copyOfRange(values, offset, offset + length);
+	}
+
+	public Array<Double> toArray() {
+		return Array.ofAll(toJavaArray());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof DoubleArray)) {
+			return false;
+		}
+		DoubleArray that = (DoubleArray) o;
+		return Arrays.equals(values, offset, offset + length, that.values, that.offset, that.offset + that.length);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + Double.hashCode(values[offset + i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("DoubleArray(");
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(values[offset + i]);
+		}
+		return builder.append(')').toString();
+	}
+}
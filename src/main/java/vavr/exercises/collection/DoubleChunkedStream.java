@@ -0,0 +1,324 @@
+package vavr.exercises.collection;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Lazy sequence of unboxed {@code double} values, evaluated a chunk at a time into an {@code double[]} buffer per
+ * pipeline stage. Unlike {@link ChunkedStream} it never memoizes: every traversal re-evaluates the pipeline and
+ * nothing is retained, so {@link #toArray()} is the way to keep results.
+ */
+public final class DoubleChunkedStream {
+	private final Supplier<Source> source;
+	private final int chunkSize;
+
+	private DoubleChunkedStream(Supplier<Source> source, int chunkSize) {
+		this.source = source;
+		this.chunkSize = chunkSize;
+	}
+
+	private static DoubleChunkedStream of(Supplier<Source> source) {
+		return new DoubleChunkedStream(source, ChunkedStream.DEFAULT_CHUNK_SIZE);
+	}
+
+	private DoubleChunkedStream derive(Supplier<Source> derived) {
+		return new DoubleChunkedStream(derived, chunkSize);
+	}
+
+	// creation
+
+	public static DoubleChunkedStream empty() {
+		return of(() -> buffer -> 0);
+	}
+
+	public static DoubleChunkedStream of(double... values) {
+		return ofAll(DoubleArray.of(values));
+	}
+
+	public static DoubleChunkedStream ofAll(DoubleArray values) {
+		Objects.requireNonNull(values, "values is null");
+		return of(() -> new Source() {
+			private int index;
+
+			@Override
+			public int fill(double[] buffer) {
+				int count = Math.min(buffer.length, values.length() - index);
+				for (int i = 0; i < count; i++) {
+					buffer[i] = values.get(index++);
+				}
+				return count;
+			}
+		});
+	}
+
+	public static DoubleChunkedStream iterate(double seed, DoubleUnaryOperator f) {
+		return of(() -> new Source() {
+			private double next = seed;
+
+			@Override
+			public int fill(double[] buffer) {
+				for (int i = 0; i < buffer.length; i++) {
+					buffer[i] = next;
+					next = f.applyAsDouble(next);
+				}
+				return buffer.length;
+			}
+		});
+	}
+
+	public static DoubleChunkedStream continually(DoubleSupplier supplier) {
+		return of(() -> buffer -> {
+			for (int i = 0; i < buffer.length; i++) {
+				buffer[i] = supplier.getAsDouble();
+			}
+			return buffer.length;
+		});
+	}
+
+	public DoubleChunkedStream withChunkSize(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		return new DoubleChunkedStream(source, chunkSize);
+	}
+
+	// manipulation
+
+	public DoubleChunkedStream map(DoubleUnaryOperator mapper) {
+		return derive(() -> {
+			Source parent = source.get();
+			return buffer -> {
+				int count = parent.fill(buffer);
+				for (int i = 0; i < count; i++) {
+					buffer[i] = mapper.applyAsDouble(buffer[i]);
+				}
+				return count;
+			};
+		});
+	}
+
+	public DoubleChunkedStream filter(DoublePredicate predicate) {
+		return derive(() -> {
+			Source parent = source.get();
+			return buffer -> {
+				int count;
+				do {
+					int read = parent.fill(buffer);
+					if (read == 0) {
+						return 0;
+					}
+					count = 0;
+					for (int i = 0; i < read; i++) {
+						if (predicate.test(buffer[i])) {
+							buffer[count++] = buffer[i];
+						}
+					}
+				} while (count == 0);
+				return count;
+			};
+		});
+	}
+
+	public DoubleChunkedStream take(long n) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private long remaining = n;
+				// the last, shorter chunk, so that the parent evaluates no more than n values
+				private double[] rest;
+
+				@Override
+				public int fill(double[] buffer) {
+					if (remaining <= 0) {
+						return 0;
+					}
+					if (remaining >= buffer.length) {
+						int count = parent.fill(buffer);
+						remaining -= count;
+						return count;
+					}
+					if (rest == null || rest.length > remaining) {
+						rest = new double[(int) remaining];
+					}
+					int count = parent.fill(rest);
+					System.arraycopy(rest, 0, buffer, 0, count);
+					remaining -= count;
+					return count;
+				}
+			};
+		});
+	}
+
+	public DoubleChunkedStream takeWhile(DoublePredicate predicate) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private boolean done;
+
+				@Override
+				public int fill(double[] buffer) {
+					if (done) {
+						return 0;
+					}
+					int read = parent.fill(buffer);
+					for (int i = 0; i < read; i++) {
+						if (!predicate.test(buffer[i])) {
+							done = true;
+							return i;
+						}
+					}
+					return read;
+				}
+			};
+		});
+	}
+
+	public DoubleChunkedStream drop(long n) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private long toDrop = n;
+
+				@Override
+				public int fill(double[] buffer) {
+					while (true) {
+						int read = parent.fill(buffer);
+						if (toDrop == 0 || read == 0) {
+							return read;
+						}
+						if (read > toDrop) {
+							int skip = (int) toDrop;
+							toDrop = 0;
+							System.arraycopy(buffer, skip, buffer, 0, read - skip);
+							return read - skip;
+						}
+						toDrop -= read;
+					}
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<Double> boxed() {
+		return ChunkedStream.ofAll(() -> iterator()).withChunkSize(chunkSize).nonMemoizing();
+	}
+
+	// terminal operations
+
+	public PrimitiveIterator.OfDouble iterator() {
+		Source chunks = source.get();
+		double[] buffer = new double[chunkSize];
+		return new PrimitiveIterator.OfDouble() {
+			private int index;
+			private int count;
+
+			@Override
+			public boolean hasNext() {
+				if (index < count) {
+					return true;
+				}
+				count = chunks.fill(buffer);
+				index = 0;
+				return count > 0;
+			}
+
+			@Override
+			public double nextDouble() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return buffer[index++];
+			}
+		};
+	}
+
+	public void forEach(DoubleConsumer action) {
+		Source chunks = source.get();
+		double[] buffer = new double[chunkSize];
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				action.accept(buffer[i]);
+			}
+		}
+	}
+
+	public double foldLeft(double zero, DoubleBinaryOperator combine) {
+		Source chunks = source.get();
+		double[] buffer = new double[chunkSize];
+		double accumulator = zero;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				accumulator = combine.applyAsDouble(accumulator, buffer[i]);
+			}
+		}
+		return accumulator;
+	}
+
+	/**
+	 * Sum of all elements, compensated like {@link DoubleArray#sum()}.
+	 */
+	public double sum() {
+		Source chunks = source.get();
+		double[] buffer = new double[chunkSize];
+		double sum = 0;
+		double compensation = 0;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				double value = buffer[i];
+				double t = sum + value;
+				if (Math.abs(sum) >= Math.abs(value)) {
+					compensation += (sum - t) + value;
+				} else {
+					compensation += (value - t) + sum;
+				}
+				sum = t;
+			}
+		}
+		return sum + compensation;
+	}
+
+	public long count() {
+		Source chunks = source.get();
+		double[] buffer = new double[chunkSize];
+		long count = 0;
+		for (int read = chunks.fill(buffer); read > 0; read = chunks.fill(buffer)) {
+			count += read;
+		}
+		return count;
+	}
+
+	public DoubleArray toArray() {
+		Source chunks = source.get();
+		double[] buffer = new double[chunkSize];
+		double[] result = new double[chunkSize];
+		int length = 0;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			if (length + count > result.length) {
+				result = java.util.Arrays.copyOf(result, Math.max(length + count, result.length * 2));
+			}
+			System.arraycopy(buffer, 0, result, length, count);
+			length += count;
+		}
+		return DoubleArray.wrap(java.util.Arrays.copyOf(result, length));
+	}
+
+	@Override
+	public String toString() {
+		return "DoubleChunkedStream(...)";
+	}
+
+	@FunctionalInterface
+	private interface Source {
+		/**
+		 * Same contract as {@link Chunks#fill(Object[])}.
+		 */
+		int fill(double[] buffer);
+	}
+}
@@ -0,0 +1,86 @@
+package vavr.exercises.collection;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.HashMap;
+import io.vavr.control.Option;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Transient builder of a {@code HashMap}: entries are collected in a mutable {@code java.util.HashMap} and
+ * {@link #build()} inserts each distinct key into the persistent map once. Building a {@code HashMap} by
+ * {@code put} copies a trie path for every insert, including the ones that only replace or combine a value.
+ *
+ * A builder is single-use and not thread-safe; once built, it rejects further modification.
+ */
+public final class HashMapBuilder<K, V> {
+	private java.util.HashMap<K, V> entries;
+
+	private HashMapBuilder(int expectedSize) {
+		this.entries = new java.util.HashMap<>(capacity(expectedSize));
+	}
+
+	public static <K, V> HashMapBuilder<K, V> create() {
+		return new HashMapBuilder<>(16);
+	}
+
+	/**
+	 * A builder presized for {@code expectedSize} entries.
+	 */
+	public static <K, V> HashMapBuilder<K, V> withExpectedSize(int expectedSize) {
+		return new HashMapBuilder<>(expectedSize);
+	}
+
+	public HashMapBuilder<K, V> put(K key, V value) {
+		entries().put(key, value);
+		return this;
+	}
+
+	public HashMapBuilder<K, V> putAll(Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+		Objects.requireNonNull(entries, "entries is null");
+		java.util.HashMap<K, V> map = entries();
+		for (Tuple2<? extends K, ? extends V> entry : entries) {
+			map.put(entry._1, entry._2);
+		}
+		return this;
+	}
+
+	/**
+	 * Puts {@code value}, or combines it with the present value, like {@code java.util.Map.merge}.
+	 */
+	public HashMapBuilder<K, V> merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> combine) {
+		entries().merge(key, value, combine);
+		return this;
+	}
+
+	public Option<V> get(K key) {
+		java.util.HashMap<K, V> map = entries();
+		return map.containsKey(key) ? Option.some(map.get(key)) : Option.none();
+	}
+
+	public int size() {
+		return entries().size();
+	}
+
+	public HashMap<K, V> build() {
+		HashMap<K, V> result = HashMap.ofAll(entries());
+		entries = null;
+		return result;
+	}
+
+	private java.util.HashMap<K, V> entries() {
+		if (entries == null) {
+			throw new IllegalStateException("builder was already built");
+		}
+		return entries;
+	}
+
+	// java.util.HashMap capacity that holds expectedSize entries without rehashing
+	static int capacity(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("expectedSize is negative: " + expectedSize);
+		}
+		return (int) Math.min(1 << 30, (long) Math.ceil(expectedSize / 0.75));
+	}
+}
@@ -0,0 +1,67 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.HashSet;
+
+import java.util.Objects;
+
+/**
+ * Transient builder of a {@code HashSet}, like {@link HashMapBuilder}: elements are collected in a mutable
+ * {@code java.util.HashSet}, so duplicates cost a hash lookup instead of a persistent insert.
+ *
+ * A builder is single-use and not thread-safe; once built, it rejects further modification.
+ */
+public final class HashSetBuilder<T> {
+	private java.util.HashSet<T> elements;
+
+	private HashSetBuilder(int expectedSize) {
+		this.elements = new java.util.HashSet<>(HashMapBuilder.capacity(expectedSize));
+	}
+
+	public static <T> HashSetBuilder<T> create() {
+		return new HashSetBuilder<>(16);
+	}
+
+	/**
+	 * A builder presized for {@code expectedSize} elements.
+	 */
+	public static <T> HashSetBuilder<T> withExpectedSize(int expectedSize) {
+		return new HashSetBuilder<>(expectedSize);
+	}
+
+	/**
+	 * Adds {@code element}, returning whether it was not already present.
+	 */
+	public boolean add(T element) {
+		return elements().add(element);
+	}
+
+	public HashSetBuilder<T> addAll(Iterable<? extends T> elements) {
+		Objects.requireNonNull(elements, "elements is null");
+		java.util.HashSet<T> set = elements();
+		for (T element : elements) {
+			set.add(element);
+		}
+		return this;
+	}
+
+	public boolean contains(T element) {
+		return elements().contains(element);
+	}
+
+	public int size() {
+		return elements().size();
+	}
+
+	public HashSet<T> build() {
+		HashSet<T> result = HashSet.ofAll(elements());
+		elements = null;
+		return result;
+	}
+
+	private java.util.HashSet<T> elements() {
+		if (elements == null) {
+			throw new IllegalStateException("builder was already built");
+		}
+		return elements;
+	}
+}
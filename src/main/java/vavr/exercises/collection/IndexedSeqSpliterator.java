@@ -0,0 +1,68 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Vector;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a range of an {@link IndexedSeq} that splits by index, without copying elements.
+ * A {@link Vector} range is traversed leaf by leaf through a structure-sharing slice instead of
+ * one trie lookup per element.
+ */
+final class IndexedSeqSpliterator<T> implements Spliterator<T> {
+	static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+
+	private final IndexedSeq<T> seq;
+	private int from;
+	private final int to;
+
+	IndexedSeqSpliterator(IndexedSeq<T> seq, int from, int to) {
+		this.seq = seq;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (from >= to) {
+			return false;
+		}
+		action.accept(seq.get(from++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		if (seq instanceof Vector) {
+			seq.slice(from, to).forEach(action);
+		} else {
+			for (int i = from; i < to; i++) {
+				action.accept(seq.get(i));
+			}
+		}
+		from = to;
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		int middle = (from + to) >>> 1;
+		if (middle <= from) {
+			return null;
+		}
+		Spliterator<T> prefix = new IndexedSeqSpliterator<>(seq, from, middle);
+		from = middle;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return to - from;
+	}
+
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+}
@@ -0,0 +1,419 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable sequence of unboxed {@code int} values, the primitive counterpart of {@code Array<Integer>}.
+ *
+ * Reductions ({@link #sum()}, {@link #average()}, {@link #min()}, ...) never box. Slicing operations
+ * ({@link #take(int)}, {@link #drop(int)}, {@link #tail()}, {@link #sliding(int)}, {@link #grouped(int)})
+ * share the backing array instead of copying it.
+ */
+public final class IntArray implements Iterable<Integer>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final IntArray EMPTY = new IntArray(new int[0], 0, 0);
+
+	private final int[] values;
+	private final int offset;
+	private final int length;
+
+	private IntArray(int[] values, int offset, int length) {
+		this.values = values;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	// takes ownership of values
+	static IntArray wrap(int[] values) {
+		return values.length == 0 ? EMPTY : new IntArray(values, 0, values.length);
+	}
+
+	public static IntArray empty() {
+		return EMPTY;
+	}
+
+	public static IntArray of(int... values) {
+		return wrap(values.clone());
+	}
+
+	public static IntArray ofAll(Iterable<? extends Number> numbers) {
+		if (numbers instanceof IntArray) {
+			return (IntArray) numbers;
+		}
+		return wrap(Iterator.ofAll(numbers).toJavaStream().mapToInt(Number::intValue).toArray());
+	}
+
+	public static IntArray ofAll(IntStream stream) {
+		return wrap(stream.toArray());
+	}
+
+	/**
+	 * Values from {@code from} (inclusive) to {@code toExclusive}, like {@code Array.range}.
+	 */
+	public static IntArray range(int from, int toExclusive) {
+		return wrap(IntStream.range(from, toExclusive).toArray());
+	}
+
+	// basic operations
+
+	public int length() {
+		return length;
+	}
+
+	public int size() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public int get(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("get(" + index + ")");
+		}
+		return values[offset + index];
+	}
+
+	public int head() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("head of empty IntArray");
+		}
+		return values[offset];
+	}
+
+	public int last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("last of empty IntArray");
+		}
+		return values[offset + length - 1];
+	}
+
+	public IntArray tail() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("tail of empty IntArray");
+		}
+		return slice(1, length);
+	}
+
+	public IntArray init() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("init of empty IntArray");
+		}
+		return slice(0, length - 1);
+	}
+
+	public IntArray take(int n) {
+		return slice(0, n);
+	}
+
+	public IntArray drop(int n) {
+		return slice(n, length);
+	}
+
+	/**
+	 * Elements from {@code beginIndex} (inclusive) to {@code endIndex} (exclusive), clamped to the bounds
+	 * like {@code io.vavr.collection.Array.slice}. The result shares this array's storage.
+	 */
+	public IntArray slice(int beginIndex, int endIndex) {
+		int from = Math.max(0, beginIndex);
+		int to = Math.min(length, endIndex);
+		if (from >= to) {
+			return EMPTY;
+		}
+		if (from == 0 && to == length) {
+			return this;
+		}
+		return new IntArray(values, offset + from, to - from);
+	}
+
+	public IntArray append(int value) {
+		int[] copy = Arrays.copyOfRange(values, offset, offset + length + 1);
+		copy[length] = value;
+		return wrap(copy);
+	}
+
+	public IntArray appendAll(IntArray other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return other;
+		}
+		int[] copy = Arrays.copyOfRange(values, offset, offset + length + other.length);
+		System.arraycopy(other.values, other.offset, copy, length, other.length);
+		return wrap(copy);
+	}
+
+	// transformation
+
+	public IntArray map(IntUnaryOperator mapper) {
+		int[] result = new int[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = mapper.applyAsInt(values[offset + i]);
+		}
+		return wrap(result);
+	}
+
+	public <U> Array<U> mapToObj(IntFunction<? extends U> mapper) {
+		Object[] result = new Object[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = mapper.apply(values[offset + i]);
+		}
+		@SuppressWarnings("unchecked")
+		Array<U> array = (Array<U>) Array.of(result);
+		return array;
+	}
+
+	public IntArray filter(IntPredicate predicate) {
+		int[] result = new int[length];
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			int value = values[offset + i];
+			if (predicate.test(value)) {
+				result[count++] = value;
+			}
+		}
+		return count == length ? this : wrap(Arrays.copyOf(result, count));
+	}
+
+	public IntArray reject(IntPredicate predicate) {
+		return filter(predicate.negate());
+	}
+
+	/**
+	 * Running fold starting with {@code zero}; the result has {@code length() + 1} elements.
+	 */
+	public IntArray scan(int zero, IntBinaryOperator operation) {
+		int[] result = new int[length + 1];
+		int accumulator = zero;
+		result[0] = accumulator;
+		for (int i = 0; i < length; i++) {
+			accumulator = operation.applyAsInt(accumulator, values[offset + i]);
+			result[i + 1] = accumulator;
+		}
+		return wrap(result);
+	}
+
+	// iteration
+
+	public void forEach(IntConsumer action) {
+		for (int i = 0; i < length; i++) {
+			action.accept(values[offset + i]);
+		}
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < length;
+			}
+
+			@Override
+			public int nextInt() {
+				if (index >= length) {
+					throw new NoSuchElementException();
+				}
+				return values[offset + index++];
+			}
+		};
+	}
+
+	/**
+	 * Blocks of {@code size} elements; the last block may be shorter. Blocks share this array's storage.
+	 */
+	public Iterator<IntArray> grouped(int size) {
+		return sliding(size, size);
+	}
+
+	public Iterator<IntArray> sliding(int size) {
+		return sliding(size, 1);
+	}
+
+	/**
+	 * Windows of {@code size} elements, each starting {@code step} elements after the previous one,
+	 * with the same semantics as {@code Traversable.sliding(int, int)}. Windows share this array's storage.
+	 */
+	public Iterator<IntArray> sliding(int size, int step) {
+		if (size <= 0 || step <= 0) {
+			throw new IllegalArgumentException("size: " + size + " or step: " + step + " not positive");
+		}
+		if (isEmpty()) {
+			return Iterator.empty();
+		}
+		// a window starts every step elements until one reaches the end
+		int windows = length <= size ? 1 : 1 + Math.min((length - 1) / step, (length - size - 1) / step + 1);
+		return Iterator.range(0, windows).map(window -> slice(window * step, window * step + size));
+	}
+
+	// reduction, folding
+
+	public int fold(int zero, IntBinaryOperator operation) {
+		return foldLeft(zero, operation);
+	}
+
+	public int foldLeft(int zero, IntBinaryOperator operation) {
+		int accumulator = zero;
+		for (int i = 0; i < length; i++) {
+			accumulator = operation.applyAsInt(accumulator, values[offset + i]);
+		}
+		return accumulator;
+	}
+
+	public int foldRight(int zero, IntBinaryOperator operation) {
+		int accumulator = zero;
+		for (int i = length - 1; i >= 0; i--) {
+			accumulator = operation.applyAsInt(values[offset + i], accumulator);
+		}
+		return accumulator;
+	}
+
+	public OptionalInt reduceOption(IntBinaryOperator operation) {
+		if (isEmpty()) {
+			return OptionalInt.empty();
+		}
+		int accumulator = values[offset];
+		for (int i = 1; i < length; i++) {
+			accumulator = operation.applyAsInt(accumulator, values[offset + i]);
+		}
+		return OptionalInt.of(accumulator);
+	}
+
+	public int reduce(IntBinaryOperator operation) {
+		if (isEmpty()) {
+			throw new NoSuchElementException("reduce of empty IntArray");
+		}
+		return reduceOption(operation).getAsInt();
+	}
+
+	public int count(IntPredicate predicate) {
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			if (predicate.test(values[offset + i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public boolean exists(IntPredicate predicate) {
+		for (int i = 0; i < length; i++) {
+			if (predicate.test(values[offset + i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean forAll(IntPredicate predicate) {
+		return !exists(predicate.negate());
+	}
+
+	// numeric operations
+
+	/**
+	 * Sum as a {@code long}, so it does not overflow for any realistic length.
+	 */
+	public long sum() {
+		long sum = 0;
+		for (int i = 0; i < length; i++) {
+			sum += values[offset + i];
+		}
+		return sum;
+	}
+
+	public long product() {
+		long product = 1;
+		for (int i = 0; i < length; i++) {
+			product *= values[offset + i];
+		}
+		return product;
+	}
+
+	public OptionalDouble average() {
+		return isEmpty() ? OptionalDouble.empty() : OptionalDouble.of((double) sum() / length);
+	}
+
+	/**
+	 * Count, sum, min, max, mean and variance in a single pass; see {@link Summary}.
+	 */
+	public Summary summary() {
+		Summary summary = Summary.create();
+		summary.acceptAll(values, offset, offset + length);
+		return summary;
+	}
+
+	public OptionalInt min() {
+		return reduceOption(Math::min);
+	}
+
+	public OptionalInt max() {
+		return reduceOption(Math::max);
+	}
+
+	// conversion
+
+	public IntStream stream() {
+		return Arrays.stream(values, offset, offset + length);
+	}
+
+	public int[] toJavaArray() {
+		return Arrays.copyOfRange(values, offset, offset + length);
+	}
+
+	public Array<Integer> toArray() {
+		return Array.ofAll(toJavaArray());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof IntArray)) {
+			return false;
+		}
+		IntArray that = (IntArray) o;
+		return Arrays.equals(values, offset, offset + length, that.values, that.offset, that.offset + that.length);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + Integer.hashCode(values[offset + i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("IntArray(");
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(values[offset + i]);
+		}
+		return builder.append(')').toString();
+	}
+}
@@ -0,0 +1,324 @@
+package vavr.exercises.collection;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Lazy sequence of unboxed {@code int} values, evaluated a chunk at a time into an {@code int[]} buffer per
+ * pipeline stage. Unlike {@link ChunkedStream} it never memoizes: every traversal re-evaluates the pipeline and
+ * nothing is retained, so {@link #toArray()} is the way to keep results.
+ */
+public final class IntChunkedStream {
+	private final Supplier<Source> source;
+	private final int chunkSize;
+
+	private IntChunkedStream(Supplier<Source> source, int chunkSize) {
+		this.source = source;
+		this.chunkSize = chunkSize;
+	}
+
+	private static IntChunkedStream of(Supplier<Source> source) {
+		return new IntChunkedStream(source, ChunkedStream.DEFAULT_CHUNK_SIZE);
+	}
+
+	private IntChunkedStream derive(Supplier<Source> derived) {
+		return new IntChunkedStream(derived, chunkSize);
+	}
+
+	// creation
+
+	public static IntChunkedStream empty() {
+		return of(() -> buffer -> 0);
+	}
+
+	public static IntChunkedStream of(int... values) {
+		return ofAll(IntArray.of(values));
+	}
+
+	public static IntChunkedStream ofAll(IntArray values) {
+		Objects.requireNonNull(values, "values is null");
+		return of(() -> new Source() {
+			private int index;
+
+			@Override
+			public int fill(int[] buffer) {
+				int count = Math.min(buffer.length, values.length() - index);
+				for (int i = 0; i < count; i++) {
+					buffer[i] = values.get(index++);
+				}
+				return count;
+			}
+		});
+	}
+
+	public static IntChunkedStream from(int start) {
+		return iterate(start, x -> x + 1);
+	}
+
+	public static IntChunkedStream range(int from, int toExclusive) {
+		return from(from).take(Math.max(0, (long) toExclusive - from));
+	}
+
+	public static IntChunkedStream iterate(int seed, IntUnaryOperator f) {
+		return of(() -> new Source() {
+			private int next = seed;
+
+			@Override
+			public int fill(int[] buffer) {
+				for (int i = 0; i < buffer.length; i++) {
+					buffer[i] = next;
+					next = f.applyAsInt(next);
+				}
+				return buffer.length;
+			}
+		});
+	}
+
+	public static IntChunkedStream continually(IntSupplier supplier) {
+		return of(() -> buffer -> {
+			for (int i = 0; i < buffer.length; i++) {
+				buffer[i] = supplier.getAsInt();
+			}
+			return buffer.length;
+		});
+	}
+
+	public IntChunkedStream withChunkSize(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		return new IntChunkedStream(source, chunkSize);
+	}
+
+	// manipulation
+
+	public IntChunkedStream map(IntUnaryOperator mapper) {
+		return derive(() -> {
+			Source parent = source.get();
+			return buffer -> {
+				int count = parent.fill(buffer);
+				for (int i = 0; i < count; i++) {
+					buffer[i] = mapper.applyAsInt(buffer[i]);
+				}
+				return count;
+			};
+		});
+	}
+
+	public IntChunkedStream filter(IntPredicate predicate) {
+		return derive(() -> {
+			Source parent = source.get();
+			return buffer -> {
+				int count;
+				do {
+					int read = parent.fill(buffer);
+					if (read == 0) {
+						return 0;
+					}
+					count = 0;
+					for (int i = 0; i < read; i++) {
+						if (predicate.test(buffer[i])) {
+							buffer[count++] = buffer[i];
+						}
+					}
+				} while (count == 0);
+				return count;
+			};
+		});
+	}
+
+	public IntChunkedStream take(long n) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private long remaining = n;
+				// the last, shorter chunk, so that the parent evaluates no more than n values
+				private int[] rest;
+
+				@Override
+				public int fill(int[] buffer) {
+					if (remaining <= 0) {
+						return 0;
+					}
+					if (remaining >= buffer.length) {
+						int count = parent.fill(buffer);
+						remaining -= count;
+						return count;
+					}
+					if (rest == null || rest.length > remaining) {
+						rest = new int[(int) remaining];
+					}
+					int count = parent.fill(rest);
+					System.arraycopy(rest, 0, buffer, 0, count);
+					remaining -= count;
+					return count;
+				}
+			};
+		});
+	}
+
+	public IntChunkedStream takeWhile(IntPredicate predicate) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private boolean done;
+
+				@Override
+				public int fill(int[] buffer) {
+					if (done) {
+						return 0;
+					}
+					int read = parent.fill(buffer);
+					for (int i = 0; i < read; i++) {
+						if (!predicate.test(buffer[i])) {
+							done = true;
+							return i;
+						}
+					}
+					return read;
+				}
+			};
+		});
+	}
+
+	public IntChunkedStream drop(long n) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private long toDrop = n;
+
+				@Override
+				public int fill(int[] buffer) {
+					while (true) {
+						int read = parent.fill(buffer);
+						if (toDrop == 0 || read == 0) {
+							return read;
+						}
+						if (read > toDrop) {
+							int skip = (int) toDrop;
+							toDrop = 0;
+							System.arraycopy(buffer, skip, buffer, 0, read - skip);
+							return read - skip;
+						}
+						toDrop -= read;
+					}
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<Integer> boxed() {
+		return ChunkedStream.ofAll(() -> iterator()).withChunkSize(chunkSize).nonMemoizing();
+	}
+
+	// terminal operations
+
+	public PrimitiveIterator.OfInt iterator() {
+		Source chunks = source.get();
+		int[] buffer = new int[chunkSize];
+		return new PrimitiveIterator.OfInt() {
+			private int index;
+			private int count;
+
+			@Override
+			public boolean hasNext() {
+				if (index < count) {
+					return true;
+				}
+				count = chunks.fill(buffer);
+				index = 0;
+				return count > 0;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return buffer[index++];
+			}
+		};
+	}
+
+	public void forEach(IntConsumer action) {
+		Source chunks = source.get();
+		int[] buffer = new int[chunkSize];
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				action.accept(buffer[i]);
+			}
+		}
+	}
+
+	public int foldLeft(int zero, IntBinaryOperator combine) {
+		Source chunks = source.get();
+		int[] buffer = new int[chunkSize];
+		int accumulator = zero;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				accumulator = combine.applyAsInt(accumulator, buffer[i]);
+			}
+		}
+		return accumulator;
+	}
+
+	/**
+	 * Sum of all elements, as a {@code long} so that it does not overflow.
+	 */
+	public long sum() {
+		Source chunks = source.get();
+		int[] buffer = new int[chunkSize];
+		long sum = 0;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				sum += buffer[i];
+			}
+		}
+		return sum;
+	}
+
+	public long count() {
+		Source chunks = source.get();
+		int[] buffer = new int[chunkSize];
+		long count = 0;
+		for (int read = chunks.fill(buffer); read > 0; read = chunks.fill(buffer)) {
+			count += read;
+		}
+		return count;
+	}
+
+	public IntArray toArray() {
+		Source chunks = source.get();
+		int[] buffer = new int[chunkSize];
+		int[] result = new int[chunkSize];
+		int length = 0;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			if (length + count > result.length) {
+				result = java.util.Arrays.copyOf(result, Math.max(length + count, result.length * 2));
+			}
+			System.arraycopy(buffer, 0, result, length, count);
+			length += count;
+		}
+		return IntArray.wrap(java.util.Arrays.copyOf(result, length));
+	}
+
+	@Override
+	public String toString() {
+		return "IntChunkedStream(...)";
+	}
+
+	@FunctionalInterface
+	private interface Source {
+		/**
+		 * Same contract as {@link Chunks#fill(Object[])}.
+		 */
+		int fill(int[] buffer);
+	}
+}
@@ -0,0 +1,194 @@
+package vavr.exercises.collection;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Option;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable hash map with unboxed {@code int} keys, the primitive counterpart of {@code HashMap<Integer, V>}.
+ *
+ * Like {@code HashMap} it is a hash array mapped trie with structural sharing, so {@link #put} and
+ * {@link #remove} copy only the path to the changed entry. Keys are stored in {@code int[]}s inside the trie
+ * nodes instead of as boxed {@code Integer}s in {@code Tuple2} entries, and lookups never box. Iteration order
+ * is unspecified, but the same for equal maps.
+ */
+public final class IntHashMap<V> implements Iterable<Tuple2<Integer, V>>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final IntHashMap<?> EMPTY = new IntHashMap<>(IntTrie.EMPTY_MAP);
+
+	// distinguishes a missing key from a null value
+	private static final Object NOT_FOUND = new Object();
+
+	private final IntTrie root;
+
+	private IntHashMap(IntTrie root) {
+		this.root = root;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <V> IntHashMap<V> empty() {
+		return (IntHashMap<V>) EMPTY;
+	}
+
+	public static <V> IntHashMap<V> of(int key, V value) {
+		return IntHashMap.<V> empty().put(key, value);
+	}
+
+	/**
+	 * The entries of {@code entries}, e.g. a {@code Map<Integer, V>}; later entries replace earlier ones.
+	 */
+	public static <V> IntHashMap<V> ofEntries(Iterable<? extends Tuple2<Integer, ? extends V>> entries) {
+		Objects.requireNonNull(entries, "entries is null");
+		IntHashMap<V> result = empty();
+		for (Tuple2<Integer, ? extends V> entry : entries) {
+			result = result.put(entry._1, entry._2);
+		}
+		return result;
+	}
+
+	// basic operations
+
+	public int size() {
+		return root.size;
+	}
+
+	public boolean isEmpty() {
+		return root.size == 0;
+	}
+
+	public boolean containsKey(int key) {
+		return root.contains(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	public Option<V> get(int key) {
+		Object value = root.get(key, NOT_FOUND);
+		return value == NOT_FOUND ? Option.none() : Option.some((V) value);
+	}
+
+	@SuppressWarnings("unchecked")
+	public V getOrElse(int key, V defaultValue) {
+		Object value = root.get(key, NOT_FOUND);
+		return value == NOT_FOUND ? defaultValue : (V) value;
+	}
+
+	public IntHashMap<V> put(int key, V value) {
+		IntTrie newRoot = root.put(key, IntTrie.hash(key), value, 0);
+		return newRoot == root ? this : new IntHashMap<>(newRoot);
+	}
+
+	public IntHashMap<V> remove(int key) {
+		IntTrie newRoot = root.remove(key, IntTrie.hash(key), 0);
+		return newRoot == root ? this : newRoot.size == 0 ? empty() : new IntHashMap<>(newRoot);
+	}
+
+	/**
+	 * The map with the same keys and every value mapped; the trie is rebuilt in one pass with the same shape.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> IntHashMap<U> mapValues(Function<? super V, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new IntHashMap<>(root.mapValues(value -> mapper.apply((V) value)));
+	}
+
+	/**
+	 * The keys as a set, sharing the key arrays of this map.
+	 */
+	public IntHashSet keySet() {
+		return IntHashSet.wrap(root.mapValues(null));
+	}
+
+	// iteration
+
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+		void accept(int key, V value);
+	}
+
+	@SuppressWarnings("unchecked")
+	public void forEach(EntryConsumer<? super V> action) {
+		Objects.requireNonNull(action, "action is null");
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			int key = cursor.nextKey();
+			action.accept(key, (V) cursor.lastValue());
+		}
+	}
+
+	/**
+	 * The entries, boxed into tuples on access.
+	 */
+	@Override
+	public Iterator<Tuple2<Integer, V>> iterator() {
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		return new Iterator<Tuple2<Integer, V>>() {
+			@Override
+			public boolean hasNext() {
+				return cursor.hasNext();
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public Tuple2<Integer, V> next() {
+				int key = cursor.nextKey();
+				return Tuple.of(key, (V) cursor.lastValue());
+			}
+		};
+	}
+
+	public IntArray keys() {
+		int[] keys = new int[root.size];
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = cursor.nextKey();
+		}
+		return IntArray.wrap(keys);
+	}
+
+	@SuppressWarnings("unchecked")
+	public Array<V> values() {
+		ArrayBuilder<V> values = ArrayBuilder.withExpectedSize(root.size);
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			cursor.nextKey();
+			values.add((V) cursor.lastValue());
+		}
+		return values.build();
+	}
+
+	public HashMap<Integer, V> toHashMap() {
+		return HashMap.ofEntries(this);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof IntHashMap)) {
+			return false;
+		}
+		IntHashMap<?> that = (IntHashMap<?>) o;
+		return IntTrie.equalTries(root, that.root);
+	}
+
+	@Override
+	public int hashCode() {
+		int[] hash = new int[1];
+		forEach((key, value) -> hash[0] += Integer.hashCode(key) ^ Objects.hashCode(value));
+		return hash[0];
+	}
+
+	@Override
+	public String toString() {
+		return iterator().mkString("IntHashMap(", ", ", ")");
+	}
+}
@@ -0,0 +1,179 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.HashSet;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable hash set of unboxed {@code int} values, the primitive counterpart of {@code HashSet<Integer>}.
+ * See {@link IntHashMap}; the set uses the same trie without values.
+ */
+public final class IntHashSet implements Iterable<Integer>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final IntHashSet EMPTY = new IntHashSet(IntTrie.EMPTY_SET);
+
+	private final IntTrie root;
+
+	private IntHashSet(IntTrie root) {
+		this.root = root;
+	}
+
+	static IntHashSet wrap(IntTrie root) {
+		return root.size == 0 ? EMPTY : new IntHashSet(root);
+	}
+
+	public static IntHashSet empty() {
+		return EMPTY;
+	}
+
+	public static IntHashSet of(int... values) {
+		IntHashSet result = EMPTY;
+		for (int value : values) {
+			result = result.add(value);
+		}
+		return result;
+	}
+
+	public static IntHashSet ofAll(Iterable<? extends Number> numbers) {
+		Objects.requireNonNull(numbers, "numbers is null");
+		IntHashSet result = EMPTY;
+		for (Number number : numbers) {
+			result = result.add(number.intValue());
+		}
+		return result;
+	}
+
+	// basic operations
+
+	public int size() {
+		return root.size;
+	}
+
+	public boolean isEmpty() {
+		return root.size == 0;
+	}
+
+	public boolean contains(int value) {
+		return root.contains(value);
+	}
+
+	public IntHashSet add(int value) {
+		IntTrie newRoot = root.put(value, IntTrie.hash(value), null, 0);
+		return newRoot == root ? this : new IntHashSet(newRoot);
+	}
+
+	public IntHashSet remove(int value) {
+		IntTrie newRoot = root.remove(value, IntTrie.hash(value), 0);
+		return newRoot == root ? this : wrap(newRoot);
+	}
+
+	// set algebra, merging the two tries node by node instead of adding or removing elements one at a time;
+	// the result shares every sub-trie that only one side contributes
+
+	public IntHashSet union(IntHashSet that) {
+		Objects.requireNonNull(that, "that is null");
+		return wrapSame(IntTrie.union(root, that.root, 0), that);
+	}
+
+	public IntHashSet intersect(IntHashSet that) {
+		Objects.requireNonNull(that, "that is null");
+		return wrapSame(IntTrie.intersect(root, that.root, 0), that);
+	}
+
+	public IntHashSet diff(IntHashSet that) {
+		Objects.requireNonNull(that, "that is null");
+		return wrapSame(IntTrie.diff(root, that.root, 0), that);
+	}
+
+	public boolean containsAll(IntHashSet that) {
+		Objects.requireNonNull(that, "that is null");
+		return IntTrie.subsetOf(that.root, root, 0);
+	}
+
+	// returns this or that instead of a new wrapper when the merge gave back one of the roots
+	private IntHashSet wrapSame(IntTrie newRoot, IntHashSet that) {
+		return newRoot == root ? this : newRoot == that.root ? that : wrap(newRoot);
+	}
+
+	// iteration
+
+	public void forEach(IntConsumer action) {
+		Objects.requireNonNull(action, "action is null");
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			action.accept(cursor.nextKey());
+		}
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		return new PrimitiveIterator.OfInt() {
+			@Override
+			public boolean hasNext() {
+				return cursor.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				if (!cursor.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return cursor.nextKey();
+			}
+		};
+	}
+
+	public IntArray toArray() {
+		int[] values = new int[root.size];
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		for (int i = 0; i < values.length; i++) {
+			values[i] = cursor.nextKey();
+		}
+		return IntArray.wrap(values);
+	}
+
+	public HashSet<Integer> toHashSet() {
+		return HashSet.ofAll(this);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof IntHashSet)) {
+			return false;
+		}
+		IntHashSet that = (IntHashSet) o;
+		return IntTrie.equalTries(root, that.root);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			hash += Integer.hashCode(cursor.nextKey());
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("IntHashSet(");
+		IntTrie.Cursor cursor = new IntTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			builder.append(cursor.nextKey());
+			if (cursor.hasNext()) {
+				builder.append(", ");
+			}
+		}
+		return builder.append(')').toString();
+	}
+}
@@ -0,0 +1,495 @@
+package vavr.exercises.collection;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Node of the hash array mapped trie behind {@link IntHashMap} and {@link IntHashSet}, in the compressed
+ * (CHAMP) layout: the entries stored in a node are an {@code int[]} of keys and, for maps, a parallel array of
+ * values, both ordered by hash fragment and separate from the array of sub-nodes. Sets have no value array.
+ *
+ * Keys are hashed with a bijective mix, so distinct keys have distinct 32-bit hashes and always diverge
+ * within the 7 levels of the trie; there are no collision nodes. Removal inlines a sub-node left with a single
+ * entry, which keeps the layout canonical: equal contents have equal tries. Every node knows the number of
+ * entries below it, so the set operations can take shared sub-tries wholesale.
+ */
+final class IntTrie implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+	static final int MAX_DEPTH = 7;
+
+	private static final int[] NO_KEYS = new int[0];
+	private static final Object[] NO_VALUES = new Object[0];
+	private static final IntTrie[] NO_NODES = new IntTrie[0];
+
+	static final IntTrie EMPTY_MAP = new IntTrie(0, 0, NO_KEYS, NO_VALUES, NO_NODES, 0);
+	static final IntTrie EMPTY_SET = new IntTrie(0, 0, NO_KEYS, null, NO_NODES, 0);
+
+	final int dataMap;
+	final int nodeMap;
+	final int[] keys;
+	final Object[] values;
+	final IntTrie[] nodes;
+	final int size;
+
+	private IntTrie(int dataMap, int nodeMap, int[] keys, Object[] values, IntTrie[] nodes, int size) {
+		this.dataMap = dataMap;
+		this.nodeMap = nodeMap;
+		this.keys = keys;
+		this.values = values;
+		this.nodes = nodes;
+		this.size = size;
+	}
+
+	// murmur3 finalizer, a bijection
+	static int hash(int key) {
+		int h = key;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	private static int bit(int hash, int shift) {
+		return 1 << ((hash >>> shift) & MASK);
+	}
+
+	private static int index(int map, int bit) {
+		return Integer.bitCount(map & (bit - 1));
+	}
+
+	boolean isSet() {
+		return values == null;
+	}
+
+	// lookup
+
+	boolean contains(int key) {
+		return contains(key, hash(key), 0);
+	}
+
+	private boolean contains(int key, int hash, int shift) {
+		IntTrie node = this;
+		for (; ; shift += BITS) {
+			int bit = bit(hash, shift);
+			if ((node.dataMap & bit) != 0) {
+				return node.keys[index(node.dataMap, bit)] == key;
+			}
+			if ((node.nodeMap & bit) == 0) {
+				return false;
+			}
+			node = node.nodes[index(node.nodeMap, bit)];
+		}
+	}
+
+	Object get(int key, Object notFound) {
+		int hash = hash(key);
+		IntTrie node = this;
+		for (int shift = 0; ; shift += BITS) {
+			int bit = bit(hash, shift);
+			if ((node.dataMap & bit) != 0) {
+				int i = index(node.dataMap, bit);
+				return node.keys[i] == key ? node.values[i] : notFound;
+			}
+			if ((node.nodeMap & bit) == 0) {
+				return notFound;
+			}
+			node = node.nodes[index(node.nodeMap, bit)];
+		}
+	}
+
+	// updates, which return this if nothing changed
+
+	IntTrie put(int key, int hash, Object value, int shift) {
+		int bit = bit(hash, shift);
+		if ((dataMap & bit) != 0) {
+			int i = index(dataMap, bit);
+			int existing = keys[i];
+			if (existing == key) {
+				if (values == null || values[i] == value) {
+					return this;
+				}
+				Object[] newValues = values.clone();
+				newValues[i] = value;
+				return new IntTrie(dataMap, nodeMap, keys, newValues, nodes, size);
+			}
+			IntTrie child = pair(existing, hash(existing), values == null ? null : values[i], key, hash, value, shift + BITS, values == null);
+			return dataToNode(bit, i, child);
+		}
+		if ((nodeMap & bit) != 0) {
+			int j = index(nodeMap, bit);
+			IntTrie child = nodes[j].put(key, hash, value, shift + BITS);
+			return child == nodes[j] ? this : withNode(j, child);
+		}
+		int i = index(dataMap, bit);
+		return new IntTrie(dataMap | bit, nodeMap, insert(keys, i, key), values == null ? null : insert(values, i, value), nodes, size + 1);
+	}
+
+	IntTrie remove(int key, int hash, int shift) {
+		int bit = bit(hash, shift);
+		if ((dataMap & bit) != 0) {
+			int i = index(dataMap, bit);
+			if (keys[i] != key) {
+				return this;
+			}
+			return new IntTrie(dataMap ^ bit, nodeMap, delete(keys, i), values == null ? null : delete(values, i), nodes, size - 1);
+		}
+		if ((nodeMap & bit) != 0) {
+			int j = index(nodeMap, bit);
+			IntTrie child = nodes[j].remove(key, hash, shift + BITS);
+			if (child == nodes[j]) {
+				return this;
+			}
+			return child.size == 1 ? nodeToData(bit, j, child) : withNode(j, child);
+		}
+		return this;
+	}
+
+	private static IntTrie pair(int key1, int hash1, Object value1, int key2, int hash2, Object value2, int shift, boolean isSet) {
+		int fragment1 = (hash1 >>> shift) & MASK;
+		int fragment2 = (hash2 >>> shift) & MASK;
+		if (fragment1 == fragment2) {
+			IntTrie child = pair(key1, hash1, value1, key2, hash2, value2, shift + BITS, isSet);
+			return new IntTrie(0, 1 << fragment1, NO_KEYS, isSet ? null : NO_VALUES, new IntTrie[] { child }, 2);
+		}
+		boolean ordered = fragment1 < fragment2;
+		int[] keys = ordered ? new int[] { key1, key2 } : new int[] { key2, key1 };
+		Object[] values = isSet ? null : ordered ? new Object[] { value1, value2 } : new Object[] { value2, value1 };
+		return new IntTrie((1 << fragment1) | (1 << fragment2), 0, keys, values, NO_NODES, 2);
+	}
+
+	private IntTrie withNode(int j, IntTrie child) {
+		IntTrie[] newNodes = nodes.clone();
+		newNodes[j] = child;
+		return new IntTrie(dataMap, nodeMap, keys, values, newNodes, size - nodes[j].size + child.size);
+	}
+
+	private IntTrie dataToNode(int bit, int i, IntTrie child) {
+		int newNodeMap = nodeMap | bit;
+		return new IntTrie(dataMap ^ bit, newNodeMap, delete(keys, i), values == null ? null : delete(values, i),
+				insert(nodes, index(newNodeMap, bit), child), size + 1);
+	}
+
+	private IntTrie nodeToData(int bit, int j, IntTrie child) {
+		int newDataMap = dataMap | bit;
+		int i = index(newDataMap, bit);
+		return new IntTrie(newDataMap, nodeMap ^ bit, insert(keys, i, child.keys[0]),
+				values == null ? null : insert(values, i, child.values[0]), delete(nodes, j), size - 1);
+	}
+
+	// the same trie with values replaced; a set if mapper is null
+
+	IntTrie mapValues(java.util.function.Function<Object, Object> mapper) {
+		Object[] newValues = null;
+		if (mapper != null) {
+			newValues = new Object[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				newValues[i] = mapper.apply(values == null ? null : values[i]);
+			}
+		}
+		IntTrie[] newNodes = nodes.length == 0 ? NO_NODES : new IntTrie[nodes.length];
+		for (int j = 0; j < nodes.length; j++) {
+			newNodes[j] = nodes[j].mapValues(mapper);
+		}
+		return new IntTrie(dataMap, nodeMap, keys, newValues, newNodes, size);
+	}
+
+	// set algebra on set tries, merged node by node: a sub-trie only one side has is kept or dropped as a whole
+	// without visiting its entries, and a sub-trie both sides share (e.g. sets derived from each other) is
+	// answered by identity; only slots where both sides have entries are descended into
+
+	static IntTrie union(IntTrie a, IntTrie b, int shift) {
+		if (a == b || b.size == 0) {
+			return a;
+		}
+		if (a.size == 0) {
+			return b;
+		}
+		int slots = a.dataMap | a.nodeMap | b.dataMap | b.nodeMap;
+		int[] keys = new int[Integer.bitCount(slots)];
+		IntTrie[] nodes = new IntTrie[keys.length];
+		int dataMap = 0;
+		int nodeMap = 0;
+		int size = 0;
+		for (int rest = slots; rest != 0; rest &= rest - 1) {
+			int bit = rest & -rest;
+			IntTrie node;
+			if ((a.dataMap & bit) != 0) {
+				int key = a.keys[index(a.dataMap, bit)];
+				if ((b.dataMap & bit) != 0 && b.keys[index(b.dataMap, bit)] != key) {
+					int other = b.keys[index(b.dataMap, bit)];
+					node = pair(key, hash(key), null, other, hash(other), null, shift + BITS, true);
+				} else if ((b.nodeMap & bit) != 0) {
+					node = b.nodes[index(b.nodeMap, bit)].put(key, hash(key), null, shift + BITS);
+				} else {
+					keys[Integer.bitCount(dataMap)] = key;
+					dataMap |= bit;
+					size++;
+					continue;
+				}
+			} else if ((a.nodeMap & bit) != 0) {
+				node = a.nodes[index(a.nodeMap, bit)];
+				if ((b.dataMap & bit) != 0) {
+					int other = b.keys[index(b.dataMap, bit)];
+					node = node.put(other, hash(other), null, shift + BITS);
+				} else if ((b.nodeMap & bit) != 0) {
+					node = union(node, b.nodes[index(b.nodeMap, bit)], shift + BITS);
+				}
+			} else if ((b.dataMap & bit) != 0) {
+				keys[Integer.bitCount(dataMap)] = b.keys[index(b.dataMap, bit)];
+				dataMap |= bit;
+				size++;
+				continue;
+			} else {
+				node = b.nodes[index(b.nodeMap, bit)];
+			}
+			nodes[Integer.bitCount(nodeMap)] = node;
+			nodeMap |= bit;
+			size += node.size;
+		}
+		// a superset of one side with its size has its contents, and by the canonical layout its shape
+		return size == a.size ? a : size == b.size ? b : setNode(dataMap, nodeMap, keys, nodes, size);
+	}
+
+	static IntTrie intersect(IntTrie a, IntTrie b, int shift) {
+		if (a == b) {
+			return a;
+		}
+		int slots = (a.dataMap | a.nodeMap) & (b.dataMap | b.nodeMap);
+		if (slots == 0) {
+			return EMPTY_SET;
+		}
+		int[] keys = new int[Integer.bitCount(slots)];
+		IntTrie[] nodes = new IntTrie[keys.length];
+		int dataMap = 0;
+		int nodeMap = 0;
+		int size = 0;
+		for (int rest = slots; rest != 0; rest &= rest - 1) {
+			int bit = rest & -rest;
+			int key;
+			if ((a.dataMap & bit) != 0) {
+				key = a.keys[index(a.dataMap, bit)];
+				if ((b.dataMap & bit) != 0 ? b.keys[index(b.dataMap, bit)] != key
+						: !b.nodes[index(b.nodeMap, bit)].contains(key, hash(key), shift + BITS)) {
+					continue;
+				}
+			} else if ((b.dataMap & bit) != 0) {
+				key = b.keys[index(b.dataMap, bit)];
+				if (!a.nodes[index(a.nodeMap, bit)].contains(key, hash(key), shift + BITS)) {
+					continue;
+				}
+			} else {
+				IntTrie node = intersect(a.nodes[index(a.nodeMap, bit)], b.nodes[index(b.nodeMap, bit)], shift + BITS);
+				if (node.size == 0) {
+					continue;
+				}
+				if (node.size > 1) {
+					nodes[Integer.bitCount(nodeMap)] = node;
+					nodeMap |= bit;
+					size += node.size;
+					continue;
+				}
+				key = node.keys[0];
+			}
+			keys[Integer.bitCount(dataMap)] = key;
+			dataMap |= bit;
+			size++;
+		}
+		return size == 0 ? EMPTY_SET : size == a.size ? a : size == b.size ? b : setNode(dataMap, nodeMap, keys, nodes, size);
+	}
+
+	// the entries of a that are not in b
+	static IntTrie diff(IntTrie a, IntTrie b, int shift) {
+		if (a == b) {
+			return EMPTY_SET;
+		}
+		if (((a.dataMap | a.nodeMap) & (b.dataMap | b.nodeMap)) == 0) {
+			return a;
+		}
+		int slots = a.dataMap | a.nodeMap;
+		int[] keys = new int[Integer.bitCount(slots)];
+		IntTrie[] nodes = new IntTrie[keys.length];
+		int dataMap = 0;
+		int nodeMap = 0;
+		int size = 0;
+		for (int rest = slots; rest != 0; rest &= rest - 1) {
+			int bit = rest & -rest;
+			int key;
+			if ((a.dataMap & bit) != 0) {
+				key = a.keys[index(a.dataMap, bit)];
+				if ((b.dataMap & bit) != 0 ? b.keys[index(b.dataMap, bit)] == key
+						: (b.nodeMap & bit) != 0 && b.nodes[index(b.nodeMap, bit)].contains(key, hash(key), shift + BITS)) {
+					continue;
+				}
+			} else {
+				IntTrie node = a.nodes[index(a.nodeMap, bit)];
+				if ((b.dataMap & bit) != 0) {
+					int other = b.keys[index(b.dataMap, bit)];
+					node = node.remove(other, hash(other), shift + BITS);
+				} else if ((b.nodeMap & bit) != 0) {
+					node = diff(node, b.nodes[index(b.nodeMap, bit)], shift + BITS);
+				}
+				if (node.size == 0) {
+					continue;
+				}
+				if (node.size > 1) {
+					nodes[Integer.bitCount(nodeMap)] = node;
+					nodeMap |= bit;
+					size += node.size;
+					continue;
+				}
+				key = node.keys[0];
+			}
+			keys[Integer.bitCount(dataMap)] = key;
+			dataMap |= bit;
+			size++;
+		}
+		return size == 0 ? EMPTY_SET : size == a.size ? a : setNode(dataMap, nodeMap, keys, nodes, size);
+	}
+
+	// whether every entry of a is in b, without allocating
+	static boolean subsetOf(IntTrie a, IntTrie b, int shift) {
+		if (a == b) {
+			return true;
+		}
+		if (a.size > b.size) {
+			return false;
+		}
+		for (int rest = a.dataMap | a.nodeMap; rest != 0; rest &= rest - 1) {
+			int bit = rest & -rest;
+			if ((a.dataMap & bit) != 0) {
+				int key = a.keys[index(a.dataMap, bit)];
+				if ((b.dataMap & bit) != 0 ? b.keys[index(b.dataMap, bit)] != key
+						: (b.nodeMap & bit) == 0 || !b.nodes[index(b.nodeMap, bit)].contains(key, hash(key), shift + BITS)) {
+					return false;
+				}
+			} else if ((b.nodeMap & bit) == 0 || !subsetOf(a.nodes[index(a.nodeMap, bit)], b.nodes[index(b.nodeMap, bit)], shift + BITS)) {
+				// a sub-node holds at least two entries, which a single entry of b cannot cover
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static IntTrie setNode(int dataMap, int nodeMap, int[] keys, IntTrie[] nodes, int size) {
+		int keyCount = Integer.bitCount(dataMap);
+		int nodeCount = Integer.bitCount(nodeMap);
+		return new IntTrie(dataMap, nodeMap,
+				keyCount == 0 ? NO_KEYS : keyCount == keys.length ? keys : Arrays.copyOf(keys, keyCount), null,
+				nodeCount == 0 ? NO_NODES : nodeCount == nodes.length ? nodes : Arrays.copyOf(nodes, nodeCount), size);
+	}
+
+	// canonical layout: equal contents have the same shape
+	static boolean equalTries(IntTrie a, IntTrie b) {
+		if (a == b) {
+			return true;
+		}
+		if (a.size != b.size || a.dataMap != b.dataMap || a.nodeMap != b.nodeMap || !Arrays.equals(a.keys, b.keys)) {
+			return false;
+		}
+		if (a.values != null && b.values != null) {
+			for (int i = 0; i < a.values.length; i++) {
+				if (!Objects.equals(a.values[i], b.values[i])) {
+					return false;
+				}
+			}
+		}
+		for (int j = 0; j < a.nodes.length; j++) {
+			if (!equalTries(a.nodes[j], b.nodes[j])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int[] insert(int[] array, int index, int element) {
+		int[] result = new int[array.length + 1];
+		System.arraycopy(array, 0, result, 0, index);
+		result[index] = element;
+		System.arraycopy(array, index, result, index + 1, array.length - index);
+		return result;
+	}
+
+	private static int[] delete(int[] array, int index) {
+		if (array.length == 1) {
+			return NO_KEYS;
+		}
+		int[] result = new int[array.length - 1];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+		return result;
+	}
+
+	private static <T> T[] insert(T[] array, int index, T element) {
+		T[] result = Arrays.copyOf(array, array.length + 1);
+		System.arraycopy(array, index, result, index + 1, array.length - index);
+		result[index] = element;
+		return result;
+	}
+
+	private static <T> T[] delete(T[] array, int index) {
+		T[] result = Arrays.copyOf(array, array.length - 1);
+		System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+		return result;
+	}
+
+	/**
+	 * Depth-first traversal of the entries: the entries of a node, then those of its sub-nodes.
+	 */
+	static final class Cursor {
+		private final IntTrie[] path = new IntTrie[MAX_DEPTH + 1];
+		private final int[] nextNode = new int[MAX_DEPTH + 1];
+		private int depth;
+		private IntTrie node;
+		private int index;
+		private IntTrie lastNode;
+		private int lastIndex;
+
+		Cursor(IntTrie root) {
+			path[0] = root;
+			node = root;
+			advance();
+		}
+
+		boolean hasNext() {
+			return node != null;
+		}
+
+		int nextKey() {
+			if (node == null) {
+				throw new NoSuchElementException();
+			}
+			lastNode = node;
+			lastIndex = index++;
+			advance();
+			return lastNode.keys[lastIndex];
+		}
+
+		// the value of the entry whose key nextKey() returned last
+		Object lastValue() {
+			return lastNode.values[lastIndex];
+		}
+
+		private void advance() {
+			while (index >= node.keys.length) {
+				while (nextNode[depth] >= path[depth].nodes.length) {
+					if (depth == 0) {
+						node = null;
+						return;
+					}
+					depth--;
+				}
+				node = path[depth].nodes[nextNode[depth]++];
+				path[++depth] = node;
+				nextNode[depth] = 0;
+				index = 0;
+			}
+		}
+	}
+}
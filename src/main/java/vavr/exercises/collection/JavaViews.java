@@ -0,0 +1,117 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Set;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Zero-copy bridges from vavr collections to java.util: index-splitting spliterators for
+ * {@link IndexedSeq} ({@code Array}, {@code Vector}) and unmodifiable views that wrap instead of copy.
+ * Compare {@code Value.toJavaStream()}, {@code toJavaList()} and {@code toJavaSet()}, which iterate
+ * or copy element by element.
+ */
+public final class JavaViews {
+	private JavaViews() {
+	}
+
+	/**
+	 * ORDERED, SIZED, SUBSIZED and IMMUTABLE spliterator that splits by index.
+	 */
+	public static <T> Spliterator<T> spliterator(IndexedSeq<T> seq) {
+		return new IndexedSeqSpliterator<>(seq, 0, seq.size());
+	}
+
+	public static <T> Stream<T> toJavaStream(IndexedSeq<T> seq) {
+		return StreamSupport.stream(spliterator(seq), false);
+	}
+
+	/**
+	 * Parallel stream whose splits are balanced index ranges, so all workers get an equal share.
+	 */
+	public static <T> Stream<T> toJavaParallelStream(IndexedSeq<T> seq) {
+		return StreamSupport.stream(spliterator(seq), true);
+	}
+
+	/**
+	 * Unmodifiable, random-access {@code java.util.List} view backed by {@code seq}.
+	 */
+	public static <T> java.util.List<T> asJavaList(IndexedSeq<T> seq) {
+		return new ListView<>(seq);
+	}
+
+	/**
+	 * Unmodifiable {@code java.util.Set} view backed by {@code set}; {@code contains} uses the set's own lookup.
+	 */
+	public static <T> java.util.Set<T> asJavaSet(Set<T> set) {
+		return new SetView<>(set);
+	}
+
+	private static final class ListView<T> extends AbstractList<T> implements RandomAccess {
+		private final IndexedSeq<T> seq;
+
+		ListView(IndexedSeq<T> seq) {
+			this.seq = seq;
+		}
+
+		@Override
+		public T get(int index) {
+			return seq.get(index);
+		}
+
+		@Override
+		public int size() {
+			return seq.size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+
+		@Override
+		public java.util.Iterator<T> iterator() {
+			return seq.iterator();
+		}
+
+		@Override
+		public Spliterator<T> spliterator() {
+			return JavaViews.spliterator(seq);
+		}
+	}
+
+	private static final class SetView<T> extends AbstractSet<T> {
+		private final Set<T> set;
+
+		SetView(Set<T> set) {
+			this.set = set;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean contains(Object o) {
+			return set.contains((T) o);
+		}
+
+		@Override
+		public java.util.Iterator<T> iterator() {
+			return set.iterator();
+		}
+
+		@Override
+		public int size() {
+			return set.size();
+		}
+
+		@Override
+		public Spliterator<T> spliterator() {
+			return Spliterators.spliterator(this, Spliterator.DISTINCT | Spliterator.IMMUTABLE);
+		}
+	}
+}
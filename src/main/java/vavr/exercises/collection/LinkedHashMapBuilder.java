@@ -0,0 +1,77 @@
+package vavr.exercises.collection;
+
+import io.vavr.Tuple2;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.control.Option;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Transient builder of a {@code LinkedHashMap}, like {@link HashMapBuilder}; keys keep the order in which
+ * they were first put.
+ *
+ * A builder is single-use and not thread-safe; once built, it rejects further modification.
+ */
+public final class LinkedHashMapBuilder<K, V> {
+	private java.util.LinkedHashMap<K, V> entries;
+
+	private LinkedHashMapBuilder(int expectedSize) {
+		this.entries = new java.util.LinkedHashMap<>(HashMapBuilder.capacity(expectedSize));
+	}
+
+	public static <K, V> LinkedHashMapBuilder<K, V> create() {
+		return new LinkedHashMapBuilder<>(16);
+	}
+
+	/**
+	 * A builder presized for {@code expectedSize} entries.
+	 */
+	public static <K, V> LinkedHashMapBuilder<K, V> withExpectedSize(int expectedSize) {
+		return new LinkedHashMapBuilder<>(expectedSize);
+	}
+
+	public LinkedHashMapBuilder<K, V> put(K key, V value) {
+		entries().put(key, value);
+		return this;
+	}
+
+	public LinkedHashMapBuilder<K, V> putAll(Iterable<? extends Tuple2<? extends K, ? extends V>> entries) {
+		Objects.requireNonNull(entries, "entries is null");
+		java.util.LinkedHashMap<K, V> map = entries();
+		for (Tuple2<? extends K, ? extends V> entry : entries) {
+			map.put(entry._1, entry._2);
+		}
+		return this;
+	}
+
+	/**
+	 * Puts {@code value}, or combines it with the present value, like {@code java.util.Map.merge}.
+	 */
+	public LinkedHashMapBuilder<K, V> merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> combine) {
+		entries().merge(key, value, combine);
+		return this;
+	}
+
+	public Option<V> get(K key) {
+		java.util.LinkedHashMap<K, V> map = entries();
+		return map.containsKey(key) ? Option.some(map.get(key)) : Option.none();
+	}
+
+	public int size() {
+		return entries().size();
+	}
+
+	public LinkedHashMap<K, V> build() {
+		LinkedHashMap<K, V> result = LinkedHashMap.ofAll(entries());
+		entries = null;
+		return result;
+	}
+
+	private java.util.LinkedHashMap<K, V> entries() {
+		if (entries == null) {
+			throw new IllegalStateException("builder was already built");
+		}
+		return entries;
+	}
+}
@@ -0,0 +1,435 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable sequence of unboxed {@code long} values, the primitive counterpart of {@code Array<Long>}.
+ *
+ * Reductions ({@link #sum()}, {@link #average()}, {@link #min()}, ...) never box. Slicing operations
+ * ({@link #take(int)}, {@link #drop(int)}, {@link #tail()}, {@link #sliding(int)}, {@link #grouped(int)})
+ * share the backing array instead of copying it.
+ */
+public final class LongArray implements Iterable<Long>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final LongArray EMPTY = new LongArray(new long[0], 0, 0);
+
+	private final long[] values;
+	private final int offset;
+	private final int length;
+
+	private LongArray(long[] values, int offset, int length) {
+		this.values = values;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	// takes ownership of values
+	static LongArray wrap(long[] values) {
+		return values.length == 0 ? EMPTY : new LongArray(values, 0, values.length);
+	}
+
+	public static LongArray empty() {
+		return EMPTY;
+	}
+
+	public static LongArray of(long... values) {
+		return wrap(values.clone());
+	}
+
+	public static LongArray ofAll(Iterable<? extends Number> numbers) {
+		if (numbers instanceof LongArray) {
+			return (LongArray) numbers;
+		}
+		return wrap(Iterator.ofAll(numbers).toJavaStream().mapToLong(Number::longValue).toArray());
+	}
+
+	public static LongArray ofAll(LongStream stream) {
+		return wrap(stream.toArray());
+	}
+
+	/**
+	 * Values from {@code from} (inclusive) to {@code toExclusive}, like {@code Array.range}.
+	 */
+	public static LongArray range(long from, long toExclusive) {
+		return wrap(LongStream.range(from, toExclusive).toArray());
+	}
+
+	// basic operations
+
+	public int length() {
+		return length;
+	}
+
+	public int size() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public long get(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("get(" + index + ")");
+		}
+		return values[offset + index];
+	}
+
+	public long head() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("head of empty LongArray");
+		}
+		return values[offset];
+	}
+
+	public long last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("last of empty LongArray");
+		}
+		return values[offset + length - 1];
+	}
+
+	public LongArray tail() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("tail of empty LongArray");
+		}
+		return slice(1, length);
+	}
+
+	public LongArray init() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("init of empty LongArray");
+		}
+		return slice(0, length - 1);
+	}
+
+	public LongArray take(int n) {
+		return slice(0, n);
+	}
+
+	public LongArray drop(int n) {
+		return slice(n, length);
+	}
+
+	/**
+	 * Elements from {@code beginIndex} (inclusive) to {@code endIndex} (exclusive), clamped to the bounds
+	 * like {@code io.vavr.collection.Array.slice}. The result shares this array's storage.
+	 */
+	public LongArray slice(int beginIndex, int endIndex) {
+		int from = Math.max(0, beginIndex);
+		int to = Math.min(length, endIndex);
+		if (from >= to) {
+			return EMPTY;
+		}
+		if (from == 0 && to == length) {
+			return this;
+		}
+		return new LongArray(values, offset + from, to - from);
+	}
+
+	public LongArray append(long value) {
+		long[] copy = Arrays.copyOfRange(values, offset, offset + length + 1);
+		copy[length] = value;
+		return wrap(copy);
+	}
+
+	public LongArray appendAll(LongArray other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return other;
+		}
+		long[] copy = Arrays.copyOfRange(values, offset, offset + length + other.length);
+		System.arraycopy(other.values, other.offset, copy, length, other.length);
+		return wrap(copy);
+	}
+
+	// transformation
+
+	public LongArray map(LongUnaryOperator mapper) {
+		long[] result = new long[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = mapper.applyAsLong(values[offset + i]);
+		}
+		return wrap(result);
+	}
+
+	public <U> Array<U> mapToObj(LongFunction<? extends U> mapper) {
+		Object[] result = new Object[length];
+		for (int i = 0; i < length; i++) {
+			result[i] = mapper.apply(values[offset + i]);
+		}
+		@SuppressWarnings("unchecked")
+		Array<U> array = (Array<U>) Array.of(result);
+		return array;
+	}
+
+	public LongArray filter(LongPredicate predicate) {
+		long[] result = new long[length];
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			long value = values[offset + i];
+			if (predicate.test(value)) {
+				result[count++] = value;
+			}
+		}
+		return count == length ? this : wrap(Arrays.copyOf(result, count));
+	}
+
+	public LongArray reject(LongPredicate predicate) {
+		return filter(predicate.negate());
+	}
+
+	/**
+	 * Running fold starting with {@code zero}; the result has {@code length() + 1} elements.
+	 */
+	public LongArray scan(long zero, LongBinaryOperator operation) {
+		long[] result = new long[length + 1];
+		long accumulator = zero;
+		result[0] = accumulator;
+		for (int i = 0; i < length; i++) {
+			accumulator = operation.applyAsLong(accumulator, values[offset + i]);
+			result[i + 1] = accumulator;
+		}
+		return wrap(result);
+	}
+
+	// iteration
+
+	public void forEach(LongConsumer action) {
+		for (int i = 0; i < length; i++) {
+			action.accept(values[offset + i]);
+		}
+	}
+
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return new PrimitiveIterator.OfLong() {
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < length;
+			}
+
+			@Override
+			public long nextLong() {
+				if (index >= length) {
+					throw new NoSuchElementException();
+				}
+				return values[offset + index++];
+			}
+		};
+	}
+
+	/**
+	 * Blocks of {@code size} elements; the last block may be shorter. Blocks share this array's storage.
+	 */
+	public Iterator<LongArray> grouped(int size) {
+		return sliding(size, size);
+	}
+
+	public Iterator<LongArray> sliding(int size) {
+		return sliding(size, 1);
+	}
+
+	/**
+	 * Windows of {@code size} elements, each starting {@code step} elements after the previous one,
+	 * with the same semantics as {@code Traversable.sliding(int, int)}. Windows share this array's storage.
+	 */
+	public Iterator<LongArray> sliding(int size, int step) {
+		if (size <= 0 || step <= 0) {
+			throw new IllegalArgumentException("size: " + size + " or step: " + step + " not positive");
+		}
+		if (isEmpty()) {
+			return Iterator.empty();
+		}
+		// a window starts every step elements until one reaches the end
+		int windows = length <= size ? 1 : 1 + Math.min((length - 1) / step, (length - size - 1) / step + 1);
+		return Iterator.range(0, windows).map(window -> slice(window * step, window * step + size));
+	}
+
+	// reduction, folding
+
+	public long fold(long zero, LongBinaryOperator operation) {
+		return foldLeft(zero, operation);
+	}
+
+	public long foldLeft(long zero, LongBinaryOperator operation) {
+		long accumulator = zero;
+		for (int i = 0; i < length; i++) {
+			accumulator = operation.applyAsLong(accumulator, values[offset + i]);
+		}
+		return accumulator;
+	}
+
+	public long foldRight(long zero, LongBinaryOperator operation) {
+		long accumulator = zero;
+		for (int i = length - 1; i >= 0; i--) {
+			accumulator = operation.applyAsLong(values[offset + i], accumulator);
+		}
+		return accumulator;
+	}
+
+	public OptionalLong reduceOption(LongBinaryOperator operation) {
+		if (isEmpty()) {
+			return OptionalLong.empty();
+		}
+		long accumulator = values[offset];
+		for (int i = 1; i < length; i++) {
+			accumulator = operation.applyAsLong(accumulator, values[offset + i]);
+		}
+		return OptionalLong.of(accumulator);
+	}
+
+	public long reduce(LongBinaryOperator operation) {
+		if (isEmpty()) {
+			throw new NoSuchElementException("reduce of empty LongArray");
+		}
+		return reduceOption(operation).getAsLong();
+	}
+
+	public int count(LongPredicate predicate) {
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			if (predicate.test(values[offset + i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public boolean exists(LongPredicate predicate) {
+		for (int i = 0; i < length; i++) {
+			if (predicate.test(values[offset + i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean forAll(LongPredicate predicate) {
+		return !exists(predicate.negate());
+	}
+
+	// numeric operations
+
+	public long sum() {
+		long sum = 0;
+		for (int i = 0; i < length; i++) {
+			sum += values[offset + i];
+		}
+		return sum;
+	}
+
+	public long product() {
+		long product = 1;
+		for (int i = 0; i < length; i++) {
+			product *= values[offset + i];
+		}
+		return product;
+	}
+
+	/**
+	 * Average of a compensated (Neumaier) {@code double} sum, like {@code Traversable.average()}, since the
+	 * {@code long} sum may overflow.
+	 */
+	public OptionalDouble average() {
+		if (isEmpty()) {
+			return OptionalDouble.empty();
+		}
+		double sum = 0.0;
+		double compensation = 0.0;
+		for (int i = 0; i < length; i++) {
+			double value = values[offset + i];
+			double t = sum + value;
+			if (Math.abs(sum) >= Math.abs(value)) {
+				compensation += (sum - t) + value;
+			} else {
+				compensation += (value - t) + sum;
+			}
+			sum = t;
+		}
+		return OptionalDouble.of((sum + compensation) / length);
+	}
+
+	/**
+	 * Count, sum, min, max, mean and variance in a single pass; see {@link Summary}.
+	 */
+	public Summary summary() {
+		Summary summary = Summary.create();
+		summary.acceptAll(values, offset, offset + length);
+		return summary;
+	}
+
+	public OptionalLong min() {
+		return reduceOption(Math::min);
+	}
+
+	public OptionalLong max() {
+		return reduceOption(Math::max);
+	}
+
+	// conversion
+
+	public LongStream stream() {
+		return Arrays.stream(values, offset, offset + length);
+	}
+
+	public long[] toJavaArray() {
+		return Arrays.copyOfRange(values, offset, offset + length);
+	}
+
+	public Array<Long> toArray() {
+		return Array.ofAll(toJavaArray());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof LongArray)) {
+			return false;
+		}
+		LongArray that = (LongArray) o;
+		return Arrays.equals(values, offset, offset + length, that.values, that.offset, that.offset + that.length);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + Long.hashCode(values[offset + i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("LongArray(");
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(values[offset + i]);
+		}
+		return builder.append(')').toString();
+	}
+}
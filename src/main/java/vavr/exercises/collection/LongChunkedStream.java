@@ -0,0 +1,339 @@
+package vavr.exercises.collection;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Lazy sequence of unboxed {@code long} values, evaluated a chunk at a time into an {@code long[]} buffer per
+ * pipeline stage. Unlike {@link ChunkedStream} it never memoizes: every traversal re-evaluates the pipeline and
+ * nothing is retained, so {@link #toArray()} is the way to keep results.
+ */
+public final class LongChunkedStream {
+	private final Supplier<Source> source;
+	private final int chunkSize;
+
+	private LongChunkedStream(Supplier<Source> source, int chunkSize) {
+		this.source = source;
+		this.chunkSize = chunkSize;
+	}
+
+	private static LongChunkedStream of(Supplier<Source> source) {
+		return new LongChunkedStream(source, ChunkedStream.DEFAULT_CHUNK_SIZE);
+	}
+
+	private LongChunkedStream derive(Supplier<Source> derived) {
+		return new LongChunkedStream(derived, chunkSize);
+	}
+
+	// creation
+
+	public static LongChunkedStream empty() {
+		return of(() -> buffer -> 0);
+	}
+
+	public static LongChunkedStream of(long... values) {
+		return ofAll(LongArray.of(values));
+	}
+
+	public static LongChunkedStream ofAll(LongArray values) {
+		Objects.requireNonNull(values, "values is null");
+		return of(() -> new Source() {
+			private int index;
+
+			@Override
+			public int fill(long[] buffer) {
+				int count = Math.min(buffer.length, values.length() - index);
+				for (int i = 0; i < count; i++) {
+					buffer[i] = values.get(index++);
+				}
+				return count;
+			}
+		});
+	}
+
+	public static LongChunkedStream from(long start) {
+		return iterate(start, x -> x + 1);
+	}
+
+	public static LongChunkedStream range(long from, long toExclusive) {
+		// counts up to the last value instead of taking toExclusive - from values, which may overflow a long
+		return of(() -> new Source() {
+			private long next = from;
+			private boolean done = from >= toExclusive;
+
+			@Override
+			public int fill(long[] buffer) {
+				int count = 0;
+				while (!done && count < buffer.length) {
+					buffer[count++] = next;
+					if (next == toExclusive - 1) {
+						done = true;
+					} else {
+						next++;
+					}
+				}
+				return count;
+			}
+		});
+	}
+
+	public static LongChunkedStream iterate(long seed, LongUnaryOperator f) {
+		return of(() -> new Source() {
+			private long next = seed;
+
+			@Override
+			public int fill(long[] buffer) {
+				for (int i = 0; i < buffer.length; i++) {
+					buffer[i] = next;
+					next = f.applyAsLong(next);
+				}
+				return buffer.length;
+			}
+		});
+	}
+
+	public static LongChunkedStream continually(LongSupplier supplier) {
+		return of(() -> buffer -> {
+			for (int i = 0; i < buffer.length; i++) {
+				buffer[i] = supplier.getAsLong();
+			}
+			return buffer.length;
+		});
+	}
+
+	public LongChunkedStream withChunkSize(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		return new LongChunkedStream(source, chunkSize);
+	}
+
+	// manipulation
+
+	public LongChunkedStream map(LongUnaryOperator mapper) {
+		return derive(() -> {
+			Source parent = source.get();
+			return buffer -> {
+				int count = parent.fill(buffer);
+				for (int i = 0; i < count; i++) {
+					buffer[i] = mapper.applyAsLong(buffer[i]);
+				}
+				return count;
+			};
+		});
+	}
+
+	public LongChunkedStream filter(LongPredicate predicate) {
+		return derive(() -> {
+			Source parent = source.get();
+			return buffer -> {
+				int count;
+				do {
+					int read = parent.fill(buffer);
+					if (read == 0) {
+						return 0;
+					}
+					count = 0;
+					for (int i = 0; i < read; i++) {
+						if (predicate.test(buffer[i])) {
+							buffer[count++] = buffer[i];
+						}
+					}
+				} while (count == 0);
+				return count;
+			};
+		});
+	}
+
+	public LongChunkedStream take(long n) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private long remaining = n;
+				// the last, shorter chunk, so that the parent evaluates no more than n values
+				private long[] rest;
+
+				@Override
+				public int fill(long[] buffer) {
+					if (remaining <= 0) {
+						return 0;
+					}
+					if (remaining >= buffer.length) {
+						int count = parent.fill(buffer);
+						remaining -= count;
+						return count;
+					}
+					if (rest == null || rest.length > remaining) {
+						rest = new long[(int) remaining];
+					}
+					int count = parent.fill(rest);
+					System.arraycopy(rest, 0, buffer, 0, count);
+					remaining -= count;
+					return count;
+				}
+			};
+		});
+	}
+
+	public LongChunkedStream takeWhile(LongPredicate predicate) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private boolean done;
+
+				@Override
+				public int fill(long[] buffer) {
+					if (done) {
+						return 0;
+					}
+					int read = parent.fill(buffer);
+					for (int i = 0; i < read; i++) {
+						if (!predicate.test(buffer[i])) {
+							done = true;
+							return i;
+						}
+					}
+					return read;
+				}
+			};
+		});
+	}
+
+	public LongChunkedStream drop(long n) {
+		return derive(() -> {
+			Source parent = source.get();
+			return new Source() {
+				private long toDrop = n;
+
+				@Override
+				public int fill(long[] buffer) {
+					while (true) {
+						int read = parent.fill(buffer);
+						if (toDrop == 0 || read == 0) {
+							return read;
+						}
+						if (read > toDrop) {
+							int skip = (int) toDrop;
+							toDrop = 0;
+							System.arraycopy(buffer, skip, buffer, 0, read - skip);
+							return read - skip;
+						}
+						toDrop -= read;
+					}
+				}
+			};
+		});
+	}
+
+	public ChunkedStream<Long> boxed() {
+		return ChunkedStream.ofAll(() -> iterator()).withChunkSize(chunkSize).nonMemoizing();
+	}
+
+	// terminal operations
+
+	public PrimitiveIterator.OfLong iterator() {
+		Source chunks = source.get();
+		long[] buffer = new long[chunkSize];
+		return new PrimitiveIterator.OfLong() {
+			private int index;
+			private int count;
+
+			@Override
+			public boolean hasNext() {
+				if (index < count) {
+					return true;
+				}
+				count = chunks.fill(buffer);
+				index = 0;
+				return count > 0;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return buffer[index++];
+			}
+		};
+	}
+
+	public void forEach(LongConsumer action) {
+		Source chunks = source.get();
+		long[] buffer = new long[chunkSize];
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				action.accept(buffer[i]);
+			}
+		}
+	}
+
+	public long foldLeft(long zero, LongBinaryOperator combine) {
+		Source chunks = source.get();
+		long[] buffer = new long[chunkSize];
+		long accumulator = zero;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				accumulator = combine.applyAsLong(accumulator, buffer[i]);
+			}
+		}
+		return accumulator;
+	}
+
+	public long sum() {
+		Source chunks = source.get();
+		long[] buffer = new long[chunkSize];
+		long sum = 0;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			for (int i = 0; i < count; i++) {
+				sum += buffer[i];
+			}
+		}
+		return sum;
+	}
+
+	public long count() {
+		Source chunks = source.get();
+		long[] buffer = new long[chunkSize];
+		long count = 0;
+		for (int read = chunks.fill(buffer); read > 0; read = chunks.fill(buffer)) {
+			count += read;
+		}
+		return count;
+	}
+
+	public LongArray toArray() {
+		Source chunks = source.get();
+		long[] buffer = new long[chunkSize];
+		long[] result = new long[chunkSize];
+		int length = 0;
+		for (int count = chunks.fill(buffer); count > 0; count = chunks.fill(buffer)) {
+			if (length + count > result.length) {
+				result = java.util.Arrays.copyOf(result, Math.max(length + count, result.length * 2));
+			}
+			System.arraycopy(buffer, 0, result, length, count);
+			length += count;
+		}
+		return LongArray.wrap(java.util.Arrays.copyOf(result, length));
+	}
+
+	@Override
+	public String toString() {
+		return "LongChunkedStream(...)";
+	}
+
+	@FunctionalInterface
+	private interface Source {
+		/**
+		 * Same contract as {@link Chunks#fill(Object[])}.
+		 */
+		int fill(long[] buffer);
+	}
+}
@@ -0,0 +1,194 @@
+package vavr.exercises.collection;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Option;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable hash map with unboxed {@code long} keys, the primitive counterpart of {@code HashMap<Long, V>}.
+ *
+ * Like {@code HashMap} it is a hash array mapped trie with structural sharing, so {@link #put} and
+ * {@link #remove} copy only the path to the changed entry. Keys are stored in {@code long[]}s inside the trie
+ * nodes instead of as boxed {@code Long}s in {@code Tuple2} entries, and lookups never box. Iteration order
+ * is unspecified, but the same for equal maps.
+ */
+public final class LongHashMap<V> implements Iterable<Tuple2<Long, V>>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final LongHashMap<?> EMPTY = new LongHashMap<>(LongTrie.EMPTY_MAP);
+
+	// distinguishes a missing key from a null value
+	private static final Object NOT_FOUND = new Object();
+
+	private final LongTrie root;
+
+	private LongHashMap(LongTrie root) {
+		this.root = root;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <V> LongHashMap<V> empty() {
+		return (LongHashMap<V>) EMPTY;
+	}
+
+	public static <V> LongHashMap<V> of(long key, V value) {
+		return LongHashMap.<V> empty().put(key, value);
+	}
+
+	/**
+	 * The entries of {@code entries}, e.g. a {@code Map<Long, V>}; later entries replace earlier ones.
+	 */
+	public static <V> LongHashMap<V> ofEntries(Iterable<? extends Tuple2<Long, ? extends V>> entries) {
+		Objects.requireNonNull(entries, "entries is null");
+		LongHashMap<V> result = empty();
+		for (Tuple2<Long, ? extends V> entry : entries) {
+			result = result.put(entry._1, entry._2);
+		}
+		return result;
+	}
+
+	// basic operations
+
+	public int size() {
+		return root.size;
+	}
+
+	public boolean isEmpty() {
+		return root.size == 0;
+	}
+
+	public boolean containsKey(long key) {
+		return root.contains(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	public Option<V> get(long key) {
+		Object value = root.get(key, NOT_FOUND);
+		return value == NOT_FOUND ? Option.none() : Option.some((V) value);
+	}
+
+	@SuppressWarnings("unchecked")
+	public V getOrElse(long key, V defaultValue) {
+		Object value = root.get(key, NOT_FOUND);
+		return value == NOT_FOUND ? defaultValue : (V) value;
+	}
+
+	public LongHashMap<V> put(long key, V value) {
+		LongTrie newRoot = root.put(key, LongTrie.hash(key), value, 0);
+		return newRoot == root ? this : new LongHashMap<>(newRoot);
+	}
+
+	public LongHashMap<V> remove(long key) {
+		LongTrie newRoot = root.remove(key, LongTrie.hash(key), 0);
+		return newRoot == root ? this : newRoot.size == 0 ? empty() : new LongHashMap<>(newRoot);
+	}
+
+	/**
+	 * The map with the same keys and every value mapped; the trie is rebuilt in one pass with the same shape.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> LongHashMap<U> mapValues(Function<? super V, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new LongHashMap<>(root.mapValues(value -> mapper.apply((V) value)));
+	}
+
+	/**
+	 * The keys as a set, sharing the key arrays of this map.
+	 */
+	public LongHashSet keySet() {
+		return LongHashSet.wrap(root.mapValues(null));
+	}
+
+	// iteration
+
+	@FunctionalInterface
+	public interface EntryConsumer<V> {
+		void accept(long key, V value);
+	}
+
+	@SuppressWarnings("unchecked")
+	public void forEach(EntryConsumer<? super V> action) {
+		Objects.requireNonNull(action, "action is null");
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			long key = cursor.nextKey();
+			action.accept(key, (V) cursor.lastValue());
+		}
+	}
+
+	/**
+	 * The entries, boxed into tuples on access.
+	 */
+	@Override
+	public Iterator<Tuple2<Long, V>> iterator() {
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		return new Iterator<Tuple2<Long, V>>() {
+			@Override
+			public boolean hasNext() {
+				return cursor.hasNext();
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public Tuple2<Long, V> next() {
+				long key = cursor.nextKey();
+				return Tuple.of(key, (V) cursor.lastValue());
+			}
+		};
+	}
+
+	public LongArray keys() {
+		long[] keys = new long[root.size];
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = cursor.nextKey();
+		}
+		return LongArray.wrap(keys);
+	}
+
+	@SuppressWarnings("unchecked")
+	public Array<V> values() {
+		ArrayBuilder<V> values = ArrayBuilder.withExpectedSize(root.size);
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			cursor.nextKey();
+			values.add((V) cursor.lastValue());
+		}
+		return values.build();
+	}
+
+	public HashMap<Long, V> toHashMap() {
+		return HashMap.ofEntries(this);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof LongHashMap)) {
+			return false;
+		}
+		LongHashMap<?> that = (LongHashMap<?>) o;
+		return LongTrie.equalTries(root, that.root);
+	}
+
+	@Override
+	public int hashCode() {
+		int[] hash = new int[1];
+		forEach((key, value) -> hash[0] += Long.hashCode(key) ^ Objects.hashCode(value));
+		return hash[0];
+	}
+
+	@Override
+	public String toString() {
+		return iterator().mkString("LongHashMap(", ", ", ")");
+	}
+}
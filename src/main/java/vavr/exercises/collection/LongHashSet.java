@@ -0,0 +1,179 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.HashSet;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Immutable hash set of unboxed {@code long} values, the primitive counterpart of {@code HashSet<Long>}.
+ * See {@link LongHashMap}; the set uses the same trie without values.
+ */
+public final class LongHashSet implements Iterable<Long>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final LongHashSet EMPTY = new LongHashSet(LongTrie.EMPTY_SET);
+
+	private final LongTrie root;
+
+	private LongHashSet(LongTrie root) {
+		this.root = root;
+	}
+
+	static LongHashSet wrap(LongTrie root) {
+		return root.size == 0 ? EMPTY : new LongHashSet(root);
+	}
+
+	public static LongHashSet empty() {
+		return EMPTY;
+	}
+
+	public static LongHashSet of(long... values) {
+		LongHashSet result = EMPTY;
+		for (long value : values) {
+			result = result.add(value);
+		}
+		return result;
+	}
+
+	public static LongHashSet ofAll(Iterable<? extends Number> numbers) {
+		Objects.requireNonNull(numbers, "numbers is null");
+		LongHashSet result = EMPTY;
+		for (Number number : numbers) {
+			result = result.add(number.longValue());
+		}
+		return result;
+	}
+
+	// basic operations
+
+	public int size() {
+		return root.size;
+	}
+
+	public boolean isEmpty() {
+		return root.size == 0;
+	}
+
+	public boolean contains(long value) {
+		return root.contains(value);
+	}
+
+	public LongHashSet add(long value) {
+		LongTrie newRoot = root.put(value, LongTrie.hash(value), null, 0);
+		return newRoot == root ? this : new LongHashSet(newRoot);
+	}
+
+	public LongHashSet remove(long value) {
+		LongTrie newRoot = root.remove(value, LongTrie.hash(value), 0);
+		return newRoot == root ? this : wrap(newRoot);
+	}
+
+	// set algebra, merging the two tries node by node instead of adding or removing elements one at a time;
+	// the result shares every sub-trie that only one side contributes
+
+	public LongHashSet union(LongHashSet that) {
+		Objects.requireNonNull(that, "that is null");
+		return wrapSame(LongTrie.union(root, that.root, 0), that);
+	}
+
+	public LongHashSet intersect(LongHashSet that) {
+		Objects.requireNonNull(that, "that is null");
+		return wrapSame(LongTrie.intersect(root, that.root, 0), that);
+	}
+
+	public LongHashSet diff(LongHashSet that) {
+		Objects.requireNonNull(that, "that is null");
+		return wrapSame(LongTrie.diff(root, that.root, 0), that);
+	}
+
+	public boolean containsAll(LongHashSet that) {
+		Objects.requireNonNull(that, "that is null");
+		return LongTrie.subsetOf(that.root, root, 0);
+	}
+
+	// returns this or that instead of a new wrapper when the merge gave back one of the roots
+	private LongHashSet wrapSame(LongTrie newRoot, LongHashSet that) {
+		return newRoot == root ? this : newRoot == that.root ? that : wrap(newRoot);
+	}
+
+	// iteration
+
+	public void forEach(LongConsumer action) {
+		Objects.requireNonNull(action, "action is null");
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			action.accept(cursor.nextKey());
+		}
+	}
+
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		return new PrimitiveIterator.OfLong() {
+			@Override
+			public boolean hasNext() {
+				return cursor.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				if (!cursor.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return cursor.nextKey();
+			}
+		};
+	}
+
+	public LongArray toArray() {
+		long[] values = new long[root.size];
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		for (int i = 0; i < values.length; i++) {
+			values[i] = cursor.nextKey();
+		}
+		return LongArray.wrap(values);
+	}
+
+	public HashSet<Long> toHashSet() {
+		return HashSet.ofAll(this);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof LongHashSet)) {
+			return false;
+		}
+		LongHashSet that = (LongHashSet) o;
+		return LongTrie.equalTries(root, that.root);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			hash += Long.hashCode(cursor.nextKey());
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("LongHashSet(");
+		LongTrie.Cursor cursor = new LongTrie.Cursor(root);
+		while (cursor.hasNext()) {
+			builder.append(cursor.nextKey());
+			if (cursor.hasNext()) {
+				builder.append(", ");
+			}
+		}
+		return builder.append(')').toString();
+	}
+}
@@ -0,0 +1,495 @@
+package vavr.exercises.collection;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Node of the hash array mapped trie behind {@link LongHashMap} and {@link LongHashSet}, in the compressed
+ * (CHAMP) layout: the entries stored in a node are an {@code long[]} of keys and, for maps, a parallel array of
+ * values, both ordered by hash fragment and separate from the array of sub-nodes. Sets have no value array.
+ *
+ * Keys are hashed with a bijective mix, so distinct keys have distinct 64-bit hashes and always diverge
+ * within the 13 levels of the trie; there are no collision nodes. Removal inlines a sub-node left with a single
+ * entry, which keeps the layout canonical: equal contents have equal tries. Every node knows the number of
+ * entries below it, so the set operations can take shared sub-tries wholesale.
+ */
+final class LongTrie implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+	static final int MAX_DEPTH = 13;
+
+	private static final long[] NO_KEYS = new long[0];
+	private static final Object[] NO_VALUES = new Object[0];
+	private static final LongTrie[] NO_NODES = new LongTrie[0];
+
+	static final LongTrie EMPTY_MAP = new LongTrie(0, 0, NO_KEYS, NO_VALUES, NO_NODES, 0);
+	static final LongTrie EMPTY_SET = new LongTrie(0, 0, NO_KEYS, null, NO_NODES, 0);
+
+	final int dataMap;
+	final int nodeMap;
+	final long[] keys;
+	final Object[] values;
+	final LongTrie[] nodes;
+	final int size;
+
+	private LongTrie(int dataMap, int nodeMap, long[] keys, Object[] values, LongTrie[] nodes, int size) {
+		this.dataMap = dataMap;
+		this.nodeMap = nodeMap;
+		this.keys = keys;
+		this.values = values;
+		this.nodes = nodes;
+		this.size = size;
+	}
+
+	// murmur3 finalizer, a bijection
+	static long hash(long key) {
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private static int bit(long hash, int shift) {
+		return 1 << (int) ((hash >>> shift) & MASK);
+	}
+
+	private static int index(int map, int bit) {
+		return Integer.bitCount(map & (bit - 1));
+	}
+
+	boolean isSet() {
+		return values == null;
+	}
+
+	// lookup
+
+	boolean contains(long key) {
+		return contains(key, hash(key), 0);
+	}
+
+	private boolean contains(long key, long hash, int shift) {
+		LongTrie node = this;
+		for (; ; shift += BITS) {
+			int bit = bit(hash, shift);
+			if ((node.dataMap & bit) != 0) {
+				return node.keys[index(node.dataMap, bit)] == key;
+			}
+			if ((node.nodeMap & bit) == 0) {
+				return false;
+			}
+			node = node.nodes[index(node.nodeMap, bit)];
+		}
+	}
+
+	Object get(long key, Object notFound) {
+		long hash = hash(key);
+		LongTrie node = this;
+		for (int shift = 0; ; shift += BITS) {
+			int bit = bit(hash, shift);
+			if ((node.dataMap & bit) != 0) {
+				int i = index(node.dataMap, bit);
+				return node.keys[i] == key ? node.values[i] : notFound;
+			}
+			if ((node.nodeMap & bit) == 0) {
+				return notFound;
+			}
+			node = node.nodes[index(node.nodeMap, bit)];
+		}
+	}
+
+	// updates, which return this if nothing changed
+
+	LongTrie put(long key, long hash, Object value, int shift) {
+		int bit = bit(hash, shift);
+		if ((dataMap & bit) != 0) {
+			int i = index(dataMap, bit);
+			long existing = keys[i];
+			if (existing == key) {
+				if (values == null || values[i] == value) {
+					return this;
+				}
+				Object[] newValues = values.clone();
+				newValues[i] = value;
+				return new LongTrie(dataMap, nodeMap, keys, newValues, nodes, size);
+			}
+			LongTrie child = pair(existing, hash(existing), values == null ? null : values[i], key, hash, value, shift + BITS, values == null);
+			return dataToNode(bit, i, child);
+		}
+		if ((nodeMap & bit) != 0) {
+			int j = index(nodeMap, bit);
+			LongTrie child = nodes[j].put(key, hash, value, shift + BITS);
+			return child == nodes[j] ? this : withNode(j, child);
+		}
+		int i = index(dataMap, bit);
+		return new LongTrie(dataMap | bit, nodeMap, insert(keys, i, key), values == null ? null : insert(values, i, value), nodes, size + 1);
+	}
+
+	LongTrie remove(long key, long hash, int shift) {
+		int bit = bit(hash, shift);
+		if ((dataMap & bit) != 0) {
+			int i = index(dataMap, bit);
+			if (keys[i] != key) {
+				return this;
+			}
+			return new LongTrie(dataMap ^ bit, nodeMap, delete(keys, i), values == null ? null : delete(values, i), nodes, size - 1);
+		}
+		if ((nodeMap & bit) != 0) {
+			int j = index(nodeMap, bit);
+			LongTrie child = nodes[j].remove(key, hash, shift + BITS);
+			if (child == nodes[j]) {
+				return this;
+			}
+			return child.size == 1 ? nodeToData(bit, j, child) : withNode(j, child);
+		}
+		return this;
+	}
+
+	private static LongTrie pair(long key1, long hash1, Object value1, long key2, long hash2, Object value2, int shift, boolean isSet) {
+		int fragment1 = (int) ((hash1 >>> shift) & MASK);
+		int fragment2 = (int) ((hash2 >>> shift) & MASK);
+		if (fragment1 == fragment2) {
+			LongTrie child = pair(key1, hash1, value1, key2, hash2, value2, shift + BITS, isSet);
+			return new LongTrie(0, 1 << fragment1, NO_KEYS, isSet ? null : NO_VALUES, new LongTrie[] { child }, 2);
+		}
+		boolean ordered = fragment1 < fragment2;
+		long[] keys = ordered ? new long[] { key1, key2 } : new long[] { key2, key1 };
+		Object[] values = isSet ? null : ordered ? new Object[] { value1, value2 } : new Object[] { value2, value1 };
+		return new LongTrie((1 << fragment1) | (1 << fragment2), 0, keys, values, NO_NODES, 2);
+	}
+
+	private LongTrie withNode(int j, LongTrie child) {
+		LongTrie[] newNodes = nodes.clone();
+		newNodes[j] = child;
+		return new LongTrie(dataMap, nodeMap, keys, values, newNodes, size - nodes[j].size + child.size);
+	}
+
+	private LongTrie dataToNode(int bit, int i, LongTrie child) {
+		int newNodeMap = nodeMap | bit;
+		return new LongTrie(dataMap ^ bit, newNodeMap, delete(keys, i), values == null ? null : delete(values, i),
+				insert(nodes, index(newNodeMap, bit), child), size + 1);
+	}
+
+	private LongTrie nodeToData(int bit, int j, LongTrie child) {
+		int newDataMap = dataMap | bit;
+		int i = index(newDataMap, bit);
+		return new LongTrie(newDataMap, nodeMap ^ bit, insert(keys, i, child.keys[0]),
+				values == null ? null : insert(values, i, child.values[0]), delete(nodes, j), size - 1);
+	}
+
+	// the same trie with values replaced; a set if mapper is null
+
+	LongTrie mapValues(java.util.function.Function<Object, Object> mapper) {
+		Object[] newValues = null;
+		if (mapper != null) {
+			newValues = new Object[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				newValues[i] = mapper.apply(values == null ? null : values[i]);
+			}
+		}
+		LongTrie[] newNodes = nodes.length == 0 ? NO_NODES : new LongTrie[nodes.length];
+		for (int j = 0; j < nodes.length; j++) {
+			newNodes[j] = nodes[j].mapValues(mapper);
+		}
+		return new LongTrie(dataMap, nodeMap, keys, newValues, newNodes, size);
+	}
+
+	// set algebra on set tries, merged node by node: a sub-trie only one side has is kept or dropped as a whole
+	// without visiting its entries, and a sub-trie both sides share (e.g. sets derived from each other) is
+	// answered by identity; only slots where both sides have entries are descended into
+
+	static LongTrie union(LongTrie a, LongTrie b, int shift) {
+		if (a == b || b.size == 0) {
+			return a;
+		}
+		if (a.size == 0) {
+			return b;
+		}
+		int slots = a.dataMap | a.nodeMap | b.dataMap | b.nodeMap;
+		long[] keys = new long[Integer.bitCount(slots)];
+		LongTrie[] nodes = new LongTrie[keys.length];
+		int dataMap = 0;
+		int nodeMap = 0;
+		int size = 0;
+		for (int rest = slots; rest != 0; rest &= rest - 1) {
+			int bit = rest & -rest;
+			LongTrie node;
+			if ((a.dataMap & bit) != 0) {
+				long key = a.keys[index(a.dataMap, bit)];
+				if ((b.dataMap & bit) != 0 && b.keys[index(b.dataMap, bit)] != key) {
+					long other = b.keys[index(b.dataMap, bit)];
+					node = pair(key, hash(key), null, other, hash(other), null, shift + BITS, true);
+				} else if ((b.nodeMap & bit) != 0) {
+					node = b.nodes[index(b.nodeMap, bit)].put(key, hash(key), null, shift + BITS);
+				} else {
+					keys[Integer.bitCount(dataMap)] = key;
+					dataMap |= bit;
+					size++;
+					continue;
+				}
+			} else if ((a.nodeMap & bit) != 0) {
+				node = a.nodes[index(a.nodeMap, bit)];
+				if ((b.dataMap & bit) != 0) {
+					long other = b.keys[index(b.dataMap, bit)];
+					node = node.put(other, hash(other), null, shift + BITS);
+				} else if ((b.nodeMap & bit) != 0) {
+					node = union(node, b.nodes[index(b.nodeMap, bit)], shift + BITS);
+				}
+			} else if ((b.dataMap & bit) != 0) {
+				keys[Integer.bitCount(dataMap)] = b.keys[index(b.dataMap, bit)];
+				dataMap |= bit;
+				size++;
+				continue;
+			} else {
+				node = b.nodes[index(b.nodeMap, bit)];
+			}
+			nodes[Integer.bitCount(nodeMap)] = node;
+			nodeMap |= bit;
+			size += node.size;
+		}
+		// a superset of one side with its size has its contents, and by the canonical layout its shape
+		return size == a.size ? a : size == b.size ? b : setNode(dataMap, nodeMap, keys, nodes, size);
+	}
+
+	static LongTrie intersect(LongTrie a, LongTrie b, int shift) {
+		if (a == b) {
+			return a;
+		}
+		int slots = (a.dataMap | a.nodeMap) & (b.dataMap | b.nodeMap);
+		if (slots == 0) {
+			return EMPTY_SET;
+		}
+		long[] keys = new long[Integer.bitCount(slots)];
+		LongTrie[] nodes = new LongTrie[keys.length];
+		int dataMap = 0;
+		int nodeMap = 0;
+		int size = 0;
+		for (int rest = slots; rest != 0; rest &= rest - 1) {
+			int bit = rest & -rest;
+			long key;
+			if ((a.dataMap & bit) != 0) {
+				key = a.keys[index(a.dataMap, bit)];
+				if ((b.dataMap & bit) != 0 ? b.keys[index(b.dataMap, bit)] != key
+						: !b.nodes[index(b.nodeMap, bit)].contains(key, hash(key), shift + BITS)) {
+					continue;
+				}
+			} else if ((b.dataMap & bit) != 0) {
+				key = b.keys[index(b.dataMap, bit)];
+				if (!a.nodes[index(a.nodeMap, bit)].contains(key, hash(key), shift + BITS)) {
+					continue;
+				}
+			} else {
+				LongTrie node = intersect(a.nodes[index(a.nodeMap, bit)], b.nodes[index(b.nodeMap, bit)], shift + BITS);
+				if (node.size == 0) {
+					continue;
+				}
+				if (node.size > 1) {
+					nodes[Integer.bitCount(nodeMap)] = node;
+					nodeMap |= bit;
+					size += node.size;
+					continue;
+				}
+				key = node.keys[0];
+			}
+			keys[Integer.bitCount(dataMap)] = key;
+			dataMap |= bit;
+			size++;
+		}
+		return size == 0 ? EMPTY_SET : size == a.size ? a : size == b.size ? b : setNode(dataMap, nodeMap, keys, nodes, size);
+	}
+
+	// the entries of a that are not in b
+	static LongTrie diff(LongTrie a, LongTrie b, int shift) {
+		if (a == b) {
+			return EMPTY_SET;
+		}
+		if (((a.dataMap | a.nodeMap) & (b.dataMap | b.nodeMap)) == 0) {
+			return a;
+		}
+		int slots = a.dataMap | a.nodeMap;
+		long[] keys = new long[Integer.bitCount(slots)];
+		LongTrie[] nodes = new LongTrie[keys.length];
+		int dataMap = 0;
+		int nodeMap = 0;
+		int size = 0;
+		for (int rest = slots; rest != 0; rest &= rest - 1) {
+			int bit = rest & -rest;
+			long key;
+			if ((a.dataMap & bit) != 0) {
+				key = a.keys[index(a.dataMap, bit)];
+				if ((b.dataMap & bit) != 0 ? b.keys[index(b.dataMap, bit)] == key
+						: (b.nodeMap & bit) != 0 && b.nodes[index(b.nodeMap, bit)].contains(key, hash(key), shift + BITS)) {
+					continue;
+				}
+			} else {
+				LongTrie node = a.nodes[index(a.nodeMap, bit)];
+				if ((b.dataMap & bit) != 0) {
+					long other = b.keys[index(b.dataMap, bit)];
+					node = node.remove(other, hash(other), shift + BITS);
+				} else if ((b.nodeMap & bit) != 0) {
+					node = diff(node, b.nodes[index(b.nodeMap, bit)], shift + BITS);
+				}
+				if (node.size == 0) {
+					continue;
+				}
+				if (node.size > 1) {
+					nodes[Integer.bitCount(nodeMap)] = node;
+					nodeMap |= bit;
+					size += node.size;
+					continue;
+				}
+				key = node.keys[0];
+			}
+			keys[Integer.bitCount(dataMap)] = key;
+			dataMap |= bit;
+			size++;
+		}
+		return size == 0 ? EMPTY_SET : size == a.size ? a : setNode(dataMap, nodeMap, keys, nodes, size);
+	}
+
+	// whether every entry of a is in b, without allocating
+	static boolean subsetOf(LongTrie a, LongTrie b, int shift) {
+		if (a == b) {
+			return true;
+		}
+		if (a.size > b.size) {
+			return false;
+		}
+		for (int rest = a.dataMap | a.nodeMap; rest != 0; rest &= rest - 1) {
+			int bit = rest & -rest;
+			if ((a.dataMap & bit) != 0) {
+				long key = a.keys[index(a.dataMap, bit)];
+				if ((b.dataMap & bit) != 0 ? b.keys[index(b.dataMap, bit)] != key
+						: (b.nodeMap & bit) == 0 || !b.nodes[index(b.nodeMap, bit)].contains(key, hash(key), shift + BITS)) {
+					return false;
+				}
+			} else if ((b.nodeMap & bit) == 0 || !subsetOf(a.nodes[index(a.nodeMap, bit)], b.nodes[index(b.nodeMap, bit)], shift + BITS)) {
+				// a sub-node holds at least two entries, which a single entry of b cannot cover
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static LongTrie setNode(int dataMap, int nodeMap, long[] keys, LongTrie[] nodes, int size) {
+		int keyCount = Integer.bitCount(dataMap);
+		int nodeCount = Integer.bitCount(nodeMap);
+		return new LongTrie(dataMap, nodeMap,
+				keyCount == 0 ? NO_KEYS : keyCount == keys.length ? keys : Arrays.copyOf(keys, keyCount), null,
+				nodeCount == 0 ? NO_NODES : nodeCount == nodes.length ? nodes : Arrays.copyOf(nodes, nodeCount), size);
+	}
+
+	// canonical layout: equal contents have the same shape
+	static boolean equalTries(LongTrie a, LongTrie b) {
+		if (a == b) {
+			return true;
+		}
+		if (a.size != b.size || a.dataMap != b.dataMap || a.nodeMap != b.nodeMap || !Arrays.equals(a.keys, b.keys)) {
+			return false;
+		}
+		if (a.values != null && b.values != null) {
+			for (int i = 0; i < a.values.length; i++) {
+				if (!Objects.equals(a.values[i], b.values[i])) {
+					return false;
+				}
+			}
+		}
+		for (int j = 0; j < a.nodes.length; j++) {
+			if (!equalTries(a.nodes[j], b.nodes[j])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long[] insert(long[] array, int index, long element) {
+		long[] result = new long[array.length + 1];
+		System.arraycopy(array, 0, result, 0, index);
+		result[index] = element;
+		System.arraycopy(array, index, result, index + 1, array.length - index);
+		return result;
+	}
+
+	private static long[] delete(long[] array, int index) {
+		if (array.length == 1) {
+			return NO_KEYS;
+		}
+		long[] result = new long[array.length - 1];
+		System.arraycopy(array, 0, result, 0, index);
+		System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+		return result;
+	}
+
+	private static <T> T[] insert(T[] array, int index, T element) {
+		T[] result = Arrays.copyOf(array, array.length + 1);
+		System.arraycopy(array, index, result, index + 1, array.length - index);
+		result[index] = element;
+		return result;
+	}
+
+	private static <T> T[] delete(T[] array, int index) {
+		T[] result = Arrays.copyOf(array, array.length - 1);
+		System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+		return result;
+	}
+
+	/**
+	 * Depth-first traversal of the entries: the entries of a node, then those of its sub-nodes.
+	 */
+	static final class Cursor {
+		private final LongTrie[] path = new LongTrie[MAX_DEPTH + 1];
+		private final int[] nextNode = new int[MAX_DEPTH + 1];
+		private int depth;
+		private LongTrie node;
+		private int index;
+		private LongTrie lastNode;
+		private int lastIndex;
+
+		Cursor(LongTrie root) {
+			path[0] = root;
+			node = root;
+			advance();
+		}
+
+		boolean hasNext() {
+			return node != null;
+		}
+
+		long nextKey() {
+			if (node == null) {
+				throw new NoSuchElementException();
+			}
+			lastNode = node;
+			lastIndex = index++;
+			advance();
+			return lastNode.keys[lastIndex];
+		}
+
+		// the value of the entry whose key nextKey() returned last
+		Object lastValue() {
+			return lastNode.values[lastIndex];
+		}
+
+		private void advance() {
+			while (index >= node.keys.length) {
+				while (nextNode[depth] >= path[depth].nodes.length) {
+					if (depth == 0) {
+						node = null;
+						return;
+					}
+					depth--;
+				}
+				node = path[depth].nodes[nextNode[depth]++];
+				path[++depth] = node;
+				nextNode[depth] = 0;
+				index = 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,620 @@
+package vavr.exercises.collection;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable indexed sequence backed by a relaxed radix balanced (RRB) tree: leaves of up to 32 elements under
+ * branches of up to 32 children, where a branch whose children are not all full records their cumulative sizes.
+ *
+ * Unlike {@code Array}, which copies its whole backing array, and {@code Vector}, whose concatenation re-inserts
+ * every element, {@link #appendAll}, {@link #take}, {@link #drop} and the operations built on them copy only
+ * the O(log n) nodes along the cut or seam, sharing everything else. Concatenation redistributes the nodes
+ * along the seam so there are at most {@code EXTRAS} more per level than the minimum, which keeps {@link #get}
+ * at O(log32 n): the child holding an index is found from its radix guess after a few steps to the right.
+ */
+public final class RrbVector<T> implements Iterable<T>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	private static final int EXTRAS = 2;
+
+	private static final Object[] EMPTY_LEAF = new Object[0];
+	private static final RrbVector<?> EMPTY = new RrbVector<>(EMPTY_LEAF, 0, 0);
+
+	// an Object[] leaf if height is 0, a Branch otherwise
+	private final Object root;
+	private final int height;
+	private final int length;
+
+	private RrbVector(Object root, int height, int length) {
+		this.root = root;
+		this.height = height;
+		this.length = length;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> RrbVector<T> empty() {
+		return (RrbVector<T>) EMPTY;
+	}
+
+	@SafeVarargs
+	public static <T> RrbVector<T> of(T... elements) {
+		Objects.requireNonNull(elements, "elements is null");
+		return build(elements);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> RrbVector<T> ofAll(Iterable<? extends T> elements) {
+		Objects.requireNonNull(elements, "elements is null");
+		if (elements instanceof RrbVector) {
+			return (RrbVector<T>) elements;
+		}
+		java.util.ArrayList<T> list = new java.util.ArrayList<>();
+		for (T element : elements) {
+			list.add(element);
+		}
+		return build(list.toArray());
+	}
+
+	// a packed tree: full leaves and branches, but the last of each level
+	private static <T> RrbVector<T> build(Object[] elements) {
+		if (elements.length == 0) {
+			return empty();
+		}
+		Object[] nodes = new Object[(elements.length + WIDTH - 1) / WIDTH];
+		for (int i = 0; i < nodes.length; i++) {
+			nodes[i] = Arrays.copyOfRange(elements, i * WIDTH, Math.min(elements.length, (i + 1) * WIDTH), Object[].class);
+		}
+		int height = 0;
+		while (nodes.length > 1) {
+			Object[] parents = new Object[(nodes.length + WIDTH - 1) / WIDTH];
+			for (int i = 0; i < parents.length; i++) {
+				parents[i] = Branch.of(Arrays.copyOfRange(nodes, i * WIDTH, Math.min(nodes.length, (i + 1) * WIDTH)), height + 1);
+			}
+			nodes = parents;
+			height++;
+		}
+		return new RrbVector<>(nodes[0], height, elements.length);
+	}
+
+	// basic operations
+
+	public int length() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("get(" + index + ")");
+		}
+		Object node = root;
+		for (int h = height; h > 0; h--) {
+			Branch branch = (Branch) node;
+			int slot = branch.slot(index, h);
+			index -= branch.before(slot, h);
+			node = branch.children[slot];
+		}
+		return (T) ((Object[]) node)[index];
+	}
+
+	public T head() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("head of empty RrbVector");
+		}
+		return get(0);
+	}
+
+	public T last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("last of empty RrbVector");
+		}
+		return get(length - 1);
+	}
+
+	public RrbVector<T> update(int index, T element) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("update(" + index + ")");
+		}
+		return new RrbVector<>(update(root, height, index, element), height, length);
+	}
+
+	private static Object update(Object node, int height, int index, Object element) {
+		if (height == 0) {
+			Object[] leaf = ((Object[]) node).clone();
+			leaf[index] = element;
+			return leaf;
+		}
+		Branch branch = (Branch) node;
+		int slot = branch.slot(index, height);
+		Object[] children = branch.children.clone();
+		children[slot] = update(children[slot], height - 1, index - branch.before(slot, height), element);
+		return new Branch(children, branch.sizes, branch.length);
+	}
+
+	// adding elements
+
+	/**
+	 * The sequence with {@code element} added at the end; copies the rightmost path, or concatenates a new leaf
+	 * if the last leaf is full.
+	 */
+	public RrbVector<T> append(T element) {
+		if (isEmpty()) {
+			return new RrbVector<>(new Object[] { element }, 0, 1);
+		}
+		if (edgeLeaf(root, height, false).length < WIDTH) {
+			return new RrbVector<>(addToEdge(root, height, element, false), height, length + 1);
+		}
+		return appendAll(of(element));
+	}
+
+	/**
+	 * The sequence with {@code element} added at the front, like {@link #append}.
+	 */
+	public RrbVector<T> prepend(T element) {
+		if (isEmpty()) {
+			return new RrbVector<>(new Object[] { element }, 0, 1);
+		}
+		if (edgeLeaf(root, height, true).length < WIDTH) {
+			return new RrbVector<>(addToEdge(root, height, element, true), height, length + 1);
+		}
+		return RrbVector.<T> of(element).appendAll(this);
+	}
+
+	private static Object[] edgeLeaf(Object node, int height, boolean first) {
+		for (int h = height; h > 0; h--) {
+			Object[] children = ((Branch) node).children;
+			node = children[first ? 0 : children.length - 1];
+		}
+		return (Object[]) node;
+	}
+
+	// the tree with element added to its first or last leaf, which has room
+	private static Object addToEdge(Object node, int height, Object element, boolean first) {
+		if (height == 0) {
+			Object[] leaf = (Object[]) node;
+			Object[] result = new Object[leaf.length + 1];
+			System.arraycopy(leaf, 0, result, first ? 1 : 0, leaf.length);
+			result[first ? 0 : leaf.length] = element;
+			return result;
+		}
+		Branch branch = (Branch) node;
+		int slot = first ? 0 : branch.children.length - 1;
+		Object[] children = branch.children.clone();
+		children[slot] = addToEdge(children[slot], height - 1, element, first);
+		if (!first && branch.sizes == null) {
+			// only the last child grew, so the branch stays packed
+			return new Branch(children, null, branch.length + 1);
+		}
+		int[] sizes = branch.sizes(height);
+		for (int i = slot; i < sizes.length; i++) {
+			sizes[i]++;
+		}
+		return new Branch(children, sizes, branch.length + 1);
+	}
+
+	public RrbVector<T> appendAll(Iterable<? extends T> elements) {
+		RrbVector<T> that = ofAll(elements);
+		if (that.isEmpty()) {
+			return this;
+		}
+		if (isEmpty()) {
+			return that;
+		}
+		Branch merged = concat(root, height, that.root, that.height);
+		return normalized(merged, Math.max(height, that.height) + 1, length + that.length);
+	}
+
+	public RrbVector<T> prependAll(Iterable<? extends T> elements) {
+		return RrbVector.<T> ofAll(elements).appendAll(this);
+	}
+
+	// removing elements
+
+	public RrbVector<T> take(int n) {
+		if (n <= 0) {
+			return empty();
+		}
+		if (n >= length) {
+			return this;
+		}
+		return normalized(take(root, height, n), height, n);
+	}
+
+	public RrbVector<T> drop(int n) {
+		if (n <= 0) {
+			return this;
+		}
+		if (n >= length) {
+			return empty();
+		}
+		return normalized(drop(root, height, n), height, length - n);
+	}
+
+	public RrbVector<T> takeRight(int n) {
+		return drop(length - n);
+	}
+
+	public RrbVector<T> dropRight(int n) {
+		return take(length - n);
+	}
+
+	/**
+	 * Elements from {@code beginIndex} (inclusive) to {@code endIndex} (exclusive), clamped to the bounds.
+	 */
+	public RrbVector<T> slice(int beginIndex, int endIndex) {
+		int begin = Math.max(beginIndex, 0);
+		int end = Math.min(endIndex, length);
+		return begin >= end ? empty() : take(end).drop(begin);
+	}
+
+	public Tuple2<RrbVector<T>, RrbVector<T>> splitAt(int n) {
+		return Tuple.of(take(n), drop(n));
+	}
+
+	public RrbVector<T> tail() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("tail of empty RrbVector");
+		}
+		return drop(1);
+	}
+
+	public RrbVector<T> init() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("init of empty RrbVector");
+		}
+		return take(length - 1);
+	}
+
+	// the first n elements of node, 0 < n <= its size
+	private static Object take(Object node, int height, int n) {
+		if (height == 0) {
+			Object[] leaf = (Object[]) node;
+			return n == leaf.length ? leaf : Arrays.copyOf(leaf, n);
+		}
+		Branch branch = (Branch) node;
+		if (n == branch.length) {
+			return branch;
+		}
+		int slot = branch.slot(n - 1, height);
+		Object[] children = Arrays.copyOf(branch.children, slot + 1);
+		children[slot] = take(children[slot], height - 1, n - branch.before(slot, height));
+		if (branch.sizes == null) {
+			return new Branch(children, null, n);
+		}
+		int[] sizes = Arrays.copyOf(branch.sizes, slot + 1);
+		sizes[slot] = n;
+		return new Branch(children, sizes, n);
+	}
+
+	// node without its first n elements, 0 <= n < its size
+	private static Object drop(Object node, int height, int n) {
+		if (n == 0) {
+			return node;
+		}
+		if (height == 0) {
+			Object[] leaf = (Object[]) node;
+			return Arrays.copyOfRange(leaf, n, leaf.length);
+		}
+		Branch branch = (Branch) node;
+		int slot = branch.slot(n, height);
+		Object[] children = Arrays.copyOfRange(branch.children, slot, branch.children.length);
+		children[0] = drop(children[0], height - 1, n - branch.before(slot, height));
+		int[] sizes = new int[children.length];
+		for (int i = 0; i < sizes.length; i++) {
+			sizes[i] = (branch.sizes == null ? branch.before(slot + i + 1, height) : branch.sizes[slot + i]) - n;
+		}
+		return new Branch(children, sizes, branch.length - n);
+	}
+
+	// the tree without the single-child branches left on top by a cut or concatenation
+	private static <T> RrbVector<T> normalized(Object root, int height, int length) {
+		while (height > 0 && ((Branch) root).children.length == 1) {
+			root = ((Branch) root).children[0];
+			height--;
+		}
+		return new RrbVector<>(root, height, length);
+	}
+
+	// concatenation, after "RRB-Trees: Efficient Immutable Vectors" (Bagwell and Rompf)
+
+	// merges the right edge of left with the left edge of right into a branch one level above the taller tree
+	// that has one or two children
+	private static Branch concat(Object left, int leftHeight, Object right, int rightHeight) {
+		if (leftHeight > rightHeight) {
+			Branch branch = (Branch) left;
+			Branch middle = concat(branch.children[branch.children.length - 1], leftHeight - 1, right, rightHeight);
+			return rebalance(branch, middle, null, leftHeight);
+		}
+		if (leftHeight < rightHeight) {
+			Branch branch = (Branch) right;
+			Branch middle = concat(left, leftHeight, branch.children[0], rightHeight - 1);
+			return rebalance(null, middle, branch, rightHeight);
+		}
+		if (leftHeight == 0) {
+			Object[] leftLeaf = (Object[]) left;
+			Object[] rightLeaf = (Object[]) right;
+			if (leftLeaf.length + rightLeaf.length > WIDTH) {
+				return Branch.of(new Object[] { leftLeaf, rightLeaf }, 1);
+			}
+			Object[] leaf = Arrays.copyOf(leftLeaf, leftLeaf.length + rightLeaf.length);
+			System.arraycopy(rightLeaf, 0, leaf, leftLeaf.length, rightLeaf.length);
+			return Branch.of(new Object[] { leaf }, 1);
+		}
+		Branch leftBranch = (Branch) left;
+		Branch rightBranch = (Branch) right;
+		Branch middle = concat(leftBranch.children[leftBranch.children.length - 1], leftHeight - 1, rightBranch.children[0], rightHeight - 1);
+		return rebalance(leftBranch, middle, rightBranch, leftHeight);
+	}
+
+	// the children of left but its last, of middle, and of right but its first, redistributed and packed into
+	// one or two branches at height under a new branch
+	private static Branch rebalance(Branch left, Branch middle, Branch right, int height) {
+		int leftCount = left == null ? 0 : left.children.length - 1;
+		int rightCount = right == null ? 0 : right.children.length - 1;
+		Object[] nodes = new Object[leftCount + middle.children.length + rightCount];
+		if (left != null) {
+			System.arraycopy(left.children, 0, nodes, 0, leftCount);
+		}
+		System.arraycopy(middle.children, 0, nodes, leftCount, middle.children.length);
+		if (right != null) {
+			System.arraycopy(right.children, 1, nodes, leftCount + middle.children.length, rightCount);
+		}
+		nodes = redistribute(nodes, height - 1);
+		if (nodes.length <= WIDTH) {
+			return Branch.of(new Object[] { Branch.of(nodes, height) }, height + 1);
+		}
+		return Branch.of(new Object[] { Branch.of(Arrays.copyOf(nodes, WIDTH), height),
+				Branch.of(Arrays.copyOfRange(nodes, WIDTH, nodes.length), height) }, height + 1);
+	}
+
+	// nodes at height with their items (elements or children) shifted left until there are at most EXTRAS more
+	// nodes than needed; nodes the shifting doesn't reach are kept as they are
+	private static Object[] redistribute(Object[] nodes, int height) {
+		int[] counts = new int[nodes.length];
+		int total = 0;
+		for (int i = 0; i < nodes.length; i++) {
+			counts[i] = items(nodes[i]).length;
+			total += counts[i];
+		}
+		int optimal = (total + WIDTH - 1) / WIDTH;
+		int count = nodes.length;
+		if (count <= optimal + EXTRAS) {
+			return nodes;
+		}
+		// spread the first node that isn't full over the following ones, until the count is low enough
+		int i = 0;
+		while (count > optimal + EXTRAS) {
+			while (counts[i] == WIDTH) {
+				i++;
+			}
+			int remaining = counts[i];
+			do {
+				int filled = Math.min(remaining + counts[i + 1], WIDTH);
+				remaining += counts[i + 1] - filled;
+				counts[i] = filled;
+				i++;
+			} while (remaining > 0);
+			System.arraycopy(counts, i + 1, counts, i, count - i - 1);
+			count--;
+			i--;
+		}
+
+		Object[] result = new Object[count];
+		int source = 0;
+		int offset = 0;
+		for (int k = 0; k < count; k++) {
+			Object[] sourceItems = items(nodes[source]);
+			if (offset == 0 && sourceItems.length == counts[k]) {
+				result[k] = nodes[source++];
+				continue;
+			}
+			Object[] targetItems = new Object[counts[k]];
+			int filled = 0;
+			while (filled < targetItems.length) {
+				sourceItems = items(nodes[source]);
+				int copied = Math.min(targetItems.length - filled, sourceItems.length - offset);
+				System.arraycopy(sourceItems, offset, targetItems, filled, copied);
+				filled += copied;
+				offset += copied;
+				if (offset == sourceItems.length) {
+					source++;
+					offset = 0;
+				}
+			}
+			result[k] = height == 0 ? targetItems : Branch.of(targetItems, height);
+		}
+		return result;
+	}
+
+	private static Object[] items(Object node) {
+		return node instanceof Branch ? ((Branch) node).children : (Object[]) node;
+	}
+
+	// transformations
+
+	/**
+	 * The sequence with every element mapped, in one pass over the leaves; the tree keeps its shape.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> RrbVector<U> map(Function<? super T, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new RrbVector<>(map(root, height, (Function<Object, Object>) mapper), height, length);
+	}
+
+	private static Object map(Object node, int height, Function<Object, Object> mapper) {
+		Object[] items = items(node);
+		Object[] mapped = new Object[items.length];
+		for (int i = 0; i < items.length; i++) {
+			mapped[i] = height == 0 ? mapper.apply(items[i]) : map(items[i], height - 1, mapper);
+		}
+		return height == 0 ? mapped : new Branch(mapped, ((Branch) node).sizes, ((Branch) node).length);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			// path[h] is the branch at height h above the current leaf, slots[h] the child taken from it
+			private final Branch[] path = new Branch[height + 1];
+			private final int[] slots = new int[height + 1];
+			private Object[] leaf = descend(root, height);
+			private int index;
+			private int remaining = length;
+
+			private Object[] descend(Object node, int from) {
+				for (int h = from; h > 0; h--) {
+					path[h] = (Branch) node;
+					slots[h] = 0;
+					node = path[h].children[0];
+				}
+				return (Object[]) node;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (remaining == 0) {
+					throw new NoSuchElementException();
+				}
+				if (index == leaf.length) {
+					int h = 1;
+					while (slots[h] == path[h].children.length - 1) {
+						h++;
+					}
+					leaf = descend(path[h].children[++slots[h]], h - 1);
+					index = 0;
+				}
+				remaining--;
+				return (T) leaf[index++];
+			}
+		};
+	}
+
+	public Array<T> toArray() {
+		ArrayBuilder<T> result = ArrayBuilder.withExpectedSize(length);
+		for (T element : this) {
+			result.add(element);
+		}
+		return result.build();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof RrbVector)) {
+			return false;
+		}
+		RrbVector<?> that = (RrbVector<?>) o;
+		if (length != that.length) {
+			return false;
+		}
+		java.util.Iterator<?> these = iterator();
+		java.util.Iterator<?> those = that.iterator();
+		while (these.hasNext()) {
+			if (!Objects.equals(these.next(), those.next())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (T element : this) {
+			hash = 31 * hash + Objects.hashCode(element);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return iterator().mkString("RrbVector(", ", ", ")");
+	}
+
+	/**
+	 * Inner node: leaves at height 1, branches above. A packed branch, whose children but the last are full, finds
+	 * the child holding an index by its radix alone; a relaxed one keeps the cumulative sizes of its children.
+	 */
+	private static final class Branch implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final Object[] children;
+		// null if packed
+		final int[] sizes;
+		final int length;
+
+		Branch(Object[] children, int[] sizes, int length) {
+			this.children = children;
+			this.sizes = sizes;
+			this.length = length;
+		}
+
+		static Branch of(Object[] children, int height) {
+			int[] sizes = new int[children.length];
+			int size = 0;
+			int full = BITS * height < Integer.SIZE - 1 ? 1 << (BITS * height) : -1;
+			boolean packed = true;
+			for (int i = 0; i < children.length; i++) {
+				Object child = children[i];
+				int childSize = child instanceof Branch ? ((Branch) child).length : ((Object[]) child).length;
+				packed &= i == children.length - 1 || childSize == full;
+				size += childSize;
+				sizes[i] = size;
+			}
+			return new Branch(children, packed ? null : sizes, size);
+		}
+
+		// the child holding index: children hold at most 32^height elements, so the radix guess is never past
+		// it, and exact in a packed branch
+		int slot(int index, int height) {
+			int shift = BITS * height;
+			int slot = shift < Integer.SIZE ? index >>> shift : 0;
+			if (sizes != null) {
+				while (sizes[slot] <= index) {
+					slot++;
+				}
+			}
+			return slot;
+		}
+
+		// the number of elements in the children before slot
+		int before(int slot, int height) {
+			return sizes == null ? slot << (BITS * height) : slot == 0 ? 0 : sizes[slot - 1];
+		}
+
+		// a fresh array of the cumulative sizes
+		int[] sizes(int height) {
+			if (sizes != null) {
+				return sizes.clone();
+			}
+			int[] result = new int[children.length];
+			for (int i = 0; i < result.length - 1; i++) {
+				result[i] = before(i + 1, height);
+			}
+			result[result.length - 1] = length;
+			return result;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Set;
+import io.vavr.collection.TreeSet;
+
+import java.util.Objects;
+
+/**
+ * Bulk set algebra on {@code HashSet} and {@code TreeSet} that never copies the larger operand element by element.
+ * Results are equal to those of the corresponding {@code Set} methods.
+ *
+ * {@code HashSet.retainAll}, {@code diff} and {@code removeAll} filter the whole receiver however small the
+ * argument, and {@code union} adds the argument to the receiver whatever their sizes. Here a much smaller side is
+ * iterated and the larger one probed or updated in place, so a skewed operation costs the size of the small side;
+ * operands of similar size are filtered as before.
+ *
+ * {@code TreeSet.union} with another {@code TreeSet} already splits and joins the red-black trees, but assumes
+ * both are ordered by the same comparator; here a tree in another order is re-sorted first. The tree-based
+ * {@code TreeSet.intersect} and {@code diff} of vavr 0.10.3 can throw or drop elements on larger inputs, and
+ * {@code retainAll} and {@code removeAll} re-insert every surviving element, so here they look up the smaller
+ * side and then either remove the rejected elements from the receiver or build a tree of the accepted ones,
+ * whichever are fewer.
+ */
+public final class Sets {
+	private Sets() {
+	}
+
+	// HashSet
+
+	public static <T> HashSet<T> union(HashSet<T> a, HashSet<T> b) {
+		Objects.requireNonNull(a, "a is null");
+		Objects.requireNonNull(b, "b is null");
+		return a.size() >= b.size() ? a.union(b) : b.union(a);
+	}
+
+	/**
+	 * The elements of {@code a} that are in {@code elements}; like {@code HashSet.intersect}, filters the smaller
+	 * of the two if {@code elements} is a set.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> HashSet<T> retainAll(HashSet<T> a, Iterable<? extends T> elements) {
+		Objects.requireNonNull(a, "a is null");
+		Objects.requireNonNull(elements, "elements is null");
+		if (elements instanceof HashSet) {
+			return a.intersect((HashSet<T>) elements);
+		}
+		if (elements instanceof Set) {
+			Set<Object> b = (Set<Object>) elements;
+			return a.filter(b::contains);
+		}
+		HashSet<T> result = HashSet.empty();
+		for (T element : elements) {
+			if (a.contains(element)) {
+				result = result.add(element);
+			}
+		}
+		return result.size() == a.size() ? a : result;
+	}
+
+	public static <T> HashSet<T> diff(HashSet<T> a, HashSet<T> b) {
+		Objects.requireNonNull(a, "a is null");
+		Objects.requireNonNull(b, "b is null");
+		return removeAll(a, b);
+	}
+
+	/**
+	 * The elements of {@code a} that are not in {@code elements}: removes a much smaller set from {@code a},
+	 * otherwise filters {@code a}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> HashSet<T> removeAll(HashSet<T> a, Iterable<? extends T> elements) {
+		Objects.requireNonNull(a, "a is null");
+		Objects.requireNonNull(elements, "elements is null");
+		if (elements instanceof Set && 2 * ((Set<?>) elements).size() >= a.size()) {
+			// a persistent remove costs about as much as the insert filter makes for each kept element
+			Set<Object> b = (Set<Object>) elements;
+			return a.filter(element -> !b.contains(element));
+		}
+		HashSet<T> result = a;
+		for (T element : elements) {
+			result = result.remove(element);
+		}
+		return result;
+	}
+
+	// TreeSet
+
+	public static <T> TreeSet<T> union(TreeSet<T> a, Iterable<? extends T> elements) {
+		Objects.requireNonNull(a, "a is null");
+		Objects.requireNonNull(elements, "elements is null");
+		if (elements instanceof TreeSet) {
+			@SuppressWarnings("unchecked")
+			TreeSet<T> that = (TreeSet<T>) elements;
+			// the tree union would split one tree by the keys of the other, so both need the same order
+			return a.union(that.comparator().equals(a.comparator()) ? that : TreeSet.ofAll(a.comparator(), that));
+		}
+		return a.addAll(elements);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> TreeSet<T> retainAll(TreeSet<T> a, Iterable<? extends T> elements) {
+		Objects.requireNonNull(a, "a is null");
+		Set<Object> b = probe(elements);
+		if (b.size() >= a.size()) {
+			return filter(a, b, true);
+		}
+		java.util.ArrayList<T> accepted = new java.util.ArrayList<>();
+		for (Object element : b) {
+			if (a.contains((T) element)) {
+				accepted.add((T) element);
+			}
+		}
+		return accepted.size() == a.size() ? a : TreeSet.ofAll(a.comparator(), accepted);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> TreeSet<T> removeAll(TreeSet<T> a, Iterable<? extends T> elements) {
+		Objects.requireNonNull(a, "a is null");
+		Set<Object> b = probe(elements);
+		if (b.size() >= a.size()) {
+			return filter(a, b, false);
+		}
+		TreeSet<T> result = a;
+		for (Object element : b) {
+			// remove() copies the receiver even if the element is absent
+			if (result.contains((T) element)) {
+				result = result.remove((T) element);
+			}
+		}
+		return result;
+	}
+
+	// the elements of a that are (retain) or are not in b
+	private static <T> TreeSet<T> filter(TreeSet<T> a, Set<Object> b, boolean retain) {
+		java.util.ArrayList<T> accepted = new java.util.ArrayList<>();
+		java.util.ArrayList<T> rejected = new java.util.ArrayList<>();
+		for (T element : a) {
+			(b.contains(element) == retain ? accepted : rejected).add(element);
+		}
+		if (rejected.size() > accepted.size()) {
+			return TreeSet.ofAll(a.comparator(), accepted);
+		}
+		TreeSet<T> result = a;
+		for (T element : rejected) {
+			result = result.remove(element);
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Set<Object> probe(Iterable<?> elements) {
+		Objects.requireNonNull(elements, "elements is null");
+		return elements instanceof Set ? (Set<Object>) elements : HashSet.ofAll(elements);
+	}
+}
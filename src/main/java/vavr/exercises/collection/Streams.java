@@ -0,0 +1,125 @@
+package vavr.exercises.collection;
+
+import io.vavr.Lazy;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Stream;
+
+import java.lang.reflect.Field;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Consumption of {@code Stream}s that does not retain the head.
+ *
+ * A {@code Stream} memoizes every evaluated cell, and {@code stream.foldLeft(...)} or {@code stream.forEach(...)}
+ * keep {@code stream} - the head - reachable until they return, so consuming {@code Stream.from(0)} retains
+ * the whole evaluated prefix. The operations here take the stream as a {@code Supplier} instead, e.g.
+ * {@code Streams.foldLeft(() -> Stream.from(0).take(n), 0L, Long::sum)}, and only ever reference the current
+ * cell, so visited cells become unreachable as the traversal advances. The supplier must create the stream
+ * rather than return one that is referenced elsewhere.
+ */
+public final class Streams {
+	private Streams() {
+	}
+
+	/**
+	 * A single-pass iterator over the stream created by {@code stream}, which references only the current cell.
+	 * Its lazy operations ({@code map}, {@code filter}, {@code take}, ...) keep that property.
+	 */
+	public static <T> Iterator<T> iterator(Supplier<? extends Stream<T>> stream) {
+		Objects.requireNonNull(stream, "stream is null");
+		return new Iterator<T>() {
+			private Supplier<? extends Stream<T>> pending = stream;
+			private Stream<T> current;
+
+			@Override
+			public boolean hasNext() {
+				if (pending != null) {
+					current = pending.get();
+					pending = null;
+				}
+				return !current.isEmpty();
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				T head = current.head();
+				current = current.tail();
+				return head;
+			}
+
+			@Override
+			public String toString() {
+				return "Streams.iterator(" + (current == null ? "?" : memoizedCells(current) + " memoized cells ahead") + ")";
+			}
+		};
+	}
+
+	public static <T, U> U foldLeft(Supplier<? extends Stream<T>> stream, U zero, BiFunction<? super U, ? super T, ? extends U> combine) {
+		U accumulator = zero;
+		for (Stream<T> current = stream.get(); !current.isEmpty(); current = current.tail()) {
+			accumulator = combine.apply(accumulator, current.head());
+		}
+		return accumulator;
+	}
+
+	public static <T> void forEach(Supplier<? extends Stream<T>> stream, Consumer<? super T> action) {
+		for (Stream<T> current = stream.get(); !current.isEmpty(); current = current.tail()) {
+			action.accept(current.head());
+		}
+	}
+
+	public static long count(Supplier<? extends Stream<?>> stream) {
+		long count = 0;
+		for (Stream<?> current = stream.get(); !current.isEmpty(); current = current.tail()) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Number of cells reachable from {@code stream} that are currently memoized, i.e. that are evaluated and
+	 * retained for as long as {@code stream} is. Does not evaluate anything.
+	 */
+	public static int memoizedCells(Stream<?> stream) {
+		int cells = 0;
+		Stream<?> current = stream;
+		while (current instanceof Stream.Cons) {
+			cells++;
+			Lazy<?> tail = ConsTail.of((Stream.Cons<?>) current);
+			if (!tail.isEvaluated()) {
+				break;
+			}
+			current = (Stream<?>) tail.get();
+		}
+		return cells;
+	}
+
+	// Stream.Cons keeps its tail in a package-private field
+	private static final class ConsTail {
+		private static final Field TAIL;
+
+		static {
+			try {
+				TAIL = Stream.Cons.class.getDeclaredField("tail");
+				TAIL.setAccessible(true);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		static Lazy<?> of(Stream.Cons<?> cons) {
+			try {
+				return (Lazy<?>) TAIL.get(cons);
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,405 @@
+package vavr.exercises.collection;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Count, sum, product, min, max, mean and variance of numbers, computed in a single pass, with an optional
+ * quantile sketch. Where {@code Traversable.sum()}, {@code average()}, {@code min()}, ... traverse once each,
+ * {@code Summary.of(xs)} traverses once for all of them.
+ *
+ * A {@code Summary} is a mutable accumulator like {@link java.util.DoubleSummaryStatistics}: {@link #accept(double)}
+ * adds a value, and {@link #merge(Summary)} adds the values of another summary, so partitions can be
+ * summarized independently and combined, e.g. with {@code ParTraversable.aggregate}.
+ */
+public final class Summary implements DoubleConsumer, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int BLOCK_SIZE = 1024;
+
+	private long count;
+	// compensated (Neumaier) sum, like DoubleArray.sum()
+	private double sum;
+	private double compensation;
+	private double product = 1.0;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+	// Welford's running mean and sum of squared deviations
+	private double mean;
+	private double squaredDeviations;
+	// null if quantiles are not estimated, or no longer after merging a summary without them
+	private QuantileSketch sketch;
+
+	private Summary(QuantileSketch sketch) {
+		this.sketch = sketch;
+	}
+
+	/**
+	 * An empty summary without quantiles.
+	 */
+	public static Summary create() {
+		return new Summary(null);
+	}
+
+	/**
+	 * An empty summary that also estimates quantiles, each within {@code relativeAccuracy} (e.g. 0.01 for 1%)
+	 * of a value of the data, in memory logarithmic in the range of the values.
+	 */
+	public static Summary withQuantiles(double relativeAccuracy) {
+		if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+			throw new IllegalArgumentException("relativeAccuracy must be in (0, 1): " + relativeAccuracy);
+		}
+		return new Summary(new QuantileSketch(relativeAccuracy));
+	}
+
+	public static Summary of(Iterable<? extends Number> numbers) {
+		return create().acceptAll(numbers);
+	}
+
+	public static Summary of(DoubleArray numbers) {
+		return numbers.summary();
+	}
+
+	public static Summary of(IntArray numbers) {
+		return numbers.summary();
+	}
+
+	public static Summary of(LongArray numbers) {
+		return numbers.summary();
+	}
+
+	@Override
+	public void accept(double value) {
+		count++;
+		double t = sum + value;
+		if (Math.abs(sum) >= Math.abs(value)) {
+			compensation += (sum - t) + value;
+		} else {
+			compensation += (value - t) + sum;
+		}
+		sum = t;
+		product *= value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+		double delta = value - mean;
+		mean += delta / count;
+		squaredDeviations += delta * (value - mean);
+		if (sketch != null) {
+			sketch.accept(value);
+		}
+	}
+
+	public Summary acceptAll(Iterable<? extends Number> numbers) {
+		Objects.requireNonNull(numbers, "numbers is null");
+		for (Number number : numbers) {
+			accept(number.doubleValue());
+		}
+		return this;
+	}
+
+	/**
+	 * Adds the values summarized by {@code other} to this summary. If only one of the two estimates quantiles,
+	 * the merged summary does not.
+	 */
+	public Summary merge(Summary other) {
+		mergeMoments(other.count, other.sum, other.compensation, other.product, other.min, other.max, other.mean,
+				other.squaredDeviations);
+		if (other.sketch == null) {
+			sketch = null;
+		} else if (sketch != null) {
+			sketch.merge(other.sketch);
+		}
+		return this;
+	}
+
+	// the primitive arrays summarize blocks that fit in cache with two passes each and merge the block moments,
+	// which is more accurate than Welford's update and avoids its division per element
+	void acceptAll(double[] values, int from, int to) {
+		for (int start = from; start < to; start += BLOCK_SIZE) {
+			acceptBlock(values, start, Math.min(to, start + BLOCK_SIZE));
+		}
+	}
+
+	void acceptAll(int[] values, int from, int to) {
+		double[] block = new double[Math.min(BLOCK_SIZE, to - from)];
+		for (int start = from; start < to; start += BLOCK_SIZE) {
+			int length = Math.min(to - start, BLOCK_SIZE);
+			for (int i = 0; i < length; i++) {
+				block[i] = values[start + i];
+			}
+			acceptBlock(block, 0, length);
+		}
+	}
+
+	void acceptAll(long[] values, int from, int to) {
+		double[] block = new double[Math.min(BLOCK_SIZE, to - from)];
+		for (int start = from; start < to; start += BLOCK_SIZE) {
+			int length = Math.min(to - start, BLOCK_SIZE);
+			for (int i = 0; i < length; i++) {
+				block[i] = values[start + i];
+			}
+			acceptBlock(block, 0, length);
+		}
+	}
+
+	private void acceptBlock(double[] values, int from, int to) {
+		double blockSum = 0.0;
+		double blockCompensation = 0.0;
+		double blockProduct = 1.0;
+		double blockMin = Double.POSITIVE_INFINITY;
+		double blockMax = Double.NEGATIVE_INFINITY;
+		for (int i = from; i < to; i++) {
+			double value = values[i];
+			double t = blockSum + value;
+			if (Math.abs(blockSum) >= Math.abs(value)) {
+				blockCompensation += (blockSum - t) + value;
+			} else {
+				blockCompensation += (value - t) + blockSum;
+			}
+			blockSum = t;
+			blockProduct *= value;
+			blockMin = Math.min(blockMin, value);
+			blockMax = Math.max(blockMax, value);
+		}
+		double blockMean = (blockSum + blockCompensation) / (to - from);
+		double blockSquaredDeviations = 0.0;
+		for (int i = from; i < to; i++) {
+			double deviation = values[i] - blockMean;
+			blockSquaredDeviations += deviation * deviation;
+		}
+		mergeMoments(to - from, blockSum, blockCompensation, blockProduct, blockMin, blockMax, blockMean, blockSquaredDeviations);
+		if (sketch != null) {
+			for (int i = from; i < to; i++) {
+				sketch.accept(values[i]);
+			}
+		}
+	}
+
+	private void mergeMoments(long otherCount, double otherSum, double otherCompensation, double otherProduct,
+			double otherMin, double otherMax, double otherMean, double otherSquaredDeviations) {
+		if (otherCount == 0) {
+			return;
+		}
+		if (count == 0) {
+			mean = otherMean;
+			squaredDeviations = otherSquaredDeviations;
+		} else {
+			// Chan et al.'s pairwise update
+			long merged = count + otherCount;
+			double delta = otherMean - mean;
+			mean += delta * otherCount / merged;
+			squaredDeviations += otherSquaredDeviations + delta * delta * ((double) count * otherCount / merged);
+		}
+		count += otherCount;
+		double t = sum + otherSum;
+		if (Math.abs(sum) >= Math.abs(otherSum)) {
+			compensation += (sum - t) + otherSum;
+		} else {
+			compensation += (otherSum - t) + sum;
+		}
+		sum = t;
+		compensation += otherCompensation;
+		product *= otherProduct;
+		min = Math.min(min, otherMin);
+		max = Math.max(max, otherMax);
+	}
+
+	public long count() {
+		return count;
+	}
+
+	public double sum() {
+		return sum + compensation;
+	}
+
+	public double product() {
+		return product;
+	}
+
+	public OptionalDouble min() {
+		return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(min);
+	}
+
+	public OptionalDouble max() {
+		return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(max);
+	}
+
+	/**
+	 * The arithmetic mean, {@code sum() / count()}, as {@code Traversable.average()} computes it.
+	 */
+	public OptionalDouble average() {
+		return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(sum() / count);
+	}
+
+	/**
+	 * Population variance.
+	 */
+	public OptionalDouble variance() {
+		return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(squaredDeviations / count);
+	}
+
+	/**
+	 * Sample variance, with Bessel's correction.
+	 */
+	public OptionalDouble sampleVariance() {
+		return count < 2 ? OptionalDouble.empty() : OptionalDouble.of(squaredDeviations / (count - 1));
+	}
+
+	public OptionalDouble standardDeviation() {
+		return count == 0 ? OptionalDouble.empty() : OptionalDouble.of(Math.sqrt(squaredDeviations / count));
+	}
+
+	public boolean hasQuantiles() {
+		return sketch != null;
+	}
+
+	/**
+	 * Estimated {@code q}-quantile, e.g. 0.5 for the median.
+	 *
+	 * @throws IllegalStateException if this summary was not created {@link #withQuantiles(double)}
+	 */
+	public OptionalDouble quantile(double q) {
+		if (sketch == null) {
+			throw new IllegalStateException("summary does not estimate quantiles");
+		}
+		if (!(q >= 0 && q <= 1)) {
+			throw new IllegalArgumentException("q must be in [0, 1]: " + q);
+		}
+		if (count == 0) {
+			return OptionalDouble.empty();
+		}
+		return OptionalDouble.of(Math.max(min, Math.min(max, sketch.quantile(q))));
+	}
+
+	@Override
+	public String toString() {
+		return count == 0
+				? "Summary(count=0)"
+				: "Summary(count=" + count + ", sum=" + sum() + ", min=" + min + ", max=" + max + ", average=" + (sum() / count)
+				+ ", variance=" + (squaredDeviations / count) + ")";
+	}
+
+	/**
+	 * Counts of values in buckets whose bounds grow geometrically by {@code gamma}, so any value in a bucket is
+	 * within the relative accuracy of the bucket's representative value. Merging adds bucket counts.
+	 */
+	private static final class QuantileSketch implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final double gamma;
+		private final double logGamma;
+		private final Buckets positive = new Buckets();
+		private final Buckets negative = new Buckets();
+		private long zeros;
+		// infinities have no bucket, like zero
+		private long negativeInfinities;
+		private long positiveInfinities;
+
+		QuantileSketch(double relativeAccuracy) {
+			this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+			this.logGamma = Math.log(gamma);
+		}
+
+		void accept(double value) {
+			if (value == Double.POSITIVE_INFINITY) {
+				positiveInfinities++;
+			} else if (value == Double.NEGATIVE_INFINITY) {
+				negativeInfinities++;
+			} else if (value > 0) {
+				positive.add(index(value), 1);
+			} else if (value < 0) {
+				negative.add(index(-value), 1);
+			} else if (value == 0) {
+				zeros++;
+			}
+		}
+
+		void merge(QuantileSketch other) {
+			if (other.gamma != gamma) {
+				throw new IllegalArgumentException("cannot merge summaries with different quantile accuracy");
+			}
+			positive.addAll(other.positive);
+			negative.addAll(other.negative);
+			zeros += other.zeros;
+			negativeInfinities += other.negativeInfinities;
+			positiveInfinities += other.positiveInfinities;
+		}
+
+		double quantile(double q) {
+			long total = negativeInfinities + negative.total + zeros + positive.total + positiveInfinities;
+			long rank = (long) (q * (total - 1));
+			if (rank < negativeInfinities) {
+				return Double.NEGATIVE_INFINITY;
+			}
+			rank -= negativeInfinities;
+			if (rank < negative.total) {
+				// most negative values first, i.e. largest magnitudes first
+				return -value(negative.indexOfRank(negative.total - 1 - rank));
+			}
+			rank -= negative.total;
+			if (rank < zeros) {
+				return 0.0;
+			}
+			rank -= zeros;
+			if (rank < positive.total) {
+				return value(positive.indexOfRank(rank));
+			}
+			return Double.POSITIVE_INFINITY;
+		}
+
+		private int index(double magnitude) {
+			return (int) Math.ceil(Math.log(magnitude) / logGamma);
+		}
+
+		private double value(int index) {
+			return 2 * Math.pow(gamma, index) / (gamma + 1);
+		}
+
+		private static final class Buckets implements Serializable {
+			private static final long serialVersionUID = 1L;
+
+			private long[] counts = new long[0];
+			private int offset;
+			private long total;
+
+			void add(int index, long count) {
+				if (counts.length == 0) {
+					counts = new long[64];
+					offset = index - 32;
+				} else if (index < offset || index >= offset + counts.length) {
+					int from = Math.min(offset, index);
+					int to = Math.max(offset + counts.length, index + 1);
+					long[] grown = new long[Math.max(to - from, counts.length * 2)];
+					System.arraycopy(counts, 0, grown, offset - from, counts.length);
+					counts = grown;
+					offset = from;
+				}
+				counts[index - offset] += count;
+				total += count;
+			}
+
+			void addAll(Buckets other) {
+				for (int i = 0; i < other.counts.length; i++) {
+					if (other.counts[i] != 0) {
+						add(other.offset + i, other.counts[i]);
+					}
+				}
+			}
+
+			// index of the bucket holding the value of the given rank, counting from the smallest
+			int indexOfRank(long rank) {
+				long seen = 0;
+				for (int i = 0; i < counts.length; i++) {
+					seen += counts[i];
+					if (seen > rank) {
+						return offset + i;
+					}
+				}
+				throw new IllegalStateException("rank " + rank + " of " + total + " values: " + Arrays.toString(counts));
+			}
+		}
+	}
+}
@@ -0,0 +1,293 @@
+package vavr.exercises.collection;
+
+import io.vavr.Function3;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Immutable sequence of pairs stored as two columns, the columnar counterpart of {@code Array<Tuple2<T1, T2>>}.
+ *
+ * There is no {@code Tuple2} per element: {@link #_1(int)} and {@link #_2(int)} read a component, and
+ * {@link #get(int)} and {@link #iterator()} create tuples on access only. Columns given as {@code Array},
+ * {@code IntArray}, {@code LongArray} or {@code DoubleArray} are shared rather than copied, primitive ones
+ * staying unboxed, so {@code Tuple2Seq.zip(ids, prices)} of two such arrays takes constant time and memory.
+ * {@link #map1}, {@link #update1} and friends rebuild one column and share the other, and slicing shares both.
+ */
+public final class Tuple2Seq<T1, T2> implements Iterable<Tuple2<T1, T2>>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final Column<T1> column1;
+	private final int offset1;
+	private final Column<T2> column2;
+	private final int offset2;
+	private final int length;
+
+	Tuple2Seq(Column<T1> column1, int offset1, Column<T2> column2, int offset2, int length) {
+		this.column1 = column1;
+		this.offset1 = offset1;
+		this.column2 = column2;
+		this.offset2 = offset2;
+		this.length = length;
+	}
+
+	public static <T1, T2> Tuple2Seq<T1, T2> empty() {
+		return zip(Array.empty(), Array.empty());
+	}
+
+	/**
+	 * Pairs of the elements at the same index, as many as the shorter of the two has, like {@code Seq.zip}.
+	 */
+	public static <T1, T2> Tuple2Seq<T1, T2> zip(Iterable<? extends T1> first, Iterable<? extends T2> second) {
+		Column<T1> column1 = Column.of(first);
+		Column<T2> column2 = Column.of(second);
+		return new Tuple2Seq<>(column1, 0, column2, 0, Math.min(column1.length(), column2.length()));
+	}
+
+	/**
+	 * Like {@code Seq.zipAll}: as many pairs as the longer of the two has, padded with {@code thisElem} or
+	 * {@code thatElem}.
+	 */
+	public static <T1, T2> Tuple2Seq<T1, T2> zipAll(Iterable<? extends T1> first, Iterable<? extends T2> second, T1 thisElem, T2 thatElem) {
+		Column<T1> column1 = Column.of(first);
+		Column<T2> column2 = Column.of(second);
+		int length = Math.max(column1.length(), column2.length());
+		return new Tuple2Seq<>(padTo(column1, length, thisElem), 0, padTo(column2, length, thatElem), 0, length);
+	}
+
+	/**
+	 * Pairs of each element and its index, like {@code Seq.zipWithIndex}; the indexes are not stored.
+	 */
+	public static <T> Tuple2Seq<T, Integer> zipWithIndex(Iterable<? extends T> elements) {
+		Column<T> column = Column.of(elements);
+		return new Tuple2Seq<>(column, 0, Column.index(column.length()), 0, column.length());
+	}
+
+	/**
+	 * The pairs of {@code tuples}, split into columns.
+	 */
+	public static <T1, T2> Tuple2Seq<T1, T2> ofAll(Iterable<? extends Tuple2<? extends T1, ? extends T2>> tuples) {
+		Objects.requireNonNull(tuples, "tuples is null");
+		ArrayBuilder<T1> first = ArrayBuilder.create();
+		ArrayBuilder<T2> second = ArrayBuilder.create();
+		for (Tuple2<? extends T1, ? extends T2> tuple : tuples) {
+			first.add(tuple._1);
+			second.add(tuple._2);
+		}
+		return zip(first.build(), second.build());
+	}
+
+	// basic operations
+
+	public int length() {
+		return length;
+	}
+
+	public int size() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public T1 _1(int index) {
+		return column1.get(offset1 + checkIndex(index));
+	}
+
+	public T2 _2(int index) {
+		return column2.get(offset2 + checkIndex(index));
+	}
+
+	/**
+	 * The pair at {@code index}, created on every call.
+	 */
+	public Tuple2<T1, T2> get(int index) {
+		checkIndex(index);
+		return Tuple.of(column1.get(offset1 + index), column2.get(offset2 + index));
+	}
+
+	public Tuple2Seq<T1, T2> slice(int beginIndex, int endIndex) {
+		int from = Math.max(0, beginIndex);
+		int to = Math.min(length, endIndex);
+		return from >= to
+				? new Tuple2Seq<>(column1, offset1, column2, offset2, 0)
+				: new Tuple2Seq<>(column1, offset1 + from, column2, offset2 + from, to - from);
+	}
+
+	public Tuple2Seq<T1, T2> take(int n) {
+		return slice(0, n);
+	}
+
+	public Tuple2Seq<T1, T2> drop(int n) {
+		return slice(n, length);
+	}
+
+	// column operations
+
+	public <U> Tuple2Seq<U, T2> map1(Function<? super T1, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new Tuple2Seq<>(column1.map(offset1, length, mapper), 0, column2, offset2, length);
+	}
+
+	public <U> Tuple2Seq<T1, U> map2(Function<? super T2, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new Tuple2Seq<>(column1, offset1, column2.map(offset2, length, mapper), 0, length);
+	}
+
+	public Tuple2Seq<T1, T2> update1(int index, T1 value) {
+		checkIndex(index);
+		return new Tuple2Seq<>(column1.update(offset1, length, index, value), 0, column2, offset2, length);
+	}
+
+	public Tuple2Seq<T1, T2> update2(int index, T2 value) {
+		checkIndex(index);
+		return new Tuple2Seq<>(column1, offset1, column2.update(offset2, length, index, value), 0, length);
+	}
+
+	/**
+	 * Adds {@code third} as a third column, as many triples as the shorter of this and {@code third} has.
+	 */
+	public <T3> Tuple3Seq<T1, T2, T3> zip(Iterable<? extends T3> third) {
+		Column<T3> column3 = Column.of(third);
+		return new Tuple3Seq<>(column1, offset1, column2, offset2, column3, 0, Math.min(length, column3.length()));
+	}
+
+	public Tuple2Seq<T1, T2> filter(BiPredicate<? super T1, ? super T2> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		int[] kept = new int[length];
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			if (predicate.test(column1.get(offset1 + i), column2.get(offset2 + i))) {
+				kept[count++] = i;
+			}
+		}
+		if (count == length) {
+			return this;
+		}
+		return new Tuple2Seq<>(column1.gather(shift(kept, count, offset1), count), 0,
+				column2.gather(shift(kept, count, offset2), count), 0, count);
+	}
+
+	public void forEach(BiConsumer<? super T1, ? super T2> action) {
+		Objects.requireNonNull(action, "action is null");
+		for (int i = 0; i < length; i++) {
+			action.accept(column1.get(offset1 + i), column2.get(offset2 + i));
+		}
+	}
+
+	public <U> U foldLeft(U zero, Function3<? super U, ? super T1, ? super T2, ? extends U> combine) {
+		Objects.requireNonNull(combine, "combine is null");
+		U accumulator = zero;
+		for (int i = 0; i < length; i++) {
+			accumulator = combine.apply(accumulator, column1.get(offset1 + i), column2.get(offset2 + i));
+		}
+		return accumulator;
+	}
+
+	// conversions
+
+	public Array<T1> column1() {
+		return column1.toArray(offset1, length);
+	}
+
+	public Array<T2> column2() {
+		return column2.toArray(offset2, length);
+	}
+
+	/**
+	 * The two columns, like {@code Seq.unzip(Function.identity())}.
+	 */
+	public Tuple2<Array<T1>, Array<T2>> unzip() {
+		return Tuple.of(column1(), column2());
+	}
+
+	public Array<Tuple2<T1, T2>> toArray() {
+		return Array.ofAll(this);
+	}
+
+	@Override
+	public Iterator<Tuple2<T1, T2>> iterator() {
+		return new Iterator<Tuple2<T1, T2>>() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < length;
+			}
+
+			@Override
+			public Tuple2<T1, T2> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return Tuple2Seq.this.get(index++);
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof Tuple2Seq)) {
+			return false;
+		}
+		Tuple2Seq<?, ?> that = (Tuple2Seq<?, ?>) o;
+		if (length != that.length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (!Objects.equals(_1(i), that._1(i)) || !Objects.equals(_2(i), that._2(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + Objects.hashCode(_1(i));
+			hash = 31 * hash + Objects.hashCode(_2(i));
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return iterator().mkString("Tuple2Seq(", ", ", ")");
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index + " of length " + length);
+		}
+		return index;
+	}
+
+	static int[] shift(int[] indices, int count, int offset) {
+		if (offset == 0) {
+			return indices;
+		}
+		int[] shifted = new int[count];
+		for (int i = 0; i < count; i++) {
+			shifted[i] = indices[i] + offset;
+		}
+		return shifted;
+	}
+
+	static <T> Column<T> padTo(Column<T> column, int length, T element) {
+		return column.length() == length ? column : Column.ofArray(column.toArray(0, column.length()).padTo(length, element));
+	}
+}
@@ -0,0 +1,262 @@
+package vavr.exercises.collection;
+
+import io.vavr.Function3;
+import io.vavr.Function4;
+import io.vavr.Tuple;
+import io.vavr.Tuple3;
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable sequence of triples stored as three columns, the columnar counterpart of
+ * {@code Array<Tuple3<T1, T2, T3>>}. See {@link Tuple2Seq} for how columns are shared.
+ */
+public final class Tuple3Seq<T1, T2, T3> implements Iterable<Tuple3<T1, T2, T3>>, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final Column<T1> column1;
+	private final int offset1;
+	private final Column<T2> column2;
+	private final int offset2;
+	private final Column<T3> column3;
+	private final int offset3;
+	private final int length;
+
+	Tuple3Seq(Column<T1> column1, int offset1, Column<T2> column2, int offset2, Column<T3> column3, int offset3, int length) {
+		this.column1 = column1;
+		this.offset1 = offset1;
+		this.column2 = column2;
+		this.offset2 = offset2;
+		this.column3 = column3;
+		this.offset3 = offset3;
+		this.length = length;
+	}
+
+	public static <T1, T2, T3> Tuple3Seq<T1, T2, T3> empty() {
+		return zip(Array.empty(), Array.empty(), Array.empty());
+	}
+
+	/**
+	 * Triples of the elements at the same index, as many as the shortest of the three has.
+	 */
+	public static <T1, T2, T3> Tuple3Seq<T1, T2, T3> zip(Iterable<? extends T1> first, Iterable<? extends T2> second, Iterable<? extends T3> third) {
+		return Tuple2Seq.<T1, T2> zip(first, second).zip(third);
+	}
+
+	/**
+	 * The triples of {@code tuples}, split into columns.
+	 */
+	public static <T1, T2, T3> Tuple3Seq<T1, T2, T3> ofAll(Iterable<? extends Tuple3<? extends T1, ? extends T2, ? extends T3>> tuples) {
+		Objects.requireNonNull(tuples, "tuples is null");
+		ArrayBuilder<T1> first = ArrayBuilder.create();
+		ArrayBuilder<T2> second = ArrayBuilder.create();
+		ArrayBuilder<T3> third = ArrayBuilder.create();
+		for (Tuple3<? extends T1, ? extends T2, ? extends T3> tuple : tuples) {
+			first.add(tuple._1);
+			second.add(tuple._2);
+			third.add(tuple._3);
+		}
+		return zip(first.build(), second.build(), third.build());
+	}
+
+	// basic operations
+
+	public int length() {
+		return length;
+	}
+
+	public int size() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public T1 _1(int index) {
+		return column1.get(offset1 + checkIndex(index));
+	}
+
+	public T2 _2(int index) {
+		return column2.get(offset2 + checkIndex(index));
+	}
+
+	public T3 _3(int index) {
+		return column3.get(offset3 + checkIndex(index));
+	}
+
+	/**
+	 * The triple at {@code index}, created on every call.
+	 */
+	public Tuple3<T1, T2, T3> get(int index) {
+		checkIndex(index);
+		return Tuple.of(column1.get(offset1 + index), column2.get(offset2 + index), column3.get(offset3 + index));
+	}
+
+	public Tuple3Seq<T1, T2, T3> slice(int beginIndex, int endIndex) {
+		int from = Math.max(0, beginIndex);
+		int to = Math.min(length, endIndex);
+		return from >= to
+				? new Tuple3Seq<>(column1, offset1, column2, offset2, column3, offset3, 0)
+				: new Tuple3Seq<>(column1, offset1 + from, column2, offset2 + from, column3, offset3 + from, to - from);
+	}
+
+	public Tuple3Seq<T1, T2, T3> take(int n) {
+		return slice(0, n);
+	}
+
+	public Tuple3Seq<T1, T2, T3> drop(int n) {
+		return slice(n, length);
+	}
+
+	// column operations
+
+	public <U> Tuple3Seq<U, T2, T3> map1(Function<? super T1, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new Tuple3Seq<>(column1.map(offset1, length, mapper), 0, column2, offset2, column3, offset3, length);
+	}
+
+	public <U> Tuple3Seq<T1, U, T3> map2(Function<? super T2, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new Tuple3Seq<>(column1, offset1, column2.map(offset2, length, mapper), 0, column3, offset3, length);
+	}
+
+	public <U> Tuple3Seq<T1, T2, U> map3(Function<? super T3, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new Tuple3Seq<>(column1, offset1, column2, offset2, column3.map(offset3, length, mapper), 0, length);
+	}
+
+	public Tuple3Seq<T1, T2, T3> update1(int index, T1 value) {
+		checkIndex(index);
+		return new Tuple3Seq<>(column1.update(offset1, length, index, value), 0, column2, offset2, column3, offset3, length);
+	}
+
+	public Tuple3Seq<T1, T2, T3> update2(int index, T2 value) {
+		checkIndex(index);
+		return new Tuple3Seq<>(column1, offset1, column2.update(offset2, length, index, value), 0, column3, offset3, length);
+	}
+
+	public Tuple3Seq<T1, T2, T3> update3(int index, T3 value) {
+		checkIndex(index);
+		return new Tuple3Seq<>(column1, offset1, column2, offset2, column3.update(offset3, length, index, value), 0, length);
+	}
+
+	public Tuple3Seq<T1, T2, T3> filter(Function3<? super T1, ? super T2, ? super T3, Boolean> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		int[] kept = new int[length];
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			if (predicate.apply(column1.get(offset1 + i), column2.get(offset2 + i), column3.get(offset3 + i))) {
+				kept[count++] = i;
+			}
+		}
+		if (count == length) {
+			return this;
+		}
+		return new Tuple3Seq<>(column1.gather(Tuple2Seq.shift(kept, count, offset1), count), 0,
+				column2.gather(Tuple2Seq.shift(kept, count, offset2), count), 0,
+				column3.gather(Tuple2Seq.shift(kept, count, offset3), count), 0, count);
+	}
+
+	public <U> U foldLeft(U zero, Function4<? super U, ? super T1, ? super T2, ? super T3, ? extends U> combine) {
+		Objects.requireNonNull(combine, "combine is null");
+		U accumulator = zero;
+		for (int i = 0; i < length; i++) {
+			accumulator = combine.apply(accumulator, column1.get(offset1 + i), column2.get(offset2 + i), column3.get(offset3 + i));
+		}
+		return accumulator;
+	}
+
+	// conversions
+
+	public Array<T1> column1() {
+		return column1.toArray(offset1, length);
+	}
+
+	public Array<T2> column2() {
+		return column2.toArray(offset2, length);
+	}
+
+	public Array<T3> column3() {
+		return column3.toArray(offset3, length);
+	}
+
+	/**
+	 * The three columns, like {@code Seq.unzip3(Function.identity())}.
+	 */
+	public Tuple3<Array<T1>, Array<T2>, Array<T3>> unzip3() {
+		return Tuple.of(column1(), column2(), column3());
+	}
+
+	public Array<Tuple3<T1, T2, T3>> toArray() {
+		return Array.ofAll(this);
+	}
+
+	@Override
+	public Iterator<Tuple3<T1, T2, T3>> iterator() {
+		return new Iterator<Tuple3<T1, T2, T3>>() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < length;
+			}
+
+			@Override
+			public Tuple3<T1, T2, T3> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return Tuple3Seq.this.get(index++);
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof Tuple3Seq)) {
+			return false;
+		}
+		Tuple3Seq<?, ?, ?> that = (Tuple3Seq<?, ?, ?>) o;
+		if (length != that.length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (!Objects.equals(_1(i), that._1(i)) || !Objects.equals(_2(i), that._2(i)) || !Objects.equals(_3(i), that._3(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + Objects.hashCode(_1(i));
+			hash = 31 * hash + Objects.hashCode(_2(i));
+			hash = 31 * hash + Objects.hashCode(_3(i));
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return iterator().mkString("Tuple3Seq(", ", ", ")");
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index + " of length " + length);
+		}
+		return index;
+	}
+}
@@ -0,0 +1,349 @@
+package vavr.exercises.collection;
+
+import io.vavr.PartialFunction;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lazy view of a collection whose operations are fused: {@code View.of(xs).filter(p).map(f).take(n).toArray()}
+ * runs {@code p}, {@code f} and the count in one loop over {@code xs} and builds only the final {@code Array},
+ * where {@code xs.filter(p).map(f).take(n)} builds a collection per step. Nothing runs until a terminal
+ * operation ({@code toArray}, {@code foldLeft}, {@code mkString}, ...), which stops early once {@code take},
+ * {@code takeWhile} or the terminal operation itself needs no more elements.
+ *
+ * A view is immutable and every terminal operation traverses the source again, re-applying the operations.
+ *
+ * @param <T> element type
+ */
+public final class View<T> {
+	private final Iterable<?> source;
+	// wraps the sink of the next stage in the sinks of this view's stages, fresh for every traversal
+	private final UnaryOperator<Sink> stages;
+
+	private View(Iterable<?> source, UnaryOperator<Sink> stages) {
+		this.source = source;
+		this.stages = stages;
+	}
+
+	public static <T> View<T> of(Iterable<? extends T> elements) {
+		Objects.requireNonNull(elements, "elements is null");
+		return new View<>(elements, UnaryOperator.identity());
+	}
+
+	private <U> View<U> then(UnaryOperator<Sink> stage) {
+		return new View<>(source, downstream -> stages.apply(stage.apply(downstream)));
+	}
+
+	// intermediate operations
+
+	@SuppressWarnings("unchecked")
+	public <U> View<U> map(Function<? super T, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return then(downstream -> new Sink(downstream) {
+			@Override
+			boolean accept(Object value) {
+				return downstream.accept(mapper.apply((T) value));
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	public View<T> filter(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		return then(downstream -> new Sink(downstream) {
+			@Override
+			boolean accept(Object value) {
+				return !predicate.test((T) value) || downstream.accept(value);
+			}
+		});
+	}
+
+	public View<T> reject(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		return filter(predicate.negate());
+	}
+
+	@SuppressWarnings("unchecked")
+	public <U> View<U> flatMap(Function<? super T, ? extends Iterable<? extends U>> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return then(downstream -> new Sink(downstream) {
+			@Override
+			boolean accept(Object value) {
+				for (U element : mapper.apply((T) value)) {
+					if (!downstream.accept(element)) {
+						return false;
+					}
+				}
+				return true;
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	public <R> View<R> collect(PartialFunction<? super T, ? extends R> partialFunction) {
+		Objects.requireNonNull(partialFunction, "partialFunction is null");
+		return then(downstream -> new Sink(downstream) {
+			@Override
+			boolean accept(Object value) {
+				return !partialFunction.isDefinedAt((T) value) || downstream.accept(partialFunction.apply((T) value));
+			}
+		});
+	}
+
+	public View<T> take(int n) {
+		return then(downstream -> new Sink(downstream) {
+			private int remaining = n;
+
+			@Override
+			boolean begin() {
+				// downstream begins even when nothing is taken, as it may emit on its own, like scanLeft's zero
+				boolean more = downstream.begin();
+				return more && remaining > 0;
+			}
+
+			@Override
+			boolean accept(Object value) {
+				return downstream.accept(value) && --remaining > 0;
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	public View<T> takeWhile(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		return then(downstream -> new Sink(downstream) {
+			@Override
+			boolean accept(Object value) {
+				return predicate.test((T) value) && downstream.accept(value);
+			}
+		});
+	}
+
+	public View<T> drop(int n) {
+		return then(downstream -> new Sink(downstream) {
+			private int remaining = n;
+
+			@Override
+			boolean accept(Object value) {
+				if (remaining > 0) {
+					remaining--;
+					return true;
+				}
+				return downstream.accept(value);
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	public View<T> dropWhile(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		return then(downstream -> new Sink(downstream) {
+			private boolean dropping = true;
+
+			@Override
+			boolean accept(Object value) {
+				if (dropping && predicate.test((T) value)) {
+					return true;
+				}
+				dropping = false;
+				return downstream.accept(value);
+			}
+		});
+	}
+
+	public View<Tuple2<T, Integer>> zipWithIndex() {
+		return then(downstream -> new Sink(downstream) {
+			private int index;
+
+			@Override
+			boolean accept(Object value) {
+				return downstream.accept(Tuple.of(value, index++));
+			}
+		});
+	}
+
+	/**
+	 * Like {@code Seq.scanLeft}: {@code zero} followed by every intermediate result.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> View<U> scanLeft(U zero, BiFunction<? super U, ? super T, ? extends U> operation) {
+		Objects.requireNonNull(operation, "operation is null");
+		return then(downstream -> new Sink(downstream) {
+			private U accumulator = zero;
+
+			@Override
+			boolean begin() {
+				return downstream.begin() && downstream.accept(zero);
+			}
+
+			@Override
+			boolean accept(Object value) {
+				accumulator = operation.apply(accumulator, (T) value);
+				return downstream.accept(accumulator);
+			}
+		});
+	}
+
+	// terminal operations
+
+	public Array<T> toArray() {
+		ArrayBuilder<T> builder = ArrayBuilder.create();
+		forEach(builder::add);
+		return builder.build();
+	}
+
+	public Vector<T> toVector() {
+		return Vector.ofAll(toArray());
+	}
+
+	public List<T> toList() {
+		return List.ofAll(toArray());
+	}
+
+	@SuppressWarnings("unchecked")
+	public void forEach(Consumer<? super T> action) {
+		Objects.requireNonNull(action, "action is null");
+		run(new Sink(null) {
+			@Override
+			boolean accept(Object value) {
+				action.accept((T) value);
+				return true;
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> combine) {
+		Objects.requireNonNull(combine, "combine is null");
+		Object[] accumulator = {zero};
+		run(new Sink(null) {
+			@Override
+			boolean accept(Object value) {
+				accumulator[0] = combine.apply((U) accumulator[0], (T) value);
+				return true;
+			}
+		});
+		return (U) accumulator[0];
+	}
+
+	@SuppressWarnings("unchecked")
+	public Option<T> reduceOption(BinaryOperator<T> operation) {
+		Objects.requireNonNull(operation, "operation is null");
+		Object[] result = new Object[1];
+		boolean[] empty = {true};
+		run(new Sink(null) {
+			@Override
+			boolean accept(Object value) {
+				result[0] = empty[0] ? value : operation.apply((T) result[0], (T) value);
+				empty[0] = false;
+				return true;
+			}
+		});
+		return empty[0] ? Option.none() : Option.some((T) result[0]);
+	}
+
+	@SuppressWarnings("unchecked")
+	public Option<T> headOption() {
+		Object[] head = new Object[1];
+		boolean[] found = {false};
+		run(new Sink(null) {
+			@Override
+			boolean accept(Object value) {
+				head[0] = value;
+				found[0] = true;
+				return false;
+			}
+		});
+		return found[0] ? Option.some((T) head[0]) : Option.none();
+	}
+
+	@SuppressWarnings("unchecked")
+	public boolean exists(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		boolean[] found = {false};
+		run(new Sink(null) {
+			@Override
+			boolean accept(Object value) {
+				found[0] = predicate.test((T) value);
+				return !found[0];
+			}
+		});
+		return found[0];
+	}
+
+	public boolean forAll(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		return !exists(predicate.negate());
+	}
+
+	public int count() {
+		return foldLeft(0, (count, x) -> count + 1);
+	}
+
+	public String mkString() {
+		return mkString("", "", "");
+	}
+
+	public String mkString(CharSequence delimiter) {
+		return mkString("", delimiter, "");
+	}
+
+	public String mkString(CharSequence prefix, CharSequence delimiter, CharSequence suffix) {
+		StringBuilder builder = new StringBuilder(prefix);
+		boolean[] first = {true};
+		forEach(element -> {
+			if (!first[0]) {
+				builder.append(delimiter);
+			}
+			first[0] = false;
+			builder.append(element);
+		});
+		return builder.append(suffix).toString();
+	}
+
+	@Override
+	public String toString() {
+		return "View(...)";
+	}
+
+	private void run(Sink terminal) {
+		Sink head = stages.apply(terminal);
+		if (head.begin()) {
+			for (Object element : source) {
+				if (!head.accept(element)) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * A pipeline stage; {@code accept} pushes an element downstream and returns whether more are wanted.
+	 */
+	private abstract static class Sink {
+		final Sink downstream;
+
+		Sink(Sink downstream) {
+			this.downstream = downstream;
+		}
+
+		// called once before the first element; false if no element is wanted
+		boolean begin() {
+			return downstream == null || downstream.begin();
+		}
+
+		abstract boolean accept(Object value);
+	}
+}
@@ -0,0 +1,359 @@
+package vavr.exercises.collection;
+
+import io.vavr.collection.Iterator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Sliding-window aggregation that updates each window incrementally instead of materializing it.
+ *
+ * {@code Windowed.sum(xs, size, step)} has the same windows as {@code xs.sliding(size, step).map(Traversable::sum)},
+ * including a shorter last one, in amortized O(1) per element rather than O(size) per window. The sums are
+ * {@code Double}s added in a different order, so they equal those of {@code Traversable.sum()}, which may be of
+ * another {@code Number} type, only up to floating-point rounding.
+ * Folds keep the window in two stacks (the older half with precomputed suffix aggregates), min and max keep a
+ * monotonic deque. Results are lazy iterators, so infinite {@code Stream}s work too.
+ */
+public final class Windowed {
+	private Windowed() {
+	}
+
+	public static Iterator<Double> sum(Iterable<? extends Number> elements, int size) {
+		return sum(elements, size, 1);
+	}
+
+	public static Iterator<Double> sum(Iterable<? extends Number> elements, int size, int step) {
+		return windows(elements, size, step, new DoubleSum(false));
+	}
+
+	public static Iterator<Double> average(Iterable<? extends Number> elements, int size) {
+		return average(elements, size, 1);
+	}
+
+	public static Iterator<Double> average(Iterable<? extends Number> elements, int size, int step) {
+		return windows(elements, size, step, new DoubleSum(true));
+	}
+
+	public static <T extends Comparable<? super T>> Iterator<T> min(Iterable<? extends T> elements, int size) {
+		return min(elements, size, 1, Comparator.naturalOrder());
+	}
+
+	public static <T> Iterator<T> min(Iterable<? extends T> elements, int size, int step, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator, "comparator is null");
+		return windows(elements, size, step, new MonotonicDeque<>(comparator));
+	}
+
+	public static <T extends Comparable<? super T>> Iterator<T> max(Iterable<? extends T> elements, int size) {
+		return max(elements, size, 1, Comparator.naturalOrder());
+	}
+
+	public static <T> Iterator<T> max(Iterable<? extends T> elements, int size, int step, Comparator<? super T> comparator) {
+		Objects.requireNonNull(comparator, "comparator is null");
+		return windows(elements, size, step, new MonotonicDeque<>(comparator.reversed()));
+	}
+
+	/**
+	 * Folds every window with {@code combine}, which must be associative with identity {@code zero} (a monoid);
+	 * it need not be commutative or invertible.
+	 */
+	public static <T> Iterator<T> fold(Iterable<? extends T> elements, int size, int step, T zero, BinaryOperator<T> combine) {
+		Objects.requireNonNull(combine, "combine is null");
+		return windows(elements, size, step, new TwoStacks<>(zero, combine));
+	}
+
+	/**
+	 * Folds every run of consecutive elements with equal {@code classifier} value, the windows of
+	 * {@code Traversable.slideBy}, without collecting the runs.
+	 */
+	public static <T, U> Iterator<U> slideBy(Iterable<? extends T> elements, Function<? super T, ?> classifier,
+			U zero, BiFunction<? super U, ? super T, ? extends U> combine) {
+		Objects.requireNonNull(elements, "elements is null");
+		Objects.requireNonNull(classifier, "classifier is null");
+		Objects.requireNonNull(combine, "combine is null");
+		java.util.Iterator<? extends T> source = elements.iterator();
+		return new Iterator<U>() {
+			private boolean buffered;
+			private T pending;
+
+			@Override
+			public boolean hasNext() {
+				return buffered || source.hasNext();
+			}
+
+			@Override
+			public U next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				T first = buffered ? pending : source.next();
+				Object key = classifier.apply(first);
+				U accumulator = combine.apply(zero, first);
+				buffered = false;
+				pending = null;
+				while (source.hasNext()) {
+					T element = source.next();
+					if (!Objects.equals(key, classifier.apply(element))) {
+						buffered = true;
+						pending = element;
+						break;
+					}
+					accumulator = combine.apply(accumulator, element);
+				}
+				return accumulator;
+			}
+		};
+	}
+
+	private static <T, R> Iterator<R> windows(Iterable<? extends T> elements, int size, int step, Window<? super T, R> window) {
+		Objects.requireNonNull(elements, "elements is null");
+		if (size <= 0 || step <= 0) {
+			throw new IllegalArgumentException("size and step must be positive: size " + size + ", step " + step);
+		}
+		java.util.Iterator<? extends T> source = elements.iterator();
+		return new Iterator<R>() {
+			private boolean first = true;
+			private boolean exhausted;
+			private boolean ready;
+			private R next;
+
+			@Override
+			public boolean hasNext() {
+				if (!ready && !exhausted) {
+					advance();
+				}
+				return ready;
+			}
+
+			@Override
+			public R next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				ready = false;
+				R result = next;
+				next = null;
+				return result;
+			}
+
+			// like sliding(size, step), a window after the first exists only if sliding reaches a new element
+			private void advance() {
+				if (!first) {
+					for (int i = Math.min(step, window.size()); i > 0; i--) {
+						window.pop();
+					}
+					for (int skip = step - size; skip > 0 && source.hasNext(); skip--) {
+						source.next();
+					}
+				}
+				first = false;
+				boolean pushed = false;
+				while (window.size() < size && source.hasNext()) {
+					window.push(source.next());
+					pushed = true;
+				}
+				if (!pushed) {
+					exhausted = true;
+					return;
+				}
+				next = window.result();
+				ready = true;
+				exhausted = window.size() < size;
+			}
+		};
+	}
+
+	/**
+	 * Aggregate of a FIFO window of elements.
+	 */
+	private interface Window<T, R> {
+		void push(T element);
+
+		// removes the oldest element
+		void pop();
+
+		R result();
+
+		int size();
+	}
+
+	private static final class TwoStacks<T> implements Window<T, T> {
+		private final T zero;
+		private final BinaryOperator<T> combine;
+		// newer elements, oldest first, and their running aggregate
+		private Object[] back = new Object[16];
+		private int backSize;
+		private T backAggregate;
+		// older elements as aggregates of each element with all newer elements of this stack, oldest last
+		private Object[] front = new Object[16];
+		private int frontSize;
+
+		TwoStacks(T zero, BinaryOperator<T> combine) {
+			this.zero = zero;
+			this.combine = combine;
+			this.backAggregate = zero;
+		}
+
+		@Override
+		public void push(T element) {
+			if (backSize == back.length) {
+				back = Arrays.copyOf(back, backSize * 2);
+			}
+			back[backSize++] = element;
+			backAggregate = combine.apply(backAggregate, element);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void pop() {
+			if (frontSize == 0) {
+				if (front.length < backSize) {
+					front = new Object[back.length];
+				}
+				T aggregate = zero;
+				for (int i = backSize - 1; i >= 0; i--) {
+					aggregate = combine.apply((T) back[i], aggregate);
+					front[frontSize++] = aggregate;
+					back[i] = null;
+				}
+				backSize = 0;
+				backAggregate = zero;
+			}
+			front[--frontSize] = null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T result() {
+			return frontSize == 0 ? backAggregate : combine.apply((T) front[frontSize - 1], backAggregate);
+		}
+
+		@Override
+		public int size() {
+			return frontSize + backSize;
+		}
+	}
+
+	// TwoStacks specialized to unboxed double addition
+	private static final class DoubleSum implements Window<Number, Double> {
+		private final boolean average;
+		private double[] back = new double[16];
+		private int backSize;
+		private double backSum;
+		private double[] front = new double[16];
+		private int frontSize;
+
+		DoubleSum(boolean average) {
+			this.average = average;
+		}
+
+		@Override
+		public void push(Number element) {
+			if (backSize == back.length) {
+				back = Arrays.copyOf(back, backSize * 2);
+			}
+			double value = element.doubleValue();
+			back[backSize++] = value;
+			backSum += value;
+		}
+
+		@Override
+		public void pop() {
+			if (frontSize == 0) {
+				if (front.length < backSize) {
+					front = new double[back.length];
+				}
+				double sum = 0;
+				for (int i = backSize - 1; i >= 0; i--) {
+					sum += back[i];
+					front[frontSize++] = sum;
+				}
+				backSize = 0;
+				backSum = 0;
+			}
+			frontSize--;
+		}
+
+		@Override
+		public Double result() {
+			double sum = frontSize == 0 ? backSum : front[frontSize - 1] + backSum;
+			return average ? sum / size() : sum;
+		}
+
+		@Override
+		public int size() {
+			return frontSize + backSize;
+		}
+	}
+
+	// candidates for the minimum by comparator, in window order; each is smaller than all candidates before it
+	private static final class MonotonicDeque<T> implements Window<T, T> {
+		private final Comparator<? super T> comparator;
+		private Object[] values = new Object[16];
+		private long[] positions = new long[16];
+		private int head;
+		private int count;
+		private long pushed;
+		private long popped;
+
+		MonotonicDeque(Comparator<? super T> comparator) {
+			this.comparator = comparator;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void push(T element) {
+			while (count > 0 && comparator.compare((T) values[index(count - 1)], element) > 0) {
+				values[index(--count)] = null;
+			}
+			if (count == values.length) {
+				grow();
+			}
+			values[index(count)] = element;
+			positions[index(count)] = pushed++;
+			count++;
+		}
+
+		@Override
+		public void pop() {
+			if (count > 0 && positions[head] == popped) {
+				values[head] = null;
+				head = index(1);
+				count--;
+			}
+			popped++;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T result() {
+			return (T) values[head];
+		}
+
+		@Override
+		public int size() {
+			return (int) (pushed - popped);
+		}
+
+		private int index(int offset) {
+			return (head + offset) & (values.length - 1);
+		}
+
+		private void grow() {
+			Object[] newValues = new Object[values.length * 2];
+			long[] newPositions = new long[values.length * 2];
+			for (int i = 0; i < count; i++) {
+				newValues[i] = values[index(i)];
+				newPositions[i] = positions[index(i)];
+			}
+			values = newValues;
+			positions = newPositions;
+			head = 0;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package vavr.exercises.concurrent;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Default executors for the asynchronous types in this package.
+ */
+public final class AsyncExecutors {
+	private static final Executor DEFAULT = createDefault();
+
+	private AsyncExecutors() {
+	}
+
+	/**
+	 * A virtual-thread-per-task executor on Java 21+, {@link ForkJoinPool#commonPool()} on older runtimes.
+	 */
+	public static Executor defaultExecutor() {
+		return DEFAULT;
+	}
+
+	// looked up reflectively so that the project still compiles for Java 11+
+	private static Executor createDefault() {
+		try {
+			return (Executor) java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException x) {
+			return ForkJoinPool.commonPool();
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package vavr.exercises.concurrent;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.concurrent.Future;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous counterpart of {@code io.vavr.Lazy}: the value is computed at most once, on first demand,
+ * but on an executor instead of the calling thread. {@link #map}, {@link #flatMap} and {@link #zip} describe
+ * new values without forcing anything.
+ *
+ * No monitor is ever held: the first demand claims the computation with a compare-and-set, and waiters
+ * park on a {@link CompletableFuture}, so any number of virtual threads can await the same value without
+ * pinning their carrier threads.
+ *
+ * @param <T> value type
+ */
+public final class AsyncLazy<T> {
+	private final Executor executor;
+	private final Supplier<CompletableFuture<T>> computation;
+	private final AtomicReference<CompletableFuture<T>> result = new AtomicReference<>();
+
+	private AsyncLazy(Executor executor, Supplier<CompletableFuture<T>> computation) {
+		this.executor = executor;
+		this.computation = computation;
+	}
+
+	/**
+	 * Evaluates {@code supplier} on {@link AsyncExecutors#defaultExecutor()}, virtual threads where available.
+	 */
+	public static <T> AsyncLazy<T> of(Supplier<? extends T> supplier) {
+		return of(AsyncExecutors.defaultExecutor(), supplier);
+	}
+
+	public static <T> AsyncLazy<T> of(Executor executor, Supplier<? extends T> supplier) {
+		return new AsyncLazy<>(executor, () -> CompletableFuture.<T>supplyAsync(supplier::get, executor));
+	}
+
+	public static <T> AsyncLazy<T> completed(T value) {
+		AsyncLazy<T> lazy = new AsyncLazy<>(AsyncExecutors.defaultExecutor(), () -> CompletableFuture.completedFuture(value));
+		lazy.force();
+		return lazy;
+	}
+
+	/**
+	 * Starts the computation unless it already started; returns immediately.
+	 */
+	public AsyncLazy<T> start() {
+		force();
+		return this;
+	}
+
+	/**
+	 * True once the computation started, whether or not it completed.
+	 */
+	public boolean isStarted() {
+		return result.get() != null;
+	}
+
+	/**
+	 * True once the value (or failure) is available.
+	 */
+	public boolean isEvaluated() {
+		CompletableFuture<T> future = result.get();
+		return future != null && future.isDone();
+	}
+
+	/**
+	 * Starts the computation if needed and blocks until the value is available.
+	 * A failure is rethrown as is if unchecked, wrapped in a {@link CompletionException} otherwise.
+	 */
+	public T get() {
+		try {
+			return force().join();
+		} catch (CompletionException x) {
+			Throwable cause = x.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw x;
+		}
+	}
+
+	/**
+	 * Starts the computation if needed. The returned stage cannot be used to complete this value.
+	 */
+	public CompletionStage<T> toCompletionStage() {
+		return force().minimalCompletionStage();
+	}
+
+	/**
+	 * Starts the computation if needed.
+	 */
+	public Future<T> toFuture() {
+		return Future.fromCompletableFuture(executor, force().copy());
+	}
+
+	public <U> AsyncLazy<U> map(Function<? super T, ? extends U> mapper) {
+		return new AsyncLazy<>(executor, () -> force().thenApplyAsync(mapper, executor));
+	}
+
+	public <U> AsyncLazy<U> flatMap(Function<? super T, AsyncLazy<U>> mapper) {
+		return new AsyncLazy<>(executor, () -> force().thenComposeAsync(value -> mapper.apply(value).force(), executor));
+	}
+
+	/**
+	 * Both values, computed concurrently once the result is demanded.
+	 */
+	public <U> AsyncLazy<Tuple2<T, U>> zip(AsyncLazy<U> that) {
+		return zipWith(that, Tuple::of);
+	}
+
+	public <U, R> AsyncLazy<R> zipWith(AsyncLazy<U> that, BiFunction<? super T, ? super U, ? extends R> combiner) {
+		return new AsyncLazy<>(executor, () -> force().thenCombine(that.force(), combiner));
+	}
+
+	private CompletableFuture<T> force() {
+		CompletableFuture<T> future = result.get();
+		if (future != null) {
+			return future;
+		}
+		CompletableFuture<T> promise = new CompletableFuture<>();
+		if (!result.compareAndSet(null, promise)) {
+			return result.get();
+		}
+		try {
+			computation.get().whenComplete((value, x) -> {
+				if (x == null) {
+					promise.complete(value);
+				} else {
+					promise.completeExceptionally(x instanceof CompletionException && x.getCause() != null ? x.getCause() : x);
+				}
+			});
+		} catch (Throwable x) {
+			promise.completeExceptionally(x);
+		}
+		return promise;
+	}
+
+	@Override
+	public String toString() {
+		CompletableFuture<T> future = result.get();
+		if (future == null) {
+			return "AsyncLazy(?)";
+		}
+		return future.isDone() && !future.isCompletedExceptionally() ? "AsyncLazy(" + future.join() + ")" : "AsyncLazy(...)";
+	}
+}
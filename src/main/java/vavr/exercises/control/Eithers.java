@@ -0,0 +1,91 @@
+package vavr.exercises.control;
+
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fused {@code Either} chains, see {@link Options}. {@code Either.filter} wraps its result in an {@code Option}
+ * besides the {@code Right} of each {@code map}, so {@code either.map(f).filter(p)} chains allocate twice per
+ * step.
+ */
+public final class Eithers {
+	private Eithers() {
+	}
+
+	/**
+	 * {@code either.map(mapper).getOrElse(ifLeft)}.
+	 */
+	public static <L, R, U> U foldMap(Either<L, R> either, U ifLeft, Function<? super R, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return either.isRight() ? mapper.apply(either.get()) : ifLeft;
+	}
+
+	/**
+	 * {@code either.map(mapper).filter(predicate).flatMap(Value::toOption).getOrElse(other)}, i.e. the mapped
+	 * right value if it satisfies {@code predicate}, otherwise {@code other}.
+	 */
+	public static <L, R, U> U mapFilterGetOrElse(Either<L, R> either, Function<? super R, ? extends U> mapper,
+			Predicate<? super U> predicate, U other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		Objects.requireNonNull(predicate, "predicate is null");
+		if (either.isLeft()) {
+			return other;
+		}
+		U value = mapper.apply(either.get());
+		return predicate.test(value) ? value : other;
+	}
+
+	/**
+	 * {@link #mapFilterGetOrElse} without boxing.
+	 */
+	public static <L, R> int mapToIntFilterGetOrElse(Either<L, R> either, ToIntFunction<? super R> mapper, IntPredicate predicate, int other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		Objects.requireNonNull(predicate, "predicate is null");
+		if (either.isLeft()) {
+			return other;
+		}
+		int value = mapper.applyAsInt(either.get());
+		return predicate.test(value) ? value : other;
+	}
+
+	/**
+	 * {@code either.flatMap(mapper).getOrElse(other)}.
+	 */
+	public static <L, R, U> U flatMapGetOrElse(Either<L, R> either,
+			Function<? super R, ? extends Either<? extends L, ? extends U>> mapper, U other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		if (either.isLeft()) {
+			return other;
+		}
+		Either<? extends L, ? extends U> result = mapper.apply(either.get());
+		return result.isRight() ? result.get() : other;
+	}
+
+	/**
+	 * {@code either.fold(leftMapper, rightMapper)} without boxing.
+	 */
+	public static <L, R> int foldToInt(Either<L, R> either, ToIntFunction<? super L> leftMapper, ToIntFunction<? super R> rightMapper) {
+		Objects.requireNonNull(leftMapper, "leftMapper is null");
+		Objects.requireNonNull(rightMapper, "rightMapper is null");
+		return either.isRight() ? rightMapper.applyAsInt(either.get()) : leftMapper.applyAsInt(either.getLeft());
+	}
+
+	public static <L, R> long foldToLong(Either<L, R> either, ToLongFunction<? super L> leftMapper, ToLongFunction<? super R> rightMapper) {
+		Objects.requireNonNull(leftMapper, "leftMapper is null");
+		Objects.requireNonNull(rightMapper, "rightMapper is null");
+		return either.isRight() ? rightMapper.applyAsLong(either.get()) : leftMapper.applyAsLong(either.getLeft());
+	}
+
+	public static <L, R> double foldToDouble(Either<L, R> either, ToDoubleFunction<? super L> leftMapper, ToDoubleFunction<? super R> rightMapper) {
+		Objects.requireNonNull(leftMapper, "leftMapper is null");
+		Objects.requireNonNull(rightMapper, "rightMapper is null");
+		return either.isRight() ? rightMapper.applyAsDouble(either.get()) : leftMapper.applyAsDouble(either.getLeft());
+	}
+}
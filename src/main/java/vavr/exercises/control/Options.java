@@ -0,0 +1,89 @@
+package vavr.exercises.control;
+
+import io.vavr.control.Option;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fused {@code Option} chains. {@code option.map(f).filter(p).getOrElse(other)} allocates a {@code Some} per
+ * step, which escape analysis only removes if the whole chain inlines; each method here is one branch over
+ * {@code isDefined()}, so with non-capturing lambdas or method references it allocates nothing, and the
+ * {@code foldTo*} methods do not box the result either. Results are equal to those of the chain each method
+ * names.
+ */
+public final class Options {
+	private Options() {
+	}
+
+	/**
+	 * {@code option.map(mapper).getOrElse(ifNone)}.
+	 */
+	public static <T, U> U foldMap(Option<T> option, U ifNone, Function<? super T, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return option.isDefined() ? mapper.apply(option.get()) : ifNone;
+	}
+
+	/**
+	 * {@code option.map(mapper).filter(predicate).getOrElse(other)}.
+	 */
+	public static <T, U> U mapFilterGetOrElse(Option<T> option, Function<? super T, ? extends U> mapper,
+			Predicate<? super U> predicate, U other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		Objects.requireNonNull(predicate, "predicate is null");
+		if (option.isEmpty()) {
+			return other;
+		}
+		U value = mapper.apply(option.get());
+		return predicate.test(value) ? value : other;
+	}
+
+	/**
+	 * {@code option.map(mapper).filter(predicate).getOrElse(other)} without boxing.
+	 */
+	public static <T> int mapToIntFilterGetOrElse(Option<T> option, ToIntFunction<? super T> mapper, IntPredicate predicate, int other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		Objects.requireNonNull(predicate, "predicate is null");
+		if (option.isEmpty()) {
+			return other;
+		}
+		int value = mapper.applyAsInt(option.get());
+		return predicate.test(value) ? value : other;
+	}
+
+	/**
+	 * {@code option.flatMap(mapper).getOrElse(other)}; only the {@code Option} returned by {@code mapper} is
+	 * allocated, if at all.
+	 */
+	public static <T, U> U flatMapGetOrElse(Option<T> option, Function<? super T, ? extends Option<? extends U>> mapper, U other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		if (option.isEmpty()) {
+			return other;
+		}
+		Option<? extends U> result = mapper.apply(option.get());
+		return result.isDefined() ? result.get() : other;
+	}
+
+	/**
+	 * {@code option.map(mapper).getOrElse(ifNone)} without boxing.
+	 */
+	public static <T> int foldToInt(Option<T> option, int ifNone, ToIntFunction<? super T> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return option.isDefined() ? mapper.applyAsInt(option.get()) : ifNone;
+	}
+
+	public static <T> long foldToLong(Option<T> option, long ifNone, ToLongFunction<? super T> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return option.isDefined() ? mapper.applyAsLong(option.get()) : ifNone;
+	}
+
+	public static <T> double foldToDouble(Option<T> option, double ifNone, ToDoubleFunction<? super T> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return option.isDefined() ? mapper.applyAsDouble(option.get()) : ifNone;
+	}
+}
@@ -0,0 +1,271 @@
+package vavr.exercises.control;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A lazily described computation that succeeds with a {@code T} or fails with a {@code Throwable}, like a
+ * deferred {@code Try}, and that runs in constant stack however deeply its {@code flatMap}s are nested.
+ *
+ * Building a {@code Trampoline} only records the steps; {@link #run()} interprets them in a loop that keeps
+ * pending continuations in an array instead of on the call stack, so both a chain of 10^6
+ * {@code t = t.flatMap(f)} and a recursion like {@code sum(n) = defer(() -> sum(n - 1).map(s -> s + n))} are
+ * safe. {@link #map} steps pass their result on without allocating, and a failure skips to the nearest
+ * {@link #recoverWith}. Like {@code Try}, exceptions thrown by any function become failures, except fatal ones
+ * ({@code VirtualMachineError} and the like), which are rethrown; a {@code null} returned where a
+ * {@code Trampoline} is expected fails with a {@code NullPointerException}. A description can be run any number
+ * of times.
+ */
+public abstract class Trampoline<T> {
+	private Trampoline() {
+	}
+
+	// creation
+
+	public static <T> Trampoline<T> done(T value) {
+		return new Done<>(value);
+	}
+
+	public static <T> Trampoline<T> failed(Throwable error) {
+		Objects.requireNonNull(error, "error is null");
+		return new Failed<>(error);
+	}
+
+	/**
+	 * The computation that evaluates {@code supplier} each time it is run, like {@code Try.of(supplier)}.
+	 */
+	public static <T> Trampoline<T> of(CheckedFunction0<? extends T> supplier) {
+		Objects.requireNonNull(supplier, "supplier is null");
+		return new Delay<>(supplier);
+	}
+
+	/**
+	 * The computation returned by {@code supplier}, which is called each time it is run; used for recursion.
+	 */
+	public static <T> Trampoline<T> defer(Supplier<? extends Trampoline<? extends T>> supplier) {
+		Objects.requireNonNull(supplier, "supplier is null");
+		return new Defer<>(supplier);
+	}
+
+	public static <T> Trampoline<T> fromTry(Try<? extends T> attempt) {
+		return attempt.isSuccess() ? done(attempt.get()) : failed(attempt.getCause());
+	}
+
+	public static <T> Trampoline<T> fromEither(Either<? extends Throwable, ? extends T> either) {
+		return either.isRight() ? done(either.get()) : failed(either.getLeft());
+	}
+
+	/**
+	 * Fails with a {@code NoSuchElementException} if {@code option} is empty, like {@code Option.toTry()}.
+	 */
+	public static <T> Trampoline<T> fromOption(Option<? extends T> option) {
+		return option.isDefined() ? done(option.get()) : failed(new NoSuchElementException("No value present"));
+	}
+
+	// composition
+
+	public <U> Trampoline<U> map(Function<? super T, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new Map<>(this, mapper);
+	}
+
+	public <U> Trampoline<U> flatMap(Function<? super T, ? extends Trampoline<? extends U>> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return new FlatMap<>(this, mapper);
+	}
+
+	public <U> Trampoline<U> flatMapTry(Function<? super T, ? extends Try<? extends U>> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return flatMap(value -> fromTry(mapper.apply(value)));
+	}
+
+	public <U> Trampoline<U> flatMapEither(Function<? super T, ? extends Either<? extends Throwable, ? extends U>> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		return flatMap(value -> fromEither(mapper.apply(value)));
+	}
+
+	public Trampoline<T> recover(Function<? super Throwable, ? extends T> recovery) {
+		Objects.requireNonNull(recovery, "recovery is null");
+		return recoverWith(error -> done(recovery.apply(error)));
+	}
+
+	public Trampoline<T> recoverWith(Function<? super Throwable, ? extends Trampoline<? extends T>> recovery) {
+		Objects.requireNonNull(recovery, "recovery is null");
+		return new Recover<>(this, recovery);
+	}
+
+	/**
+	 * Runs this computation again, up to {@code times} more times, while it fails.
+	 */
+	public Trampoline<T> retry(int times) {
+		return times <= 0 ? this : recoverWith(error -> retry(times - 1));
+	}
+
+	// evaluation
+
+	/**
+	 * Runs the computation. Fatal errors are rethrown; any other exception is returned as a failure.
+	 */
+	@SuppressWarnings("unchecked")
+	public Try<T> run() {
+		Trampoline<?> current = this;
+		Trampoline<?>[] pending = new Trampoline<?>[16];
+		int size = 0;
+		Object value = null;
+		Throwable error = null;
+		while (true) {
+			if (current != null) {
+				// evaluate current to a value or an error, pushing its continuation if it has one
+				if (current instanceof Done) {
+					value = ((Done<?>) current).value;
+					current = null;
+				} else if (current instanceof Failed) {
+					error = ((Failed<?>) current).error;
+					current = null;
+				} else if (current instanceof Delay) {
+					try {
+						value = ((Delay<?>) current).supplier.apply();
+					} catch (Throwable t) {
+						Trys.rethrowIfFatal(t);
+						error = t;
+					}
+					current = null;
+				} else if (current instanceof Defer) {
+					try {
+						current = Objects.requireNonNull(((Defer<?>) current).supplier.get(), "supplier returned null");
+					} catch (Throwable t) {
+						Trys.rethrowIfFatal(t);
+						error = t;
+						current = null;
+					}
+				} else {
+					if (size == pending.length) {
+						pending = Arrays.copyOf(pending, size * 2);
+					}
+					pending[size++] = current;
+					current = ((Step<?>) current).source;
+				}
+				continue;
+			}
+			// pass the value or error to the innermost pending step that takes it
+			if (size == 0) {
+				return error == null ? Try.success((T) value) : Try.failure(error);
+			}
+			Trampoline<?> step = pending[--size];
+			pending[size] = null;
+			try {
+				if (error == null) {
+					if (step instanceof Map) {
+						value = ((Map<Object, ?>) step).mapper.apply(value);
+					} else if (step instanceof FlatMap) {
+						current = Objects.requireNonNull(((FlatMap<Object, ?>) step).mapper.apply(value), "mapper returned null");
+					}
+				} else if (step instanceof Recover) {
+					Throwable cause = error;
+					error = null;
+					current = Objects.requireNonNull(((Recover<?>) step).recovery.apply(cause), "recovery returned null");
+				}
+			} catch (Throwable t) {
+				Trys.rethrowIfFatal(t);
+				error = t;
+				current = null;
+			}
+		}
+	}
+
+	public Either<Throwable, T> toEither() {
+		return run().toEither();
+	}
+
+	public Option<T> toOption() {
+		return run().toOption();
+	}
+
+	/**
+	 * Runs the computation and returns its value, or throws its error like {@code Try.get()}.
+	 */
+	public T get() {
+		return run().get();
+	}
+
+	@Override
+	public String toString() {
+		return "Trampoline(" + getClass().getSimpleName() + ")";
+	}
+
+	private static final class Done<T> extends Trampoline<T> {
+		final T value;
+
+		Done(T value) {
+			this.value = value;
+		}
+	}
+
+	private static final class Failed<T> extends Trampoline<T> {
+		final Throwable error;
+
+		Failed(Throwable error) {
+			this.error = error;
+		}
+	}
+
+	private static final class Delay<T> extends Trampoline<T> {
+		final CheckedFunction0<? extends T> supplier;
+
+		Delay(CheckedFunction0<? extends T> supplier) {
+			this.supplier = supplier;
+		}
+	}
+
+	private static final class Defer<T> extends Trampoline<T> {
+		final Supplier<? extends Trampoline<? extends T>> supplier;
+
+		Defer(Supplier<? extends Trampoline<? extends T>> supplier) {
+			this.supplier = supplier;
+		}
+	}
+
+	// a step applied to the outcome of source
+	private abstract static class Step<T> extends Trampoline<T> {
+		final Trampoline<?> source;
+
+		Step(Trampoline<?> source) {
+			this.source = source;
+		}
+	}
+
+	private static final class Map<T, U> extends Step<U> {
+		final Function<? super T, ? extends U> mapper;
+
+		Map(Trampoline<T> source, Function<? super T, ? extends U> mapper) {
+			super(source);
+			this.mapper = mapper;
+		}
+	}
+
+	private static final class FlatMap<T, U> extends Step<U> {
+		final Function<? super T, ? extends Trampoline<? extends U>> mapper;
+
+		FlatMap(Trampoline<T> source, Function<? super T, ? extends Trampoline<? extends U>> mapper) {
+			super(source);
+			this.mapper = mapper;
+		}
+	}
+
+	private static final class Recover<T> extends Step<T> {
+		final Function<? super Throwable, ? extends Trampoline<? extends T>> recovery;
+
+		Recover(Trampoline<T> source, Function<? super Throwable, ? extends Trampoline<? extends T>> recovery) {
+			super(source);
+			this.recovery = recovery;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package vavr.exercises.control;
+
+import io.vavr.CheckedFunction0;
+import io.vavr.CheckedFunction1;
+import io.vavr.control.Try;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fused {@code Try} chains, see {@link Options}. Like {@code Try.of}, {@code map} and {@code flatMap}, they
+ * turn any exception thrown by a function into the fallback value, except fatal ones ({@code LinkageError},
+ * {@code VirtualMachineError}, {@code InterruptedException} and {@code ThreadDeath}), which are rethrown.
+ *
+ * The {@code applyOrElse} and {@code applyTo*} methods replace {@code Try.of(() -> f.apply(input))} in loops:
+ * {@code Trys.applyToInt(text, Integer::parseInt, -1)} neither allocates a {@code Try} nor captures {@code text}.
+ */
+public final class Trys {
+	private Trys() {
+	}
+
+	/**
+	 * {@code Try.of(supplier).getOrElse(other)}.
+	 */
+	public static <T> T ofOrElse(CheckedFunction0<? extends T> supplier, T other) {
+		Objects.requireNonNull(supplier, "supplier is null");
+		try {
+			return supplier.apply();
+		} catch (Throwable t) {
+			return fallback(t, other);
+		}
+	}
+
+	/**
+	 * {@code Try.of(() -> function.apply(input)).getOrElse(other)}.
+	 */
+	public static <T, U> U applyOrElse(T input, CheckedFunction1<? super T, ? extends U> function, U other) {
+		Objects.requireNonNull(function, "function is null");
+		try {
+			return function.apply(input);
+		} catch (Throwable t) {
+			return fallback(t, other);
+		}
+	}
+
+	/**
+	 * {@code Try.of(() -> function.applyAsInt(input)).getOrElse(other)} without boxing.
+	 */
+	public static <T> int applyToInt(T input, ToIntFunction<? super T> function, int other) {
+		Objects.requireNonNull(function, "function is null");
+		try {
+			return function.applyAsInt(input);
+		} catch (Throwable t) {
+			return fallback(t, other);
+		}
+	}
+
+	public static <T> long applyToLong(T input, ToLongFunction<? super T> function, long other) {
+		Objects.requireNonNull(function, "function is null");
+		try {
+			return function.applyAsLong(input);
+		} catch (Throwable t) {
+			return fallback(t, other);
+		}
+	}
+
+	public static <T> double applyToDouble(T input, ToDoubleFunction<? super T> function, double other) {
+		Objects.requireNonNull(function, "function is null");
+		try {
+			return function.applyAsDouble(input);
+		} catch (Throwable t) {
+			return fallback(t, other);
+		}
+	}
+
+	/**
+	 * {@code attempt.map(mapper).getOrElse(ifFailure)}.
+	 */
+	public static <T, U> U foldMap(Try<T> attempt, U ifFailure, Function<? super T, ? extends U> mapper) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		if (attempt.isFailure()) {
+			return ifFailure;
+		}
+		try {
+			return mapper.apply(attempt.get());
+		} catch (Throwable t) {
+			return fallback(t, ifFailure);
+		}
+	}
+
+	/**
+	 * {@code attempt.map(mapper).filter(predicate).getOrElse(other)}.
+	 */
+	public static <T, U> U mapFilterGetOrElse(Try<T> attempt, Function<? super T, ? extends U> mapper,
+			Predicate<? super U> predicate, U other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		Objects.requireNonNull(predicate, "predicate is null");
+		if (attempt.isFailure()) {
+			return other;
+		}
+		try {
+			U value = mapper.apply(attempt.get());
+			return predicate.test(value) ? value : other;
+		} catch (Throwable t) {
+			return fallback(t, other);
+		}
+	}
+
+	/**
+	 * {@code attempt.map(mapper).filter(predicate).getOrElse(other)} without boxing.
+	 */
+	public static <T> int mapToIntFilterGetOrElse(Try<T> attempt, ToIntFunction<? super T> mapper, IntPredicate predicate, int other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		Objects.requireNonNull(predicate, "predicate is null");
+		if (attempt.isFailure()) {
+			return other;
+		}
+		try {
+			int value = mapper.applyAsInt(attempt.get());
+			return predicate.test(value) ? value : other;
+		} catch (Throwable t) {
+			return fallback(t, other);
+		}
+	}
+
+	/**
+	 * {@code attempt.flatMap(mapper).getOrElse(other)}.
+	 */
+	public static <T, U> U flatMapGetOrElse(Try<T> attempt, Function<? super T, ? extends Try<? extends U>> mapper, U other) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		if (attempt.isFailure()) {
+			return other;
+		}
+		Try<? extends U> result;
+		try {
+			result = mapper.apply(attempt.get());
+		} catch (Throwable t) {
+			return fallback(t, other);
+		}
+		return result.isSuccess() ? result.get() : other;
+	}
+
+	/**
+	 * {@code attempt.fold(ifFailure, ifSuccess)} without boxing.
+	 */
+	public static <T> int foldToInt(Try<T> attempt, ToIntFunction<? super Throwable> ifFailure, ToIntFunction<? super T> ifSuccess) {
+		Objects.requireNonNull(ifFailure, "ifFailure is null");
+		Objects.requireNonNull(ifSuccess, "ifSuccess is null");
+		return attempt.isSuccess() ? ifSuccess.applyAsInt(attempt.get()) : ifFailure.applyAsInt(attempt.getCause());
+	}
+
+	public static <T> long foldToLong(Try<T> attempt, ToLongFunction<? super Throwable> ifFailure, ToLongFunction<? super T> ifSuccess) {
+		Objects.requireNonNull(ifFailure, "ifFailure is null");
+		Objects.requireNonNull(ifSuccess, "ifSuccess is null");
+		return attempt.isSuccess() ? ifSuccess.applyAsLong(attempt.get()) : ifFailure.applyAsLong(attempt.getCause());
+	}
+
+	public static <T> double foldToDouble(Try<T> attempt, ToDoubleFunction<? super Throwable> ifFailure, ToDoubleFunction<? super T> ifSuccess) {
+		Objects.requireNonNull(ifFailure, "ifFailure is null");
+		Objects.requireNonNull(ifSuccess, "ifSuccess is null");
+		return attempt.isSuccess() ? ifSuccess.applyAsDouble(attempt.get()) : ifFailure.applyAsDouble(attempt.getCause());
+	}
+
+	// kept out of the fast paths so that they stay small enough to inline
+	private static <T> T fallback(Throwable t, T other) {
+		rethrowIfFatal(t);
+		return other;
+	}
+
+	private static int fallback(Throwable t, int other) {
+		rethrowIfFatal(t);
+		return other;
+	}
+
+	private static long fallback(Throwable t, long other) {
+		rethrowIfFatal(t);
+		return other;
+	}
+
+	private static double fallback(Throwable t, double other) {
+		rethrowIfFatal(t);
+		return other;
+	}
+
+	@SuppressWarnings("deprecation")
+	static void rethrowIfFatal(Throwable t) {
+		if (t instanceof InterruptedException || t instanceof LinkageError || t instanceof ThreadDeath || t instanceof VirtualMachineError) {
+			Trys.<RuntimeException> sneakyThrow(t);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <X extends Throwable> void sneakyThrow(Throwable t) throws X {
+		throw (X) t;
+	}
+}
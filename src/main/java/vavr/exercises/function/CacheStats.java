@@ -0,0 +1,48 @@
+package vavr.exercises.function;
+
+import java.io.Serializable;
+
+/**
+ * Snapshot of a memoization cache's counters. Expired entries count as evictions.
+ */
+public final class CacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final long hits;
+	private final long misses;
+	private final long evictions;
+
+	CacheStats(long hits, long misses, long evictions) {
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+	}
+
+	public long hits() {
+		return hits;
+	}
+
+	public long misses() {
+		return misses;
+	}
+
+	public long evictions() {
+		return evictions;
+	}
+
+	public long requests() {
+		return hits + misses;
+	}
+
+	/**
+	 * Fraction of requests served from the cache; 1.0 when there were no requests.
+	 */
+	public double hitRate() {
+		return requests() == 0 ? 1.0 : (double) hits / requests();
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats(hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ")";
+	}
+}
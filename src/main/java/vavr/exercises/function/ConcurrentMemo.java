@@ -0,0 +1,65 @@
+package vavr.exercises.function;
+
+import io.vavr.Function0;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-key futures backing {@link Memoize#concurrent}. The first caller of a key installs a future and
+ * computes the value without holding any lock; concurrent callers of the same key wait for that future,
+ * callers of other keys proceed in parallel. A failed computation is removed again, so the next call retries.
+ *
+ * A memoized function must not call itself with the same arguments while computing them.
+ */
+final class ConcurrentMemo {
+	// ConcurrentHashMap does not accept null keys
+	private static final Object NULL_KEY = new Object();
+
+	private final ConcurrentHashMap<Object, CompletableFuture<Object>> futures = new ConcurrentHashMap<>();
+
+	Object get(Object key, Function0<?> loader) {
+		Object mapKey = key == null ? NULL_KEY : key;
+		CompletableFuture<Object> future = futures.get(mapKey);
+		if (future == null) {
+			CompletableFuture<Object> computation = new CompletableFuture<>();
+			future = futures.putIfAbsent(mapKey, computation);
+			if (future == null) {
+				return compute(mapKey, computation, loader);
+			}
+		}
+		try {
+			return future.join();
+		} catch (CompletionException x) {
+			throw rethrow(x.getCause());
+		}
+	}
+
+	int size() {
+		return futures.size();
+	}
+
+	private Object compute(Object key, CompletableFuture<Object> computation, Function0<?> loader) {
+		try {
+			Object value = loader.apply();
+			computation.complete(value);
+			return value;
+		} catch (Throwable x) {
+			futures.remove(key, computation);
+			computation.completeExceptionally(x);
+			throw rethrow(x);
+		}
+	}
+
+	// loaders are unchecked functions, so only unchecked exceptions can reach here
+	private static RuntimeException rethrow(Throwable x) {
+		if (x instanceof RuntimeException) {
+			throw (RuntimeException) x;
+		}
+		if (x instanceof Error) {
+			throw (Error) x;
+		}
+		throw new IllegalStateException(x);
+	}
+}
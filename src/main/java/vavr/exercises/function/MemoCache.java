@@ -0,0 +1,349 @@
+package vavr.exercises.function;
+
+import io.vavr.CheckedFunction0;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache backing {@link Memoize}: at most {@code maximumSize} entries, evicted by least recent
+ * (LRU) or least frequent (LFU) use, optionally expiring a fixed time after they were computed.
+ *
+ * Values are computed outside the cache lock, so a slow computation never blocks callers of other keys;
+ * concurrent misses on the same key may compute it more than once. Failed computations are not cached.
+ * Use one cache per memoized function, since keys are the bare argument tuples.
+ */
+public final class MemoCache {
+	public enum Eviction {
+		LRU, LFU
+	}
+
+	private final long maximumSize;
+	private final long expireAfterWriteNanos;
+	private final LongSupplier ticker;
+	private final Store store;
+	// with expiry, the keys in the order they were written, which is the order they expire in
+	private final LinkedHashMap<Object, Entry> writeOrder;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	private MemoCache(Builder builder) {
+		this.maximumSize = builder.maximumSize;
+		this.expireAfterWriteNanos = builder.expireAfterWrite == null ? Long.MAX_VALUE : builder.expireAfterWrite.toNanos();
+		this.ticker = builder.ticker;
+		this.store = builder.eviction == Eviction.LRU ? new LruStore() : new LfuStore();
+		this.writeOrder = builder.expireAfterWrite == null ? null : new LinkedHashMap<>();
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public CacheStats stats() {
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+	}
+
+	public long size() {
+		lock.lock();
+		try {
+			return store.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void invalidateAll() {
+		lock.lock();
+		try {
+			store.clear();
+			if (writeOrder != null) {
+				writeOrder.clear();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * The cached value for {@code key}, computing and caching it with {@code loader} on a miss.
+	 */
+	Object get(Object key, CheckedFunction0<?> loader) throws Throwable {
+		long now = ticker.getAsLong();
+		lock.lock();
+		try {
+			Entry entry = store.get(key);
+			if (entry != null) {
+				if (now - entry.writeTime < expireAfterWriteNanos) {
+					hits.increment();
+					return entry.value;
+				}
+				store.remove(key);
+				writeOrder.remove(key);
+				evictions.increment();
+			}
+		} finally {
+			lock.unlock();
+		}
+		misses.increment();
+		Object value = loader.apply();
+		lock.lock();
+		try {
+			if (!store.contains(key)) {
+				long written = ticker.getAsLong();
+				// expired entries go first, so that they never make the policy evict a live one
+				purgeExpired(written);
+				while (store.size() >= maximumSize) {
+					Object evicted = store.evict();
+					if (evicted == null) {
+						break;
+					}
+					if (writeOrder != null) {
+						writeOrder.remove(evicted);
+					}
+					evictions.increment();
+				}
+				Entry entry = new Entry(value, written);
+				store.put(key, entry);
+				if (writeOrder != null) {
+					writeOrder.put(key, entry);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		return value;
+	}
+
+	private void purgeExpired(long now) {
+		if (writeOrder == null) {
+			return;
+		}
+		Iterator<Map.Entry<Object, Entry>> oldest = writeOrder.entrySet().iterator();
+		while (oldest.hasNext()) {
+			Map.Entry<Object, Entry> next = oldest.next();
+			if (now - next.getValue().writeTime < expireAfterWriteNanos) {
+				return;
+			}
+			oldest.remove();
+			store.remove(next.getKey());
+			evictions.increment();
+		}
+	}
+
+	public static final class Builder {
+		private long maximumSize = Long.MAX_VALUE;
+		private Eviction eviction = Eviction.LRU;
+		private Duration expireAfterWrite;
+		private LongSupplier ticker = System::nanoTime;
+
+		private Builder() {
+		}
+
+		public Builder maximumSize(long maximumSize) {
+			if (maximumSize <= 0) {
+				throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+			}
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		public Builder eviction(Eviction eviction) {
+			this.eviction = java.util.Objects.requireNonNull(eviction, "eviction is null");
+			return this;
+		}
+
+		public Builder expireAfterWrite(Duration duration) {
+			if (duration.isNegative() || duration.isZero()) {
+				throw new IllegalArgumentException("expireAfterWrite must be positive: " + duration);
+			}
+			this.expireAfterWrite = duration;
+			return this;
+		}
+
+		/**
+		 * Time source in nanoseconds, {@code System::nanoTime} by default; intended for tests.
+		 */
+		public Builder ticker(LongSupplier ticker) {
+			this.ticker = java.util.Objects.requireNonNull(ticker, "ticker is null");
+			return this;
+		}
+
+		public MemoCache build() {
+			return new MemoCache(this);
+		}
+	}
+
+	private static final class Entry {
+		final Object value;
+		final long writeTime;
+
+		Entry(Object value, long writeTime) {
+			this.value = value;
+			this.writeTime = writeTime;
+		}
+	}
+
+	// eviction policies; all calls happen under the cache lock
+	private interface Store {
+		Entry get(Object key);
+
+		boolean contains(Object key);
+
+		void put(Object key, Entry entry);
+
+		void remove(Object key);
+
+		// removes the entry the policy chooses and returns its key, or null if there is none
+		Object evict();
+
+		int size();
+
+		void clear();
+	}
+
+	private static final class LruStore implements Store {
+		private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		@Override
+		public Entry get(Object key) {
+			return entries.get(key);
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return entries.containsKey(key);
+		}
+
+		@Override
+		public void put(Object key, Entry entry) {
+			entries.put(key, entry);
+		}
+
+		@Override
+		public void remove(Object key) {
+			entries.remove(key);
+		}
+
+		@Override
+		public Object evict() {
+			Iterator<Object> eldest = entries.keySet().iterator();
+			if (!eldest.hasNext()) {
+				return null;
+			}
+			Object key = eldest.next();
+			eldest.remove();
+			return key;
+		}
+
+		@Override
+		public int size() {
+			return entries.size();
+		}
+
+		@Override
+		public void clear() {
+			entries.clear();
+		}
+	}
+
+	// frequency buckets; ties within a bucket are broken by least recent use
+	private static final class LfuStore implements Store {
+		private final HashMap<Object, Node> nodes = new HashMap<>();
+		private final TreeMap<Long, LinkedHashSet<Object>> buckets = new TreeMap<>();
+
+		private static final class Node {
+			Entry entry;
+			long frequency;
+
+			Node(Entry entry) {
+				this.entry = entry;
+			}
+		}
+
+		@Override
+		public Entry get(Object key) {
+			Node node = nodes.get(key);
+			if (node == null) {
+				return null;
+			}
+			unlink(key, node.frequency);
+			node.frequency++;
+			link(key, node.frequency);
+			return node.entry;
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return nodes.containsKey(key);
+		}
+
+		@Override
+		public void put(Object key, Entry entry) {
+			Node node = nodes.get(key);
+			if (node == null) {
+				node = new Node(entry);
+				nodes.put(key, node);
+			} else {
+				unlink(key, node.frequency);
+				node.entry = entry;
+			}
+			node.frequency++;
+			link(key, node.frequency);
+		}
+
+		@Override
+		public void remove(Object key) {
+			Node node = nodes.remove(key);
+			if (node != null) {
+				unlink(key, node.frequency);
+			}
+		}
+
+		@Override
+		public Object evict() {
+			if (buckets.isEmpty()) {
+				return null;
+			}
+			LinkedHashSet<Object> leastFrequent = buckets.firstEntry().getValue();
+			Object key = leastFrequent.iterator().next();
+			remove(key);
+			return key;
+		}
+
+		@Override
+		public int size() {
+			return nodes.size();
+		}
+
+		@Override
+		public void clear() {
+			nodes.clear();
+			buckets.clear();
+		}
+
+		private void link(Object key, long frequency) {
+			buckets.computeIfAbsent(frequency, f -> new LinkedHashSet<>()).add(key);
+		}
+
+		private void unlink(Object key, long frequency) {
+			LinkedHashSet<Object> bucket = buckets.get(frequency);
+			if (bucket != null) {
+				bucket.remove(key);
+				if (bucket.isEmpty()) {
+					buckets.remove(frequency);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,457 @@
+package vavr.exercises.function;
+
+import io.vavr.*;
+import io.vavr.control.Try;
+
+/**
+ * Memoization into a bounded {@link MemoCache}, for {@code Function0..8} ({@code bounded}) and
+ * {@code CheckedFunction0..8} ({@code boundedChecked}).
+ * Unlike {@code memoized()}, which keeps every argument/result pair forever, the cache limits the number of
+ * entries, evicts and expires them, and counts hits, misses and evictions:
+ * <pre>{@code
+ * MemoCache cache = MemoCache.builder().maximumSize(10_000).expireAfterWrite(Duration.ofMinutes(5)).build();
+ * Function2<String, Integer, Price> lookup = Memoize.bounded(pricing::lookup, cache);
+ * }</pre>
+ * Arguments are cached as a {@code TupleN}, as {@code memoized()} does; failures are rethrown and not cached.
+ *
+ * {@code concurrent} memoizes without bounds but also without a shared lock, for functions called from
+ * many threads at once.
+ */
+public final class Memoize {
+	private Memoize() {
+	}
+
+	public static <R> Function0<R> bounded(Function0<R> f, MemoCache cache) {
+		return new Function0<R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply() {
+				return (R) unchecked(cache, Tuple.empty(), () -> f.apply());
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, R> Function1<T1, R> bounded(Function1<T1, R> f, MemoCache cache) {
+		return new Function1<T1, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1) {
+				return (R) unchecked(cache, t1, () -> f.apply(t1));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, R> Function2<T1, T2, R> bounded(Function2<T1, T2, R> f, MemoCache cache) {
+		return new Function2<T1, T2, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2) {
+				return (R) unchecked(cache, Tuple.of(t1, t2), () -> f.apply(t1, t2));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, R> Function3<T1, T2, T3, R> bounded(Function3<T1, T2, T3, R> f, MemoCache cache) {
+		return new Function3<T1, T2, T3, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3) {
+				return (R) unchecked(cache, Tuple.of(t1, t2, t3), () -> f.apply(t1, t2, t3));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, R> Function4<T1, T2, T3, T4, R> bounded(Function4<T1, T2, T3, T4, R> f, MemoCache cache) {
+		return new Function4<T1, T2, T3, T4, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4) {
+				return (R) unchecked(cache, Tuple.of(t1, t2, t3, t4), () -> f.apply(t1, t2, t3, t4));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, T5, R> Function5<T1, T2, T3, T4, T5, R> bounded(Function5<T1, T2, T3, T4, T5, R> f, MemoCache cache) {
+		return new Function5<T1, T2, T3, T4, T5, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5) {
+				return (R) unchecked(cache, Tuple.of(t1, t2, t3, t4, t5), () -> f.apply(t1, t2, t3, t4, t5));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, T5, T6, R> Function6<T1, T2, T3, T4, T5, T6, R> bounded(Function6<T1, T2, T3, T4, T5, T6, R> f, MemoCache cache) {
+		return new Function6<T1, T2, T3, T4, T5, T6, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6) {
+				return (R) unchecked(cache, Tuple.of(t1, t2, t3, t4, t5, t6), () -> f.apply(t1, t2, t3, t4, t5, t6));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, T5, T6, T7, R> Function7<T1, T2, T3, T4, T5, T6, T7, R> bounded(Function7<T1, T2, T3, T4, T5, T6, T7, R> f, MemoCache cache) {
+		return new Function7<T1, T2, T3, T4, T5, T6, T7, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7) {
+				return (R) unchecked(cache, Tuple.of(t1, t2, t3, t4, t5, t6, t7), () -> f.apply(t1, t2, t3, t4, t5, t6, t7));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, T5, T6, T7, T8, R> Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> bounded(Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> f, MemoCache cache) {
+		return new Function8<T1, T2, T3, T4, T5, T6, T7, T8, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8) {
+				return (R) unchecked(cache, Tuple.of(t1, t2, t3, t4, t5, t6, t7, t8), () -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <R> CheckedFunction0<R> boundedChecked(CheckedFunction0<R> f, MemoCache cache) {
+		return new CheckedFunction0<R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply() throws Throwable {
+				return (R) cache.get(Tuple.empty(), () -> f.apply());
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, R> CheckedFunction1<T1, R> boundedChecked(CheckedFunction1<T1, R> f, MemoCache cache) {
+		return new CheckedFunction1<T1, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1) throws Throwable {
+				return (R) cache.get(t1, () -> f.apply(t1));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, R> CheckedFunction2<T1, T2, R> boundedChecked(CheckedFunction2<T1, T2, R> f, MemoCache cache) {
+		return new CheckedFunction2<T1, T2, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2) throws Throwable {
+				return (R) cache.get(Tuple.of(t1, t2), () -> f.apply(t1, t2));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, R> CheckedFunction3<T1, T2, T3, R> boundedChecked(CheckedFunction3<T1, T2, T3, R> f, MemoCache cache) {
+		return new CheckedFunction3<T1, T2, T3, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3) throws Throwable {
+				return (R) cache.get(Tuple.of(t1, t2, t3), () -> f.apply(t1, t2, t3));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, R> CheckedFunction4<T1, T2, T3, T4, R> boundedChecked(CheckedFunction4<T1, T2, T3, T4, R> f, MemoCache cache) {
+		return new CheckedFunction4<T1, T2, T3, T4, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4) throws Throwable {
+				return (R) cache.get(Tuple.of(t1, t2, t3, t4), () -> f.apply(t1, t2, t3, t4));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, T5, R> CheckedFunction5<T1, T2, T3, T4, T5, R> boundedChecked(CheckedFunction5<T1, T2, T3, T4, T5, R> f, MemoCache cache) {
+		return new CheckedFunction5<T1, T2, T3, T4, T5, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5) throws Throwable {
+				return (R) cache.get(Tuple.of(t1, t2, t3, t4, t5), () -> f.apply(t1, t2, t3, t4, t5));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, T5, T6, R> CheckedFunction6<T1, T2, T3, T4, T5, T6, R> boundedChecked(CheckedFunction6<T1, T2, T3, T4, T5, T6, R> f, MemoCache cache) {
+		return new CheckedFunction6<T1, T2, T3, T4, T5, T6, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6) throws Throwable {
+				return (R) cache.get(Tuple.of(t1, t2, t3, t4, t5, t6), () -> f.apply(t1, t2, t3, t4, t5, t6));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, T5, T6, T7, R> CheckedFunction7<T1, T2, T3, T4, T5, T6, T7, R> boundedChecked(CheckedFunction7<T1, T2, T3, T4, T5, T6, T7, R> f, MemoCache cache) {
+		return new CheckedFunction7<T1, T2, T3, T4, T5, T6, T7, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7) throws Throwable {
+				return (R) cache.get(Tuple.of(t1, t2, t3, t4, t5, t6, t7), () -> f.apply(t1, t2, t3, t4, t5, t6, t7));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	public static <T1, T2, T3, T4, T5, T6, T7, T8, R> CheckedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> boundedChecked(CheckedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> f, MemoCache cache) {
+		return new CheckedFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8) throws Throwable {
+				return (R) cache.get(Tuple.of(t1, t2, t3, t4, t5, t6, t7, t8), () -> f.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Memoizes {@code f} for concurrent callers: the value is computed at most once, and a computation in
+	 * progress blocks only its own callers, not everyone else. A failure is rethrown to the callers waiting
+	 * for it and not cached, so the next call computes again.
+	 */
+	public static <R> Function0<R> concurrent(Function0<R> f) {
+		ConcurrentMemo memo = new ConcurrentMemo();
+		return new Function0<R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply() {
+				return (R) memo.get(Tuple.empty(), f);
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Memoizes {@code f} for concurrent callers: each argument is computed at most once, distinct arguments
+	 * are computed in parallel. A failure is rethrown to the callers waiting for it and not cached.
+	 */
+	public static <T1, R> Function1<T1, R> concurrent(Function1<T1, R> f) {
+		ConcurrentMemo memo = new ConcurrentMemo();
+		return new Function1<T1, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1) {
+				return (R) memo.get(t1, () -> f.apply(t1));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Memoizes {@code f} for concurrent callers, keyed by {@code Tuple2} of the arguments.
+	 * A failure is rethrown to the callers waiting for it and not cached.
+	 */
+	public static <T1, T2, R> Function2<T1, T2, R> concurrent(Function2<T1, T2, R> f) {
+		ConcurrentMemo memo = new ConcurrentMemo();
+		return new Function2<T1, T2, R>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public R apply(T1 t1, T2 t2) {
+				return (R) memo.get(Tuple.of(t1, t2), () -> f.apply(t1, t2));
+			}
+
+			@Override
+			public boolean isMemoized() {
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Like {@code concurrent(Function0.liftTry(f))}: failures become {@code Try.Failure} results, which are
+	 * memoized only if {@code cacheFailures} is set.
+	 */
+	public static <R> Function0<Try<R>> concurrentTry(Function0<R> f, boolean cacheFailures) {
+		Function0<Try<R>> lifted = Function0.liftTry(f);
+		Function0<Try<R>> memoized = concurrent(cacheFailures ? lifted : () -> failureAsException(lifted.apply()));
+		return () -> exceptionAsFailure(memoized);
+	}
+
+	public static <T1, R> Function1<T1, Try<R>> concurrentTry(Function1<T1, R> f, boolean cacheFailures) {
+		Function1<T1, Try<R>> lifted = Function1.liftTry(f);
+		Function1<T1, Try<R>> memoized = concurrent(cacheFailures ? lifted : t1 -> failureAsException(lifted.apply(t1)));
+		return t1 -> exceptionAsFailure(() -> memoized.apply(t1));
+	}
+
+	public static <T1, T2, R> Function2<T1, T2, Try<R>> concurrentTry(Function2<T1, T2, R> f, boolean cacheFailures) {
+		Function2<T1, T2, Try<R>> lifted = Function2.liftTry(f);
+		Function2<T1, T2, Try<R>> memoized = concurrent(cacheFailures ? lifted : (t1, t2) -> failureAsException(lifted.apply(t1, t2)));
+		return (t1, t2) -> exceptionAsFailure(() -> memoized.apply(t1, t2));
+	}
+
+	// carries a failure out of a concurrent memoized function, so that it is not cached
+	private static final class UncachedFailure extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		final transient Try<?> failure;
+
+		UncachedFailure(Try<?> failure) {
+			super(null, null, false, false);
+			this.failure = failure;
+		}
+	}
+
+	private static <R> Try<R> failureAsException(Try<R> result) {
+		if (result.isFailure()) {
+			throw new UncachedFailure(result);
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <R> Try<R> exceptionAsFailure(Function0<Try<R>> memoized) {
+		try {
+			return memoized.apply();
+		} catch (UncachedFailure x) {
+			return (Try<R>) x.failure;
+		}
+	}
+
+	// the loader is an unchecked function, so only unchecked exceptions can reach here
+	private static Object unchecked(MemoCache cache, Object key, CheckedFunction0<?> loader) {
+		try {
+			return cache.get(key, loader);
+		} catch (RuntimeException | Error x) {
+			throw x;
+		} catch (Throwable x) {
+			throw new IllegalStateException(x);
+		}
+	}
+}
@@ -0,0 +1,274 @@
+package vavr.exercises.io;
+
+import io.vavr.collection.Iterator;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads values written by a {@link BinaryWriter}, with the same {@link Codec}s in the same order.
+ *
+ * Malformed input is reported as an {@code IOException}: {@code EOFException} if the stream ends inside a
+ * value, {@code StreamCorruptedException} if it is not a stream of a supported version or a length or reference
+ * is out of range. A reader is not thread-safe. {@link #close()} closes the underlying stream.
+ */
+public final class BinaryReader implements Closeable {
+	private final InputStream in;
+	private final Inflater inflater;
+	private final byte[] buffer = new byte[1 << 13];
+	private int position;
+	private int limit;
+
+	// objects in the order of their reference ids, when sharing
+	private final ArrayList<Object> references;
+
+	private BinaryReader(InputStream in, Inflater inflater, boolean sharing) {
+		this.in = in;
+		this.inflater = inflater;
+		this.references = sharing ? new ArrayList<>() : null;
+	}
+
+	/**
+	 * A reader of {@code in} that reads and checks the header immediately.
+	 */
+	public static BinaryReader create(InputStream in) throws IOException {
+		Objects.requireNonNull(in, "in is null");
+		byte[] header = new byte[BinaryWriter.MAGIC.length + 2];
+		for (int read = 0; read < header.length; ) {
+			int n = in.read(header, read, header.length - read);
+			if (n < 0) {
+				throw new EOFException("header");
+			}
+			read += n;
+		}
+		for (int i = 0; i < BinaryWriter.MAGIC.length; i++) {
+			if (header[i] != BinaryWriter.MAGIC[i]) {
+				throw new StreamCorruptedException("not a vavr binary stream");
+			}
+		}
+		int version = header[BinaryWriter.MAGIC.length];
+		if (version < 1 || version > BinaryWriter.VERSION) {
+			throw new StreamCorruptedException("unsupported version " + version);
+		}
+		int flags = header[BinaryWriter.MAGIC.length + 1];
+		int known = BinaryWriter.Feature.COMPRESSION.bit() | BinaryWriter.Feature.SHARING.bit();
+		if ((flags & ~known) != 0) {
+			throw new StreamCorruptedException("unsupported features " + Integer.toBinaryString(flags));
+		}
+		boolean sharing = (flags & BinaryWriter.Feature.SHARING.bit()) != 0;
+		if ((flags & BinaryWriter.Feature.COMPRESSION.bit()) != 0) {
+			Inflater inflater = new Inflater();
+			return new BinaryReader(new InflaterInputStream(in, inflater, 1 << 13), inflater, sharing);
+		}
+		return new BinaryReader(in, null, sharing);
+	}
+
+	public <T> T read(Codec<T> codec) throws IOException {
+		return codec.read(this);
+	}
+
+	/**
+	 * Decodes a sequence written by {@link BinaryWriter#writeAll(Codec, java.util.Iterator)} as it is iterated,
+	 * one block at a time. Nothing else may be read from this reader until the iterator is exhausted; an
+	 * {@code IOException} while iterating is rethrown as an {@code UncheckedIOException}.
+	 */
+	public <T> Iterator<T> readAll(Codec<T> codec) {
+		Objects.requireNonNull(codec, "codec is null");
+		return new Iterator<T>() {
+			// elements left in the current block, or -1 after the end marker
+			private int remaining;
+
+			@Override
+			public boolean hasNext() {
+				try {
+					if (remaining == 0) {
+						remaining = readCount();
+						if (remaining == 0) {
+							remaining = -1;
+						}
+					}
+					return remaining > 0;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				remaining--;
+				try {
+					return codec.read(BinaryReader.this);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+	}
+
+	// primitives
+
+	// at least bytes, at most the buffer length, available from position
+	private void require(int bytes) throws IOException {
+		if (limit - position >= bytes) {
+			return;
+		}
+		System.arraycopy(buffer, position, buffer, 0, limit - position);
+		limit -= position;
+		position = 0;
+		while (limit < bytes) {
+			int n = in.read(buffer, limit, buffer.length - limit);
+			if (n < 0) {
+				throw new EOFException();
+			}
+			limit += n;
+		}
+	}
+
+	public int readByte() throws IOException {
+		require(1);
+		return buffer[position++];
+	}
+
+	public boolean readBoolean() throws IOException {
+		int value = readByte();
+		if (value != 0 && value != 1) {
+			throw new StreamCorruptedException("boolean " + value);
+		}
+		return value == 1;
+	}
+
+	/**
+	 * A count or length written by {@link BinaryWriter#writeCount(int)}.
+	 */
+	public int readCount() throws IOException {
+		long count = readUnsigned();
+		if (count > Integer.MAX_VALUE) {
+			throw new StreamCorruptedException("count " + count);
+		}
+		return (int) count;
+	}
+
+	private long readUnsigned() throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("varint longer than 10 bytes");
+	}
+
+	public int readVarInt() throws IOException {
+		long value = readUnsigned();
+		if (value >>> 32 != 0) {
+			throw new StreamCorruptedException("varint " + value + " out of int range");
+		}
+		int zigzag = (int) value;
+		return zigzag >>> 1 ^ -(zigzag & 1);
+	}
+
+	public long readVarLong() throws IOException {
+		long zigzag = readUnsigned();
+		return zigzag >>> 1 ^ -(zigzag & 1);
+	}
+
+	public int readFixedInt() throws IOException {
+		require(4);
+		int value = (buffer[position] & 0xFF) << 24 | (buffer[position + 1] & 0xFF) << 16
+				| (buffer[position + 2] & 0xFF) << 8 | buffer[position + 3] & 0xFF;
+		position += 4;
+		return value;
+	}
+
+	public long readFixedLong() throws IOException {
+		require(8);
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = value << 8 | buffer[position + i] & 0xFF;
+		}
+		position += 8;
+		return value;
+	}
+
+	public double readDouble() throws IOException {
+		return Double.longBitsToDouble(readFixedLong());
+	}
+
+	public byte[] readBytes() throws IOException {
+		return readBytes(readCount());
+	}
+
+	private byte[] readBytes(int length) throws IOException {
+		byte[] bytes = new byte[Math.min(length, 1 << 20)];
+		int read = 0;
+		while (read < length) {
+			if (read == bytes.length) {
+				// grow as the data arrives, so a corrupt length cannot allocate gigabytes up front
+				bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+			}
+			if (position == limit) {
+				require(1);
+			}
+			int n = Math.min(length - read, Math.min(limit - position, bytes.length - read));
+			System.arraycopy(buffer, position, bytes, read, n);
+			position += n;
+			read += n;
+		}
+		return bytes;
+	}
+
+	public String readString() throws IOException {
+		int length = readCount();
+		if (length <= buffer.length) {
+			require(length);
+			String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return value;
+		}
+		return new String(readBytes(length), StandardCharsets.UTF_8);
+	}
+
+	// sharing
+
+	boolean sharing() {
+		return references != null;
+	}
+
+	Object reference(int id) throws IOException {
+		if (id < 0 || id >= references.size()) {
+			throw new StreamCorruptedException("reference " + id + " of " + references.size());
+		}
+		return references.get(id);
+	}
+
+	void register(Object value) {
+		references.add(value);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			in.close();
+		} finally {
+			if (inflater != null) {
+				inflater.end();
+			}
+		}
+	}
+}
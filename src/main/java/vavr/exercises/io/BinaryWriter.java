@@ -0,0 +1,250 @@
+package vavr.exercises.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes values with {@link Codec}s to a stream in the binary format read by {@link BinaryReader}.
+ *
+ * The stream starts with a header of the magic bytes {@code VAVR}, the format {@link #VERSION} and the enabled
+ * {@link Feature}s, followed by any number of values. Values carry no type information: the reader must use the
+ * same codecs in the same order. Integers are zigzag varints, so small values of either sign take one byte.
+ *
+ * A writer is not thread-safe. {@link #flush()} makes the values written so far readable, compressed or not;
+ * {@link #close()} flushes it and closes the underlying stream.
+ */
+public final class BinaryWriter implements Closeable, Flushable {
+	/**
+	 * The version written by this class; readers reject streams of a later version.
+	 */
+	public static final int VERSION = 1;
+
+	static final byte[] MAGIC = { 'V', 'A', 'V', 'R' };
+
+	// elements per block of writeAll
+	static final int BLOCK = 1024;
+
+	public enum Feature {
+		/**
+		 * Deflates everything after the header.
+		 */
+		COMPRESSION,
+
+		/**
+		 * Writes a collection that was already written to this stream as a back-reference, and a {@code List}
+		 * whose tail was already written as its new elements plus a reference to the tail, so that successive
+		 * versions of a persistent structure cost only their differences. The reader restores the sharing.
+		 */
+		SHARING;
+
+		int bit() {
+			return 1 << ordinal();
+		}
+	}
+
+	private final OutputStream out;
+	private final Deflater deflater;
+	private final byte[] buffer = new byte[1 << 13];
+	private int position;
+
+	// written objects and their reference ids, when sharing
+	private final IdentityHashMap<Object, Integer> references;
+	private int nextReference;
+
+	private BinaryWriter(OutputStream out, Deflater deflater, boolean sharing) {
+		this.out = out;
+		this.deflater = deflater;
+		this.references = sharing ? new IdentityHashMap<>() : null;
+	}
+
+	/**
+	 * A writer to {@code out} that writes the header immediately.
+	 */
+	public static BinaryWriter create(OutputStream out, Feature... features) throws IOException {
+		Objects.requireNonNull(out, "out is null");
+		int flags = 0;
+		for (Feature feature : features) {
+			flags |= feature.bit();
+		}
+		out.write(MAGIC);
+		out.write(VERSION);
+		out.write(flags);
+		boolean sharing = (flags & Feature.SHARING.bit()) != 0;
+		if ((flags & Feature.COMPRESSION.bit()) != 0) {
+			Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+			// syncFlush, so that flush() sends everything written so far even when compressing
+			return new BinaryWriter(new DeflaterOutputStream(out, deflater, 1 << 13, true), deflater, sharing);
+		}
+		return new BinaryWriter(out, null, sharing);
+	}
+
+	public <T> BinaryWriter write(Codec<T> codec, T value) throws IOException {
+		codec.write(this, value);
+		return this;
+	}
+
+	/**
+	 * Writes {@code elements} as they are iterated, in blocks of up to 1024 followed by an end marker, so that a
+	 * sequence of unknown length is never materialized; {@link BinaryReader#readAll(Codec)} decodes it lazily.
+	 */
+	public <T> BinaryWriter writeAll(Codec<T> codec, Iterator<? extends T> elements) throws IOException {
+		Object[] block = new Object[BLOCK];
+		while (elements.hasNext()) {
+			int count = 0;
+			while (count < BLOCK && elements.hasNext()) {
+				block[count++] = elements.next();
+			}
+			writeCount(count);
+			for (int i = 0; i < count; i++) {
+				@SuppressWarnings("unchecked")
+				T element = (T) block[i];
+				codec.write(this, element);
+				block[i] = null;
+			}
+		}
+		writeCount(0);
+		return this;
+	}
+
+	// primitives
+
+	private void ensure(int bytes) throws IOException {
+		if (position + bytes > buffer.length) {
+			drain();
+		}
+	}
+
+	private void drain() throws IOException {
+		out.write(buffer, 0, position);
+		position = 0;
+	}
+
+	public void writeByte(int value) throws IOException {
+		ensure(1);
+		buffer[position++] = (byte) value;
+	}
+
+	public void writeBoolean(boolean value) throws IOException {
+		writeByte(value ? 1 : 0);
+	}
+
+	/**
+	 * A non-negative count or length as an unsigned varint.
+	 */
+	public void writeCount(int count) throws IOException {
+		if (count < 0) {
+			throw new IllegalArgumentException("count: " + count + " is negative");
+		}
+		writeUnsigned(count);
+	}
+
+	private void writeUnsigned(long value) throws IOException {
+		ensure(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+	}
+
+	public void writeVarInt(int value) throws IOException {
+		writeUnsigned((value << 1 ^ value >> 31) & 0xFFFFFFFFL);
+	}
+
+	public void writeVarLong(long value) throws IOException {
+		writeUnsigned(value << 1 ^ value >> 63);
+	}
+
+	/**
+	 * Four big-endian bytes, for values whose magnitude makes varints longer.
+	 */
+	public void writeFixedInt(int value) throws IOException {
+		ensure(4);
+		buffer[position++] = (byte) (value >>> 24);
+		buffer[position++] = (byte) (value >>> 16);
+		buffer[position++] = (byte) (value >>> 8);
+		buffer[position++] = (byte) value;
+	}
+
+	public void writeFixedLong(long value) throws IOException {
+		ensure(8);
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			buffer[position++] = (byte) (value >>> shift);
+		}
+	}
+
+	public void writeDouble(double value) throws IOException {
+		writeFixedLong(Double.doubleToRawLongBits(value));
+	}
+
+	/**
+	 * A length-prefixed byte array.
+	 */
+	public void writeBytes(byte[] bytes) throws IOException {
+		writeCount(bytes.length);
+		if (bytes.length > buffer.length - position) {
+			drain();
+			if (bytes.length > buffer.length) {
+				out.write(bytes);
+				return;
+			}
+		}
+		System.arraycopy(bytes, 0, buffer, position, bytes.length);
+		position += bytes.length;
+	}
+
+	/**
+	 * A length-prefixed UTF-8 string.
+	 */
+	public void writeString(String value) throws IOException {
+		writeBytes(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// sharing
+
+	boolean sharing() {
+		return references != null;
+	}
+
+	/**
+	 * The reference id of {@code value} if it was written before, else -1.
+	 */
+	int reference(Object value) {
+		Integer id = references.get(value);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Assigns the next reference id to {@code value}, which was not written before; the reader assigns ids in
+	 * the same order.
+	 */
+	void register(Object value) {
+		references.put(value, nextReference++);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		drain();
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			drain();
+			out.close();
+		} finally {
+			if (deflater != null) {
+				deflater.end();
+			}
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package vavr.exercises.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Encodes and decodes values of type {@code T} in the binary format of {@link BinaryWriter} and
+ * {@link BinaryReader}. {@link Codecs} has the codecs of primitives and of the vavr collection and control
+ * types; codecs of other types are usually derived from them with {@link #xmap(Function, Function)}.
+ */
+public interface Codec<T> {
+	void write(BinaryWriter writer, T value) throws IOException;
+
+	T read(BinaryReader reader) throws IOException;
+
+	/**
+	 * A codec of {@code U} that converts to and from this codec's {@code T}, for example a record class
+	 * written as a tuple of its fields.
+	 */
+	default <U> Codec<U> xmap(Function<? super T, ? extends U> decode, Function<? super U, ? extends T> encode) {
+		Objects.requireNonNull(decode, "decode is null");
+		Objects.requireNonNull(encode, "encode is null");
+		Codec<T> self = this;
+		return new Codec<U>() {
+			@Override
+			public void write(BinaryWriter writer, U value) throws IOException {
+				self.write(writer, encode.apply(value));
+			}
+
+			@Override
+			public U read(BinaryReader reader) throws IOException {
+				return decode.apply(self.read(reader));
+			}
+		};
+	}
+
+	/**
+	 * {@code value} as a complete stream, header included.
+	 */
+	default byte[] encode(T value, BinaryWriter.Feature... features) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (BinaryWriter writer = BinaryWriter.create(bytes, features)) {
+			write(writer, value);
+		} catch (IOException e) {
+			// a ByteArrayOutputStream does not fail
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * The value of a stream written by {@link #encode(Object, BinaryWriter.Feature...)}.
+	 *
+	 * @throws UncheckedIOException if {@code bytes} is malformed
+	 */
+	default T decode(byte[] bytes) {
+		try (BinaryReader reader = BinaryReader.create(new ByteArrayInputStream(bytes))) {
+			return read(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,566 @@
+package vavr.exercises.io;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.Tuple4;
+import io.vavr.Tuple5;
+import io.vavr.Tuple6;
+import io.vavr.Tuple7;
+import io.vavr.Tuple8;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.TreeSet;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import vavr.exercises.collection.ArrayBuilder;
+import vavr.exercises.collection.DoubleArray;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.collection.LongArray;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Codecs of primitives, strings and the vavr collection and control types, composed from the codecs of their
+ * elements: {@code Codecs.hashMap(Codecs.STRING, Codecs.list(Codecs.INT))} reads and writes a
+ * {@code HashMap<String, List<Integer>>}. No codec accepts {@code null}.
+ *
+ * Collections are written as their size followed by their elements and decoded straight into the collection,
+ * through an {@link ArrayBuilder} for an {@code Array}. With
+ * {@link BinaryWriter.Feature#SHARING}, a collection that was written before becomes a reference to it, and a
+ * {@code List} becomes its new cells plus a reference to its shared tail.
+ */
+public final class Codecs {
+	// decoded collections are presized for at most this many elements, so a corrupt size cannot exhaust the heap
+	private static final int PRESIZE = 1 << 16;
+
+	// what a serialized failure cause may consist of besides Throwables, enums and primitive arrays: stack traces,
+	// the suppressed exceptions list of Throwable (whose Object[] is checked on reading) and boxed primitives;
+	// decoding rejects every other class
+	private static final HashSet<String> CAUSE_CLASSES = HashSet.of("java.lang.StackTraceElement", "java.lang.Object",
+			"java.util.ArrayList", "java.util.Collections$EmptyList", "java.util.Collections$UnmodifiableCollection",
+			"java.util.Collections$UnmodifiableList", "java.util.Collections$UnmodifiableRandomAccessList",
+			"java.lang.Number", "java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Short",
+			"java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double");
+
+	private static final ObjectInputFilter CAUSE_FILTER = info -> {
+		if (info.depth() > 64 || info.references() > 100_000 || info.arrayLength() > 100_000) {
+			return ObjectInputFilter.Status.REJECTED;
+		}
+		Class<?> type = info.serialClass();
+		while (type != null && type.isArray()) {
+			type = type.getComponentType();
+		}
+		return type == null || type.isPrimitive() || Throwable.class.isAssignableFrom(type) || Enum.class.isAssignableFrom(type)
+				|| CAUSE_CLASSES.contains(type.getName())
+				? ObjectInputFilter.Status.ALLOWED
+				: ObjectInputFilter.Status.REJECTED;
+	};
+
+	private Codecs() {
+	}
+
+	@FunctionalInterface
+	private interface Writer<T> {
+		void write(BinaryWriter writer, T value) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface Reader<T> {
+		T read(BinaryReader reader) throws IOException;
+	}
+
+	private static <T> Codec<T> codec(Writer<T> write, Reader<T> read) {
+		return new Codec<T>() {
+			@Override
+			public void write(BinaryWriter writer, T value) throws IOException {
+				write.write(writer, value);
+			}
+
+			@Override
+			public T read(BinaryReader reader) throws IOException {
+				return read.read(reader);
+			}
+		};
+	}
+
+	/**
+	 * With sharing, a reference id plus one for a value that was written before, else 0 followed by the value,
+	 * which both sides then register under the next id. A reference to a value that is not a {@code type} is
+	 * corrupt.
+	 */
+	private static <T> Codec<T> shared(Class<? super T> type, Codec<T> codec) {
+		return codec((writer, value) -> {
+			if (!writer.sharing()) {
+				codec.write(writer, value);
+				return;
+			}
+			int reference = writer.reference(value);
+			writer.writeCount(reference + 1);
+			if (reference < 0) {
+				codec.write(writer, value);
+				writer.register(value);
+			}
+		}, reader -> {
+			if (!reader.sharing()) {
+				return codec.read(reader);
+			}
+			int reference = reader.readCount();
+			if (reference > 0) {
+				Object shared = reader.reference(reference - 1);
+				if (!type.isInstance(shared)) {
+					throw new StreamCorruptedException("reference " + (reference - 1) + " is not a " + type.getSimpleName());
+				}
+				@SuppressWarnings("unchecked")
+				T value = (T) shared;
+				return value;
+			}
+			T value = codec.read(reader);
+			reader.register(value);
+			return value;
+		});
+	}
+
+	// primitives
+
+	public static final Codec<Boolean> BOOLEAN = codec(BinaryWriter::writeBoolean, BinaryReader::readBoolean);
+
+	public static final Codec<Byte> BYTE = codec((writer, value) -> writer.writeByte(value), reader -> (byte) reader.readByte());
+
+	public static final Codec<Short> SHORT = codec((writer, value) -> writer.writeVarInt(value), reader -> {
+		int value = reader.readVarInt();
+		if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			throw new StreamCorruptedException("varint " + value + " out of short range");
+		}
+		return (short) value;
+	});
+
+	public static final Codec<Character> CHARACTER = codec((writer, value) -> writer.writeCount(value), reader -> {
+		int value = reader.readCount();
+		if (value > Character.MAX_VALUE) {
+			throw new StreamCorruptedException("count " + value + " out of char range");
+		}
+		return (char) value;
+	});
+
+	public static final Codec<Integer> INT = codec(BinaryWriter::writeVarInt, BinaryReader::readVarInt);
+
+	public static final Codec<Long> LONG = codec(BinaryWriter::writeVarLong, BinaryReader::readVarLong);
+
+	public static final Codec<Float> FLOAT = codec((writer, value) -> writer.writeFixedInt(Float.floatToRawIntBits(value)),
+			reader -> Float.intBitsToFloat(reader.readFixedInt()));
+
+	public static final Codec<Double> DOUBLE = codec(BinaryWriter::writeDouble, BinaryReader::readDouble);
+
+	public static final Codec<String> STRING = codec(BinaryWriter::writeString, BinaryReader::readString);
+
+	// primitive arrays, written without boxing
+
+	public static final Codec<IntArray> INT_ARRAY = shared(IntArray.class, codec((writer, values) -> {
+		writer.writeCount(values.length());
+		for (int i = 0; i < values.length(); i++) {
+			writer.writeVarInt(values.get(i));
+		}
+	}, reader -> {
+		int length = reader.readCount();
+		int[] values = new int[Math.min(length, PRESIZE)];
+		for (int i = 0; i < length; i++) {
+			if (i == values.length) {
+				values = Arrays.copyOf(values, (int) Math.min(length, 2L * i));
+			}
+			values[i] = reader.readVarInt();
+		}
+		return IntArray.of(values);
+	}));
+
+	public static final Codec<LongArray> LONG_ARRAY = shared(LongArray.class, codec((writer, values) -> {
+		writer.writeCount(values.length());
+		for (int i = 0; i < values.length(); i++) {
+			writer.writeVarLong(values.get(i));
+		}
+	}, reader -> {
+		int length = reader.readCount();
+		long[] values = new long[Math.min(length, PRESIZE)];
+		for (int i = 0; i < length; i++) {
+			if (i == values.length) {
+				values = Arrays.copyOf(values, (int) Math.min(length, 2L * i));
+			}
+			values[i] = reader.readVarLong();
+		}
+		return LongArray.of(values);
+	}));
+
+	public static final Codec<DoubleArray> DOUBLE_ARRAY = shared(DoubleArray.class, codec((writer, values) -> {
+		writer.writeCount(values.length());
+		for (int i = 0; i < values.length(); i++) {
+			writer.writeDouble(values.get(i));
+		}
+	}, reader -> {
+		int length = reader.readCount();
+		double[] values = new double[Math.min(length, PRESIZE)];
+		for (int i = 0; i < length; i++) {
+			if (i == values.length) {
+				values = Arrays.copyOf(values, (int) Math.min(length, 2L * i));
+			}
+			values[i] = reader.readDouble();
+		}
+		return DoubleArray.of(values);
+	}));
+
+	// collections
+
+	public static <T> Codec<Array<T>> array(Codec<T> codec) {
+		Objects.requireNonNull(codec, "codec is null");
+		return shared(Array.class, codec((writer, array) -> {
+			writer.writeCount(array.length());
+			for (T element : array) {
+				codec.write(writer, element);
+			}
+		}, reader -> {
+			int length = reader.readCount();
+			ArrayBuilder<T> builder = ArrayBuilder.withExpectedSize(Math.min(length, PRESIZE));
+			for (int i = 0; i < length; i++) {
+				builder.add(codec.read(reader));
+			}
+			return builder.build();
+		}));
+	}
+
+	/**
+	 * Without sharing, the length and the elements. With sharing, the cells up to the first one that was written
+	 * before, then a reference to that cell or 0 for the empty list; each new cell is registered, head first.
+	 */
+	public static <T> Codec<List<T>> list(Codec<T> codec) {
+		Objects.requireNonNull(codec, "codec is null");
+		return codec((writer, list) -> {
+			if (!writer.sharing()) {
+				writer.writeCount(list.length());
+				for (T element : list) {
+					codec.write(writer, element);
+				}
+				return;
+			}
+			int fresh = 0;
+			List<T> tail = list;
+			while (!tail.isEmpty() && writer.reference(tail) < 0) {
+				fresh++;
+				tail = tail.tail();
+			}
+			writer.writeCount(fresh);
+			List<T> cell = list;
+			for (int i = 0; i < fresh; i++) {
+				codec.write(writer, cell.head());
+				cell = cell.tail();
+			}
+			writer.writeCount(tail.isEmpty() ? 0 : writer.reference(tail) + 1);
+			cell = list;
+			for (int i = 0; i < fresh; i++) {
+				writer.register(cell);
+				cell = cell.tail();
+			}
+		}, reader -> {
+			int fresh = reader.readCount();
+			ArrayList<T> elements = new ArrayList<>(Math.min(fresh, PRESIZE));
+			for (int i = 0; i < fresh; i++) {
+				elements.add(codec.read(reader));
+			}
+			if (!reader.sharing()) {
+				return List.ofAll(elements);
+			}
+			int reference = reader.readCount();
+			Object tail = reference == 0 ? List.empty() : reader.reference(reference - 1);
+			if (!(tail instanceof List)) {
+				throw new StreamCorruptedException("reference " + (reference - 1) + " is not a List");
+			}
+			@SuppressWarnings("unchecked")
+			List<T> list = (List<T>) tail;
+			for (int i = fresh - 1; i >= 0; i--) {
+				list = list.prepend(elements.get(i));
+			}
+			List<T> cell = list;
+			for (int i = 0; i < fresh; i++) {
+				reader.register(cell);
+				cell = cell.tail();
+			}
+			return list;
+		});
+	}
+
+	public static <K, V> Codec<HashMap<K, V>> hashMap(Codec<K> keyCodec, Codec<V> valueCodec) {
+		Objects.requireNonNull(keyCodec, "keyCodec is null");
+		Objects.requireNonNull(valueCodec, "valueCodec is null");
+		return shared(HashMap.class, codec((writer, map) -> {
+			writer.writeCount(map.size());
+			for (Tuple2<K, V> entry : map) {
+				keyCodec.write(writer, entry._1);
+				valueCodec.write(writer, entry._2);
+			}
+		}, reader -> {
+			// the keys were written by a map, so they are distinct and a builder would only add its own hashing
+			int size = reader.readCount();
+			HashMap<K, V> map = HashMap.empty();
+			for (int i = 0; i < size; i++) {
+				K key = keyCodec.read(reader);
+				map = map.put(key, valueCodec.read(reader));
+			}
+			return map;
+		}));
+	}
+
+	/**
+	 * A codec of {@code TreeSet}s ordered by {@code comparator}. The comparator itself is not written: decoded
+	 * sets always use this one.
+	 */
+	public static <T> Codec<TreeSet<T>> treeSet(Codec<T> codec, Comparator<? super T> comparator) {
+		Objects.requireNonNull(codec, "codec is null");
+		Objects.requireNonNull(comparator, "comparator is null");
+		return shared(TreeSet.class, codec((writer, set) -> {
+			writer.writeCount(set.size());
+			for (T element : set) {
+				codec.write(writer, element);
+			}
+		}, reader -> {
+			int size = reader.readCount();
+			ArrayList<T> elements = new ArrayList<>(Math.min(size, PRESIZE));
+			for (int i = 0; i < size; i++) {
+				elements.add(codec.read(reader));
+			}
+			return TreeSet.ofAll(comparator, elements);
+		}));
+	}
+
+	public static <T extends Comparable<? super T>> Codec<TreeSet<T>> treeSet(Codec<T> codec) {
+		return treeSet(codec, Comparator.naturalOrder());
+	}
+
+	// control types
+
+	public static <T> Codec<Option<T>> option(Codec<T> codec) {
+		Objects.requireNonNull(codec, "codec is null");
+		return codec((writer, option) -> {
+			writer.writeBoolean(option.isDefined());
+			if (option.isDefined()) {
+				codec.write(writer, option.get());
+			}
+		}, reader -> reader.readBoolean() ? Option.some(codec.read(reader)) : Option.none());
+	}
+
+	public static <L, R> Codec<Either<L, R>> either(Codec<L> leftCodec, Codec<R> rightCodec) {
+		Objects.requireNonNull(leftCodec, "leftCodec is null");
+		Objects.requireNonNull(rightCodec, "rightCodec is null");
+		return codec((writer, either) -> {
+			writer.writeBoolean(either.isRight());
+			if (either.isRight()) {
+				rightCodec.write(writer, either.get());
+			} else {
+				leftCodec.write(writer, either.getLeft());
+			}
+		}, reader -> reader.readBoolean() ? Either.right(rightCodec.read(reader)) : Either.left(leftCodec.read(reader)));
+	}
+
+	/**
+	 * A codec of {@code Try}s. The cause of a {@code Failure} has no portable structure, so it is embedded with
+	 * Java serialization, stack trace included; it must be serializable and its class present when decoding.
+	 * Decoding only deserializes {@code Throwable}s, their stack traces and fields of primitive, boxed or enum
+	 * type, within limits of nesting and size, and fails with an {@code InvalidClassException} otherwise.
+	 */
+	public static <T> Codec<Try<T>> tryOf(Codec<T> codec) {
+		Objects.requireNonNull(codec, "codec is null");
+		return codec((writer, attempt) -> {
+			writer.writeBoolean(attempt.isSuccess());
+			if (attempt.isSuccess()) {
+				codec.write(writer, attempt.get());
+				return;
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(attempt.getCause());
+			}
+			writer.writeBytes(bytes.toByteArray());
+		}, reader -> {
+			if (reader.readBoolean()) {
+				return Try.success(codec.read(reader));
+			}
+			try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(reader.readBytes()))) {
+				in.setObjectInputFilter(CAUSE_FILTER);
+				Object cause = in.readObject();
+				if (!(cause instanceof Throwable)) {
+					throw new InvalidObjectException("failure cause is a " + cause.getClass().getName());
+				}
+				return Try.failure((Throwable) cause);
+			} catch (ClassNotFoundException e) {
+				throw new InvalidObjectException("failure cause of unknown " + e.getMessage());
+			}
+		});
+	}
+
+	// tuples, their elements in order
+
+	public static <T1, T2> Codec<Tuple2<T1, T2>> tuple2(Codec<T1> codec1, Codec<T2> codec2) {
+		Objects.requireNonNull(codec1, "codec1 is null");
+		Objects.requireNonNull(codec2, "codec2 is null");
+		return codec((writer, tuple) -> {
+			codec1.write(writer, tuple._1);
+			codec2.write(writer, tuple._2);
+		}, reader -> {
+			T1 _1 = codec1.read(reader);
+			T2 _2 = codec2.read(reader);
+			return Tuple.of(_1, _2);
+		});
+	}
+
+	public static <T1, T2, T3> Codec<Tuple3<T1, T2, T3>> tuple3(Codec<T1> codec1, Codec<T2> codec2, Codec<T3> codec3) {
+		Objects.requireNonNull(codec1, "codec1 is null");
+		Objects.requireNonNull(codec2, "codec2 is null");
+		Objects.requireNonNull(codec3, "codec3 is null");
+		return codec((writer, tuple) -> {
+			codec1.write(writer, tuple._1);
+			codec2.write(writer, tuple._2);
+			codec3.write(writer, tuple._3);
+		}, reader -> {
+			T1 _1 = codec1.read(reader);
+			T2 _2 = codec2.read(reader);
+			T3 _3 = codec3.read(reader);
+			return Tuple.of(_1, _2, _3);
+		});
+	}
+
+	public static <T1, T2, T3, T4> Codec<Tuple4<T1, T2, T3, T4>> tuple4(Codec<T1> codec1, Codec<T2> codec2, Codec<T3> codec3, Codec<T4> codec4) {
+		Objects.requireNonNull(codec1, "codec1 is null");
+		Objects.requireNonNull(codec2, "codec2 is null");
+		Objects.requireNonNull(codec3, "codec3 is null");
+		Objects.requireNonNull(codec4, "codec4 is null");
+		return codec((writer, tuple) -> {
+			codec1.write(writer, tuple._1);
+			codec2.write(writer, tuple._2);
+			codec3.write(writer, tuple._3);
+			codec4.write(writer, tuple._4);
+		}, reader -> {
+			T1 _1 = codec1.read(reader);
+			T2 _2 = codec2.read(reader);
+			T3 _3 = codec3.read(reader);
+			T4 _4 = codec4.read(reader);
+			return Tuple.of(_1, _2, _3, _4);
+		});
+	}
+
+	public static <T1, T2, T3, T4, T5> Codec<Tuple5<T1, T2, T3, T4, T5>> tuple5(Codec<T1> codec1, Codec<T2> codec2, Codec<T3> codec3, Codec<T4> codec4, Codec<T5> codec5) {
+		Objects.requireNonNull(codec1, "codec1 is null");
+		Objects.requireNonNull(codec2, "codec2 is null");
+		Objects.requireNonNull(codec3, "codec3 is null");
+		Objects.requireNonNull(codec4, "codec4 is null");
+		Objects.requireNonNull(codec5, "codec5 is null");
+		return codec((writer, tuple) -> {
+			codec1.write(writer, tuple._1);
+			codec2.write(writer, tuple._2);
+			codec3.write(writer, tuple._3);
+			codec4.write(writer, tuple._4);
+			codec5.write(writer, tuple._5);
+		}, reader -> {
+			T1 _1 = codec1.read(reader);
+			T2 _2 = codec2.read(reader);
+			T3 _3 = codec3.read(reader);
+			T4 _4 = codec4.read(reader);
+			T5 _5 = codec5.read(reader);
+			return Tuple.of(_1, _2, _3, _4, _5);
+		});
+	}
+
+	public static <T1, T2, T3, T4, T5, T6> Codec<Tuple6<T1, T2, T3, T4, T5, T6>> tuple6(Codec<T1> codec1, Codec<T2> codec2, Codec<T3> codec3, Codec<T4> codec4, Codec<T5> codec5, Codec<T6> codec6) {
+		Objects.requireNonNull(codec1, "codec1 is null");
+		Objects.requireNonNull(codec2, "codec2 is null");
+		Objects.requireNonNull(codec3, "codec3 is null");
+		Objects.requireNonNull(codec4, "codec4 is null");
+		Objects.requireNonNull(codec5, "codec5 is null");
+		Objects.requireNonNull(codec6, "codec6 is null");
+		return codec((writer, tuple) -> {
+			codec1.write(writer, tuple._1);
+			codec2.write(writer, tuple._2);
+			codec3.write(writer, tuple._3);
+			codec4.write(writer, tuple._4);
+			codec5.write(writer, tuple._5);
+			codec6.write(writer, tuple._6);
+		}, reader -> {
+			T1 _1 = codec1.read(reader);
+			T2 _2 = codec2.read(reader);
+			T3 _3 = codec3.read(reader);
+			T4 _4 = codec4.read(reader);
+			T5 _5 = codec5.read(reader);
+			T6 _6 = codec6.read(reader);
+			return Tuple.of(_1, _2, _3, _4, _5, _6);
+		});
+	}
+
+	public static <T1, T2, T3, T4, T5, T6, T7> Codec<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tuple7(Codec<T1> codec1, Codec<T2> codec2, Codec<T3> codec3, Codec<T4> codec4, Codec<T5> codec5, Codec<T6> codec6, Codec<T7> codec7) {
+		Objects.requireNonNull(codec1, "codec1 is null");
+		Objects.requireNonNull(codec2, "codec2 is null");
+		Objects.requireNonNull(codec3, "codec3 is null");
+		Objects.requireNonNull(codec4, "codec4 is null");
+		Objects.requireNonNull(codec5, "codec5 is null");
+		Objects.requireNonNull(codec6, "codec6 is null");
+		Objects.requireNonNull(codec7, "codec7 is null");
+		return codec((writer, tuple) -> {
+			codec1.write(writer, tuple._1);
+			codec2.write(writer, tuple._2);
+			codec3.write(writer, tuple._3);
+			codec4.write(writer, tuple._4);
+			codec5.write(writer, tuple._5);
+			codec6.write(writer, tuple._6);
+			codec7.write(writer, tuple._7);
+		}, reader -> {
+			T1 _1 = codec1.read(reader);
+			T2 _2 = codec2.read(reader);
+			T3 _3 = codec3.read(reader);
+			T4 _4 = codec4.read(reader);
+			T5 _5 = codec5.read(reader);
+			T6 _6 = codec6.read(reader);
+			T7 _7 = codec7.read(reader);
+			return Tuple.of(_1, _2, _3, _4, _5, _6, _7);
+		});
+	}
+
+	public static <T1, T2, T3, T4, T5, T6, T7, T8> Codec<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tuple8(Codec<T1> codec1, Codec<T2> codec2, Codec<T3> codec3, Codec<T4> codec4, Codec<T5> codec5, Codec<T6> codec6, Codec<T7> codec7, Codec<T8> codec8) {
+		Objects.requireNonNull(codec1, "codec1 is null");
+		Objects.requireNonNull(codec2, "codec2 is null");
+		Objects.requireNonNull(codec3, "codec3 is null");
+		Objects.requireNonNull(codec4, "codec4 is null");
+		Objects.requireNonNull(codec5, "codec5 is null");
+		Objects.requireNonNull(codec6, "codec6 is null");
+		Objects.requireNonNull(codec7, "codec7 is null");
+		Objects.requireNonNull(codec8, "codec8 is null");
+		return codec((writer, tuple) -> {
+			codec1.write(writer, tuple._1);
+			codec2.write(writer, tuple._2);
+			codec3.write(writer, tuple._3);
+			codec4.write(writer, tuple._4);
+			codec5.write(writer, tuple._5);
+			codec6.write(writer, tuple._6);
+			codec7.write(writer, tuple._7);
+			codec8.write(writer, tuple._8);
+		}, reader -> {
+			T1 _1 = codec1.read(reader);
+			T2 _2 = codec2.read(reader);
+			T3 _3 = codec3.read(reader);
+			T4 _4 = codec4.read(reader);
+			T5 _5 = codec5.read(reader);
+			T6 _6 = codec6.read(reader);
+			T7 _7 = codec7.read(reader);
+			T8 _8 = codec8.read(reader);
+			return Tuple.of(_1, _2, _3, _4, _5, _6, _7, _8);
+		});
+	}
+}
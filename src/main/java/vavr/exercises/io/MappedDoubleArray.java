@@ -0,0 +1,365 @@
+package vavr.exercises.io;
+
+import vavr.exercises.collection.DoubleArray;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable sequence of {@code double} values read in place from a memory-mapped file of 8-byte elements, the
+ * off-heap counterpart of {@link DoubleArray} for datasets too large to keep on the Java heap.
+ *
+ * {@link #map(Path)} only maps the file, so loading is independent of its size and the elements never reach the
+ * heap or the garbage collector; the operating system pages them in on first access. Indices are {@code long},
+ * since such files can hold more than {@code Integer.MAX_VALUE} elements. Slicing operations return views of the
+ * same mapping. The file must not be modified while it is mapped, and the mapping is only released when it is
+ * garbage collected, so map a file once and share the result.
+ */
+public final class MappedDoubleArray implements Iterable<Double> {
+	private static final int WIDTH = Double.BYTES;
+
+	private final MappedRegion region;
+	private final DoubleBuffer[] chunks;
+	private final long offset;
+	private final long length;
+
+	private MappedDoubleArray(MappedRegion region, DoubleBuffer[] chunks, long offset, long length) {
+		this.region = region;
+		this.chunks = chunks;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Maps {@code file}, which holds big-endian values as written by {@code DataOutputStream} or
+	 * {@link #write(Path, DoubleStream)}.
+	 */
+	public static MappedDoubleArray map(Path file) throws IOException {
+		return map(file, ByteOrder.BIG_ENDIAN);
+	}
+
+	public static MappedDoubleArray map(Path file, ByteOrder order) throws IOException {
+		MappedRegion region = MappedRegion.map(file, WIDTH, order);
+		DoubleBuffer[] chunks = new DoubleBuffer[region.chunks.length];
+		for (int i = 0; i < chunks.length; i++) {
+			chunks[i] = region.chunks[i].asDoubleBuffer();
+		}
+		return new MappedDoubleArray(region, chunks, 0, region.length);
+	}
+
+	/**
+	 * Writes {@code values} to {@code file} in big-endian order, replacing its contents.
+	 */
+	public static void write(Path file, DoubleStream values) throws IOException {
+		write(file, values, ByteOrder.BIG_ENDIAN);
+	}
+
+	public static void write(Path file, DoubleStream values, ByteOrder order) throws IOException {
+		Objects.requireNonNull(values, "values is null");
+		try (MappedRegion.Output output = new MappedRegion.Output(file, order)) {
+			PrimitiveIterator.OfDouble iterator = values.iterator();
+			while (iterator.hasNext()) {
+				output.reserve(WIDTH).putDouble(iterator.nextDouble());
+			}
+		}
+	}
+
+	// basic operations
+
+	public long length() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public double get(long index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("get(" + index + ")");
+		}
+		return read(offset + index);
+	}
+
+	private double read(long index) {
+		return chunks[region.chunk(index)].get(region.position(index));
+	}
+
+	public double head() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("head of empty MappedDoubleArray");
+		}
+		return read(offset);
+	}
+
+	public double last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("last of empty MappedDoubleArray");
+		}
+		return read(offset + length - 1);
+	}
+
+	public MappedDoubleArray tail() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("tail of empty MappedDoubleArray");
+		}
+		return slice(1, length);
+	}
+
+	public MappedDoubleArray init() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("init of empty MappedDoubleArray");
+		}
+		return slice(0, length - 1);
+	}
+
+	public MappedDoubleArray take(long n) {
+		return slice(0, n);
+	}
+
+	public MappedDoubleArray drop(long n) {
+		return slice(n, length);
+	}
+
+	/**
+	 * Elements from {@code beginIndex} (inclusive) to {@code endIndex} (exclusive), clamped to the bounds
+	 * like {@code io.vavr.collection.Array.slice}. The result is a view of the same mapping.
+	 */
+	public MappedDoubleArray slice(long beginIndex, long endIndex) {
+		long from = Math.max(0, beginIndex);
+		long to = Math.min(length, endIndex);
+		if (from == 0 && to == length) {
+			return this;
+		}
+		return new MappedDoubleArray(region, chunks, offset + from, Math.max(0, to - from));
+	}
+
+	// iteration
+
+	public void forEach(DoubleConsumer action) {
+		for (long i = offset, end = offset + length; i < end; ) {
+			DoubleBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				action.accept(chunk.get(j));
+			}
+			i += to - from;
+		}
+	}
+
+	@Override
+	public PrimitiveIterator.OfDouble iterator() {
+		return new PrimitiveIterator.OfDouble() {
+			private long index = offset;
+			private final long end = offset + length;
+			// the current chunk and the run of positions left in it
+			private DoubleBuffer chunk;
+			private int position;
+			private int limit;
+
+			@Override
+			public boolean hasNext() {
+				return index < end;
+			}
+
+			@Override
+			public double nextDouble() {
+				if (index >= end) {
+					throw new NoSuchElementException();
+				}
+				if (position == limit) {
+					chunk = chunks[region.chunk(index)];
+					position = region.position(index);
+					limit = position + (int) (region.chunkEnd(index, end) - index);
+				}
+				index++;
+				return chunk.get(position++);
+			}
+		};
+	}
+
+	// reduction, folding
+
+	public double fold(double zero, DoubleBinaryOperator operation) {
+		return foldLeft(zero, operation);
+	}
+
+	public double foldLeft(double zero, DoubleBinaryOperator operation) {
+		double accumulator = zero;
+		for (long i = offset, end = offset + length; i < end; ) {
+			DoubleBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				accumulator = operation.applyAsDouble(accumulator, chunk.get(j));
+			}
+			i += to - from;
+		}
+		return accumulator;
+	}
+
+	public long count(DoublePredicate predicate) {
+		long count = 0;
+		for (long i = offset, end = offset + length; i < end; ) {
+			DoubleBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				if (predicate.test(chunk.get(j))) {
+					count++;
+				}
+			}
+			i += to - from;
+		}
+		return count;
+	}
+
+	public boolean exists(DoublePredicate predicate) {
+		for (long i = offset, end = offset + length; i < end; ) {
+			DoubleBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				if (predicate.test(chunk.get(j))) {
+					return true;
+				}
+			}
+			i += to - from;
+		}
+		return false;
+	}
+
+	public boolean forAll(DoublePredicate predicate) {
+		return !exists(predicate.negate());
+	}
+
+	/**
+	 * Compensated (Neumaier) sum, like {@link DoubleArray#sum()}.
+	 */
+	public double sum() {
+		double sum = 0.0;
+		double compensation = 0.0;
+		for (long i = offset, end = offset + length; i < end; ) {
+			DoubleBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				double value = chunk.get(j);
+				double t = sum + value;
+				if (Math.abs(sum) >= Math.abs(value)) {
+					compensation += (sum - t) + value;
+				} else {
+					compensation += (value - t) + sum;
+				}
+				sum = t;
+			}
+			i += to - from;
+		}
+		return sum + compensation;
+	}
+
+	/**
+	 * Smallest element; NaN if any element is NaN.
+	 */
+	public OptionalDouble min() {
+		return isEmpty() ? OptionalDouble.empty() : OptionalDouble.of(tail().foldLeft(head(), Math::min));
+	}
+
+	/**
+	 * Largest element; NaN if any element is NaN.
+	 */
+	public OptionalDouble max() {
+		return isEmpty() ? OptionalDouble.empty() : OptionalDouble.of(tail().foldLeft(head(), Math::max));
+	}
+
+	// searching
+
+	/**
+	 * Searches this sequence, which must be sorted in ascending order, for {@code key}. Returns its index like
+	 * {@code java.util.Arrays.binarySearch}: if it is absent, {@code -(insertion point) - 1}. Values are ordered
+	 * by {@link Double#compare}, so NaN is found and -0.0 precedes 0.0. Only the {@code log2(length)} probed
+	 * elements are paged in.
+	 */
+	public long binarySearch(double key) {
+		long low = 0;
+		long high = length - 1;
+		while (low <= high) {
+			long middle = (low + high) >>> 1;
+			int comparison = Double.compare(read(offset + middle), key);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	// conversion
+
+	public DoubleStream stream() {
+		return StreamSupport.doubleStream(Spliterators.spliterator(iterator(), length,
+				Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Copies the elements onto the heap.
+	 *
+	 * @throws IllegalStateException if there are more elements than a Java array can hold
+	 */
+	public double[] toJavaArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("toJavaArray() of " + length + " elements");
+		}
+		double[] result = new double[(int) length];
+		for (long i = offset, end = offset + length; i < end; ) {
+			DoubleBuffer chunk = chunks[region.chunk(i)].duplicate();
+			int n = (int) (region.chunkEnd(i, end) - i);
+			chunk.position(region.position(i));
+			chunk.get(result, (int) (i - offset), n);
+			i += n;
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the elements onto the heap, see {@link #toJavaArray()}.
+	 */
+	public DoubleArray toDoubleArray() {
+		return DoubleArray.of(toJavaArray());
+	}
+
+	/**
+	 * The first elements, as {@code MappedDoubleArray(1, 2, 3, ...)}: printing gigabytes is never useful.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("MappedDoubleArray(");
+		for (long i = 0; i < Math.min(length, MappedRegion.SHOWN); i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(read(offset + i));
+		}
+		if (length > MappedRegion.SHOWN) {
+			builder.append(", ...");
+		}
+		return builder.append(')').toString();
+	}
+}
@@ -0,0 +1,347 @@
+package vavr.exercises.io;
+
+import vavr.exercises.collection.IntArray;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable sequence of {@code int} values read in place from a memory-mapped file of 4-byte elements, the
+ * off-heap counterpart of {@link IntArray} for datasets too large to keep on the Java heap.
+ *
+ * {@link #map(Path)} only maps the file, so loading is independent of its size and the elements never reach the
+ * heap or the garbage collector; the operating system pages them in on first access. Indices are {@code long},
+ * since such files can hold more than {@code Integer.MAX_VALUE} elements. Slicing operations return views of the
+ * same mapping. The file must not be modified while it is mapped, and the mapping is only released when it is
+ * garbage collected, so map a file once and share the result.
+ */
+public final class MappedIntArray implements Iterable<Integer> {
+	private static final int WIDTH = Integer.BYTES;
+
+	private final MappedRegion region;
+	private final IntBuffer[] chunks;
+	private final long offset;
+	private final long length;
+
+	private MappedIntArray(MappedRegion region, IntBuffer[] chunks, long offset, long length) {
+		this.region = region;
+		this.chunks = chunks;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Maps {@code file}, which holds big-endian values as written by {@code DataOutputStream} or
+	 * {@link #write(Path, IntStream)}.
+	 */
+	public static MappedIntArray map(Path file) throws IOException {
+		return map(file, ByteOrder.BIG_ENDIAN);
+	}
+
+	public static MappedIntArray map(Path file, ByteOrder order) throws IOException {
+		MappedRegion region = MappedRegion.map(file, WIDTH, order);
+		IntBuffer[] chunks = new IntBuffer[region.chunks.length];
+		for (int i = 0; i < chunks.length; i++) {
+			chunks[i] = region.chunks[i].asIntBuffer();
+		}
+		return new MappedIntArray(region, chunks, 0, region.length);
+	}
+
+	/**
+	 * Writes {@code values} to {@code file} in big-endian order, replacing its contents.
+	 */
+	public static void write(Path file, IntStream values) throws IOException {
+		write(file, values, ByteOrder.BIG_ENDIAN);
+	}
+
+	public static void write(Path file, IntStream values, ByteOrder order) throws IOException {
+		Objects.requireNonNull(values, "values is null");
+		try (MappedRegion.Output output = new MappedRegion.Output(file, order)) {
+			PrimitiveIterator.OfInt iterator = values.iterator();
+			while (iterator.hasNext()) {
+				output.reserve(WIDTH).putInt(iterator.nextInt());
+			}
+		}
+	}
+
+	// basic operations
+
+	public long length() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public int get(long index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("get(" + index + ")");
+		}
+		return read(offset + index);
+	}
+
+	private int read(long index) {
+		return chunks[region.chunk(index)].get(region.position(index));
+	}
+
+	public int head() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("head of empty MappedIntArray");
+		}
+		return read(offset);
+	}
+
+	public int last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("last of empty MappedIntArray");
+		}
+		return read(offset + length - 1);
+	}
+
+	public MappedIntArray tail() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("tail of empty MappedIntArray");
+		}
+		return slice(1, length);
+	}
+
+	public MappedIntArray init() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("init of empty MappedIntArray");
+		}
+		return slice(0, length - 1);
+	}
+
+	public MappedIntArray take(long n) {
+		return slice(0, n);
+	}
+
+	public MappedIntArray drop(long n) {
+		return slice(n, length);
+	}
+
+	/**
+	 * Elements from {@code beginIndex} (inclusive) to {@code endIndex} (exclusive), clamped to the bounds
+	 * like {@code io.vavr.collection.Array.slice}. The result is a view of the same mapping.
+	 */
+	public MappedIntArray slice(long beginIndex, long endIndex) {
+		long from = Math.max(0, beginIndex);
+		long to = Math.min(length, endIndex);
+		if (from == 0 && to == length) {
+			return this;
+		}
+		return new MappedIntArray(region, chunks, offset + from, Math.max(0, to - from));
+	}
+
+	// iteration
+
+	public void forEach(IntConsumer action) {
+		for (long i = offset, end = offset + length; i < end; ) {
+			IntBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				action.accept(chunk.get(j));
+			}
+			i += to - from;
+		}
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private long index = offset;
+			private final long end = offset + length;
+			// the current chunk and the run of positions left in it
+			private IntBuffer chunk;
+			private int position;
+			private int limit;
+
+			@Override
+			public boolean hasNext() {
+				return index < end;
+			}
+
+			@Override
+			public int nextInt() {
+				if (index >= end) {
+					throw new NoSuchElementException();
+				}
+				if (position == limit) {
+					chunk = chunks[region.chunk(index)];
+					position = region.position(index);
+					limit = position + (int) (region.chunkEnd(index, end) - index);
+				}
+				index++;
+				return chunk.get(position++);
+			}
+		};
+	}
+
+	// reduction, folding
+
+	public int fold(int zero, IntBinaryOperator operation) {
+		return foldLeft(zero, operation);
+	}
+
+	public int foldLeft(int zero, IntBinaryOperator operation) {
+		int accumulator = zero;
+		for (long i = offset, end = offset + length; i < end; ) {
+			IntBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				accumulator = operation.applyAsInt(accumulator, chunk.get(j));
+			}
+			i += to - from;
+		}
+		return accumulator;
+	}
+
+	public long count(IntPredicate predicate) {
+		long count = 0;
+		for (long i = offset, end = offset + length; i < end; ) {
+			IntBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				if (predicate.test(chunk.get(j))) {
+					count++;
+				}
+			}
+			i += to - from;
+		}
+		return count;
+	}
+
+	public boolean exists(IntPredicate predicate) {
+		for (long i = offset, end = offset + length; i < end; ) {
+			IntBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				if (predicate.test(chunk.get(j))) {
+					return true;
+				}
+			}
+			i += to - from;
+		}
+		return false;
+	}
+
+	public boolean forAll(IntPredicate predicate) {
+		return !exists(predicate.negate());
+	}
+
+	public long sum() {
+		long sum = 0;
+		for (long i = offset, end = offset + length; i < end; ) {
+			IntBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				sum += chunk.get(j);
+			}
+			i += to - from;
+		}
+		return sum;
+	}
+
+	public OptionalInt min() {
+		return isEmpty() ? OptionalInt.empty() : OptionalInt.of(tail().foldLeft(head(), Math::min));
+	}
+
+	public OptionalInt max() {
+		return isEmpty() ? OptionalInt.empty() : OptionalInt.of(tail().foldLeft(head(), Math::max));
+	}
+
+	// searching
+
+	/**
+	 * Searches this sequence, which must be sorted in ascending order, for {@code key}. Returns its index like
+	 * {@code java.util.Arrays.binarySearch}: if it is absent, {@code -(insertion point) - 1}. Only the
+	 * {@code log2(length)} probed elements are paged in.
+	 */
+	public long binarySearch(int key) {
+		long low = 0;
+		long high = length - 1;
+		while (low <= high) {
+			long middle = (low + high) >>> 1;
+			int value = read(offset + middle);
+			if (value < key) {
+				low = middle + 1;
+			} else if (value > key) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	// conversion
+
+	public IntStream stream() {
+		return StreamSupport.intStream(Spliterators.spliterator(iterator(), length,
+				Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Copies the elements onto the heap.
+	 *
+	 * @throws IllegalStateException if there are more elements than a Java array can hold
+	 */
+	public int[] toJavaArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("toJavaArray() of " + length + " elements");
+		}
+		int[] result = new int[(int) length];
+		for (long i = offset, end = offset + length; i < end; ) {
+			IntBuffer chunk = chunks[region.chunk(i)].duplicate();
+			int n = (int) (region.chunkEnd(i, end) - i);
+			chunk.position(region.position(i));
+			chunk.get(result, (int) (i - offset), n);
+			i += n;
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the elements onto the heap, see {@link #toJavaArray()}.
+	 */
+	public IntArray toIntArray() {
+		return IntArray.of(toJavaArray());
+	}
+
+	/**
+	 * The first elements, as {@code MappedIntArray(1, 2, 3, ...)}: printing gigabytes is never useful.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("MappedIntArray(");
+		for (long i = 0; i < Math.min(length, MappedRegion.SHOWN); i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(read(offset + i));
+		}
+		if (length > MappedRegion.SHOWN) {
+			builder.append(", ...");
+		}
+		return builder.append(')').toString();
+	}
+}
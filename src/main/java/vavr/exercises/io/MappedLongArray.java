@@ -0,0 +1,347 @@
+package vavr.exercises.io;
+
+import vavr.exercises.collection.LongArray;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable sequence of {@code long} values read in place from a memory-mapped file of 8-byte elements, the
+ * off-heap counterpart of {@link LongArray} for datasets too large to keep on the Java heap.
+ *
+ * {@link #map(Path)} only maps the file, so loading is independent of its size and the elements never reach the
+ * heap or the garbage collector; the operating system pages them in on first access. Indices are {@code long},
+ * since such files can hold more than {@code Integer.MAX_VALUE} elements. Slicing operations return views of the
+ * same mapping. The file must not be modified while it is mapped, and the mapping is only released when it is
+ * garbage collected, so map a file once and share the result.
+ */
+public final class MappedLongArray implements Iterable<Long> {
+	private static final int WIDTH = Long.BYTES;
+
+	private final MappedRegion region;
+	private final LongBuffer[] chunks;
+	private final long offset;
+	private final long length;
+
+	private MappedLongArray(MappedRegion region, LongBuffer[] chunks, long offset, long length) {
+		this.region = region;
+		this.chunks = chunks;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Maps {@code file}, which holds big-endian values as written by {@code DataOutputStream} or
+	 * {@link #write(Path, LongStream)}.
+	 */
+	public static MappedLongArray map(Path file) throws IOException {
+		return map(file, ByteOrder.BIG_ENDIAN);
+	}
+
+	public static MappedLongArray map(Path file, ByteOrder order) throws IOException {
+		MappedRegion region = MappedRegion.map(file, WIDTH, order);
+		LongBuffer[] chunks = new LongBuffer[region.chunks.length];
+		for (int i = 0; i < chunks.length; i++) {
+			chunks[i] = region.chunks[i].asLongBuffer();
+		}
+		return new MappedLongArray(region, chunks, 0, region.length);
+	}
+
+	/**
+	 * Writes {@code values} to {@code file} in big-endian order, replacing its contents.
+	 */
+	public static void write(Path file, LongStream values) throws IOException {
+		write(file, values, ByteOrder.BIG_ENDIAN);
+	}
+
+	public static void write(Path file, LongStream values, ByteOrder order) throws IOException {
+		Objects.requireNonNull(values, "values is null");
+		try (MappedRegion.Output output = new MappedRegion.Output(file, order)) {
+			PrimitiveIterator.OfLong iterator = values.iterator();
+			while (iterator.hasNext()) {
+				output.reserve(WIDTH).putLong(iterator.nextLong());
+			}
+		}
+	}
+
+	// basic operations
+
+	public long length() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public long get(long index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("get(" + index + ")");
+		}
+		return read(offset + index);
+	}
+
+	private long read(long index) {
+		return chunks[region.chunk(index)].get(region.position(index));
+	}
+
+	public long head() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("head of empty MappedLongArray");
+		}
+		return read(offset);
+	}
+
+	public long last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("last of empty MappedLongArray");
+		}
+		return read(offset + length - 1);
+	}
+
+	public MappedLongArray tail() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("tail of empty MappedLongArray");
+		}
+		return slice(1, length);
+	}
+
+	public MappedLongArray init() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("init of empty MappedLongArray");
+		}
+		return slice(0, length - 1);
+	}
+
+	public MappedLongArray take(long n) {
+		return slice(0, n);
+	}
+
+	public MappedLongArray drop(long n) {
+		return slice(n, length);
+	}
+
+	/**
+	 * Elements from {@code beginIndex} (inclusive) to {@code endIndex} (exclusive), clamped to the bounds
+	 * like {@code io.vavr.collection.Array.slice}. The result is a view of the same mapping.
+	 */
+	public MappedLongArray slice(long beginIndex, long endIndex) {
+		long from = Math.max(0, beginIndex);
+		long to = Math.min(length, endIndex);
+		if (from == 0 && to == length) {
+			return this;
+		}
+		return new MappedLongArray(region, chunks, offset + from, Math.max(0, to - from));
+	}
+
+	// iteration
+
+	public void forEach(LongConsumer action) {
+		for (long i = offset, end = offset + length; i < end; ) {
+			LongBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				action.accept(chunk.get(j));
+			}
+			i += to - from;
+		}
+	}
+
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return new PrimitiveIterator.OfLong() {
+			private long index = offset;
+			private final long end = offset + length;
+			// the current chunk and the run of positions left in it
+			private LongBuffer chunk;
+			private int position;
+			private int limit;
+
+			@Override
+			public boolean hasNext() {
+				return index < end;
+			}
+
+			@Override
+			public long nextLong() {
+				if (index >= end) {
+					throw new NoSuchElementException();
+				}
+				if (position == limit) {
+					chunk = chunks[region.chunk(index)];
+					position = region.position(index);
+					limit = position + (int) (region.chunkEnd(index, end) - index);
+				}
+				index++;
+				return chunk.get(position++);
+			}
+		};
+	}
+
+	// reduction, folding
+
+	public long fold(long zero, LongBinaryOperator operation) {
+		return foldLeft(zero, operation);
+	}
+
+	public long foldLeft(long zero, LongBinaryOperator operation) {
+		long accumulator = zero;
+		for (long i = offset, end = offset + length; i < end; ) {
+			LongBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				accumulator = operation.applyAsLong(accumulator, chunk.get(j));
+			}
+			i += to - from;
+		}
+		return accumulator;
+	}
+
+	public long count(LongPredicate predicate) {
+		long count = 0;
+		for (long i = offset, end = offset + length; i < end; ) {
+			LongBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				if (predicate.test(chunk.get(j))) {
+					count++;
+				}
+			}
+			i += to - from;
+		}
+		return count;
+	}
+
+	public boolean exists(LongPredicate predicate) {
+		for (long i = offset, end = offset + length; i < end; ) {
+			LongBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				if (predicate.test(chunk.get(j))) {
+					return true;
+				}
+			}
+			i += to - from;
+		}
+		return false;
+	}
+
+	public boolean forAll(LongPredicate predicate) {
+		return !exists(predicate.negate());
+	}
+
+	public long sum() {
+		long sum = 0;
+		for (long i = offset, end = offset + length; i < end; ) {
+			LongBuffer chunk = chunks[region.chunk(i)];
+			int from = region.position(i);
+			int to = from + (int) (region.chunkEnd(i, end) - i);
+			for (int j = from; j < to; j++) {
+				sum += chunk.get(j);
+			}
+			i += to - from;
+		}
+		return sum;
+	}
+
+	public OptionalLong min() {
+		return isEmpty() ? OptionalLong.empty() : OptionalLong.of(tail().foldLeft(head(), Math::min));
+	}
+
+	public OptionalLong max() {
+		return isEmpty() ? OptionalLong.empty() : OptionalLong.of(tail().foldLeft(head(), Math::max));
+	}
+
+	// searching
+
+	/**
+	 * Searches this sequence, which must be sorted in ascending order, for {@code key}. Returns its index like
+	 * {@code java.util.Arrays.binarySearch}: if it is absent, {@code -(insertion point) - 1}. Only the
+	 * {@code log2(length)} probed elements are paged in.
+	 */
+	public long binarySearch(long key) {
+		long low = 0;
+		long high = length - 1;
+		while (low <= high) {
+			long middle = (low + high) >>> 1;
+			long value = read(offset + middle);
+			if (value < key) {
+				low = middle + 1;
+			} else if (value > key) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	// conversion
+
+	public LongStream stream() {
+		return StreamSupport.longStream(Spliterators.spliterator(iterator(), length,
+				Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * Copies the elements onto the heap.
+	 *
+	 * @throws IllegalStateException if there are more elements than a Java array can hold
+	 */
+	public long[] toJavaArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("toJavaArray() of " + length + " elements");
+		}
+		long[] result = new long[(int) length];
+		for (long i = offset, end = offset + length; i < end; ) {
+			LongBuffer chunk = chunks[region.chunk(i)].duplicate();
+			int n = (int) (region.chunkEnd(i, end) - i);
+			chunk.position(region.position(i));
+			chunk.get(result, (int) (i - offset), n);
+			i += n;
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the elements onto the heap, see {@link #toJavaArray()}.
+	 */
+	public LongArray toLongArray() {
+		return LongArray.of(toJavaArray());
+	}
+
+	/**
+	 * The first elements, as {@code MappedLongArray(1, 2, 3, ...)}: printing gigabytes is never useful.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("MappedLongArray(");
+		for (long i = 0; i < Math.min(length, MappedRegion.SHOWN); i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(read(offset + i));
+		}
+		if (length > MappedRegion.SHOWN) {
+			builder.append(", ...");
+		}
+		return builder.append(')').toString();
+	}
+}
@@ -0,0 +1,258 @@
+package vavr.exercises.io;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Immutable sequence of fixed-width records read in place from a memory-mapped file, decoded by a
+ * {@link RecordLayout} on access. Like {@link MappedIntArray}, mapping does not read the file and the records
+ * stay off the heap until they are decoded; slicing operations return views of the same mapping.
+ */
+public final class MappedRecords<T> implements Iterable<T> {
+	private static final int MAX_WIDTH = 1 << 16;
+
+	private final MappedRegion region;
+	private final RecordLayout<T> layout;
+	private final int width;
+	private final long offset;
+	private final long length;
+
+	private MappedRecords(MappedRegion region, RecordLayout<T> layout, long offset, long length) {
+		this.region = region;
+		this.layout = layout;
+		this.width = layout.width();
+		this.offset = offset;
+		this.length = length;
+	}
+
+	private static int checkWidth(RecordLayout<?> layout) {
+		Objects.requireNonNull(layout, "layout is null");
+		int width = layout.width();
+		if (width <= 0 || width > MAX_WIDTH) {
+			throw new IllegalArgumentException("width: " + width + " not in [1, " + MAX_WIDTH + "]");
+		}
+		return width;
+	}
+
+	/**
+	 * Maps {@code file}, whose records are big-endian as written by {@link #write(Path, Iterable, RecordLayout)}.
+	 */
+	public static <T> MappedRecords<T> map(Path file, RecordLayout<T> layout) throws IOException {
+		return map(file, layout, ByteOrder.BIG_ENDIAN);
+	}
+
+	public static <T> MappedRecords<T> map(Path file, RecordLayout<T> layout, ByteOrder order) throws IOException {
+		MappedRegion region = MappedRegion.map(file, checkWidth(layout), order);
+		return new MappedRecords<>(region, layout, 0, region.length);
+	}
+
+	/**
+	 * Writes {@code records} to {@code file} in big-endian order, replacing its contents.
+	 */
+	public static <T> void write(Path file, Iterable<? extends T> records, RecordLayout<T> layout) throws IOException {
+		write(file, records, layout, ByteOrder.BIG_ENDIAN);
+	}
+
+	public static <T> void write(Path file, Iterable<? extends T> records, RecordLayout<T> layout, ByteOrder order) throws IOException {
+		Objects.requireNonNull(records, "records is null");
+		int width = checkWidth(layout);
+		try (MappedRegion.Output output = new MappedRegion.Output(file, order)) {
+			for (T record : records) {
+				ByteBuffer buffer = output.reserve(width);
+				int position = buffer.position();
+				layout.write(buffer, record);
+				if (buffer.position() != position + width) {
+					throw new IllegalStateException("layout wrote " + (buffer.position() - position) + " bytes, not " + width);
+				}
+			}
+		}
+	}
+
+	// basic operations
+
+	public long length() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	public T get(long index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("get(" + index + ")");
+		}
+		return read(offset + index);
+	}
+
+	private T read(long index) {
+		return layout.read(region.chunks[region.chunk(index)], region.position(index) * width);
+	}
+
+	public T head() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("head of empty MappedRecords");
+		}
+		return read(offset);
+	}
+
+	public T last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("last of empty MappedRecords");
+		}
+		return read(offset + length - 1);
+	}
+
+	public MappedRecords<T> tail() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("tail of empty MappedRecords");
+		}
+		return slice(1, length);
+	}
+
+	public MappedRecords<T> init() {
+		if (isEmpty()) {
+			throw new UnsupportedOperationException("init of empty MappedRecords");
+		}
+		return slice(0, length - 1);
+	}
+
+	public MappedRecords<T> take(long n) {
+		return slice(0, n);
+	}
+
+	public MappedRecords<T> drop(long n) {
+		return slice(n, length);
+	}
+
+	/**
+	 * Records from {@code beginIndex} (inclusive) to {@code endIndex} (exclusive), clamped to the bounds
+	 * like {@code io.vavr.collection.Array.slice}. The result is a view of the same mapping.
+	 */
+	public MappedRecords<T> slice(long beginIndex, long endIndex) {
+		long from = Math.max(0, beginIndex);
+		long to = Math.min(length, endIndex);
+		if (from == 0 && to == length) {
+			return this;
+		}
+		return new MappedRecords<>(region, layout, offset + from, Math.max(0, to - from));
+	}
+
+	// iteration, folding
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private long index = offset;
+			private final long end = offset + length;
+
+			@Override
+			public boolean hasNext() {
+				return index < end;
+			}
+
+			@Override
+			public T next() {
+				if (index >= end) {
+					throw new NoSuchElementException();
+				}
+				return read(index++);
+			}
+		};
+	}
+
+	public <U> U foldLeft(U zero, BiFunction<? super U, ? super T, ? extends U> combine) {
+		Objects.requireNonNull(combine, "combine is null");
+		U accumulator = zero;
+		for (long i = offset, end = offset + length; i < end; i++) {
+			accumulator = combine.apply(accumulator, read(i));
+		}
+		return accumulator;
+	}
+
+	public long count(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		long count = 0;
+		for (long i = offset, end = offset + length; i < end; i++) {
+			if (predicate.test(read(i))) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public boolean exists(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		for (long i = offset, end = offset + length; i < end; i++) {
+			if (predicate.test(read(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean forAll(Predicate<? super T> predicate) {
+		Objects.requireNonNull(predicate, "predicate is null");
+		return !exists(predicate.negate());
+	}
+
+	// searching
+
+	/**
+	 * Searches records sorted in ascending order of {@code keyExtractor} for one with the given key. Returns
+	 * its index like {@code java.util.Arrays.binarySearch}: if there is none, {@code -(insertion point) - 1}.
+	 * Only the {@code log2(length)} probed records are paged in and decoded.
+	 */
+	public <K> long binarySearch(K key, Function<? super T, ? extends K> keyExtractor, Comparator<? super K> comparator) {
+		Objects.requireNonNull(keyExtractor, "keyExtractor is null");
+		Objects.requireNonNull(comparator, "comparator is null");
+		long low = 0;
+		long high = length - 1;
+		while (low <= high) {
+			long middle = (low + high) >>> 1;
+			int comparison = comparator.compare(keyExtractor.apply(read(offset + middle)), key);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	// conversion
+
+	/**
+	 * Decodes all records onto the heap.
+	 *
+	 * @throws IllegalStateException if there are more records than an {@code Array} can hold
+	 */
+	public Array<T> toArray() {
+		if (length > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("toArray() of " + length + " records");
+		}
+		return Array.ofAll(this);
+	}
+
+	/**
+	 * The first records, as {@code MappedRecords(a, b, c, ...)}: printing gigabytes is never useful.
+	 */
+	@Override
+	public String toString() {
+		String shown = take(MappedRegion.SHOWN).iterator().mkString("MappedRecords(", ", ", "");
+		return shown + (length > MappedRegion.SHOWN ? ", ...)" : ")");
+	}
+}
@@ -0,0 +1,113 @@
+package vavr.exercises.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A read-only file mapped as consecutive fixed-width elements. A single {@code MappedByteBuffer} is limited to
+ * 2 GiB, so the file is mapped in chunks of a power-of-two number of elements, at most 1 GiB each; an element
+ * never straddles two chunks, and element {@code i} is at {@code chunks[i >>> shift]}, byte
+ * {@code (i & mask) * width}.
+ *
+ * The mapping is made once, up front, and paged in lazily by the operating system; it is released only when the
+ * buffers are garbage collected, so a file should be mapped once and the result shared.
+ */
+final class MappedRegion {
+	private static final long MAX_CHUNK_BYTES = 1L << 30;
+
+	// elements printed by toString
+	static final int SHOWN = 100;
+
+	final ByteBuffer[] chunks;
+	final int shift;
+	final long mask;
+	final long length;
+
+	private MappedRegion(ByteBuffer[] chunks, int shift, long length) {
+		this.chunks = chunks;
+		this.shift = shift;
+		this.mask = (1L << shift) - 1;
+		this.length = length;
+	}
+
+	static MappedRegion map(Path file, int width, ByteOrder order) throws IOException {
+		Objects.requireNonNull(file, "file is null");
+		Objects.requireNonNull(order, "order is null");
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size % width != 0) {
+				throw new IOException(file + " has " + size + " bytes, not a multiple of the element width " + width);
+			}
+			long length = size / width;
+			int shift = 63 - Long.numberOfLeadingZeros(MAX_CHUNK_BYTES / width);
+			long chunkBytes = (1L << shift) * width;
+			ByteBuffer[] chunks = new ByteBuffer[(int) ((size + chunkBytes - 1) / chunkBytes)];
+			for (int i = 0; i < chunks.length; i++) {
+				long position = i * chunkBytes;
+				chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkBytes, size - position)).order(order);
+			}
+			// the mapping stays valid after the channel is closed
+			return new MappedRegion(chunks, shift, length);
+		}
+	}
+
+	int chunk(long index) {
+		return (int) (index >>> shift);
+	}
+
+	// position of element index within its chunk, in elements
+	int position(long index) {
+		return (int) (index & mask);
+	}
+
+	// the end of the run of elements from index that lie in index's chunk, at most end
+	long chunkEnd(long index, long end) {
+		return Math.min(end, (index | mask) + 1);
+	}
+
+	/**
+	 * Buffered sequential writes of fixed-width elements to a new file, replacing any existing one.
+	 */
+	static final class Output implements Closeable {
+		private final FileChannel channel;
+		private final ByteBuffer buffer;
+
+		Output(Path file, ByteOrder order) throws IOException {
+			Objects.requireNonNull(file, "file is null");
+			Objects.requireNonNull(order, "order is null");
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+			this.buffer = ByteBuffer.allocateDirect(1 << 16).order(order);
+		}
+
+		// a buffer with at least bytes remaining, positioned where the next element goes
+		ByteBuffer reserve(int bytes) throws IOException {
+			if (buffer.remaining() < bytes) {
+				flush();
+			}
+			return buffer;
+		}
+
+		private void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				flush();
+			} finally {
+				channel.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package vavr.exercises.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The binary layout of a fixed-width record stored by {@link MappedRecords}.
+ *
+ * {@link #read(ByteBuffer, int)} uses absolute gets only, so one mapped buffer can be read by many threads;
+ * {@link #write(ByteBuffer, Object)} uses relative puts and must advance the position by exactly
+ * {@link #width()} bytes. The buffer's byte order is set by the caller.
+ */
+public interface RecordLayout<T> {
+	/**
+	 * The number of bytes per record, between 1 and 65536.
+	 */
+	int width();
+
+	/**
+	 * Decodes the record starting at {@code offset}.
+	 */
+	T read(ByteBuffer buffer, int offset);
+
+	/**
+	 * Encodes {@code record} at the buffer's position.
+	 */
+	void write(ByteBuffer buffer, T record);
+}
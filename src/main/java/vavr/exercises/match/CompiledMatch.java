@@ -0,0 +1,259 @@
+package vavr.exercises.match;
+
+import io.vavr.API;
+import io.vavr.Function1;
+import io.vavr.MatchError;
+import io.vavr.control.Option;
+
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A set of cases compiled once into a reusable matcher, for hot paths where {@code Match(x).of(Case(...), ...)}
+ * would allocate every case and test every predicate per call.
+ *
+ * Cases keep the first-match semantics of {@code Match}, but runs of adjacent cases are indexed:
+ * {@link Builder#equalTo equalTo}/{@link Builder#isIn isIn} cases become one hash lookup and
+ * {@link Builder#instanceOf instanceOf} cases become a dispatch table keyed by the value's class.
+ * Arbitrary predicates, vavr patterns ({@code $Success($Tuple2(...))}) and {@code Case}s are tested in order.
+ * <pre>{@code
+ * CompiledMatch<Integer, String> fizzBuzz = CompiledMatch.<Integer, String>builder()
+ *         .when(x -> x % 15 == 0, "fizz-buzz")
+ *         .when(x -> x % 3 == 0, "fizz")
+ *         .when(x -> x % 5 == 0, "buzz")
+ *         .otherwise(String::valueOf);
+ * }</pre>
+ *
+ * A {@code CompiledMatch} is not serializable, although {@code Function1} is: its cases hold arbitrary predicates
+ * and functions.
+ *
+ * @param <T> type of the matched value
+ * @param <R> result type
+ */
+public final class CompiledMatch<T, R> implements Function1<T, R> {
+	private static final long serialVersionUID = 1L;
+
+	private final Segment[] segments;
+	private final Function<Object, Object>[] actions;
+
+	private CompiledMatch(Segment[] segments, Function<Object, Object>[] actions) {
+		this.segments = segments;
+		this.actions = actions;
+	}
+
+	public static <T, R> Builder<T, R> builder() {
+		return new Builder<>();
+	}
+
+	/**
+	 * Result of the first matching case.
+	 *
+	 * @throws MatchError if no case matches
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public R apply(T value) {
+		int index = find(value);
+		if (index < 0) {
+			// MatchError's constructor is not public; let Match report the unmatched value
+			return API.Match(value).of();
+		}
+		return (R) actions[index].apply(value);
+	}
+
+	/**
+	 * Result of the first matching case, or none; like {@code Match(value).option(...)}.
+	 */
+	@SuppressWarnings("unchecked")
+	public Option<R> option(T value) {
+		int index = find(value);
+		return index < 0 ? Option.none() : Option.some((R) actions[index].apply(value));
+	}
+
+	public boolean isDefinedAt(T value) {
+		return find(value) >= 0;
+	}
+
+	private int find(Object value) {
+		for (Segment segment : segments) {
+			int index = segment.find(value);
+			if (index >= 0) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private void writeObject(ObjectOutputStream out) throws NotSerializableException {
+		throw new NotSerializableException(getClass().getName());
+	}
+
+	/**
+	 * Collects cases in order; {@link #build()} or {@link #otherwise} compile them.
+	 */
+	public static final class Builder<T, R> {
+		private final ArrayList<CaseSpec> cases = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		public Builder<T, R> when(Predicate<? super T> predicate, Function<? super T, ? extends R> f) {
+			Objects.requireNonNull(predicate, "predicate is null");
+			return add(new CaseSpec(Kind.PREDICATE, cast(predicate), null, null, cast(f)));
+		}
+
+		public Builder<T, R> when(Predicate<? super T> predicate, R result) {
+			return when(predicate, value -> result);
+		}
+
+		public Builder<T, R> equalTo(T expected, Function<? super T, ? extends R> f) {
+			return add(new CaseSpec(Kind.EQUALITY, null, new Object[]{expected}, null, cast(f)));
+		}
+
+		public Builder<T, R> equalTo(T expected, R result) {
+			return equalTo(expected, value -> result);
+		}
+
+		@SafeVarargs
+		public final Builder<T, R> isIn(R result, T... values) {
+			return isIn(java.util.Arrays.asList(values), value -> result);
+		}
+
+		public Builder<T, R> isIn(Iterable<? extends T> values, Function<? super T, ? extends R> f) {
+			ArrayList<Object> expected = new ArrayList<>();
+			values.forEach(expected::add);
+			return add(new CaseSpec(Kind.EQUALITY, null, expected.toArray(), null, cast(f)));
+		}
+
+		public <U extends T> Builder<T, R> instanceOf(Class<U> type, Function<? super U, ? extends R> f) {
+			Objects.requireNonNull(type, "type is null");
+			return add(new CaseSpec(Kind.TYPE, null, null, type, cast(f)));
+		}
+
+		public <U extends T> Builder<T, R> instanceOf(Class<U> type, R result) {
+			return instanceOf(type, value -> result);
+		}
+
+		/**
+		 * A vavr pattern such as {@code $Success($Tuple2($(), $(42)))}; {@code f} receives the decomposed value.
+		 */
+		public <U> Builder<T, R> pattern(API.Match.Pattern<? extends T, U> pattern, Function<? super U, ? extends R> f) {
+			Objects.requireNonNull(pattern, "pattern is null");
+			Function<Object, Object> decomposed = value -> f.apply(pattern.apply(cast(value)));
+			return add(new CaseSpec(Kind.PREDICATE, value -> pattern.isDefinedAt(cast(value)), null, null, decomposed));
+		}
+
+		public Builder<T, R> caseOf(API.Match.Case<? extends T, ? extends R> matchCase) {
+			Objects.requireNonNull(matchCase, "matchCase is null");
+			return add(new CaseSpec(Kind.PREDICATE, value -> matchCase.isDefinedAt(cast(value)), null, null, value -> matchCase.apply(cast(value))));
+		}
+
+		/**
+		 * Adds a catch-all case and compiles the matcher.
+		 */
+		public CompiledMatch<T, R> otherwise(Function<? super T, ? extends R> f) {
+			return when(value -> true, f).build();
+		}
+
+		public CompiledMatch<T, R> otherwise(R result) {
+			return otherwise(value -> result);
+		}
+
+		@SuppressWarnings("unchecked")
+		public CompiledMatch<T, R> build() {
+			Function<Object, Object>[] actions = new Function[cases.size()];
+			ArrayList<Segment> segments = new ArrayList<>();
+			int from = 0;
+			while (from < cases.size()) {
+				Kind kind = cases.get(from).kind;
+				int to = from + 1;
+				while (kind != Kind.PREDICATE && to < cases.size() && cases.get(to).kind == kind) {
+					to++;
+				}
+				segments.add(segment(kind, from, to));
+				from = to;
+			}
+			for (int i = 0; i < actions.length; i++) {
+				actions[i] = cases.get(i).action;
+			}
+			return new CompiledMatch<>(segments.toArray(new Segment[0]), actions);
+		}
+
+		private Segment segment(Kind kind, int from, int to) {
+			switch (kind) {
+				case EQUALITY: {
+					HashMap<Object, Integer> index = new HashMap<>();
+					for (int i = from; i < to; i++) {
+						for (Object value : cases.get(i).values) {
+							index.putIfAbsent(value, i);
+						}
+					}
+					return value -> index.getOrDefault(value, -1);
+				}
+				case TYPE: {
+					Class<?>[] types = new Class<?>[to - from];
+					for (int i = from; i < to; i++) {
+						types[i - from] = cases.get(i).type;
+					}
+					ClassValue<Integer> dispatch = new ClassValue<Integer>() {
+						@Override
+						protected Integer computeValue(Class<?> type) {
+							for (int i = 0; i < types.length; i++) {
+								if (types[i].isAssignableFrom(type)) {
+									return from + i;
+								}
+							}
+							return -1;
+						}
+					};
+					return value -> value == null ? -1 : dispatch.get(value.getClass());
+				}
+				default: {
+					Predicate<Object> predicate = cases.get(from).predicate;
+					return value -> predicate.test(value) ? from : -1;
+				}
+			}
+		}
+
+		private Builder<T, R> add(CaseSpec spec) {
+			cases.add(spec);
+			return this;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <X> X cast(Object o) {
+			return (X) o;
+		}
+	}
+
+	// index of the first matching case in a run of cases, or -1
+	@FunctionalInterface
+	private interface Segment {
+		int find(Object value);
+	}
+
+	private enum Kind {
+		PREDICATE, EQUALITY, TYPE
+	}
+
+	private static final class CaseSpec {
+		final Kind kind;
+		final Predicate<Object> predicate;
+		final Object[] values;
+		final Class<?> type;
+		final Function<Object, Object> action;
+
+		CaseSpec(Kind kind, Predicate<Object> predicate, Object[] values, Class<?> type, Function<Object, Object> action) {
+			this.kind = kind;
+			this.predicate = predicate;
+			this.values = values;
+			this.type = type;
+			this.action = action;
+		}
+	}
+}
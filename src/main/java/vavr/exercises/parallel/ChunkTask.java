@@ -0,0 +1,32 @@
+package vavr.exercises.parallel;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs {@code action} for every chunk index in [from, to), splitting the range in halves until a single
+ * chunk is left. Chunk results are written by the action into per-chunk slots, so no combine step is needed.
+ */
+final class ChunkTask extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+
+	private final int from;
+	private final int to;
+	private final IntConsumer action;
+
+	ChunkTask(int from, int to, IntConsumer action) {
+		this.from = from;
+		this.to = to;
+		this.action = action;
+	}
+
+	@Override
+	protected void compute() {
+		if (to - from == 1) {
+			action.accept(from);
+		} else {
+			int middle = (from + to) >>> 1;
+			invokeAll(new ChunkTask(from, middle, action), new ChunkTask(middle, to, action));
+		}
+	}
+}
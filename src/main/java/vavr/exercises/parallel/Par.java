@@ -0,0 +1,68 @@
+package vavr.exercises.parallel;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Entry point for parallel views: {@code par(array).fold(0, Integer::sum)}.
+ * Views run on {@link ForkJoinPool#commonPool()} unless a pool is given.
+ */
+public final class Par {
+	private Par() {
+	}
+
+	public static <T> ParSeq<T> par(Array<T> array) {
+		return par(array, ForkJoinPool.commonPool());
+	}
+
+	public static <T> ParSeq<T> par(Array<T> array, ForkJoinPool pool) {
+		return new ParSeq<>(array, pool);
+	}
+
+	public static <T> ParSeq<T> par(Vector<T> vector) {
+		return par(vector, ForkJoinPool.commonPool());
+	}
+
+	public static <T> ParSeq<T> par(Vector<T> vector, ForkJoinPool pool) {
+		return new ParSeq<>(vector, pool);
+	}
+
+	public static <T> ParSet<T> par(HashSet<T> set) {
+		return par(set, ForkJoinPool.commonPool());
+	}
+
+	public static <T> ParSet<T> par(HashSet<T> set, ForkJoinPool pool) {
+		return new ParSet<>(set, set.toJavaArray(), pool);
+	}
+
+	/**
+	 * Like {@code Option.sequence(options)}, checking the elements in parallel; see
+	 * {@link ParTraversable#traverseOption(Function)}.
+	 */
+	public static <T> Option<Seq<T>> sequenceOption(IndexedSeq<? extends Option<? extends T>> options) {
+		return new ParSeq<>(IndexedSeq.<Option<? extends T>> narrow(options), ForkJoinPool.commonPool()).traverseOption(Function.identity());
+	}
+
+	public static <T> Try<Seq<T>> sequenceTry(IndexedSeq<? extends Try<? extends T>> tries) {
+		return new ParSeq<>(IndexedSeq.<Try<? extends T>> narrow(tries), ForkJoinPool.commonPool()).traverseTry(Function.identity());
+	}
+
+	public static <L, R> Either<L, Seq<R>> sequenceRight(IndexedSeq<? extends Either<? extends L, ? extends R>> eithers) {
+		return new ParSeq<>(IndexedSeq.<Either<? extends L, ? extends R>> narrow(eithers), ForkJoinPool.commonPool()).traverseRight(Function.identity());
+	}
+
+	public static <E, T> Validation<Seq<E>, Seq<T>> sequenceValidation(IndexedSeq<? extends Validation<? extends Seq<? extends E>, ? extends T>> validations) {
+		return new ParSeq<>(IndexedSeq.<Validation<? extends Seq<? extends E>, ? extends T>> narrow(validations), ForkJoinPool.commonPool())
+				.traverseValidation(Function.identity());
+	}
+}
@@ -0,0 +1,61 @@
+package vavr.exercises.parallel;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.Map;
+import io.vavr.collection.Vector;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Parallel view over an {@link Array} or a {@link Vector}. Transformations preserve encounter order and
+ * return the same collection type as the source.
+ *
+ * @param <T> element type
+ */
+public final class ParSeq<T> extends ParTraversable<T> {
+	private final IndexedSeq<T> source;
+
+	ParSeq(IndexedSeq<T> source, ForkJoinPool pool) {
+		super(pool, source.size(), source::get);
+		this.source = source;
+	}
+
+	/**
+	 * The same view, running on {@code pool} instead.
+	 */
+	public ParSeq<T> on(ForkJoinPool pool) {
+		return new ParSeq<>(source, pool);
+	}
+
+	@Override
+	public <U> IndexedSeq<U> map(Function<? super T, ? extends U> mapper) {
+		return wrap(mapToArray(mapper));
+	}
+
+	@Override
+	public IndexedSeq<T> filter(Predicate<? super T> predicate) {
+		return wrap(filterToArray(predicate));
+	}
+
+	@Override
+	public <C> Map<C, IndexedSeq<T>> groupBy(Function<? super T, ? extends C> classifier) {
+		java.util.LinkedHashMap<C, Object[]> groups = groupToArrays(classifier);
+		return LinkedHashMap.ofAll(groups).mapValues(this::<T>wrap);
+	}
+
+	/**
+	 * The underlying sequential collection.
+	 */
+	public IndexedSeq<T> seq() {
+		return source;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <U> IndexedSeq<U> wrap(Object[] values) {
+		return source instanceof Vector ? Vector.of((U[]) values) : Array.of((U[]) values);
+	}
+}
@@ -0,0 +1,65 @@
+package vavr.exercises.parallel;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Map;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Parallel view over a {@link HashSet}. The set is snapshotted into an array once, when the view is
+ * created, because vavr does not expose its hash trie for splitting.
+ *
+ * @param <T> element type
+ */
+public final class ParSet<T> extends ParTraversable<T> {
+	private final HashSet<T> source;
+	private final Object[] elements;
+
+	ParSet(HashSet<T> source, Object[] elements, ForkJoinPool pool) {
+		super(pool, elements.length, index -> {
+			@SuppressWarnings("unchecked")
+			T element = (T) elements[index];
+			return element;
+		});
+		this.source = source;
+		this.elements = elements;
+	}
+
+	/**
+	 * The same view, running on {@code pool} instead.
+	 */
+	public ParSet<T> on(ForkJoinPool pool) {
+		return new ParSet<>(source, elements, pool);
+	}
+
+	@Override
+	public <U> HashSet<U> map(Function<? super T, ? extends U> mapper) {
+		return wrap(mapToArray(mapper));
+	}
+
+	@Override
+	public HashSet<T> filter(Predicate<? super T> predicate) {
+		return wrap(filterToArray(predicate));
+	}
+
+	@Override
+	public <C> Map<C, HashSet<T>> groupBy(Function<? super T, ? extends C> classifier) {
+		java.util.LinkedHashMap<C, Object[]> groups = groupToArrays(classifier);
+		return HashMap.ofAll(groups).mapValues(this::<T>wrap);
+	}
+
+	/**
+	 * The underlying sequential collection.
+	 */
+	public HashSet<T> seq() {
+		return source;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <U> HashSet<U> wrap(Object[] values) {
+		return HashSet.of((U[]) values);
+	}
+}
@@ -0,0 +1,348 @@
+package vavr.exercises.parallel;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Map;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Traversable;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Parallel view over an immutable vavr collection. The elements are split into contiguous chunks that are
+ * processed as fork-join tasks; partial results are combined in encounter order, so {@code fold} and
+ * {@code reduce} only require an associative operation, not a commutative one.
+ *
+ * @param <T> element type
+ */
+public abstract class ParTraversable<T> {
+	// below this many elements per chunk the fork-join overhead outweighs the gain
+	static final int MIN_CHUNK_SIZE = 1024;
+
+	final ForkJoinPool pool;
+	final int size;
+	private final IntFunction<T> element;
+
+	ParTraversable(ForkJoinPool pool, int size, IntFunction<T> element) {
+		this.pool = pool;
+		this.size = size;
+		this.element = element;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Folds the elements with an associative {@code operation} for which {@code zero} is the identity.
+	 * The chunks are reduced without {@code zero}, which is then applied once, to their combined result.
+	 */
+	public T fold(T zero, BinaryOperator<T> operation) {
+		return reduceOption(operation).map(result -> operation.apply(zero, result)).getOrElse(zero);
+	}
+
+	/**
+	 * Reduces the elements with an associative {@code operation}.
+	 *
+	 * @throws NoSuchElementException if the collection is empty
+	 */
+	public T reduce(BinaryOperator<T> operation) {
+		return reduceOption(operation).getOrElseThrow(() -> new NoSuchElementException("reduce of empty collection"));
+	}
+
+	public Option<T> reduceOption(BinaryOperator<T> operation) {
+		if (size == 0) {
+			return Option.none();
+		}
+		Object[] partials = new Object[chunks()];
+		forEachChunk((chunk, from, to) -> {
+			T accumulator = element.apply(from);
+			for (int i = from + 1; i < to; i++) {
+				accumulator = operation.apply(accumulator, element.apply(i));
+			}
+			partials[chunk] = accumulator;
+		});
+		@SuppressWarnings("unchecked")
+		T result = (T) partials[0];
+		for (int i = 1; i < partials.length; i++) {
+			@SuppressWarnings("unchecked")
+			T partial = (T) partials[i];
+			result = operation.apply(result, partial);
+		}
+		return Option.some(result);
+	}
+
+	/**
+	 * Accumulates every chunk into a fresh {@code zero.get()} with {@code accumulate}, then combines the chunk
+	 * results in encounter order with the associative {@code combine}. Unlike {@link #fold(Object, BinaryOperator)}
+	 * the result type may differ from the element type, and the accumulator may be mutable since every chunk
+	 * gets its own, e.g. {@code aggregate(Summary::create, (s, x) -> { s.accept(x); return s; }, Summary::merge)}.
+	 */
+	public <A> A aggregate(Supplier<? extends A> zero, BiFunction<A, ? super T, A> accumulate, BinaryOperator<A> combine) {
+		if (size == 0) {
+			return zero.get();
+		}
+		Object[] partials = new Object[chunks()];
+		forEachChunk((chunk, from, to) -> {
+			A accumulator = zero.get();
+			for (int i = from; i < to; i++) {
+				accumulator = accumulate.apply(accumulator, element.apply(i));
+			}
+			partials[chunk] = accumulator;
+		});
+		@SuppressWarnings("unchecked")
+		A result = (A) partials[0];
+		for (int i = 1; i < partials.length; i++) {
+			@SuppressWarnings("unchecked")
+			A partial = (A) partials[i];
+			result = combine.apply(result, partial);
+		}
+		return result;
+	}
+
+	public abstract <U> Traversable<U> map(Function<? super T, ? extends U> mapper);
+
+	public abstract Traversable<T> filter(Predicate<? super T> predicate);
+
+	public abstract <C> Map<C, ? extends Traversable<T>> groupBy(Function<? super T, ? extends C> classifier);
+
+	public int count(Predicate<? super T> predicate) {
+		int[] partials = new int[chunks()];
+		forEachChunk((chunk, from, to) -> {
+			int count = 0;
+			for (int i = from; i < to; i++) {
+				if (predicate.test(element.apply(i))) {
+					count++;
+				}
+			}
+			partials[chunk] = count;
+		});
+		int count = 0;
+		for (int partial : partials) {
+			count += partial;
+		}
+		return count;
+	}
+
+	/**
+	 * Like {@code Option.traverse(elements, mapper)}: {@code None} if {@code mapper} returns {@code None} for
+	 * any element, otherwise the values in encounter order. The mapper runs in parallel and chunks stop early
+	 * once an earlier element is known to fail; later elements may still be mapped, unlike sequentially.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> Option<Seq<U>> traverseOption(Function<? super T, ? extends Option<? extends U>> mapper) {
+		Traversal traversal = traverse(mapper, result -> ((Option<?>) result).isEmpty(), result -> ((Option<?>) result).get());
+		return traversal.failure == null ? Option.some(Array.of((U[]) traversal.values)) : Option.none();
+	}
+
+	/**
+	 * Like {@code Try.traverse(elements, mapper)}: the first failure in encounter order, otherwise the values.
+	 * Short-circuits like {@link #traverseOption}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> Try<Seq<U>> traverseTry(Function<? super T, ? extends Try<? extends U>> mapper) {
+		Traversal traversal = traverse(mapper, result -> ((Try<?>) result).isFailure(), result -> ((Try<?>) result).get());
+		return traversal.failure == null ? Try.success(Array.of((U[]) traversal.values)) : Try.failure(((Try<?>) traversal.failure).getCause());
+	}
+
+	/**
+	 * Like {@code Either.traverseRight(elements, mapper)}: the first left in encounter order, otherwise the right
+	 * values. Short-circuits like {@link #traverseOption}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <L, R> Either<L, Seq<R>> traverseRight(Function<? super T, ? extends Either<? extends L, ? extends R>> mapper) {
+		Traversal traversal = traverse(mapper, result -> ((Either<?, ?>) result).isLeft(), result -> ((Either<?, ?>) result).get());
+		return traversal.failure == null ? Either.right(Array.of((R[]) traversal.values)) : Either.left(((Either<L, ?>) traversal.failure).getLeft());
+	}
+
+	/**
+	 * Like {@code Either.traverse(elements, mapper)}: all lefts in encounter order if there is any, otherwise the
+	 * right values. Every element is mapped.
+	 */
+	@SuppressWarnings("unchecked")
+	public <L, R> Either<Seq<L>, Seq<R>> traverseEither(Function<? super T, ? extends Either<? extends L, ? extends R>> mapper) {
+		Object[] results = mapToArray(mapper);
+		java.util.ArrayList<L> lefts = new java.util.ArrayList<>();
+		for (int i = 0; i < results.length; i++) {
+			Either<? extends L, ?> result = (Either<? extends L, ?>) results[i];
+			if (result.isLeft()) {
+				lefts.add(result.getLeft());
+			} else {
+				results[i] = result.get();
+			}
+		}
+		return lefts.isEmpty() ? Either.right(Array.of((R[]) results)) : Either.left(Vector.ofAll(lefts));
+	}
+
+	/**
+	 * Like {@code Validation.traverse(elements, mapper)}: the errors of all invalid results in encounter order if
+	 * there is any, otherwise the valid values. Every element is mapped.
+	 */
+	@SuppressWarnings("unchecked")
+	public <E, U> Validation<Seq<E>, Seq<U>> traverseValidation(Function<? super T, ? extends Validation<? extends Seq<? extends E>, ? extends U>> mapper) {
+		Object[] results = mapToArray(mapper);
+		java.util.ArrayList<E> errors = new java.util.ArrayList<>();
+		for (int i = 0; i < results.length; i++) {
+			Validation<? extends Seq<? extends E>, ?> result = (Validation<? extends Seq<? extends E>, ?>) results[i];
+			if (result.isInvalid()) {
+				result.getError().forEach(errors::add);
+			} else {
+				results[i] = result.get();
+			}
+		}
+		return errors.isEmpty() ? Validation.valid(Array.of((U[]) results)) : Validation.invalid(Vector.ofAll(errors));
+	}
+
+	final Object[] mapToArray(Function<? super T, ?> mapper) {
+		Object[] result = new Object[size];
+		forEachChunk((chunk, from, to) -> {
+			for (int i = from; i < to; i++) {
+				result[i] = mapper.apply(element.apply(i));
+			}
+		});
+		return result;
+	}
+
+	final Object[] filterToArray(Predicate<? super T> predicate) {
+		Object[][] partials = new Object[chunks()][];
+		forEachChunk((chunk, from, to) -> {
+			Object[] kept = new Object[to - from];
+			int count = 0;
+			for (int i = from; i < to; i++) {
+				T value = element.apply(i);
+				if (predicate.test(value)) {
+					kept[count++] = value;
+				}
+			}
+			partials[chunk] = Arrays.copyOf(kept, count);
+		});
+		return concat(partials);
+	}
+
+	/**
+	 * Groups per chunk in parallel, then merges the chunk groups in encounter order, so every group keeps
+	 * the relative order of its elements and keys are ordered by first occurrence.
+	 */
+	final <C> java.util.LinkedHashMap<C, Object[]> groupToArrays(Function<? super T, ? extends C> classifier) {
+		@SuppressWarnings("unchecked")
+		java.util.LinkedHashMap<C, java.util.ArrayList<T>>[] partials = new java.util.LinkedHashMap[chunks()];
+		forEachChunk((chunk, from, to) -> {
+			java.util.LinkedHashMap<C, java.util.ArrayList<T>> groups = new java.util.LinkedHashMap<>();
+			for (int i = from; i < to; i++) {
+				T value = element.apply(i);
+				groups.computeIfAbsent(classifier.apply(value), key -> new java.util.ArrayList<>()).add(value);
+			}
+			partials[chunk] = groups;
+		});
+		java.util.LinkedHashMap<C, java.util.ArrayList<Object[]>> merged = new java.util.LinkedHashMap<>();
+		for (java.util.LinkedHashMap<C, java.util.ArrayList<T>> partial : partials) {
+			partial.forEach((key, values) -> merged.computeIfAbsent(key, k -> new java.util.ArrayList<>()).add(values.toArray()));
+		}
+		java.util.LinkedHashMap<C, Object[]> result = new java.util.LinkedHashMap<>();
+		merged.forEach((key, chunks) -> result.put(key, concat(chunks.toArray(new Object[0][]))));
+		return result;
+	}
+
+	private static Object[] concat(Object[][] chunks) {
+		if (chunks.length == 1) {
+			return chunks[0];
+		}
+		int length = 0;
+		for (Object[] chunk : chunks) {
+			length += chunk.length;
+		}
+		Object[] result = new Object[length];
+		int offset = 0;
+		for (Object[] chunk : chunks) {
+			System.arraycopy(chunk, 0, result, offset, chunk.length);
+			offset += chunk.length;
+		}
+		return result;
+	}
+
+	/**
+	 * Maps the elements in parallel into their unwrapped values, stopping at the first result for which
+	 * {@code isFailure} holds. A chunk stops as soon as a failure at a lower index is known, which never skips
+	 * an element before the first failure, so the failure found is always the first one in encounter order.
+	 */
+	private Traversal traverse(Function<? super T, ?> mapper, Predicate<Object> isFailure, Function<Object, Object> value) {
+		Objects.requireNonNull(mapper, "mapper is null");
+		Object[] values = new Object[size];
+		Object[] failures = new Object[chunks()];
+		AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+		forEachChunk((chunk, from, to) -> {
+			for (int i = from; i < to && i < firstFailure.get(); i++) {
+				Object result = mapper.apply(element.apply(i));
+				if (isFailure.test(result)) {
+					failures[chunk] = result;
+					firstFailure.accumulateAndGet(i, Math::min);
+					return;
+				}
+				values[i] = value.apply(result);
+			}
+		});
+		for (Object failure : failures) {
+			if (failure != null) {
+				return new Traversal(null, failure);
+			}
+		}
+		return new Traversal(values, null);
+	}
+
+	private static final class Traversal {
+		final Object[] values;
+		final Object failure;
+
+		Traversal(Object[] values, Object failure) {
+			this.values = values;
+			this.failure = failure;
+		}
+	}
+
+	final T element(int index) {
+		return element.apply(index);
+	}
+
+	final int chunkSize() {
+		int parallelism = pool.getParallelism();
+		return Math.max(MIN_CHUNK_SIZE, (size + parallelism * 4 - 1) / (parallelism * 4));
+	}
+
+	final int chunks() {
+		return Math.max(1, (size + chunkSize() - 1) / chunkSize());
+	}
+
+	/**
+	 * Calls {@code action} once per chunk, in parallel; a single chunk is processed on the calling thread.
+	 */
+	final void forEachChunk(ChunkAction action) {
+		int chunkSize = chunkSize();
+		int chunks = chunks();
+		IntConsumer runChunk = chunk -> action.accept(chunk, chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize));
+		if (chunks == 1) {
+			runChunk.accept(0);
+		} else {
+			pool.invoke(new ChunkTask(0, chunks, runChunk));
+		}
+	}
+
+	@FunctionalInterface
+	interface ChunkAction {
+		void accept(int chunk, int from, int to);
+	}
+}
@@ -0,0 +1,83 @@
+package vavr.exercises.validation;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import vavr.exercises.collection.ArrayBuilder;
+
+/**
+ * Validation results of a batch of records, in record order.
+ *
+ * @param <E> error type
+ * @param <T> type of a valid record's value
+ */
+public final class BatchResult<E, T> {
+	private final Array<Validation<Seq<E>, T>> results;
+
+	BatchResult(Array<Validation<Seq<E>, T>> results) {
+		this.results = results;
+	}
+
+	public Array<Validation<Seq<E>, T>> results() {
+		return results;
+	}
+
+	public int size() {
+		return results.size();
+	}
+
+	public boolean isAllValid() {
+		return results.forAll(Validation::isValid);
+	}
+
+	/**
+	 * Values of the valid records.
+	 */
+	public Array<T> valid() {
+		ArrayBuilder<T> valid = ArrayBuilder.create();
+		for (Validation<Seq<E>, T> result : results) {
+			if (result.isValid()) {
+				valid.add(result.get());
+			}
+		}
+		return valid.build();
+	}
+
+	/**
+	 * Index and errors of every invalid record.
+	 */
+	public Array<Tuple2<Integer, Seq<E>>> invalid() {
+		ArrayBuilder<Tuple2<Integer, Seq<E>>> invalid = ArrayBuilder.create();
+		for (int i = 0; i < results.size(); i++) {
+			Validation<Seq<E>, T> result = results.get(i);
+			if (result.isInvalid()) {
+				invalid.add(Tuple.of(i, result.getError()));
+			}
+		}
+		return invalid.build();
+	}
+
+	public int errorCount() {
+		int count = 0;
+		for (Validation<Seq<E>, T> result : results) {
+			if (result.isInvalid()) {
+				count += result.getError().size();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * All values if every record is valid, otherwise the errors of the invalid records.
+	 */
+	public Validation<Array<Tuple2<Integer, Seq<E>>>, Array<T>> toValidation() {
+		return isAllValid() ? Validation.valid(valid()) : Validation.invalid(invalid());
+	}
+
+	@Override
+	public String toString() {
+		return "BatchResult(" + size() + " records, " + invalid().size() + " invalid)";
+	}
+}
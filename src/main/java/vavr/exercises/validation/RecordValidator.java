@@ -0,0 +1,188 @@
+package vavr.exercises.validation;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import vavr.exercises.collection.ArrayBuilder;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static vavr.exercises.parallel.Par.par;
+
+/**
+ * Validation of records with any number of fields, and of many records at once.
+ *
+ * {@code Validation.combine(...).ap(...)} stops at 8 fields and, as errors accumulate, appends them to a
+ * persistent {@code Seq} per combined validation. A {@code RecordValidator} runs every field validation of a
+ * record into one error buffer, which is allocated only once a field is invalid, and builds the value from
+ * typed field handles:
+ *
+ * <pre>{@code
+ * RecordValidator.Builder<Row, String> builder = RecordValidator.builder();
+ * Field<String> name = builder.field(row -> validateName(row.name));
+ * Field<Integer> age = builder.field(row -> validateAge(row.age));
+ * RecordValidator<Row, String, Person> validator = builder.build(fields -> new Person(fields.get(name), fields.get(age)));
+ * }</pre>
+ *
+ * @param <R> record type
+ * @param <E> error type
+ * @param <T> type of a valid record's value
+ */
+public final class RecordValidator<R, E, T> {
+	private final Function<? super R, ? extends Validation<?, ?>>[] fields;
+	private final boolean[] multipleErrors;
+	private final Function<? super Fields, ? extends T> constructor;
+	private final Builder<R, E> owner;
+
+	private RecordValidator(Builder<R, E> owner, Function<? super Fields, ? extends T> constructor) {
+		@SuppressWarnings("unchecked")
+		Function<? super R, ? extends Validation<?, ?>>[] fields = owner.fields.toArray(new Function[0]);
+		this.fields = fields;
+		this.multipleErrors = new boolean[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			multipleErrors[i] = owner.multipleErrors.get(i);
+		}
+		this.constructor = constructor;
+		this.owner = owner;
+	}
+
+	public static <R, E> Builder<R, E> builder() {
+		return new Builder<>();
+	}
+
+	public int fieldCount() {
+		return fields.length;
+	}
+
+	/**
+	 * Runs every field validation of {@code record}, so an invalid record reports all of its errors, in field order.
+	 */
+	public Validation<Seq<E>, T> validate(R record) {
+		Object[] values = new Object[fields.length];
+		ArrayBuilder<E> errors = null;
+		for (int i = 0; i < fields.length; i++) {
+			Validation<?, ?> validation = fields[i].apply(record);
+			if (validation.isValid()) {
+				values[i] = validation.get();
+			} else {
+				if (errors == null) {
+					errors = ArrayBuilder.create();
+				}
+				addErrors(errors, i, validation.getError());
+			}
+		}
+		return errors == null ? Validation.valid(constructor.apply(new Fields(owner, values))) : Validation.invalid(errors.build());
+	}
+
+	public BatchResult<E, T> validateAll(Iterable<? extends R> records) {
+		Objects.requireNonNull(records, "records is null");
+		ArrayBuilder<Validation<Seq<E>, T>> results = ArrayBuilder.create();
+		for (R record : records) {
+			results.add(validate(record));
+		}
+		return new BatchResult<>(results.build());
+	}
+
+	/**
+	 * Like {@link #validateAll(Iterable)}, validating records in parallel on the common pool. Field validations
+	 * and the constructor must then be thread-safe.
+	 */
+	public BatchResult<E, T> validateAllInParallel(IndexedSeq<? extends R> records) {
+		return validateAllInParallel(records, ForkJoinPool.commonPool());
+	}
+
+	public BatchResult<E, T> validateAllInParallel(IndexedSeq<? extends R> records, ForkJoinPool pool) {
+		Objects.requireNonNull(records, "records is null");
+		Objects.requireNonNull(pool, "pool is null");
+		Array<R> array = Array.narrow(records instanceof Array ? (Array<? extends R>) records : Array.ofAll(records));
+		IndexedSeq<Validation<Seq<E>, T>> results = par(array, pool).map(this::validate);
+		return new BatchResult<>(Array.ofAll(results));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addErrors(ArrayBuilder<E> errors, int field, Object error) {
+		if (multipleErrors[field]) {
+			errors.addAll((Iterable<? extends E>) error);
+		} else {
+			errors.add((E) error);
+		}
+	}
+
+	/**
+	 * Collects field validations, each of which becomes a typed {@link Field} of the validated values.
+	 */
+	public static final class Builder<R, E> {
+		private final ArrayList<Function<? super R, ? extends Validation<?, ?>>> fields = new ArrayList<>();
+		private final ArrayList<Boolean> multipleErrors = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		public <V> Field<V> field(Function<? super R, ? extends Validation<? extends E, ? extends V>> validation) {
+			return add(validation, false);
+		}
+
+		/**
+		 * A field whose validation reports any number of errors, e.g. another {@code RecordValidator}'s
+		 * {@code validate} applied to a part of the record.
+		 */
+		public <V> Field<V> fieldWithErrors(Function<? super R, ? extends Validation<? extends Seq<? extends E>, ? extends V>> validation) {
+			return add(validation, true);
+		}
+
+		public <T> RecordValidator<R, E, T> build(Function<? super Fields, ? extends T> constructor) {
+			Objects.requireNonNull(constructor, "constructor is null");
+			return new RecordValidator<>(this, constructor);
+		}
+
+		private <V> Field<V> add(Function<? super R, ? extends Validation<?, ?>> validation, boolean multiple) {
+			Objects.requireNonNull(validation, "validation is null");
+			fields.add(validation);
+			multipleErrors.add(multiple);
+			return new Field<>(this, fields.size() - 1);
+		}
+	}
+
+	/**
+	 * Handle of a field's validated value, of type {@code V}.
+	 */
+	public static final class Field<V> {
+		private final Builder<?, ?> owner;
+		private final int index;
+
+		private Field(Builder<?, ?> owner, int index) {
+			this.owner = owner;
+			this.index = index;
+		}
+
+		@Override
+		public String toString() {
+			return "Field(" + index + ")";
+		}
+	}
+
+	/**
+	 * The validated values of a valid record.
+	 */
+	public static final class Fields {
+		private final Builder<?, ?> owner;
+		private final Object[] values;
+
+		private Fields(Builder<?, ?> owner, Object[] values) {
+			this.owner = owner;
+			this.values = values;
+		}
+
+		@SuppressWarnings("unchecked")
+		public <V> V get(Field<V> field) {
+			if (field.owner != owner || field.index >= values.length) {
+				throw new IllegalArgumentException(field + " is not a field of this validator");
+			}
+			return (V) values[field.index];
+		}
+	}
+}
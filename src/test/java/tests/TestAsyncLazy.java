@@ -0,0 +1,90 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.concurrent.AsyncLazy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestAsyncLazy {
+	@Test
+	void creation() {
+		AtomicInteger calls = new AtomicInteger();
+		AsyncLazy<Integer> lazyNumber = AsyncLazy.of(() -> {
+			calls.incrementAndGet();
+			return 55;
+		});
+		assertFalse(lazyNumber.isStarted());
+		assertFalse(lazyNumber.isEvaluated());
+
+		assertEquals(55, lazyNumber.get());
+		assertEquals(55, lazyNumber.get());
+		assertTrue(lazyNumber.isEvaluated());
+		assertEquals(1, calls.get());
+		assertEquals("AsyncLazy(55)", lazyNumber.toString());
+	}
+
+	@Test
+	void mapping() {
+		AsyncLazy<Integer> lazyNumber = AsyncLazy.of(() -> 55);
+		AsyncLazy<Integer> anotherLazyNumber = lazyNumber.map(x -> x + 1);
+		AsyncLazy<String> flatMapped = anotherLazyNumber.flatMap(x -> AsyncLazy.of(() -> "#" + x));
+		AsyncLazy<Integer> zipped = lazyNumber.zipWith(AsyncLazy.of(() -> 2), (x, y) -> x * y);
+
+		// map, flatMap and zip do not force anything
+		assertFalse(lazyNumber.isStarted());
+		assertFalse(anotherLazyNumber.isStarted());
+		assertFalse(flatMapped.isStarted());
+		assertFalse(zipped.isStarted());
+
+		assertEquals("#56", flatMapped.get());
+		assertTrue(lazyNumber.isEvaluated());
+		assertTrue(anotherLazyNumber.isEvaluated());
+		assertEquals(110, zipped.get());
+		assertEquals(Tuple.of(55, "#56"), lazyNumber.zip(flatMapped).get());
+	}
+
+	@Test
+	void failure() {
+		AsyncLazy<Integer> failing = AsyncLazy.of(() -> Integer.parseInt("x"));
+		assertThrows(NumberFormatException.class, failing::get);
+		assertThrows(NumberFormatException.class, () -> failing.map(x -> x + 1).get());
+
+		Future<Integer> future = failing.toFuture().await();
+		assertTrue(future.isFailure());
+		assertEquals(NumberFormatException.class, future.getCause().get().getClass());
+	}
+
+	@Test
+	void manyAwaiters() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		ExecutorService computation = Executors.newSingleThreadExecutor();
+		AsyncLazy<String> value = AsyncLazy.of(computation, () -> {
+			calls.incrementAndGet();
+			assertDoesNotThrow(() -> release.await());
+			return "ready";
+		});
+
+		int awaiters = 1000;
+		CountDownLatch done = new CountDownLatch(awaiters);
+		for (int i = 0; i < awaiters; i++) {
+			value.toCompletionStage().thenAccept(result -> {
+				assertEquals("ready", result);
+				done.countDown();
+			});
+		}
+		assertFalse(value.isEvaluated());
+		release.countDown();
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals(1, calls.get());
+		computation.shutdown();
+	}
+}
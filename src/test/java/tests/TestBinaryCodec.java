@@ -0,0 +1,296 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple8;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.List;
+import io.vavr.collection.TreeSet;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.DoubleArray;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.collection.LongArray;
+import vavr.exercises.io.BinaryReader;
+import vavr.exercises.io.BinaryWriter;
+import vavr.exercises.io.BinaryWriter.Feature;
+import vavr.exercises.io.Codec;
+import vavr.exercises.io.Codecs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestBinaryCodec {
+	private static final Feature[][] FEATURES = {
+			{}, { Feature.COMPRESSION }, { Feature.SHARING }, { Feature.COMPRESSION, Feature.SHARING }
+	};
+
+	// round trips value through every combination of features
+	private static <T> void assertRoundTrip(Codec<T> codec, T value) {
+		for (Feature[] features : FEATURES) {
+			assertEquals(value, codec.decode(codec.encode(value, features)), Arrays.toString(features));
+		}
+	}
+
+	@Test
+	void primitives() {
+		for (int value : new int[] { 0, 1, -1, 63, -64, 64, 300, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+			assertRoundTrip(Codecs.INT, value);
+		}
+		for (long value : new long[] { 0, -1, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE }) {
+			assertRoundTrip(Codecs.LONG, value);
+		}
+		for (double value : new double[] { 0.0, -0.0, 3.14, Double.NaN, Double.NEGATIVE_INFINITY, Double.MIN_VALUE }) {
+			assertRoundTrip(Codecs.DOUBLE, value);
+		}
+		assertRoundTrip(Codecs.BOOLEAN, true);
+		assertRoundTrip(Codecs.BYTE, Byte.MIN_VALUE);
+		assertRoundTrip(Codecs.SHORT, Short.MIN_VALUE);
+		assertRoundTrip(Codecs.CHARACTER, '\uffff');
+		assertRoundTrip(Codecs.FLOAT, -1.5f);
+		assertRoundTrip(Codecs.STRING, "");
+		assertRoundTrip(Codecs.STRING, "vavr \u00e9\u4e2d\ud83d\ude00");
+
+		// strings longer than the buffers
+		char[] chars = new char[20_000];
+		Arrays.fill(chars, '\u00e9');
+		assertRoundTrip(Codecs.STRING, new String(chars));
+
+		// header plus one byte for small ints of either sign
+		assertEquals(7, Codecs.INT.encode(-64).length);
+		assertEquals(8, Codecs.INT.encode(64).length);
+	}
+
+	@Test
+	void collectionsOfTheTestSuite() {
+		assertRoundTrip(Codecs.array(Codecs.CHARACTER), Array.of('a', 'b', 'c', '$'));
+		assertRoundTrip(Codecs.list(Codecs.CHARACTER), List.of('a', 'b', 'c', '$'));
+		assertRoundTrip(Codecs.list(Codecs.INT), List.empty());
+		assertRoundTrip(Codecs.array(Codecs.INT), Array.range(0, 10_000));
+		assertRoundTrip(Codecs.list(Codecs.DOUBLE), List.range(0, 5_000).map(i -> i / 7.0));
+		assertRoundTrip(Codecs.hashMap(Codecs.STRING, Codecs.INT), HashMap.of("a", 1, "b", 2, "c", 3));
+		assertRoundTrip(Codecs.hashMap(Codecs.INT, Codecs.list(Codecs.STRING)),
+				HashMap.ofEntries(Array.range(0, 3_000).map(i -> Tuple.of(i, List.of("x" + i, "y")))));
+		assertRoundTrip(Codecs.treeSet(Codecs.INT), TreeSet.of(3, 1, 2));
+		assertRoundTrip(Codecs.array(Codecs.array(Codecs.INT)), Array.of(Array.of(1, 2), Array.empty(), Array.of(3)));
+
+		// a tree set is decoded with the codec's comparator
+		Comparator<Integer> reversed = Comparator.reverseOrder();
+		TreeSet<Integer> descending = TreeSet.of(reversed, 1, 2, 3);
+		TreeSet<Integer> decoded = Codecs.treeSet(Codecs.INT, reversed).decode(Codecs.treeSet(Codecs.INT, reversed).encode(descending));
+		assertEquals(List.of(3, 2, 1), decoded.toList());
+		assertEquals(List.of(4, 3, 2, 1), decoded.add(4).toList());
+
+		assertRoundTrip(Codecs.INT_ARRAY, IntArray.of(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE));
+		assertRoundTrip(Codecs.INT_ARRAY, IntArray.range(0, 100_000));
+		assertRoundTrip(Codecs.LONG_ARRAY, LongArray.of(Long.MIN_VALUE, 0, Long.MAX_VALUE));
+		assertRoundTrip(Codecs.DOUBLE_ARRAY, DoubleArray.of(-0.5, 0.0, 1e300));
+	}
+
+	@Test
+	void controlTypesAndTuples() throws IOException {
+		assertRoundTrip(Codecs.option(Codecs.STRING), Option.some("x"));
+		assertRoundTrip(Codecs.option(Codecs.STRING), Option.none());
+		Codec<Either<String, Integer>> either = Codecs.either(Codecs.STRING, Codecs.INT);
+		assertRoundTrip(either, Either.right(42));
+		assertRoundTrip(either, Either.left("error"));
+		assertRoundTrip(Codecs.tryOf(Codecs.INT), Try.success(1));
+
+		// failures keep their class, message and cause
+		Codec<Try<Integer>> attempt = Codecs.tryOf(Codecs.INT);
+		Try<Integer> failure = Try.of(() -> Integer.parseInt("x")).recoverWith(e -> Try.failure(new IllegalStateException("wrapped", e)));
+		Try<Integer> decoded = attempt.decode(attempt.encode(failure, Feature.COMPRESSION));
+		assertTrue(decoded.isFailure());
+		assertEquals(IllegalStateException.class, decoded.getCause().getClass());
+		assertEquals("wrapped", decoded.getCause().getMessage());
+		assertEquals(NumberFormatException.class, decoded.getCause().getCause().getClass());
+		Exception suppressing = new IllegalArgumentException(new StackOverflowError());
+		suppressing.addSuppressed(new RuntimeException("suppressed"));
+		Throwable withSuppressed = attempt.decode(attempt.encode(Try.failure(suppressing))).getCause();
+		assertEquals("suppressed", withSuppressed.getSuppressed()[0].getMessage());
+		assertEquals(suppressing.getStackTrace().length, withSuppressed.getStackTrace().length);
+
+		// the cause is deserialized with a filter that admits throwables, not arbitrary classes
+		assertCause(InvalidClassException.class, () -> attempt.decode(failure(new java.util.HashMap<String, String>())));
+		assertCause(InvalidClassException.class, () -> attempt.decode(failure(new CarryingException(new java.util.Date()))));
+		assertEquals(Feature.SHARING, ((CarryingException) attempt.decode(failure(new CarryingException(Feature.SHARING))).getCause()).payload);
+
+		assertRoundTrip(Codecs.tuple2(Codecs.STRING, Codecs.INT), Tuple.of("a", 1));
+		assertRoundTrip(Codecs.tuple3(Codecs.INT, Codecs.INT, Codecs.INT), Tuple.of(1, 2, 3));
+		assertRoundTrip(Codecs.tuple4(Codecs.INT, Codecs.STRING, Codecs.INT, Codecs.STRING), Tuple.of(1, "2", 3, "4"));
+		assertRoundTrip(Codecs.tuple5(Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT), Tuple.of(1, 2, 3, 4, 5));
+		assertRoundTrip(Codecs.tuple6(Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.LONG), Tuple.of(1, 2, 3, 4, 5, 6L));
+		assertRoundTrip(Codecs.tuple7(Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.INT, Codecs.DOUBLE),
+				Tuple.of(1, 2, 3, 4, 5, 6, 7.0));
+		// the Tuple8 of TestTuples
+		Codec<Tuple8<Boolean, Byte, Character, Short, Integer, Long, Float, Double>> tuple8 = Codecs.tuple8(
+				Codecs.BOOLEAN, Codecs.BYTE, Codecs.CHARACTER, Codecs.SHORT, Codecs.INT, Codecs.LONG, Codecs.FLOAT, Codecs.DOUBLE);
+		assertRoundTrip(tuple8, Tuple.of(true, (byte) 1, 'a', (short) 2, 3, 4L, 5.0f, 6.0));
+
+		// a codec of another type, derived from a tuple codec
+		Codec<java.util.AbstractMap.SimpleEntry<String, Integer>> entry = Codecs.tuple2(Codecs.STRING, Codecs.INT)
+				.xmap(tuple -> new java.util.AbstractMap.SimpleEntry<>(tuple._1, tuple._2), e -> Tuple.of(e.getKey(), e.getValue()));
+		assertRoundTrip(entry, new java.util.AbstractMap.SimpleEntry<>("k", 1));
+	}
+
+	@Test
+	void sharing() throws IOException {
+		// successive versions of a list share all but their newest cells
+		Codec<List<String>> codec = Codecs.list(Codecs.STRING);
+		List<List<String>> versions = List.empty();
+		List<String> version = List.empty();
+		for (int i = 0; i < 200; i++) {
+			version = version.prepend("event " + i);
+			versions = versions.prepend(version);
+		}
+		Codec<List<List<String>>> history = Codecs.list(codec);
+		byte[] plain = history.encode(versions);
+		byte[] shared = history.encode(versions, Feature.SHARING);
+		assertTrue(shared.length * 50 < plain.length, shared.length + " vs " + plain.length);
+
+		List<List<String>> decoded = history.decode(shared);
+		assertEquals(versions, decoded);
+		// the decoded versions share their tails too
+		assertSame(decoded.get(1), decoded.get(0).tail());
+		assertSame(decoded.last(), decoded.get(100).drop(99));
+
+		// a collection written twice is read back as one instance
+		Array<Integer> array = Array.range(0, 1000);
+		Codec<Tuple2<Array<Integer>, Array<Integer>>> pair = Codecs.tuple2(Codecs.array(Codecs.INT), Codecs.array(Codecs.INT));
+		Tuple2<Array<Integer>, Array<Integer>> twice = pair.decode(pair.encode(Tuple.of(array, array), Feature.SHARING));
+		assertSame(twice._1, twice._2);
+		assertTrue(pair.encode(Tuple.of(array, array), Feature.SHARING).length < pair.encode(Tuple.of(array, array)).length * 0.6);
+
+		// a reference to a value of another type is corrupt
+		byte[] twiceBytes = pair.encode(Tuple.of(array, array), Feature.SHARING);
+		assertCause(StreamCorruptedException.class, () -> Codecs.tuple2(Codecs.array(Codecs.INT), Codecs.treeSet(Codecs.INT)).decode(twiceBytes));
+		assertCause(StreamCorruptedException.class, () -> Codecs.tuple2(Codecs.array(Codecs.INT), Codecs.INT_ARRAY).decode(twiceBytes));
+
+		// sharing spans all values of a stream
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		List<String> base = List.of("a", "b", "c");
+		try (BinaryWriter writer = BinaryWriter.create(bytes, Feature.SHARING)) {
+			writer.write(codec, base).write(codec, base.prepend("z")).write(codec, base.tail());
+		}
+		try (BinaryReader reader = BinaryReader.create(new ByteArrayInputStream(bytes.toByteArray()))) {
+			List<String> first = reader.read(codec);
+			List<String> second = reader.read(codec);
+			List<String> third = reader.read(codec);
+			assertEquals(List.of("z", "a", "b", "c"), second);
+			assertSame(first, second.tail());
+			assertSame(first.tail(), third);
+		}
+	}
+
+	@Test
+	void streaming() throws IOException {
+		// a sequence of unknown length is written in blocks and read back lazily
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (BinaryWriter writer = BinaryWriter.create(bytes, Feature.COMPRESSION)) {
+			writer.writeAll(Codecs.INT, Iterator.range(0, 2_500).map(i -> i * i));
+			writer.write(Codecs.STRING, "after");
+			writer.writeAll(Codecs.INT, Iterator.empty());
+		}
+		try (BinaryReader reader = BinaryReader.create(new ByteArrayInputStream(bytes.toByteArray()))) {
+			Iterator<Integer> squares = reader.readAll(Codecs.INT);
+			assertEquals(List.of(0, 1, 4), squares.take(3).toList());
+			assertEquals(List.range(3, 2_500).map(i -> i * i), squares.toList());
+			assertEquals("after", reader.read(Codecs.STRING));
+			assertFalse(reader.readAll(Codecs.INT).hasNext());
+		}
+
+		// flush() makes what was written readable before the writer is closed
+		for (Feature[] features : new Feature[][]{{}, {Feature.COMPRESSION}}) {
+			ByteArrayOutputStream flushed = new ByteArrayOutputStream();
+			try (BinaryWriter writer = BinaryWriter.create(flushed, features)) {
+				writer.write(Codecs.STRING, "first").write(Codecs.INT, 42);
+				writer.flush();
+				try (BinaryReader reader = BinaryReader.create(new ByteArrayInputStream(flushed.toByteArray()))) {
+					assertEquals("first", reader.read(Codecs.STRING));
+					assertEquals(42, reader.read(Codecs.INT));
+				}
+			}
+		}
+
+		// compression pays off for repetitive data
+		Array<String> repetitive = Array.fill(1_000, "the same string");
+		Codec<Array<String>> strings = Codecs.array(Codecs.STRING);
+		assertTrue(strings.encode(repetitive, Feature.COMPRESSION).length * 10 < strings.encode(repetitive).length);
+	}
+
+	@Test
+	void malformedInput() {
+		byte[] bytes = Codecs.list(Codecs.INT).encode(List.of(1, 2, 3));
+
+		// not a stream of this format, or of a later version
+		byte[] foreign = bytes.clone();
+		foreign[0] = 'X';
+		assertCause(StreamCorruptedException.class, () -> Codecs.list(Codecs.INT).decode(foreign));
+		byte[] future = bytes.clone();
+		future[4] = BinaryWriter.VERSION + 1;
+		assertCause(StreamCorruptedException.class, () -> Codecs.list(Codecs.INT).decode(future));
+		byte[] unknownFeature = bytes.clone();
+		unknownFeature[5] = 0x40;
+		assertCause(StreamCorruptedException.class, () -> Codecs.list(Codecs.INT).decode(unknownFeature));
+
+		// truncated
+		assertCause(EOFException.class, () -> Codecs.list(Codecs.INT).decode(Arrays.copyOf(bytes, bytes.length - 1)));
+		assertCause(EOFException.class, () -> Codecs.list(Codecs.INT).decode(Arrays.copyOf(bytes, 3)));
+
+		// values out of the range of the decoded type
+		assertCause(StreamCorruptedException.class, () -> Codecs.SHORT.decode(Codecs.INT.encode(70_000)));
+		assertCause(StreamCorruptedException.class, () -> Codecs.SHORT.decode(Codecs.INT.encode(Short.MIN_VALUE - 1)));
+		assertCause(StreamCorruptedException.class, () -> Codecs.CHARACTER.decode(Codecs.INT.encode(70_000)));
+		assertEquals(Short.MIN_VALUE, (short) Codecs.SHORT.decode(Codecs.INT.encode((int) Short.MIN_VALUE)));
+		assertEquals(Character.MAX_VALUE, (char) Codecs.CHARACTER.decode(Codecs.CHARACTER.encode(Character.MAX_VALUE)));
+
+		// a length far beyond the data fails at the end of the data, without allocating for it
+		byte[] huge = Codecs.INT_ARRAY.encode(IntArray.of(1));
+		byte[] lying = Arrays.copyOf(huge, huge.length + 4);
+		System.arraycopy(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 }, 0, lying, 6, 5);
+		assertCause(EOFException.class, () -> Codecs.INT_ARRAY.decode(lying));
+	}
+
+	// a tryOf failure whose cause is the serialized object
+	private static byte[] failure(Object cause) throws IOException {
+		ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+			out.writeObject(cause);
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (BinaryWriter writer = BinaryWriter.create(bytes)) {
+			writer.writeBoolean(false);
+			writer.writeBytes(serialized.toByteArray());
+		}
+		return bytes.toByteArray();
+	}
+
+	static final class CarryingException extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		final Object payload;
+
+		CarryingException(Object payload) {
+			this.payload = payload;
+		}
+	}
+
+	private static void assertCause(Class<? extends IOException> expected, org.junit.jupiter.api.function.Executable executable) {
+		UncheckedIOException exception = assertThrows(UncheckedIOException.class, executable);
+		assertEquals(expected, exception.getCause().getClass());
+	}
+}
@@ -0,0 +1,171 @@
+package tests;
+
+import io.vavr.CheckedFunction1;
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.Function8;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.function.CacheStats;
+import vavr.exercises.function.MemoCache;
+import vavr.exercises.function.Memoize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestBoundedMemoization {
+	@Test
+	void memoized() {
+		AtomicInteger calls = new AtomicInteger();
+		MemoCache cache = MemoCache.builder().maximumSize(100).build();
+		Function2<Integer, Integer, Integer> sum = Memoize.bounded((x, y) -> {
+			calls.incrementAndGet();
+			return x + y;
+		}, cache);
+
+		assertTrue(sum.isMemoized());
+		assertEquals(3, sum.apply(1, 2));
+		assertEquals(3, sum.apply(1, 2)); // served from the cache
+		assertEquals(4, sum.apply(2, 2));
+		assertEquals(2, calls.get());
+
+		CacheStats stats = cache.stats();
+		assertEquals(1, stats.hits());
+		assertEquals(2, stats.misses());
+		assertEquals(0, stats.evictions());
+		assertEquals(2, cache.size());
+
+		// Function8: arguments are cached as a Tuple8
+		Function8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> sum8 =
+				Memoize.bounded((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h, MemoCache.builder().build());
+		assertEquals(36, sum8.apply(1, 2, 3, 4, 5, 6, 7, 8));
+	}
+
+	@Test
+	void lruEviction() {
+		MemoCache cache = MemoCache.builder().maximumSize(2).eviction(MemoCache.Eviction.LRU).build();
+		Function1<Integer, Integer> square = Memoize.bounded(x -> x * x, cache);
+		square.apply(1);
+		square.apply(2);
+		square.apply(1); // 2 is now least recently used
+		square.apply(3); // evicts 2
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.stats().evictions());
+
+		long misses = cache.stats().misses();
+		square.apply(1);
+		assertEquals(misses, cache.stats().misses());
+		square.apply(2);
+		assertEquals(misses + 1, cache.stats().misses());
+	}
+
+	@Test
+	void lfuEviction() {
+		MemoCache cache = MemoCache.builder().maximumSize(2).eviction(MemoCache.Eviction.LFU).build();
+		Function1<Integer, Integer> square = Memoize.bounded(x -> x * x, cache);
+		square.apply(1);
+		square.apply(1);
+		square.apply(1);
+		square.apply(2);
+		square.apply(2);
+		square.apply(3); // evicts 2, used less often than 1
+		long misses = cache.stats().misses();
+		square.apply(1);
+		assertEquals(misses, cache.stats().misses());
+		square.apply(2);
+		assertEquals(misses + 1, cache.stats().misses());
+	}
+
+	@Test
+	void expiry() {
+		AtomicLong now = new AtomicLong();
+		MemoCache cache = MemoCache.builder().expireAfterWrite(Duration.ofSeconds(10)).ticker(now::get).build();
+		AtomicInteger calls = new AtomicInteger();
+		Function1<String, Integer> length = Memoize.bounded(s -> calls.incrementAndGet(), cache);
+
+		assertEquals(1, length.apply("hello"));
+		now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+		assertEquals(1, length.apply("hello"));
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertEquals(2, length.apply("hello")); // expired, recomputed
+		assertEquals(1, cache.stats().evictions());
+	}
+
+	@Test
+	void expiredEntriesAreEvictedBeforeLiveOnes() {
+		for (MemoCache.Eviction eviction : MemoCache.Eviction.values()) {
+			AtomicLong now = new AtomicLong();
+			MemoCache cache = MemoCache.builder().maximumSize(2).eviction(eviction).expireAfterWrite(Duration.ofSeconds(10))
+					.ticker(now::get).build();
+			Function1<Integer, Integer> square = Memoize.bounded(x -> x * x, cache);
+			square.apply(1);
+			now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+			square.apply(2);
+			square.apply(1); // 1 is now the most recently and most often used, 2 the victim of either policy
+			now.addAndGet(TimeUnit.SECONDS.toNanos(6));
+			square.apply(3); // 1 has expired and goes instead of 2
+			assertEquals(2, cache.size(), eviction.name());
+			long misses = cache.stats().misses();
+			square.apply(2);
+			assertEquals(misses, cache.stats().misses(), eviction.name());
+			assertEquals(1, cache.stats().evictions(), eviction.name());
+		}
+	}
+
+	@Test
+	void failuresAreNotCached() throws Throwable {
+		AtomicInteger calls = new AtomicInteger();
+		CheckedFunction1<String, String> read = Memoize.boundedChecked(path -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new IOException("not yet");
+			}
+			return path.toUpperCase();
+		}, MemoCache.builder().maximumSize(10).build());
+
+		assertTrue(read.isMemoized());
+		assertThrows(IOException.class, () -> read.apply("file"));
+		assertEquals("FILE", read.apply("file"));
+		assertEquals("FILE", read.apply("file"));
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void concurrentStress() throws Exception {
+		int threads = 8;
+		int callsPerThread = 20_000;
+		MemoCache cache = MemoCache.builder().maximumSize(64).eviction(MemoCache.Eviction.LFU).build();
+		Function1<Integer, Integer> negate = Memoize.bounded(x -> -x, cache);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			java.util.List<Future<?>> futures = new java.util.ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int seed = t;
+				futures.add(executor.submit(() -> {
+					java.util.Random random = new java.util.Random(seed);
+					for (int i = 0; i < callsPerThread; i++) {
+						int x = random.nextInt(256);
+						assertEquals(-x, negate.apply(x));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		CacheStats stats = cache.stats();
+		assertEquals((long) threads * callsPerThread, stats.requests());
+		assertTrue(cache.size() <= 64);
+		assertTrue(stats.evictions() > 0);
+	}
+}
@@ -0,0 +1,87 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.LinkedHashMap;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.ArrayBuilder;
+import vavr.exercises.collection.BulkOps;
+import vavr.exercises.collection.HashMapBuilder;
+import vavr.exercises.collection.HashSetBuilder;
+import vavr.exercises.collection.LinkedHashMapBuilder;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestBulkOps {
+	static final Array<Integer> NUMBERS = Array.ofAll(new Random(42).ints(10_000, 0, 1000).toArray());
+
+	@Test
+	void sameResultsAsTraversable() {
+		// groupBy(), including the order of groups and of elements within groups
+		assertEquals(NUMBERS.groupBy(x -> x % 7).toList(), BulkOps.groupBy(NUMBERS, x -> x % 7).toList());
+		Vector<Integer> vector = NUMBERS.toVector();
+		assertEquals(vector.groupBy(x -> x % 7).toList(), BulkOps.groupBy(vector, x -> x % 7, Vector::ofAll).toList());
+		List<Integer> list = List.of(3, 1, 4, 1, 5);
+		assertEquals(list.groupBy(x -> x % 2).toList(), BulkOps.groupBy(list, x -> x % 2, List::ofAll).toList());
+
+		// partition()
+		assertEquals(NUMBERS.partition(x -> x < 500), BulkOps.partition(NUMBERS, x -> x < 500));
+		assertEquals(list.partition(x -> x > 2), BulkOps.partition(list, x -> x > 2, List::ofAll));
+
+		// distinct(), distinctBy(Function), distinctBy(Comparator)
+		assertEquals(NUMBERS.distinct(), BulkOps.distinct(NUMBERS));
+		Array<String> words = Array.of("a", "B", "A", "b", "c");
+		assertEquals(words.distinctBy((String word) -> word.toLowerCase()), BulkOps.distinctBy(words, (String word) -> word.toLowerCase()));
+		assertEquals(words.distinctBy(String.CASE_INSENSITIVE_ORDER), BulkOps.distinctBy(words, String.CASE_INSENSITIVE_ORDER));
+
+		assertTrue(BulkOps.groupBy(Array.empty(), x -> x).isEmpty());
+		assertEquals(Tuple.of(Array.empty(), Array.empty()), BulkOps.partition(Array.empty(), x -> true));
+	}
+
+	@Test
+	void builders() {
+		// ArrayBuilder
+		ArrayBuilder<Integer> array = ArrayBuilder.withExpectedSize(2);
+		array.add(1).add(2).add(3).addAll(List.of(4, 5));
+		assertEquals(5, array.size());
+		assertEquals(Array.of(1, 2, 3, 4, 5), array.build());
+		assertThrows(IllegalStateException.class, () -> array.add(6));
+		assertThrows(IllegalStateException.class, array::build);
+		assertEquals(Array.empty(), ArrayBuilder.create().build());
+
+		// HashMapBuilder
+		HashMapBuilder<String, Integer> map = HashMapBuilder.create();
+		map.put("a", 1).merge("a", 2, Integer::sum).merge("b", 5, Integer::sum).putAll(List.of(Tuple.of("c", 3)));
+		assertEquals(3, (int) map.get("a").get());
+		assertTrue(map.get("z").isEmpty());
+		assertEquals(HashMap.of("a", 3, "b", 5, "c", 3), map.build());
+		assertThrows(IllegalStateException.class, () -> map.put("d", 4));
+
+		// LinkedHashMapBuilder keeps first-put order
+		LinkedHashMapBuilder<String, Integer> linked = LinkedHashMapBuilder.withExpectedSize(3);
+		linked.put("z", 1).put("a", 2).put("z", 3);
+		assertEquals(List.of(Tuple.of("z", 3), Tuple.of("a", 2)), linked.build().toList());
+
+		// HashSetBuilder
+		HashSetBuilder<Integer> set = HashSetBuilder.withExpectedSize(10);
+		assertTrue(set.add(1));
+		assertFalse(set.add(1));
+		set.addAll(List.of(2, 3));
+		assertTrue(set.contains(3));
+		assertEquals(HashSet.of(1, 2, 3), set.build());
+		assertThrows(IllegalStateException.class, () -> set.contains(1));
+		assertThrows(IllegalArgumentException.class, () -> HashSetBuilder.withExpectedSize(-1));
+	}
+
+	@Test
+	void groupsHaveSourceType() {
+		LinkedHashMap<Boolean, Vector<Integer>> groups = BulkOps.groupBy(Vector.of(1, 2, 3), x -> x > 1, Vector::ofAll);
+		assertEquals(Vector.of(2, 3), groups.get(true).get());
+	}
+}
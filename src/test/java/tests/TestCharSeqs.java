@@ -0,0 +1,65 @@
+package tests;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.CharSeq;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.CharClass;
+import vavr.exercises.collection.CharSeqs;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCharSeqs {
+	static final String VALID_NAME_CHARS = "[a-zA-Z ]";
+	static final CharClass VALID_NAME = CharClass.parse(VALID_NAME_CHARS);
+	static final Array<String> NAMES = Array.of("$53$#(%*#", "John Smith", "Zo\u00eb O'Brien-\u00c7a", "", "  ", "a-z]^[\\");
+
+	@Test
+	void sameResultsAsCharSeq() {
+		// TestValidation.validateName's invalid characters
+		for (String name : NAMES) {
+			CharSeq expected = CharSeq.of(name).replaceAll(VALID_NAME_CHARS, "");
+			assertEquals(expected, CharSeqs.reject(CharSeq.of(name), VALID_NAME), name);
+			assertEquals(expected, CharSeqs.replaceAll(CharSeq.of(name), Pattern.compile(VALID_NAME_CHARS), ""), name);
+			assertEquals(expected.distinct().sorted(), CharSeqs.distinctSorted(expected), name);
+			assertEquals(expected.distinct(), CharSeqs.distinct(expected), name);
+			assertEquals(expected.sorted(), CharSeqs.sorted(expected), name);
+			assertEquals(CharSeq.of(name).filter(c -> VALID_NAME.contains(c)), CharSeqs.filter(CharSeq.of(name), VALID_NAME), name);
+			assertEquals(CharSeq.of(name).mkString(", "), CharSeqs.mkString(CharSeq.of(name), ", "), name);
+			assertEquals(CharSeq.of(name).mkString("<", "|", ">"), CharSeqs.mkString(CharSeq.of(name), "<", "|", ">"), name);
+		}
+		assertEquals("#$%(*35", CharSeqs.distinctSorted(CharSeqs.reject(CharSeq.of("$53$#(%*#"), VALID_NAME)).mkString());
+	}
+
+	@Test
+	void patterns() {
+		// replaceFirst(), matches(), split() with a precompiled Pattern
+		Pattern digits = Pattern.compile("[0-9]+");
+		assertEquals(CharSeq.of("a#b22"), CharSeqs.replaceFirst(CharSeq.of("a1b22"), digits, "#"));
+		assertTrue(CharSeqs.matches(CharSeq.of("123"), digits));
+		assertFalse(CharSeqs.matches(CharSeq.of("12a"), digits));
+		assertEquals(Array.of(CharSeq.of("a"), CharSeq.of("b"), CharSeq.of("c")), CharSeqs.split(CharSeq.of("a1b22c"), digits));
+	}
+
+	@Test
+	void charClasses() {
+		// parse(), of(), range(), union(), negate()
+		CharClass notDigit = CharClass.parse("[^0-9]");
+		assertFalse(notDigit.contains('5'));
+		assertTrue(notDigit.contains('x'));
+		assertTrue(notDigit.contains('\u00eb'));
+		CharClass accented = CharClass.range('\u00c0', '\u00ff').union(CharClass.of("-'"));
+		assertTrue(accented.contains('\u00eb'));
+		assertTrue(accented.contains('-'));
+		assertFalse(accented.contains('e'));
+		assertTrue(CharClass.parse("[a-]").contains('-'));
+		assertEquals(3, CharSeqs.count(CharSeq.of("a1b2c3"), CharClass.range('0', '9')));
+		assertTrue(CharSeqs.forAll(CharSeq.of("John Smith"), VALID_NAME));
+		assertFalse(CharSeqs.forAll(CharSeq.of("J0hn"), VALID_NAME));
+
+		assertThrows(IllegalArgumentException.class, () -> CharClass.parse("a-z"));
+		assertThrows(IllegalArgumentException.class, () -> CharClass.parse("[\\d]"));
+		assertThrows(IllegalArgumentException.class, () -> CharClass.range('z', 'a'));
+	}
+}
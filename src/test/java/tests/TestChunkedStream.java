@@ -0,0 +1,140 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.Stream;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.ChunkedStream;
+import vavr.exercises.collection.DoubleChunkedStream;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.collection.IntChunkedStream;
+import vavr.exercises.collection.LongArray;
+import vavr.exercises.collection.LongChunkedStream;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestChunkedStream {
+	@Test
+	void creation() {
+		// same elements as the corresponding Stream factories
+		assertEquals(Stream.from(5).take(1000).toArray(), ChunkedStream.from(5).take(1000).toArray());
+		assertEquals(Stream.range(0, 10).toArray(), ChunkedStream.range(0, 10).toArray());
+		assertEquals(Stream.iterate(1, x -> x * 3).take(12).toArray(), ChunkedStream.iterate(1, x -> x * 3).take(12).toArray());
+		assertEquals(Array.of("a", "a", "a"), ChunkedStream.continually(() -> "a").take(3).toArray());
+		assertEquals(Stream.unfoldRight(10, x -> x == 0 ? Option.none() : Option.of(Tuple.of(x, x - 1))).toArray(),
+				ChunkedStream.unfoldRight(10, x -> x == 0 ? Option.none() : Option.of(Tuple.of(x, x - 1))).toArray());
+		assertEquals(Array.of(1, 2, 3, 4), ChunkedStream.concat(Array.of(1, 2), Array.of(3, 4)).toArray());
+		assertEquals(Array.empty(), ChunkedStream.empty().toArray());
+		assertTrue(ChunkedStream.empty().isEmpty());
+		assertEquals(Array.of(1, 2, 3), ChunkedStream.of(1, 2, 3).toArray());
+	}
+
+	@Test
+	void manipulation() {
+		// chunk boundaries must not be observable, so compare against Stream at several chunk sizes
+		Stream<Integer> expected = Stream.from(0).map(x -> x * 2).filter(x -> x % 3 == 0).drop(7).takeWhile(x -> x < 5000);
+		for (int chunkSize : new int[]{1, 3, 64, 1024}) {
+			ChunkedStream<Integer> actual = ChunkedStream.from(0).withChunkSize(chunkSize)
+					.map(x -> x * 2).filter(x -> x % 3 == 0).drop(7).takeWhile(x -> x < 5000);
+			assertEquals(expected.toArray(), actual.toArray(), "chunkSize " + chunkSize);
+			assertEquals(expected.length(), actual.length());
+		}
+
+		assertEquals(Array.of(1, 1, 2, 2), ChunkedStream.of(1, 2).flatMap(x -> Array.of(x, x)).toArray());
+		assertEquals(Array.of(3, 4), ChunkedStream.range(0, 5).dropWhile(x -> x < 3).toArray());
+		assertEquals(Array.of(0, 1, 5, 6), ChunkedStream.of(5, 6).prependAll(Array.of(0, 1)).toArray());
+		assertEquals(Array.of(Tuple.of("a", 0), Tuple.of("b", 1)), ChunkedStream.of("a", "b").zipWithIndex().toArray());
+		assertEquals(Array.of(Tuple.of(1, "x")), ChunkedStream.of(1, 2).zip(Array.of("x")).toArray());
+		assertEquals("0, 1, 2", ChunkedStream.range(0, 3).mkString(", "));
+		assertEquals(",a,b", ChunkedStream.of("", "a", "b").mkString(","));
+		assertEquals(",", ChunkedStream.of("", "").mkString(","));
+		assertEquals(45, (int) ChunkedStream.range(0, 10).foldLeft(0, Integer::sum));
+		assertEquals(7, (int) ChunkedStream.from(7).head());
+		assertThrows(NoSuchElementException.class, () -> ChunkedStream.empty().head());
+	}
+
+	@Test
+	void memoization() {
+		// memoizing: like Stream, a second traversal does not recompute
+		AtomicInteger evaluations = new AtomicInteger();
+		ChunkedStream<Integer> memoized = ChunkedStream.range(0, 1000).map(x -> {
+			evaluations.incrementAndGet();
+			return x;
+		});
+		assertTrue(memoized.isMemoizing());
+		memoized.toArray();
+		memoized.toArray();
+		assertEquals(1000, evaluations.get());
+		assertEquals(4, memoized.memoizedChunks());
+
+		// toString() shows evaluated elements only, like Stream
+		ChunkedStream<Integer> small = ChunkedStream.range(0, 3).withChunkSize(2);
+		assertEquals("ChunkedStream(?)", small.toString());
+		small.head();
+		assertEquals("ChunkedStream(0, 1, ?)", small.toString());
+		small.length();
+		assertEquals("ChunkedStream(0, 1, 2)", small.toString());
+
+		// non-memoizing: every traversal re-evaluates and nothing is retained
+		evaluations.set(0);
+		ChunkedStream<Integer> transient_ = memoized.nonMemoizing();
+		transient_.toArray();
+		transient_.toArray();
+		assertEquals(2000, evaluations.get());
+		assertEquals(0, transient_.memoizedChunks());
+		assertEquals("ChunkedStream(...)", transient_.toString());
+
+		// memoization happens on the traversed stream only, its parents are fused into its pipeline
+		ChunkedStream<Integer> parent = ChunkedStream.from(0);
+		parent.map(x -> x + 1).take(10_000).length();
+		assertEquals(0, parent.memoizedChunks());
+
+		// so a stream derived from an impure source re-evaluates it and sees other elements than its parent
+		AtomicInteger counter = new AtomicInteger();
+		ChunkedStream<Integer> counting = ChunkedStream.continually(counter::incrementAndGet);
+		assertEquals(1, (int) counting.head());
+		assertNotEquals(counting.head(), counting.map(x -> x).head());
+
+		// but a single-use iterator is memoized where it is read, for the stream and all streams derived from it
+		ChunkedStream<Integer> once = ChunkedStream.ofAll(io.vavr.collection.Iterator.range(0, 1000));
+		assertEquals(Array.range(0, 1000).map(x -> x * 2), once.map(x -> x * 2).toArray());
+		assertEquals(Array.range(0, 1000), once.toArray());
+		assertEquals(Array.range(0, 1000), once.nonMemoizing().toArray());
+		assertEquals(Array.range(10, 1000), once.drop(10).withChunkSize(7).toArray());
+
+		// take() evaluates exactly the elements it takes, takeWhile() a chunk at a time
+		AtomicInteger calls = new AtomicInteger();
+		assertEquals(3, ChunkedStream.continually(calls::incrementAndGet).take(3).length());
+		assertEquals(3, calls.get());
+		calls.set(0);
+		assertEquals(Array.rangeClosed(3, 302), ChunkedStream.continually(calls::incrementAndGet).drop(2).take(300).toArray());
+		assertEquals(302, calls.get());
+		calls.set(0);
+		assertEquals(3, IntChunkedStream.continually(calls::incrementAndGet).take(3).count());
+		assertEquals(3, calls.get());
+		calls.set(0);
+		assertEquals(2, ChunkedStream.continually(calls::incrementAndGet).takeWhile(x -> x < 3).length());
+		assertEquals(ChunkedStream.DEFAULT_CHUNK_SIZE, calls.get());
+	}
+
+	@Test
+	void primitives() {
+		assertEquals(IntArray.of(0, 6, 12, 18), IntChunkedStream.from(0).map(x -> x * 2).filter(x -> x % 3 == 0).take(4).toArray());
+		assertEquals(Stream.range(0, 100_000).map(Integer::longValue).sum().longValue(), IntChunkedStream.range(0, 100_000).sum());
+		assertEquals(10, IntChunkedStream.iterate(1, x -> x * 2).takeWhile(x -> x < 1000).count());
+		assertEquals(Array.of(3, 4), IntChunkedStream.range(0, 5).drop(3).boxed().toArray());
+		assertEquals(LongArray.of(Long.MIN_VALUE, Long.MIN_VALUE + 1), LongChunkedStream.range(Long.MIN_VALUE, Long.MAX_VALUE).take(2).toArray());
+		assertEquals(LongArray.of(Long.MAX_VALUE - 2, Long.MAX_VALUE - 1), LongChunkedStream.range(Long.MAX_VALUE - 2, Long.MAX_VALUE).toArray());
+		assertEquals(0, LongChunkedStream.range(Long.MAX_VALUE, Long.MIN_VALUE).count());
+		assertEquals(1000, LongChunkedStream.range(-500, 500).count());
+		assertEquals(6, IntChunkedStream.of(1, 2, 3).foldLeft(0, Integer::sum));
+		assertEquals(3L * Integer.MAX_VALUE, LongChunkedStream.from(Integer.MAX_VALUE).take(3).sum() - 3);
+		// compensated, like DoubleArray.sum()
+		assertEquals(2.0, DoubleChunkedStream.of(1.0, 1e100, 1.0, -1e100).sum());
+		assertEquals(0.5, DoubleChunkedStream.iterate(1.0, x -> x / 2).take(2).toArray().last());
+	}
+}
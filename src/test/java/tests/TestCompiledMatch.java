@@ -0,0 +1,109 @@
+package tests;
+
+import io.vavr.MatchError;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.match.CompiledMatch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import static io.vavr.API.*;
+import static io.vavr.Patterns.$Success;
+import static io.vavr.Patterns.$Tuple2;
+import static io.vavr.Predicates.isIn;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCompiledMatch {
+	@Test
+	void simpleMatch() {
+		// compiled once, applied many times; same results as TestMatch.simpleMatch
+		CompiledMatch<Integer, String> fizzBuzzFn = CompiledMatch.<Integer, String>builder()
+				.when(x -> x % 15 == 0, "fizz-buzz")
+				.when(x -> x % 3 == 0, "fizz")
+				.when(x -> x % 5 == 0, "buzz")
+				.otherwise(String::valueOf);
+
+		assertEquals("1", fizzBuzzFn.apply(1));
+		assertEquals("fizz", fizzBuzzFn.apply(6));
+		assertEquals("buzz", fizzBuzzFn.apply(10));
+		assertEquals("fizz-buzz", fizzBuzzFn.apply(30));
+
+		CompiledMatch<Object, String> whatIsIt = CompiledMatch.<Object, String>builder()
+				.equalTo(null, "nothing")
+				.instanceOf(String.class, str -> '[' + str + ']')
+				.instanceOf(Throwable.class, "failure")
+				.otherwise("something unknown");
+
+		assertEquals("[hello]", whatIsIt.apply("hello"));
+		assertEquals("nothing", whatIsIt.apply(null));
+		assertEquals("failure", whatIsIt.apply(new IllegalStateException())); // subclasses dispatch too
+		assertEquals("something unknown", whatIsIt.apply(42));
+	}
+
+	@Test
+	void matchWithPredicates() {
+		CompiledMatch<Integer, String> howManyFn = CompiledMatch.<Integer, String>builder()
+				.when(x -> x < 0, "negative amount")
+				.equalTo(0, "none")
+				.isIn("a few", 1, 2, 3)
+				.isIn("several", 4, 5, 6)
+				.build();
+
+		assertEquals(Option.some("several"), howManyFn.option(5));
+		assertEquals(Option.some("none"), howManyFn.option(0));
+		assertEquals(Option.some("negative amount"), howManyFn.option(-1));
+		assertFalse(howManyFn.option(1000).isDefined());
+		assertFalse(howManyFn.isDefinedAt(1000));
+
+		// no case matches
+		MatchError error = assertThrows(MatchError.class, () -> howManyFn.apply(1000));
+		assertEquals(1000, error.getObject());
+	}
+
+	@Test
+	void firstMatchWins() {
+		// indexed cases keep the order of declaration, both within and across runs
+		CompiledMatch<Integer, String> matcher = CompiledMatch.<Integer, String>builder()
+				.isIn("first", 1, 2)
+				.isIn("second", 2, 3)
+				.when(x -> x == 3 || x == 4, "predicate")
+				.isIn(Arrays.asList(3, 4, 5), x -> "third " + x)
+				.build();
+
+		assertEquals("first", matcher.apply(2));
+		assertEquals("second", matcher.apply(3));
+		assertEquals("predicate", matcher.apply(4));
+		assertEquals("third 5", matcher.apply(5));
+
+		CompiledMatch<Number, String> types = CompiledMatch.<Number, String>builder()
+				.instanceOf(Number.class, "number")
+				.instanceOf(Integer.class, "integer")
+				.build();
+		assertEquals("number", types.apply(1));
+	}
+
+	@Test
+	void matchWithPatterns() {
+		CompiledMatch<Try<Tuple2<String, Integer>>, String> tryFn = CompiledMatch.<Try<Tuple2<String, Integer>>, String>builder()
+				.pattern($Success($Tuple2($(isIn("hello", "world")), $())), tuple2 -> String.valueOf(tuple2._2))
+				.pattern($Success($Tuple2($(), $(42))), tuple2 -> tuple2._1)
+				.caseOf(Case($(), "oops"))
+				.build();
+
+		assertEquals("answer", tryFn.apply(Try.of(() -> Tuple.of("answer", 42))));
+		assertEquals("7", tryFn.apply(Try.of(() -> Tuple.of("hello", 7))));
+		assertEquals("oops", tryFn.apply(Try.failure(new RuntimeException())));
+
+		// a CompiledMatch is a Function1
+		assertEquals("OOPS", tryFn.andThen(String::toUpperCase).apply(Try.of(() -> Tuple.of("x", 1))));
+
+		// but not serializable
+		assertThrows(NotSerializableException.class, () -> new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(tryFn));
+	}
+}
@@ -0,0 +1,120 @@
+package tests;
+
+import io.vavr.Function0;
+import io.vavr.Function1;
+import io.vavr.Function2;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.function.Memoize;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestConcurrentMemoization {
+	@Test
+	void identicalKeysComputeOnce() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		Function1<Integer, Integer> slowSquare = Memoize.concurrent(x -> {
+			calls.incrementAndGet();
+			sleep(50);
+			return x * x;
+		});
+		assertTrue(slowSquare.isMemoized());
+
+		int threads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			java.util.List<Future<Integer>> results = new java.util.ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return slowSquare.apply(7);
+				}));
+			}
+			start.countDown();
+			for (Future<Integer> result : results) {
+				assertEquals(49, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void distinctKeysComputeInParallel() throws Exception {
+		// computing "slow" waits until "fast" has been computed: with a shared lock this would never finish
+		CountDownLatch fastComputed = new CountDownLatch(1);
+		Function1<String, String> memoized = Memoize.concurrent(key -> {
+			if (key.equals("slow")) {
+				Try.run(() -> assertTrue(fastComputed.await(5, TimeUnit.SECONDS))).get();
+			}
+			return key.toUpperCase();
+		});
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> slow = executor.submit(() -> memoized.apply("slow"));
+			assertEquals("FAST", memoized.apply("fast"));
+			fastComputed.countDown();
+			assertEquals("SLOW", slow.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void failuresAreNotCached() {
+		AtomicInteger calls = new AtomicInteger();
+		Function2<Integer, Integer, Integer> div = Memoize.concurrent((x, y) -> {
+			calls.incrementAndGet();
+			return x / y;
+		});
+		assertThrows(ArithmeticException.class, () -> div.apply(1, 0));
+		assertThrows(ArithmeticException.class, () -> div.apply(1, 0));
+		assertEquals(2, calls.get());
+
+		// null arguments and results are memoized too
+		Function1<String, String> identity = Memoize.concurrent(x -> x);
+		assertNull(identity.apply(null));
+	}
+
+	@Test
+	void liftTry() {
+		AtomicInteger calls = new AtomicInteger();
+		Function2<Integer, Integer, Integer> div = (x, y) -> {
+			calls.incrementAndGet();
+			return x / y;
+		};
+
+		// failures are not cached: every call retries
+		Function2<Integer, Integer, Try<Integer>> retrying = Memoize.concurrentTry(div, false);
+		assertTrue(retrying.apply(1, 0).isFailure());
+		assertTrue(retrying.apply(1, 0).isFailure());
+		assertEquals(2, calls.get());
+		assertEquals(Try.success(2), retrying.apply(4, 2));
+		assertEquals(Try.success(2), retrying.apply(4, 2));
+		assertEquals(3, calls.get());
+
+		// failures are cached: the failed call is remembered
+		calls.set(0);
+		Function2<Integer, Integer, Try<Integer>> remembering = Memoize.concurrentTry(div, true);
+		assertTrue(remembering.apply(1, 0).isFailure());
+		assertTrue(remembering.apply(1, 0).isFailure());
+		assertEquals(1, calls.get());
+
+		Function0<Try<Integer>> failing = Memoize.concurrentTry(() -> Integer.parseInt("x"), false);
+		assertEquals(NumberFormatException.class, failing.apply().getCause().getClass());
+	}
+
+	private static void sleep(long millis) {
+		Try.run(() -> Thread.sleep(millis)).get();
+	}
+}
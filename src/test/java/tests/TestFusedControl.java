@@ -0,0 +1,119 @@
+package tests;
+
+import io.vavr.collection.List;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.control.Eithers;
+import vavr.exercises.control.Options;
+import vavr.exercises.control.Trys;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TestFusedControl {
+	static final List<Option<String>> OPTIONS = List.of(Option.some("vavr"), Option.some("io"), Option.none());
+	static final List<Either<String, String>> EITHERS = List.of(Either.right("vavr"), Either.right("io"), Either.left("error"));
+	static final List<Try<String>> TRIES = List.of(Try.success("vavr"), Try.success("io"), Try.success(""),
+			Try.failure(new IllegalStateException("error")));
+
+	@Test
+	void sameResultsAsOptionChains() {
+		for (Option<String> option : OPTIONS) {
+			// foldMap(), mapFilterGetOrElse(), flatMapGetOrElse()
+			assertEquals(option.map(String::length).getOrElse(-1), Options.foldMap(option, -1, String::length));
+			assertEquals(option.map(String::length).filter(n -> n > 2).getOrElse(0), Options.mapFilterGetOrElse(option, String::length, n -> n > 2, 0));
+			assertEquals((int) option.map(String::length).filter(n -> n > 2).getOrElse(0), Options.mapToIntFilterGetOrElse(option, String::length, n -> n > 2, 0));
+			assertEquals(option.flatMap(s -> Option.when(s.length() > 2, s.charAt(0))).getOrElse('?'),
+					Options.flatMapGetOrElse(option, s -> Option.when(s.length() > 2, s.charAt(0)), '?'));
+
+			// foldToInt(), foldToLong(), foldToDouble()
+			assertEquals((int) option.map(String::length).getOrElse(-1), Options.foldToInt(option, -1, String::length));
+			assertEquals((long) option.map(String::length).getOrElse(-1), Options.foldToLong(option, -1, String::length));
+			assertEquals(option.map(s -> s.length() / 2.0).getOrElse(-1.0), Options.foldToDouble(option, -1, s -> s.length() / 2.0));
+		}
+	}
+
+	@Test
+	void sameResultsAsEitherChains() {
+		for (Either<String, String> either : EITHERS) {
+			// foldMap(), mapFilterGetOrElse(), flatMapGetOrElse()
+			assertEquals(either.map(String::length).getOrElse(-1), Eithers.foldMap(either, -1, String::length));
+			assertEquals(either.map(String::length).filter(n -> n > 2).flatMap(Either::toOption).getOrElse(0),
+					Eithers.mapFilterGetOrElse(either, String::length, n -> n > 2, 0));
+			assertEquals((int) either.map(String::length).filter(n -> n > 2).flatMap(Either::toOption).getOrElse(0),
+					Eithers.mapToIntFilterGetOrElse(either, String::length, n -> n > 2, 0));
+			assertEquals(either.flatMap(s -> s.length() > 2 ? Either.right(s.charAt(0)) : Either.left("short")).getOrElse('?'),
+					Eithers.flatMapGetOrElse(either, s -> s.length() > 2 ? Either.right(s.charAt(0)) : Either.left("short"), '?'));
+
+			// foldToInt(), foldToLong(), foldToDouble()
+			assertEquals((int) either.fold(s -> -s.length(), String::length), Eithers.foldToInt(either, s -> -s.length(), String::length));
+			assertEquals((long) either.fold(s -> -s.length(), String::length), Eithers.foldToLong(either, s -> -s.length(), String::length));
+			assertEquals(either.fold(s -> -1.0, s -> s.length() / 2.0), Eithers.foldToDouble(either, s -> -1, s -> s.length() / 2.0));
+		}
+	}
+
+	@Test
+	void sameResultsAsTryChains() {
+		for (Try<String> attempt : TRIES) {
+			// foldMap(), mapFilterGetOrElse(), flatMapGetOrElse(), including exceptions thrown by the functions
+			assertEquals(attempt.map(s -> s.charAt(1)).getOrElse('?'), Trys.foldMap(attempt, '?', s -> s.charAt(1)));
+			assertEquals(attempt.map(String::length).filter(n -> 4 / n > 1).getOrElse(0), Trys.mapFilterGetOrElse(attempt, String::length, n -> 4 / n > 1, 0));
+			assertEquals((int) attempt.map(String::length).filter(n -> 4 / n > 1).getOrElse(0), Trys.mapToIntFilterGetOrElse(attempt, String::length, n -> 4 / n > 1, 0));
+			assertEquals(attempt.flatMap(s -> Try.of(() -> s.charAt(2))).getOrElse('?'), Trys.flatMapGetOrElse(attempt, s -> Try.of(() -> s.charAt(2)), '?'));
+			assertEquals(attempt.flatMap(s -> Try.success(s.charAt(2))).getOrElse('?'), Trys.flatMapGetOrElse(attempt, s -> Try.success(s.charAt(2)), '?'));
+
+			// foldToInt(), foldToLong(), foldToDouble()
+			assertEquals((int) attempt.fold(t -> -1, String::length), Trys.foldToInt(attempt, t -> -1, String::length));
+			assertEquals((long) attempt.fold(t -> -1, String::length), Trys.foldToLong(attempt, t -> -1, String::length));
+			assertEquals(attempt.fold(t -> -1.0, s -> s.length() / 2.0), Trys.foldToDouble(attempt, t -> -1, s -> s.length() / 2.0));
+		}
+	}
+
+	@Test
+	void tryOfWithoutTry() {
+		for (String text : List.of("42", "-7", "x", "")) {
+			// ofOrElse(), applyOrElse(), applyToInt(), applyToLong(), applyToDouble()
+			assertEquals(Try.of(() -> Integer.parseInt(text)).getOrElse(0), Trys.ofOrElse(() -> Integer.parseInt(text), 0));
+			assertEquals(Try.of(() -> Integer.valueOf(text)).getOrElse(0), Trys.applyOrElse(text, Integer::valueOf, 0));
+			assertEquals((int) Try.of(() -> Integer.parseInt(text)).getOrElse(0), Trys.applyToInt(text, Integer::parseInt, 0));
+			assertEquals((long) Try.of(() -> Long.parseLong(text)).getOrElse(0L), Trys.applyToLong(text, Long::parseLong, 0));
+			assertEquals(Try.of(() -> Double.parseDouble(text)).getOrElse(0.0), Trys.applyToDouble(text, Double::parseDouble, 0));
+		}
+
+		// fatal errors are rethrown, like Try.of
+		assertThrows(OutOfMemoryError.class, () -> Try.of(() -> { throw new OutOfMemoryError(); }));
+		assertThrows(OutOfMemoryError.class, () -> Trys.ofOrElse(() -> { throw new OutOfMemoryError(); }, 0));
+		assertThrows(OutOfMemoryError.class, () -> Trys.foldMap(Try.success(1), 0, x -> { throw new OutOfMemoryError(); }));
+		assertThrows(InterruptedException.class, () -> Trys.applyOrElse(1, x -> { throw new InterruptedException(); }, 0));
+	}
+
+	@Test
+	void fusedChainsDoNotAllocate() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+		Option<String> option = Option.some("vavr");
+		Either<String, String> either = Either.right("vavr");
+		Try<String> attempt = Try.success("vavr");
+		long id = Thread.currentThread().getId();
+
+		long sum = 0;
+		long before = threads.getThreadAllocatedBytes(id);
+		for (int i = 0; i < 100_000; i++) {
+			sum += Options.foldToInt(option, 0, String::length);
+			sum += Eithers.foldToInt(either, String::length, String::length);
+			sum += Trys.foldToInt(attempt, t -> 0, String::length);
+			sum += Trys.applyToInt("1000", Integer::parseInt, 0);
+			sum += Options.mapToIntFilterGetOrElse(option, String::length, n -> n > 10, 0);
+		}
+		long allocated = threads.getThreadAllocatedBytes(id) - before;
+
+		assertEquals(100_000L * 1012, sum);
+		// a single allocation per iteration would be at least 1.6 MB
+		assertTrue(allocated < 100_000, "allocated " + allocated + " bytes");
+	}
+}
@@ -0,0 +1,66 @@
+package tests;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.JavaViews;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestJavaViews {
+	@Test
+	void spliterator() {
+		Spliterator<Integer> spliterator = JavaViews.spliterator(Array.range(0, 10));
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.ORDERED));
+		assertEquals(10, spliterator.getExactSizeIfKnown());
+
+		// trySplit() halves the index range
+		Spliterator<Integer> prefix = spliterator.trySplit();
+		assertEquals(5, prefix.estimateSize());
+		assertEquals(5, spliterator.estimateSize());
+		assertTrue(prefix.tryAdvance(x -> assertEquals(0, x)));
+		assertTrue(spliterator.tryAdvance(x -> assertEquals(5, x)));
+
+		// a single element cannot be split further
+		assertNull(JavaViews.spliterator(Array.of(1)).trySplit());
+	}
+
+	@Test
+	void toJavaStream() {
+		Vector<Integer> numbers = Vector.range(0, 100_000);
+		assertEquals(numbers.sum().longValue(), JavaViews.toJavaStream(numbers).mapToLong(x -> x).sum());
+
+		// toJavaParallelStream() keeps encounter order
+		assertTrue(JavaViews.toJavaParallelStream(numbers).isParallel());
+		assertEquals(numbers.toJavaList(), JavaViews.toJavaParallelStream(numbers).collect(Collectors.toList()));
+		assertEquals(numbers.toJavaList(), JavaViews.toJavaParallelStream(numbers.toArray()).collect(Collectors.toList()));
+	}
+
+	@Test
+	void asJavaList() {
+		java.util.List<Integer> list = JavaViews.asJavaList(Array.of(3, 4, 5));
+		assertEquals(Arrays.asList(3, 4, 5), list);
+		assertEquals(4, list.get(1));
+		assertTrue(list.contains(5));
+		assertEquals(1, list.indexOf(4));
+		assertThrows(UnsupportedOperationException.class, () -> list.add(6));
+		assertThrows(UnsupportedOperationException.class, () -> list.set(0, 6));
+		assertThrows(UnsupportedOperationException.class, () -> list.iterator().remove());
+	}
+
+	@Test
+	void asJavaSet() {
+		java.util.Set<Integer> set = JavaViews.asJavaSet(HashSet.of(3, 4, 5));
+		assertEquals(new java.util.HashSet<>(Arrays.asList(3, 4, 5)), set);
+		assertTrue(set.contains(4));
+		assertFalse(set.contains(6));
+		assertFalse(set.contains("4"));
+		assertThrows(UnsupportedOperationException.class, () -> set.add(6));
+		assertThrows(UnsupportedOperationException.class, () -> set.remove(3));
+	}
+}
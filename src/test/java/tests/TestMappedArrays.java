@@ -0,0 +1,208 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.io.MappedDoubleArray;
+import vavr.exercises.io.MappedIntArray;
+import vavr.exercises.io.MappedLongArray;
+import vavr.exercises.io.MappedRecords;
+import vavr.exercises.io.RecordLayout;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestMappedArrays {
+	// (id, score) records of 12 bytes
+	private static final RecordLayout<Tuple2<Integer, Double>> SCORE = new RecordLayout<Tuple2<Integer, Double>>() {
+		@Override
+		public int width() {
+			return 12;
+		}
+
+		@Override
+		public Tuple2<Integer, Double> read(ByteBuffer buffer, int offset) {
+			return Tuple.of(buffer.getInt(offset), buffer.getDouble(offset + 4));
+		}
+
+		@Override
+		public void write(ByteBuffer buffer, Tuple2<Integer, Double> record) {
+			buffer.putInt(record._1).putDouble(record._2);
+		}
+	};
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void ints() throws IOException {
+		Path file = directory.resolve("ints");
+		int[] values = IntStream.range(0, 1000).map(i -> 3 * i).toArray();
+		MappedIntArray.write(file, IntStream.of(values));
+		assertEquals(4000, Files.size(file));
+
+		MappedIntArray ints = MappedIntArray.map(file);
+		assertEquals(1000, ints.length());
+		assertEquals(0, ints.head());
+		assertEquals(2997, ints.last());
+		assertEquals(30, ints.get(10));
+		assertArrayEquals(values, ints.toJavaArray());
+		assertEquals(IntArray.of(values), ints.toIntArray());
+		assertEquals(IntStream.of(values).sum(), ints.sum());
+		assertEquals(IntStream.of(values).sum(), ints.stream().sum());
+		assertEquals(IntStream.of(values).sum(), ints.foldLeft(0, Integer::sum));
+		assertEquals(List.ofAll(values), List.ofAll(ints));
+		assertEquals(500, ints.count(value -> value % 2 == 0));
+		assertTrue(ints.exists(value -> value == 2997));
+		assertFalse(ints.forAll(value -> value < 2997));
+		assertEquals(2997, ints.max().getAsInt());
+
+		// the selection operations of TestTraversable, as views of the same file
+		assertArrayEquals(new int[] { 3, 6, 9 }, ints.slice(1, 4).toJavaArray());
+		assertArrayEquals(Arrays.copyOfRange(values, 998, 1000), ints.drop(998).toJavaArray());
+		assertArrayEquals(Arrays.copyOf(values, 2), ints.take(2).toJavaArray());
+		assertEquals(999, ints.tail().length());
+		assertEquals(2994, ints.init().last());
+		assertTrue(ints.slice(5, 2).isEmpty());
+		assertTrue(ints.drop(2000).isEmpty());
+		assertEquals("MappedIntArray(3, 6, 9)", ints.slice(1, 4).toString());
+		assertTrue(ints.toString().endsWith("297, ...)"));
+
+		// binary search agrees with Arrays.binarySearch, also on a slice
+		int[] slice = Arrays.copyOfRange(values, 100, 200);
+		for (int key = -1; key < 3001; key++) {
+			assertEquals(Arrays.binarySearch(values, key), ints.binarySearch(key));
+			assertEquals(Arrays.binarySearch(slice, key), ints.slice(100, 200).binarySearch(key));
+		}
+
+		assertThrows(IndexOutOfBoundsException.class, () -> ints.get(1000));
+		assertThrows(IndexOutOfBoundsException.class, () -> ints.get(-1));
+		assertThrows(NoSuchElementException.class, () -> ints.drop(1000).head());
+		assertThrows(UnsupportedOperationException.class, () -> ints.drop(1000).tail());
+	}
+
+	@Test
+	void byteOrderAndFileSize() throws IOException {
+		Path file = directory.resolve("order");
+		MappedIntArray.write(file, IntStream.of(1, 2), ByteOrder.LITTLE_ENDIAN);
+		assertEquals(1, MappedIntArray.map(file, ByteOrder.LITTLE_ENDIAN).head());
+		assertEquals(1 << 24, MappedIntArray.map(file).head());
+
+		// 8 bytes are one long but not a whole number of 12-byte records
+		assertEquals(1L | 2L << 32, MappedLongArray.map(file, ByteOrder.LITTLE_ENDIAN).head());
+		assertThrows(IOException.class, () -> MappedRecords.map(file, SCORE));
+
+		Path empty = directory.resolve("empty");
+		MappedIntArray.write(empty, IntStream.empty());
+		assertTrue(MappedIntArray.map(empty).isEmpty());
+		assertEquals("MappedIntArray()", MappedIntArray.map(empty).toString());
+		assertFalse(MappedIntArray.map(empty).min().isPresent());
+	}
+
+	@Test
+	void longsAndDoubles() throws IOException {
+		Path longFile = directory.resolve("longs");
+		MappedLongArray.write(longFile, LongStream.range(0, 100).map(i -> i << 33));
+		MappedLongArray longs = MappedLongArray.map(longFile);
+		assertEquals(99L << 33, longs.last());
+		assertEquals(LongStream.range(0, 100).map(i -> i << 33).sum(), longs.sum());
+		assertEquals(42, longs.binarySearch(42L << 33));
+		assertEquals(-2, longs.binarySearch(1));
+
+		Path doubleFile = directory.resolve("doubles");
+		double[] values = { -0.0, 0.0, 0.1, 0.2, 0.3, Double.NaN };
+		MappedDoubleArray.write(doubleFile, DoubleStream.of(values));
+		MappedDoubleArray doubles = MappedDoubleArray.map(doubleFile);
+		assertArrayEquals(values, doubles.toJavaArray());
+		assertEquals(0.6, doubles.init().sum());
+		for (double key : new double[] { -1.0, -0.0, 0.0, 0.15, 0.3, Double.NaN, Double.POSITIVE_INFINITY }) {
+			assertEquals(Arrays.binarySearch(values, key), doubles.binarySearch(key));
+		}
+	}
+
+	@Test
+	void records() throws IOException {
+		Path file = directory.resolve("scores");
+		Array<Tuple2<Integer, Double>> scores = Array.range(0, 500).map(id -> Tuple.of(2 * id, id / 4.0));
+		MappedRecords.write(file, scores, SCORE);
+		assertEquals(6000, Files.size(file));
+
+		MappedRecords<Tuple2<Integer, Double>> records = MappedRecords.map(file, SCORE);
+		assertEquals(500, records.length());
+		assertEquals(scores, records.toArray());
+		assertEquals(Tuple.of(20, 2.5), records.get(10));
+		assertEquals(scores.slice(100, 103), records.slice(100, 103).toArray());
+		assertEquals(scores.map(Tuple2::_2).sum().doubleValue(), records.foldLeft(0.0, (sum, record) -> sum + record._2));
+		assertEquals(250, records.count(record -> record._1 % 4 == 0));
+		assertEquals("MappedRecords((0, 0.0), (2, 0.25))", records.take(2).toString());
+
+		Comparator<Integer> order = Comparator.naturalOrder();
+		assertEquals(123, records.binarySearch(246, Tuple2::_1, order));
+		assertEquals(-125, records.binarySearch(247, Tuple2::_1, order));
+		assertEquals(-501, records.binarySearch(1000, Tuple2::_1, order));
+
+		// a layout that does not write its declared width is rejected
+		RecordLayout<Integer> broken = new RecordLayout<Integer>() {
+			@Override
+			public int width() {
+				return 8;
+			}
+
+			@Override
+			public Integer read(ByteBuffer buffer, int offset) {
+				return buffer.getInt(offset);
+			}
+
+			@Override
+			public void write(ByteBuffer buffer, Integer record) {
+				buffer.putInt(record);
+			}
+		};
+		assertThrows(IllegalStateException.class, () -> MappedRecords.write(directory.resolve("broken"), List.of(1), broken));
+	}
+
+	@Test
+	void chunkBoundary() throws IOException {
+		// a sparse file just over 1 GiB, mapped as two chunks; only the values around the boundary are written
+		Path file = directory.resolve("large");
+		long boundary = 1L << 28;
+		try (RandomAccessFile output = new RandomAccessFile(file.toFile(), "rw")) {
+			output.setLength((boundary + 4) * Integer.BYTES);
+			output.seek((boundary - 4) * Integer.BYTES);
+			for (int i = -4; i < 4; i++) {
+				output.writeInt(i);
+			}
+		}
+		MappedIntArray ints = MappedIntArray.map(file);
+		assertEquals(boundary + 4, ints.length());
+		assertEquals(-1, ints.get(boundary - 1));
+		assertEquals(0, ints.get(boundary));
+		assertEquals(3, ints.last());
+
+		MappedIntArray around = ints.slice(boundary - 4, boundary + 4);
+		assertArrayEquals(new int[] { -4, -3, -2, -1, 0, 1, 2, 3 }, around.toJavaArray());
+		assertEquals(List.of(-4, -3, -2, -1, 0, 1, 2, 3), List.ofAll(around));
+		assertEquals(-4, around.sum());
+		assertEquals(-4, around.foldLeft(0, Integer::sum));
+		assertEquals(3, around.count(value -> value > 0));
+		assertTrue(around.exists(value -> value == 3));
+		assertEquals(5, around.binarySearch(1));
+		assertEquals(-1, ints.drop(boundary - 1).head());
+	}
+}
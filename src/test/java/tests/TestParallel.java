@@ -0,0 +1,129 @@
+package tests;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.Map;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import io.vavr.control.Validation;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.parallel.Par;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static vavr.exercises.parallel.Par.par;
+
+class TestParallel {
+	// large enough to be split into many chunks
+	static final Array<Integer> NUMBERS = Array.range(0, 100_000);
+
+	@Test
+	void reductionFolding() {
+		// fold(Object, BinaryOperator): operation must be associative, zero its identity
+		assertEquals(NUMBERS.foldLeft(0L, (x, y) -> x + y), par(NUMBERS.map(Long::valueOf)).fold(0L, Long::sum));
+
+		// associative but not commutative operations are combined in encounter order
+		Array<String> letters = Array.range(0, 5000).map(x -> String.valueOf((char) ('a' + x % 26)));
+		assertEquals(letters.mkString(), par(letters).fold("", String::concat));
+
+		// reduce(BinaryOperator), reduceOption(BinaryOperator)
+		assertEquals(99_999, par(NUMBERS).reduce(Math::max));
+		assertThrows(NoSuchElementException.class, () -> par(Array.<Integer>empty()).reduce(Math::max));
+		assertTrue(par(Array.<Integer>empty()).reduceOption(Math::max).isEmpty());
+
+		// count(Predicate)
+		assertEquals(NUMBERS.count(x -> x % 3 == 0), par(NUMBERS).count(x -> x % 3 == 0));
+	}
+
+	@Test
+	void transformation() {
+		// map(Function), filter(Predicate): same collection type, same order
+		IndexedSeq<Integer> mapped = par(NUMBERS).map(x -> -x);
+		assertTrue(mapped instanceof Array);
+		assertEquals(NUMBERS.map(x -> -x), mapped);
+
+		Vector<Integer> vector = Vector.ofAll(NUMBERS);
+		IndexedSeq<Integer> filtered = par(vector).filter(x -> x % 7 == 0);
+		assertTrue(filtered instanceof Vector);
+		assertEquals(vector.filter(x -> x % 7 == 0), filtered);
+
+		// groupBy(Function)
+		Map<Integer, IndexedSeq<Integer>> groups = par(NUMBERS).groupBy(x -> x % 10);
+		assertEquals(10, groups.size());
+		assertEquals(NUMBERS.filter(x -> x % 10 == 3), groups.get(3).get());
+	}
+
+	@Test
+	void hashSet() {
+		HashSet<Integer> set = HashSet.ofAll(NUMBERS);
+		assertEquals(set.map(x -> x / 2), par(set).map(x -> x / 2));
+		assertEquals(set.filter(x -> x < 10), par(set).filter(x -> x < 10));
+		assertEquals(set.groupBy(x -> x % 2), par(set).groupBy(x -> x % 2));
+		assertEquals(set.sum().longValue(), par(set.map(Long::valueOf)).reduce(Long::sum));
+	}
+
+	@Test
+	void traversal() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			// traverseOption(), traverseTry(): same results as sequential traverse
+			assertEquals(Option.traverse(NUMBERS, x -> Option.some(x * 2)), par(NUMBERS, pool).traverseOption(x -> Option.some(x * 2)));
+			assertEquals(Option.none(), par(NUMBERS, pool).traverseOption(x -> Option.when(x != 70_000, x)));
+			assertEquals(Try.traverse(NUMBERS, x -> Try.success(-x)), par(NUMBERS, pool).traverseTry(x -> Try.success(-x)));
+
+			// the first failure in encounter order wins, whichever chunk finds its failure first
+			Try<?> failed = par(NUMBERS, pool).traverseTry(x -> x % 30_000 == 29_999 ? Try.failure(new IllegalStateException("at " + x)) : Try.success(x));
+			assertEquals("at 29999", failed.getCause().getMessage());
+			assertEquals(Either.left(29_999), par(NUMBERS, pool).traverseRight(x -> x % 30_000 == 29_999 ? Either.left(x) : Either.right(x)));
+			assertEquals(Either.right(NUMBERS), par(NUMBERS, pool).traverseRight(Either::right));
+
+			// traverseEither(), traverseValidation() collect every error in encounter order
+			assertEquals(Either.traverse(NUMBERS, x -> x % 30_000 == 0 ? Either.left("at " + x) : Either.right(x)),
+					par(NUMBERS, pool).traverseEither(x -> x % 30_000 == 0 ? Either.left("at " + x) : Either.right(x)));
+			assertEquals(Validation.traverse(NUMBERS, x -> x % 30_000 == 0 ? Validation.invalid(List.of(x, -x)) : Validation.valid(x)),
+					par(NUMBERS, pool).traverseValidation(x -> x % 30_000 == 0 ? Validation.invalid(List.of(x, -x)) : Validation.valid(x)));
+			assertEquals(Validation.valid(NUMBERS), par(NUMBERS, pool).traverseValidation(Validation::valid));
+
+			// a failure stops the traversal early
+			AtomicInteger calls = new AtomicInteger();
+			assertTrue(par(NUMBERS.take(1000)).traverseOption(x -> calls.incrementAndGet() > 10 ? Option.none() : Option.some(x)).isEmpty());
+			assertEquals(11, calls.get());
+			calls.set(0);
+			assertTrue(par(NUMBERS, pool).traverseOption(x -> calls.incrementAndGet() > 0 && x == 0 ? Option.none() : Option.some(x)).isEmpty());
+			assertTrue(calls.get() < NUMBERS.size());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void sequence() {
+		Array<Option<Integer>> options = NUMBERS.map(Option::some);
+		assertEquals(Option.sequence(options), Par.sequenceOption(options));
+		assertEquals(Option.none(), Par.sequenceOption(options.update(500, Option.none())));
+
+		Vector<Try<Integer>> tries = Vector.ofAll(NUMBERS).map(Try::success);
+		assertEquals(Try.sequence(tries), Par.sequenceTry(tries));
+		assertEquals(Either.sequenceRight(NUMBERS.map(Either::right)), Par.sequenceRight(NUMBERS.map(Either::right)));
+		Array<Validation<List<String>, Integer>> validations = NUMBERS.map(x -> x % 50_000 == 1 ? Validation.invalid(List.of("at " + x)) : Validation.valid(x));
+		assertEquals(Validation.sequence(validations), Par.sequenceValidation(validations));
+	}
+
+	@Test
+	void customPool() {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			assertEquals(NUMBERS.map(x -> x * 2), par(NUMBERS, pool).map(x -> x * 2));
+			assertEquals(50_000, par(HashSet.ofAll(NUMBERS)).on(pool).count(x -> x % 2 == 0));
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
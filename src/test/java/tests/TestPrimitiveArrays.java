@@ -0,0 +1,131 @@
+package tests;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.DoubleArray;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.collection.LongArray;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestPrimitiveArrays {
+	static final DoubleArray SOME_NUMBERS = DoubleArray.of(0.0, -3.0, 2.0, 0.0);
+	static final DoubleArray NONE_NUMBERS = DoubleArray.empty();
+
+	@Test
+	void numericOperations() {
+		// same results as TestTraversable.numericOperations on Array<Double>, without boxing
+		assertEquals(OptionalDouble.of(-0.25), SOME_NUMBERS.average());
+		assertEquals(OptionalDouble.empty(), NONE_NUMBERS.average());
+
+		assertEquals(OptionalDouble.of(2.0), SOME_NUMBERS.max());
+		assertEquals(OptionalDouble.empty(), NONE_NUMBERS.max());
+
+		assertEquals(OptionalDouble.of(-3.0), SOME_NUMBERS.min());
+		assertEquals(OptionalDouble.empty(), NONE_NUMBERS.min());
+
+		assertEquals(-1.0, SOME_NUMBERS.sum());
+		assertEquals(0.0, NONE_NUMBERS.sum());
+
+		assertEquals(-0.0, SOME_NUMBERS.product());
+		assertEquals(1.0, NONE_NUMBERS.product());
+
+		// sum() is compensated, like Traversable.sum()
+		DoubleArray tricky = DoubleArray.of(1.0, 1e100, 1.0, -1e100);
+		assertEquals(Array.of(1.0, 1e100, 1.0, -1e100).sum().doubleValue(), tricky.sum());
+
+		// int sums do not overflow
+		assertEquals(2L * Integer.MAX_VALUE, IntArray.of(Integer.MAX_VALUE, Integer.MAX_VALUE).sum());
+		assertEquals(OptionalInt.of(1), IntArray.of(3, 1, 2).min());
+		assertEquals(OptionalLong.of(3L), LongArray.of(3, 1, 2).max());
+		assertEquals(OptionalDouble.of(2.0), LongArray.of(3, 1, 2).average());
+		// long averages do not overflow
+		for (Array<Long> extremes : Array.of(Array.of(Long.MAX_VALUE, Long.MAX_VALUE), Array.of(Long.MIN_VALUE, Long.MIN_VALUE),
+				Array.of(Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE))) {
+			assertEquals(OptionalDouble.of(extremes.average().get()), LongArray.ofAll(extremes).average(), extremes.toString());
+		}
+	}
+
+	@Test
+	void basicOperations() {
+		IntArray numbers = IntArray.range(0, 5);
+		assertEquals(IntArray.of(0, 1, 2, 3, 4), numbers);
+		assertEquals(5, numbers.length());
+		assertEquals(0, numbers.head());
+		assertEquals(4, numbers.last());
+		assertEquals(IntArray.of(1, 2, 3, 4), numbers.tail());
+		assertEquals(IntArray.of(0, 1, 2, 3), numbers.init());
+		assertEquals(IntArray.of(1, 2), numbers.slice(1, 3));
+		assertEquals(IntArray.of(3, 4), numbers.drop(3));
+		assertEquals(IntArray.empty(), numbers.drop(100));
+		assertEquals(IntArray.of(0, 1, 2, 3, 4, 5), numbers.append(5));
+		assertEquals(IntArray.of(1, 2, 0, 1), numbers.slice(1, 3).appendAll(numbers.take(2)));
+		assertThrows(NoSuchElementException.class, () -> IntArray.empty().head());
+		assertThrows(UnsupportedOperationException.class, () -> IntArray.empty().tail());
+		assertThrows(IndexOutOfBoundsException.class, () -> numbers.take(2).get(2));
+
+		// slices compare by content, regardless of the shared storage
+		assertEquals(IntArray.of(1, 2).hashCode(), numbers.slice(1, 3).hashCode());
+		assertEquals("IntArray(1, 2)", numbers.slice(1, 3).toString());
+
+		// interoperable with boxed vavr collections
+		assertEquals(Array.of(0, 1, 2, 3, 4), numbers.toArray());
+		assertEquals(numbers, IntArray.ofAll(Array.of(0, 1, 2, 3, 4)));
+		assertEquals(Array.of("0", "1"), numbers.take(2).mapToObj(String::valueOf));
+	}
+
+	@Test
+	void transformation() {
+		DoubleArray numbers = DoubleArray.of(1, 2, 3, 4, 5);
+		assertEquals(DoubleArray.of(-1, -2, -3, -4, -5), numbers.map(x -> -x));
+		assertEquals(DoubleArray.of(2, 4), numbers.filter(x -> x % 2 == 0));
+		assertEquals(DoubleArray.of(1, 3, 5), numbers.reject(x -> x % 2 == 0));
+		assertEquals(DoubleArray.of(0, 1, 3, 6, 10, 15), numbers.scan(0, Double::sum));
+		assertEquals(15.0, numbers.fold(0, Double::sum));
+		assertEquals(-10.0, numbers.foldLeft(5, (x, y) -> x - y));
+		assertEquals(3.0, numbers.foldRight(0, (x, y) -> x - y)); // 1-(2-(3-(4-(5-0))))
+		assertEquals(5.0, numbers.reduce(Math::max));
+		assertEquals(2, numbers.count(x -> x > 3));
+		assertTrue(numbers.exists(x -> x > 4));
+		assertTrue(numbers.forAll(x -> x > 0));
+		assertEquals(15.0, numbers.stream().sum());
+	}
+
+	@Test
+	void iteration() {
+		LongArray numbers = LongArray.of(1, 2, 4, 10);
+
+		// grouped(int)
+		assertEquals(
+				Array.of(LongArray.of(1, 2, 4), LongArray.of(10)),
+				numbers.grouped(3).toArray());
+
+		// sliding(int, int): same windows as Traversable.sliding(int, int)
+		for (int size = 1; size <= 5; size++) {
+			for (int step = 1; step <= 5; step++) {
+				Array<Array<Long>> expected = Array.of(1L, 2L, 4L, 10L).sliding(size, step).map(Array::ofAll).toArray();
+				Array<Array<Long>> actual = numbers.sliding(size, step).map(LongArray::toArray).toArray();
+				assertEquals(expected, actual, "size " + size + ", step " + step);
+			}
+		}
+
+		// sliding(int)
+		Iterator<LongArray> windows = numbers.sliding(3);
+		assertEquals(LongArray.of(1, 2, 4), windows.next());
+		assertEquals(LongArray.of(2, 4, 10), windows.next());
+		assertFalse(windows.hasNext());
+
+		// iterator() yields primitives
+		long sum = 0;
+		for (java.util.PrimitiveIterator.OfLong iterator = numbers.iterator(); iterator.hasNext(); ) {
+			sum += iterator.nextLong();
+		}
+		assertEquals(17, sum);
+	}
+}
@@ -0,0 +1,134 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.collection.IntHashMap;
+import vavr.exercises.collection.IntHashSet;
+import vavr.exercises.collection.LongHashMap;
+import vavr.exercises.collection.LongHashSet;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestPrimitiveHashMaps {
+	@Test
+	void sameContentsAsHashMap() {
+		// random put() and remove(), checked against HashMap after every step
+		Random random = new Random(42);
+		HashMap<Integer, String> expected = HashMap.empty();
+		IntHashMap<String> actual = IntHashMap.empty();
+		for (int i = 0; i < 50_000; i++) {
+			int key = random.nextInt(20_000) - 10_000;
+			if (random.nextInt(3) == 0) {
+				expected = expected.remove(key);
+				actual = actual.remove(key);
+			} else {
+				expected = expected.put(key, "v" + i);
+				actual = actual.put(key, "v" + i);
+			}
+			assertEquals(expected.size(), actual.size());
+			assertEquals(expected.get(key), actual.get(key));
+		}
+		assertEquals(expected, actual.toHashMap());
+		assertEquals(expected.keySet(), actual.keySet().toHashSet());
+		assertEquals(expected.values().sorted(), actual.values().sorted());
+		assertEquals(expected.keySet().toVector().sorted(), Vector.ofAll(actual.keys()).sorted());
+
+		// boundary keys
+		IntHashMap<String> extremes = IntHashMap.<String> empty().put(Integer.MIN_VALUE, "min").put(Integer.MAX_VALUE, "max").put(0, null);
+		assertEquals(Option.some("min"), extremes.get(Integer.MIN_VALUE));
+		assertEquals(Option.some(null), extremes.get(0));
+		assertEquals("default", extremes.getOrElse(1, "default"));
+		assertFalse(extremes.remove(0).containsKey(0));
+	}
+
+	@Test
+	void sameContentsAsLongKeyedHashMap() {
+		Random random = new Random(7);
+		HashMap<Long, Integer> expected = HashMap.empty();
+		LongHashMap<Integer> actual = LongHashMap.empty();
+		for (int i = 0; i < 50_000; i++) {
+			// keys that differ only in their high 32 bits
+			long key = ((long) random.nextInt(100) << 32) | random.nextInt(100);
+			if (random.nextInt(3) == 0) {
+				expected = expected.remove(key);
+				actual = actual.remove(key);
+			} else {
+				expected = expected.put(key, i);
+				actual = actual.put(key, i);
+			}
+			assertEquals(expected.get(key), actual.get(key));
+		}
+		assertEquals(expected, actual.toHashMap());
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected.mapValues(x -> x * 2), actual.mapValues(x -> x * 2).toHashMap());
+		assertEquals(HashSet.ofAll(expected.keySet()), actual.keySet().toHashSet());
+	}
+
+	@Test
+	void persistence() {
+		IntHashMap<String> map = IntHashMap.of(1, "a");
+		IntHashMap<String> updated = map.put(1, "b").put(2, "c");
+		assertEquals(Option.some("a"), map.get(1));
+		assertEquals(1, map.size());
+		assertEquals(Option.some("b"), updated.get(1));
+
+		// unchanged updates return the same instance
+		assertSame(map, map.put(1, "a"));
+		assertSame(map, map.remove(3));
+		assertSame(IntHashMap.empty(), map.remove(1));
+		IntHashSet set = IntHashSet.of(1, 2, 3);
+		assertSame(set, set.add(2));
+		assertSame(set, set.remove(4));
+	}
+
+	@Test
+	void equality() {
+		// equal contents are equal regardless of the order of insertion and removal
+		IntHashMap<Integer> ascending = IntHashMap.empty();
+		IntHashMap<Integer> descending = IntHashMap.empty();
+		for (int i = 0; i < 5000; i++) {
+			ascending = ascending.put(i, i * i);
+			descending = descending.put(9999 - i, 0).put(4999 - i, (4999 - i) * (4999 - i));
+		}
+		for (int i = 5000; i < 10_000; i++) {
+			descending = descending.remove(i);
+		}
+		assertEquals(ascending, descending);
+		assertEquals(ascending.hashCode(), descending.hashCode());
+		assertNotEquals(ascending, descending.put(0, 1));
+		assertEquals(ascending.keySet(), IntHashSet.ofAll(IntArray.range(0, 5000)));
+
+		// toString()
+		assertEquals("IntHashMap((7, a))", IntHashMap.of(7, "a").toString());
+		assertEquals("LongHashSet()", LongHashSet.empty().toString());
+		assertEquals("IntHashSet(5)", IntHashSet.of(5).toString());
+	}
+
+	@Test
+	void sets() {
+		IntHashSet ints = IntHashSet.ofAll(List.of(3, 1, 4, 1, 5, 9, 2, 6));
+		assertEquals(HashSet.of(3, 1, 4, 5, 9, 2, 6), ints.toHashSet());
+		assertEquals(7, ints.size());
+		assertTrue(ints.contains(9));
+		assertFalse(ints.remove(9).contains(9));
+		assertEquals(IntArray.of(1, 2, 3, 4, 5, 6, 9), IntArray.ofAll(Vector.ofAll(ints.toArray()).sorted()));
+		int[] sum = new int[1];
+		ints.forEach((int x) -> sum[0] += x);
+		assertEquals(30, sum[0]);
+
+		LongHashSet longs = LongHashSet.of(1L << 40, 1L, -1L << 40);
+		assertTrue(longs.contains(-1L << 40));
+		assertFalse(longs.contains(0));
+		assertEquals(HashSet.of(1L << 40, 1L, -1L << 40), longs.toHashSet());
+		assertEquals(longs, LongHashSet.of(-1L << 40, 1L << 40, 1L, 1L));
+		assertEquals(HashSet.of(Tuple.of(2L, "x")), HashSet.ofAll(LongHashMap.of(2L, "x")));
+	}
+}
@@ -0,0 +1,113 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Seq;
+import io.vavr.control.Validation;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.validation.BatchResult;
+import vavr.exercises.validation.RecordValidator;
+import vavr.exercises.validation.RecordValidator.Field;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestRecordValidator {
+	static final RecordValidator.Builder<String[], String> PERSON = RecordValidator.builder();
+	static final Field<String> NAME = PERSON.field(row -> validateName(row[0]));
+	static final Field<Integer> AGE = PERSON.field(row -> validateAge(row[1]));
+	static final RecordValidator<String[], String, Person> PERSON_VALIDATOR = PERSON.build(fields -> new Person(fields.get(NAME), fields.get(AGE)));
+
+	@Test
+	void validate() {
+		// the errors and value of TestValidation's Validation.combine(...).ap(Person::new)
+		Validation<Seq<String>, Person> invalid = PERSON_VALIDATOR.validate(new String[]{"$53$#(%*#", "-10"});
+		assertEquals(List.of("Name contains invalid characters", "Age cannot be negative"), invalid.getError().toList());
+		assertEquals(Validation.combine(validateName("$53$#(%*#"), validateAge("-10")).ap(Person::new).getError().toList(),
+				invalid.getError().toList());
+
+		Person person = PERSON_VALIDATOR.validate(new String[]{"Ann", "30"}).get();
+		assertEquals("Ann", person.name);
+		assertEquals(30, (int) person.age);
+		assertEquals(2, PERSON_VALIDATOR.fieldCount());
+	}
+
+	@Test
+	void manyFields() {
+		// beyond the 8 fields of Validation.combine
+		RecordValidator.Builder<int[], String> builder = RecordValidator.builder();
+		Array<Field<Integer>> fields = Array.range(0, 30).map(i -> builder.field(row -> row[i] >= 0
+				? Validation.valid(row[i])
+				: Validation.invalid("field " + i + " is negative")));
+		RecordValidator<int[], String, Integer> sum = builder.build(values -> fields.map(values::get).sum().intValue());
+
+		int[] valid = new int[30];
+		valid[29] = 7;
+		assertEquals(Validation.valid(7), sum.validate(valid));
+		int[] invalid = new int[30];
+		invalid[3] = -1;
+		invalid[20] = -1;
+		assertEquals(List.of("field 3 is negative", "field 20 is negative"), sum.validate(invalid).getError().toList());
+	}
+
+	@Test
+	void nestedValidators() {
+		// fieldWithErrors() composes validators
+		RecordValidator.Builder<String[][], String> couple = RecordValidator.builder();
+		Field<Person> first = couple.fieldWithErrors(rows -> PERSON_VALIDATOR.validate(rows[0]));
+		Field<Person> second = couple.fieldWithErrors(rows -> PERSON_VALIDATOR.validate(rows[1]));
+		RecordValidator<String[][], String, String> names = couple.build(fields -> fields.get(first).name + " & " + fields.get(second).name);
+
+		assertEquals(Validation.valid("Ann & Bob"), names.validate(new String[][]{{"Ann", "30"}, {"Bob", "31"}}));
+		assertEquals(List.of("Age cannot be negative", "Name contains invalid characters", "Age cannot be negative"),
+				names.validate(new String[][]{{"Ann", "-1"}, {"B0b", "-1"}}).getError().toList());
+
+		// a field of another validator is rejected
+		assertThrows(IllegalArgumentException.class, () -> couple.build(fields -> fields.get(NAME)).validate(new String[][]{{"Ann", "1"}, {"Bob", "1"}}));
+	}
+
+	@Test
+	void batches() {
+		// validateAll(), validateAllInParallel()
+		Array<String[]> records = Array.range(0, 10_000).map(i -> new String[]{i % 100 == 0 ? "X1" : "Ann", String.valueOf(i % 7 == 0 ? -i : i)});
+		BatchResult<String, Person> result = PERSON_VALIDATOR.validateAll(records);
+		assertEquals(10_000, result.size());
+		assertFalse(result.isAllValid());
+		assertEquals(records.filter(r -> !r[0].equals("X1") && Integer.parseInt(r[1]) > 0).size(), result.valid().size());
+		assertEquals(Tuple.of(0, List.of("Name contains invalid characters", "Age cannot be negative")), result.invalid().head().map2(Seq::toList));
+		assertEquals(100 + records.count(r -> Integer.parseInt(r[1]) <= 0), result.errorCount());
+		assertTrue(result.toValidation().isInvalid());
+
+		BatchResult<String, Person> parallel = PERSON_VALIDATOR.validateAllInParallel(records, new ForkJoinPool(4));
+		assertEquals(result.invalid().map(t -> t.map2(Seq::toList)), parallel.invalid().map(t -> t.map2(Seq::toList)));
+		assertEquals(result.valid().map(p -> p.age), parallel.valid().map(p -> p.age));
+
+		BatchResult<String, Person> allValid = PERSON_VALIDATOR.validateAll(List.<String[]>of(new String[]{"Ann", "1"}));
+		assertEquals(1, allValid.toValidation().get().size());
+		assertEquals(0, PERSON_VALIDATOR.validateAll(List.empty()).size());
+	}
+
+	static Validation<String, Integer> validateAge(String age) {
+		return Integer.parseInt(age) > 0
+				? Validation.valid(Integer.parseInt(age))
+				: Validation.invalid("Age cannot be negative");
+	}
+
+	static Validation<String, String> validateName(String name) {
+		return name.chars().allMatch(c -> Character.isLetter(c) || c == ' ')
+				? Validation.valid(name)
+				: Validation.invalid("Name contains invalid characters");
+	}
+
+	static class Person {
+		final String name;
+		final Integer age;
+
+		Person(String name, Integer age) {
+			this.name = name;
+			this.age = age;
+		}
+	}
+}
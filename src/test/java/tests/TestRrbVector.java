@@ -0,0 +1,176 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.RrbVector;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestRrbVector {
+	private static void assertSameElements(java.util.List<Integer> expected, RrbVector<Integer> actual) {
+		assertEquals(expected.size(), actual.length());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), actual.get(i));
+		}
+		assertEquals(expected, List.ofAll(actual).toJavaList());
+	}
+
+	@Test
+	void basics() {
+		RrbVector<Character> characters = RrbVector.of('a', 'b', 'c', '$');
+
+		// the selection operations of TestTraversable
+		assertEquals(RrbVector.of('b', 'c', '$'), characters.drop(1));
+		assertEquals(RrbVector.empty(), characters.drop(100));
+		assertEquals(RrbVector.of('a', 'b', 'c'), characters.dropRight(1));
+		assertEquals(RrbVector.empty(), characters.dropRight(100));
+		assertEquals(RrbVector.of('a', 'b'), characters.take(2));
+		assertEquals(RrbVector.of('c', '$'), characters.takeRight(2));
+		assertEquals(RrbVector.of('b', 'c', '$'), characters.tail());
+		assertEquals(RrbVector.of('a', 'b', 'c'), characters.init());
+		assertEquals(RrbVector.of('b', 'c'), characters.slice(1, 3));
+		assertEquals(RrbVector.empty(), characters.slice(3, 1));
+		assertEquals(Tuple.of(RrbVector.of('a'), RrbVector.of('b', 'c', '$')), characters.splitAt(1));
+
+		assertEquals('a', characters.head());
+		assertEquals('$', characters.last());
+		assertEquals(RrbVector.of('a', 'b', 'c', '$', 'x'), characters.append('x'));
+		assertEquals(RrbVector.of('x', 'a', 'b', 'c', '$'), characters.prepend('x'));
+		assertEquals(RrbVector.of('a', 'B', 'c', '$'), characters.update(1, 'B'));
+		assertEquals(RrbVector.of('A', 'B', 'C', '$'), characters.map(Character::toUpperCase));
+		assertEquals(Array.of('a', 'b', 'c', '$'), characters.toArray());
+		assertEquals("RrbVector(a, b, c, $)", characters.toString());
+		assertEquals(List.of('a', 'b', 'c', '$').hashCode(), characters.hashCode());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> characters.get(4));
+		assertThrows(IndexOutOfBoundsException.class, () -> characters.update(-1, 'x'));
+		assertThrows(NoSuchElementException.class, () -> RrbVector.empty().head());
+		assertThrows(UnsupportedOperationException.class, () -> RrbVector.empty().tail());
+
+		// arrays of a subtype are copied, so other elements can be stored
+		RrbVector<Object> objects = RrbVector.<Object> of((Object[]) new String[] { "a", "b" });
+		assertEquals(RrbVector.of("a", 1), objects.update(1, 1));
+	}
+
+	@Test
+	void largeSlicesAndConcatenation() {
+		int size = 100_000;
+		java.util.List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			expected.add(i);
+		}
+		RrbVector<Integer> vector = RrbVector.ofAll(expected);
+		assertSameElements(expected, vector);
+
+		// cut at leaf and branch boundaries and in between
+		for (int n : new int[] { 1, 31, 32, 33, 1023, 1024, 1025, 32768, 50_000, size - 1 }) {
+			assertSameElements(expected.subList(0, n), vector.take(n));
+			assertSameElements(expected.subList(n, size), vector.drop(n));
+			assertSameElements(expected, vector.take(n).appendAll(vector.drop(n)));
+		}
+		assertSameElements(expected.subList(1000, 99_000), vector.slice(1000, 99_000));
+
+		// concatenations of unaligned slices
+		java.util.List<Integer> doubled = new ArrayList<>(expected.subList(7, 60_013));
+		doubled.addAll(expected.subList(3, 40_001));
+		assertSameElements(doubled, vector.slice(7, 60_013).appendAll(vector.slice(3, 40_001)));
+	}
+
+	@Test
+	void randomOperations() {
+		// a rolling buffer of random operations, checked against an ArrayList after every step
+		Random random = new Random(42);
+		java.util.List<Integer> expected = new ArrayList<>();
+		RrbVector<Integer> actual = RrbVector.empty();
+		for (int step = 0; step < 3_000; step++) {
+			int operation = random.nextInt(8);
+			int n = expected.isEmpty() ? 0 : random.nextInt(expected.size() + 1);
+			switch (operation) {
+				case 0:
+					expected.add(step);
+					actual = actual.append(step);
+					break;
+				case 1:
+					expected.add(0, step);
+					actual = actual.prepend(step);
+					break;
+				case 2: {
+					// concatenation with a slice of itself, bounded in length
+					int from = random.nextInt(n + 1);
+					java.util.List<Integer> slice = new ArrayList<>(expected.subList(from, n));
+					if (expected.size() + slice.size() < 20_000) {
+						expected.addAll(slice);
+						actual = actual.appendAll(actual.slice(from, n));
+					}
+					break;
+				}
+				case 3: {
+					java.util.List<Integer> block = new ArrayList<>();
+					for (int i = random.nextInt(100); i > 0; i--) {
+						block.add(-i);
+					}
+					expected.addAll(0, block);
+					actual = actual.prependAll(block);
+					break;
+				}
+				case 4:
+					expected = new ArrayList<>(expected.subList(0, n));
+					actual = actual.take(n);
+					break;
+				case 5:
+					expected = new ArrayList<>(expected.subList(n, expected.size()));
+					actual = actual.drop(n);
+					break;
+				case 6:
+					if (n < expected.size()) {
+						expected.set(n, -step);
+						actual = actual.update(n, -step);
+					}
+					break;
+				default:
+					for (int i = random.nextInt(70); i > 0; i--) {
+						expected.add(step);
+						actual = actual.append(step);
+					}
+			}
+			assertEquals(expected.size(), actual.length());
+			if (!expected.isEmpty()) {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.get(index), actual.get(index));
+			}
+			if (step % 100 == 0) {
+				assertSameElements(expected, actual);
+			}
+		}
+		assertSameElements(expected, actual);
+	}
+
+	@Test
+	void repeatedConcatenation() {
+		// many small pieces, which the concatenation must keep packed enough for indexing
+		java.util.List<Integer> expected = new ArrayList<>();
+		RrbVector<Integer> actual = RrbVector.empty();
+		Random random = new Random(7);
+		for (int piece = 0; piece < 2_000; piece++) {
+			java.util.List<Integer> block = new ArrayList<>();
+			for (int i = random.nextInt(40); i > 0; i--) {
+				block.add(expected.size() + block.size());
+			}
+			expected.addAll(block);
+			actual = random.nextBoolean() ? actual.appendAll(block) : actual.appendAll(RrbVector.ofAll(block).drop(0));
+		}
+		assertSameElements(expected, actual);
+		RrbVector<Integer> reversed = RrbVector.empty();
+		for (int i = 0; i < 100; i++) {
+			reversed = actual.slice(i * 300, (i + 1) * 300).appendAll(reversed);
+		}
+		assertEquals(actual.take(30_000).length(), reversed.length());
+		assertEquals(actual.get(29_700), reversed.get(0));
+	}
+}
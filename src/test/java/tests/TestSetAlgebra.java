@@ -0,0 +1,144 @@
+package tests;
+
+import io.vavr.collection.HashSet;
+import io.vavr.collection.List;
+import io.vavr.collection.TreeSet;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.IntHashSet;
+import vavr.exercises.collection.LongHashSet;
+import vavr.exercises.collection.Sets;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSetAlgebra {
+	private static HashSet<Integer> randomSet(Random random, int size, int bound) {
+		return HashSet.ofAll(random.ints(size, 0, bound).boxed()::iterator);
+	}
+
+	@Test
+	void intHashSetAlgebra() {
+		// balanced, skewed, disjoint and empty operands, checked against HashSet
+		Random random = new Random(42);
+		int[][] sizes = { { 5_000, 5_000 }, { 20_000, 30 }, { 30, 20_000 }, { 1, 1 }, { 0, 100 }, { 100, 0 } };
+		for (int[] size : sizes) {
+			HashSet<Integer> a = randomSet(random, size[0], 40_000);
+			HashSet<Integer> b = randomSet(random, size[1], 40_000);
+			IntHashSet x = IntHashSet.ofAll(a);
+			IntHashSet y = IntHashSet.ofAll(b);
+			assertEquals(IntHashSet.ofAll(a.union(b)), x.union(y));
+			assertEquals(IntHashSet.ofAll(a.intersect(b)), x.intersect(y));
+			assertEquals(IntHashSet.ofAll(a.diff(b)), x.diff(y));
+			assertEquals(IntHashSet.ofAll(b.diff(a)), y.diff(x));
+			assertEquals(a.union(b).size(), x.union(y).size());
+			assertEquals(a.intersect(b).size(), x.intersect(y).size());
+			assertEquals(a.diff(b).size(), x.diff(y).size());
+			assertEquals(a.containsAll(b), x.containsAll(y));
+		}
+	}
+
+	@Test
+	void resultsAreCanonical() {
+		// the merged tries equal those built by add(), down to shape, so equals() and further updates agree
+		Random random = new Random(3);
+		IntHashSet a = IntHashSet.ofAll(randomSet(random, 3_000, 5_000));
+		IntHashSet b = IntHashSet.ofAll(randomSet(random, 3_000, 5_000));
+		IntHashSet union = a.union(b);
+		IntHashSet intersection = a.intersect(b);
+		assertEquals(union, union.diff(a).union(intersection).union(a.diff(b)));
+		assertEquals(b, union.diff(a.diff(b)));
+		assertEquals(a, union.diff(b.diff(a)));
+		assertEquals(IntHashSet.empty(), a.diff(a.union(b)));
+		assertTrue(a.diff(a).isEmpty());
+		assertEquals(IntHashSet.ofAll(List.ofAll(intersection)), intersection);
+		assertEquals(IntHashSet.ofAll(List.ofAll(union).reverse()), union);
+	}
+
+	@Test
+	void sharedOperandsAreReturned() {
+		// results equal to an operand are that operand, not a copy
+		IntHashSet a = IntHashSet.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		IntHashSet b = a.add(11).add(12);
+		IntHashSet c = a.remove(3);
+		assertSame(b, a.union(b));
+		assertSame(b, b.union(a));
+		assertSame(a, a.union(IntHashSet.of(4, 5)));
+		assertSame(a, a.intersect(b));
+		assertSame(c, a.intersect(c));
+		assertSame(a, a.diff(IntHashSet.of(100, 200)));
+		assertSame(a, a.union(a));
+		assertTrue(b.containsAll(a));
+		assertFalse(c.containsAll(a));
+		assertTrue(a.containsAll(IntHashSet.empty()));
+		assertEquals(IntHashSet.of(3), a.diff(c));
+		assertEquals(IntHashSet.of(11, 12), b.diff(a));
+	}
+
+	@Test
+	void longHashSetAlgebra() {
+		Random random = new Random(7);
+		for (int round = 0; round < 4; round++) {
+			// values that differ only in their high 32 bits
+			HashSet<Long> a = HashSet.ofAll(random.longs(round * 1_000 + 10, 0, 5_000).map(v -> v << 32)::iterator);
+			HashSet<Long> b = HashSet.ofAll(random.longs(round * 100 + 3, 0, 5_000).map(v -> v << 32)::iterator);
+			LongHashSet x = LongHashSet.ofAll(a);
+			LongHashSet y = LongHashSet.ofAll(b);
+			assertEquals(LongHashSet.ofAll(a.union(b)), x.union(y));
+			assertEquals(LongHashSet.ofAll(a.intersect(b)), x.intersect(y));
+			assertEquals(LongHashSet.ofAll(a.diff(b)), x.diff(y));
+			assertEquals(LongHashSet.ofAll(b.diff(a)), y.diff(x));
+			assertEquals(a.containsAll(a.intersect(b)), x.containsAll(x.intersect(y)));
+		}
+	}
+
+	@Test
+	void hashSets() {
+		Random random = new Random(11);
+		int[][] sizes = { { 2_000, 2_000 }, { 5_000, 20 }, { 20, 5_000 }, { 0, 10 }, { 10, 0 } };
+		for (int[] size : sizes) {
+			HashSet<Integer> a = randomSet(random, size[0], 10_000);
+			HashSet<Integer> b = randomSet(random, size[1], 10_000);
+			assertEquals(a.union(b), Sets.union(a, b));
+			assertEquals(a.diff(b), Sets.diff(a, b));
+			assertEquals(a.retainAll(b), Sets.retainAll(a, b));
+			assertEquals(a.removeAll(b), Sets.removeAll(a, b));
+			// other iterables, with duplicates
+			List<Integer> list = b.toList().appendAll(b);
+			assertEquals(a.retainAll(list), Sets.retainAll(a, list));
+			assertEquals(a.removeAll(list), Sets.removeAll(a, list));
+			assertEquals(a.retainAll(b.toSortedSet()), Sets.retainAll(a, b.toSortedSet()));
+		}
+		HashSet<Integer> a = HashSet.of(1, 2, 3);
+		assertSame(a, Sets.retainAll(a, HashSet.range(0, 100)));
+		assertSame(a, Sets.removeAll(a, HashSet.range(10, 100)));
+	}
+
+	@Test
+	void treeSets() {
+		Random random = new Random(13);
+		int[][] sizes = { { 2_000, 2_000 }, { 5_000, 20 }, { 20, 5_000 }, { 0, 10 }, { 10, 0 } };
+		for (int[] size : sizes) {
+			TreeSet<Integer> a = TreeSet.ofAll(randomSet(random, size[0], 10_000));
+			HashSet<Integer> b = randomSet(random, size[1], 10_000);
+			assertEquals(a.union(b), Sets.union(a, b));
+			assertEquals(a.retainAll(b), Sets.retainAll(a, b));
+			assertEquals(a.removeAll(b), Sets.removeAll(a, b));
+			assertEquals(a.retainAll(b), Sets.retainAll(a, TreeSet.ofAll(b)));
+			assertEquals(a.removeAll(b), Sets.removeAll(a, TreeSet.ofAll(b)));
+			assertEquals(a.union(b), Sets.union(a, TreeSet.ofAll(b)));
+			assertEquals(a.retainAll(b), Sets.retainAll(a, b.toList()));
+		}
+
+		// an argument in another order is re-sorted rather than merged as if it were in the receiver's order
+		TreeSet<Integer> a = TreeSet.of(1, 3, 5, 7, 9);
+		TreeSet<Integer> b = TreeSet.of(Comparator.reverseOrder(), 2, 3, 4, 5, 6);
+		assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 9), Sets.union(a, b).toList());
+		assertEquals(List.of(3, 5), Sets.retainAll(a, b).toList());
+		assertEquals(List.of(1, 7, 9), Sets.removeAll(a, b).toList());
+		assertEquals(List.of(9, 7, 6, 5, 4, 3, 2, 1), Sets.union(b, a).toList());
+		assertSame(a, Sets.retainAll(a, HashSet.range(0, 100)));
+		assertSame(a, Sets.removeAll(a, List.of(2, 4)));
+	}
+}
@@ -0,0 +1,71 @@
+package tests;
+
+import io.vavr.collection.Stream;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.Streams;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestStreamRetention {
+	static final long ELEMENTS = 100_000_000L;
+
+	@Test
+	void memoizedCells() {
+		// memoizedCells()
+		Stream<Integer> stream = Stream.from(0);
+		assertEquals(1, Streams.memoizedCells(stream));
+		stream.take(1000).forEach(x -> {});
+		assertEquals(1000, Streams.memoizedCells(stream)); // held head retains the evaluated prefix
+		assertEquals(0, Streams.memoizedCells(Stream.empty()));
+		Stream<Integer> finite = Stream.of(1, 2, 3);
+		assertEquals(1, Streams.memoizedCells(finite));
+		finite.length();
+		assertEquals(3, Streams.memoizedCells(finite));
+	}
+
+	@Test
+	void consumption() {
+		// foldLeft(), forEach(), count(), iterator()
+		assertEquals(4950L, (long) Streams.foldLeft(() -> Stream.range(0, 100), 0L, (sum, x) -> sum + x));
+		assertEquals(100, Streams.count(() -> Stream.continually(Math::random).take(100)));
+		long[] sum = {0};
+		Streams.forEach(() -> Stream.range(0, 100), x -> sum[0] += x);
+		assertEquals(4950L, sum[0]);
+		assertEquals(4950, Streams.iterator(() -> Stream.from(0)).take(100).sum().intValue());
+	}
+
+	@Test
+	void consumptionDoesNotRetainHead() throws IOException, InterruptedException {
+		// 10^8 cells take several GB when retained, so in a 32 MB heap the consumer only completes if it
+		// lets visited cells go
+		assertEquals(String.valueOf(ELEMENTS * (ELEMENTS - 1) / 2), runWithSmallHeap(Consumer.class));
+	}
+
+	static String runWithSmallHeap(Class<?> main) throws IOException, InterruptedException {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		String classPath = Stream.of(main, Streams.class, Stream.class)
+				.map(type -> type.getProtectionDomain().getCodeSource().getLocation())
+				.map(location -> new File(URI.create(location.toString())).getPath())
+				.distinct()
+				.mkString(File.pathSeparator);
+		Process process = new ProcessBuilder(java, "-Xmx32m", "-cp", classPath, main.getName())
+				.redirectErrorStream(true)
+				.start();
+		assertTrue(process.waitFor(10, TimeUnit.MINUTES), "consumer did not finish");
+		String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+		assertEquals(0, process.exitValue(), output);
+		return output;
+	}
+
+	static class Consumer {
+		public static void main(String[] args) {
+			System.out.println(Streams.foldLeft(() -> Stream.from(0L).takeWhile(x -> x < ELEMENTS), 0L, Long::sum));
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package tests;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.DoubleArray;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.collection.LongArray;
+import vavr.exercises.collection.Summary;
+
+import java.util.OptionalDouble;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static vavr.exercises.parallel.Par.par;
+
+class TestSummary {
+	static final List<Double> SOME_NUMBERS = List.of(0.0, -3.0, 2.0, 0.0);
+
+	@Test
+	void sameResultsAsSeparateOperations() {
+		// the values of TestTraversable.numericOperations, from one traversal
+		Summary summary = Summary.of(SOME_NUMBERS);
+		assertEquals(4, summary.count());
+		assertEquals(SOME_NUMBERS.sum().doubleValue(), summary.sum());
+		assertEquals(SOME_NUMBERS.product().doubleValue(), summary.product());
+		assertEquals(OptionalDouble.of(SOME_NUMBERS.min().get()), summary.min());
+		assertEquals(OptionalDouble.of(SOME_NUMBERS.max().get()), summary.max());
+		assertEquals(OptionalDouble.of(SOME_NUMBERS.average().get()), summary.average());
+		// mean -0.25, squared deviations 0.0625 + 7.5625 + 5.0625 + 0.0625
+		assertEquals(12.75 / 4, summary.variance().getAsDouble(), 1e-12);
+		assertEquals(12.75 / 3, summary.sampleVariance().getAsDouble(), 1e-12);
+		assertEquals(Math.sqrt(12.75 / 4), summary.standardDeviation().getAsDouble(), 1e-12);
+
+		Summary none = Summary.of(List.empty());
+		assertEquals(0, none.count());
+		assertEquals(0.0, none.sum());
+		assertEquals(1.0, none.product());
+		assertEquals(OptionalDouble.empty(), none.min());
+		assertEquals(OptionalDouble.empty(), none.average());
+		assertEquals(OptionalDouble.empty(), none.variance());
+		assertEquals(OptionalDouble.empty(), Summary.of(List.of(1)).sampleVariance());
+
+		// compensated sum, like Traversable.sum()
+		assertEquals(Array.of(1.0, 1e100, 1.0, -1e100).sum().doubleValue(), Summary.of(Array.of(1.0, 1e100, 1.0, -1e100)).sum());
+	}
+
+	@Test
+	void primitiveVariants() {
+		// summary() on the primitive arrays
+		assertEquals(Summary.of(SOME_NUMBERS).toString(), DoubleArray.of(0.0, -3.0, 2.0, 0.0).summary().toString());
+		assertEquals(OptionalDouble.of(2.0), IntArray.of(1, 2, 3).summary().average());
+		assertEquals(OptionalDouble.of(Long.MAX_VALUE), LongArray.of(1, Long.MAX_VALUE).summary().max());
+		assertEquals(3, Summary.of(IntArray.range(0, 3)).count());
+	}
+
+	@Test
+	void merge() {
+		// merging partition summaries gives the summary of all values
+		Random random = new Random(42);
+		DoubleArray values = DoubleArray.ofAll(random.doubles(10_000, -1e6, 1e6));
+		Summary whole = values.summary();
+		Summary merged = values.take(1).summary().merge(values.slice(1, 7000).summary()).merge(Summary.create())
+				.merge(values.drop(7000).summary());
+		assertEquals(whole.count(), merged.count());
+		assertEquals(whole.sum(), merged.sum(), 1e-6);
+		assertEquals(whole.min(), merged.min());
+		assertEquals(whole.max(), merged.max());
+		assertEquals(whole.variance().getAsDouble(), merged.variance().getAsDouble(), whole.variance().getAsDouble() * 1e-12);
+		assertEquals(whole.count(), Summary.create().merge(whole).count());
+
+		// ParTraversable.aggregate()
+		Array<Double> boxed = values.toArray();
+		Summary parallel = par(boxed).aggregate(Summary::create, (summary, x) -> {
+			summary.accept(x);
+			return summary;
+		}, Summary::merge);
+		assertEquals(whole.count(), parallel.count());
+		assertEquals(whole.average().getAsDouble(), parallel.average().getAsDouble(), 1e-9);
+		assertEquals(whole.variance().getAsDouble(), parallel.variance().getAsDouble(), whole.variance().getAsDouble() * 1e-12);
+		assertEquals(0, par(Array.<Double>empty()).aggregate(Summary::create, (summary, x) -> summary, Summary::merge).count());
+	}
+
+	@Test
+	void quantiles() {
+		// estimates are within the relative accuracy of the exact quantile
+		Random random = new Random(7);
+		double[] values = random.doubles(100_000).map(x -> Math.exp(x * 20 - 10) * (x < 0.3 ? -1 : 1)).toArray();
+		double[] sorted = values.clone();
+		java.util.Arrays.sort(sorted);
+		Summary summary = Summary.withQuantiles(0.01);
+		Summary left = Summary.withQuantiles(0.01);
+		Summary right = Summary.withQuantiles(0.01);
+		for (int i = 0; i < values.length; i++) {
+			summary.accept(values[i]);
+			(i % 2 == 0 ? left : right).accept(values[i]);
+		}
+		left.merge(right);
+		for (double q : new double[]{0, 0.01, 0.1, 0.25, 0.29, 0.31, 0.5, 0.9, 0.99, 1}) {
+			double exact = sorted[(int) (q * (sorted.length - 1))];
+			assertEquals(exact, summary.quantile(q).getAsDouble(), Math.abs(exact) * 0.01 + 1e-300, "q " + q);
+			assertEquals(summary.quantile(q), left.quantile(q), "merged q " + q);
+		}
+		assertEquals(OptionalDouble.of(0.0), Summary.withQuantiles(0.01).acceptAll(List.of(0, 0, 0)).quantile(0.5));
+		assertEquals(OptionalDouble.empty(), Summary.withQuantiles(0.01).quantile(0.5));
+		Summary infinite = Summary.withQuantiles(0.01).acceptAll(List.of(Double.NEGATIVE_INFINITY, -1.0, 0.0, 1.0,
+				Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY));
+		infinite.merge(Summary.withQuantiles(0.01).acceptAll(List.of(Double.NEGATIVE_INFINITY)));
+		assertEquals(OptionalDouble.of(Double.NEGATIVE_INFINITY), infinite.quantile(0));
+		assertEquals(OptionalDouble.of(Double.NEGATIVE_INFINITY), infinite.quantile(0.1));
+		assertEquals(-1.0, infinite.quantile(0.34).getAsDouble(), 0.01);
+		assertEquals(OptionalDouble.of(0.0), infinite.quantile(0.5));
+		assertEquals(1.0, infinite.quantile(0.67).getAsDouble(), 0.01);
+		assertEquals(OptionalDouble.of(Double.POSITIVE_INFINITY), infinite.quantile(0.9));
+		assertEquals(OptionalDouble.of(Double.POSITIVE_INFINITY), infinite.quantile(1));
+		assertThrows(IllegalStateException.class, () -> Summary.create().quantile(0.5));
+
+		// quantiles of only part of the values are not estimated
+		Summary partial = Summary.withQuantiles(0.01).acceptAll(List.of(1, 2, 3)).merge(Summary.of(List.of(100, 200, 300)));
+		assertFalse(partial.hasQuantiles());
+		assertThrows(IllegalStateException.class, () -> partial.quantile(0.5));
+		assertFalse(Summary.create().merge(Summary.withQuantiles(0.01)).hasQuantiles());
+		assertThrows(IllegalArgumentException.class, () -> Summary.withQuantiles(0.01).quantile(2));
+		assertThrows(IllegalArgumentException.class, () -> Summary.withQuantiles(0));
+	}
+}
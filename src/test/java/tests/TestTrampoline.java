@@ -0,0 +1,101 @@
+package tests;
+
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.control.Trampoline;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestTrampoline {
+	static Trampoline<Long> sum(long n) {
+		return n == 0 ? Trampoline.done(0L) : Trampoline.defer(() -> sum(n - 1).map(s -> s + n));
+	}
+
+	static Try<Long> eagerSum(long n) {
+		return n == 0 ? Try.success(0L) : Try.of(() -> n).flatMap(x -> eagerSum(x - 1).map(s -> s + x));
+	}
+
+	@Test
+	void deepChainsInConstantStack() {
+		// left-nested flatMap() and map()
+		Trampoline<Integer> chain = Trampoline.done(0);
+		for (int i = 0; i < 1_000_000; i++) {
+			chain = i % 2 == 0 ? chain.flatMap(x -> Trampoline.done(x + 1)) : chain.map(x -> x + 1);
+		}
+		assertEquals(Try.success(1_000_000), chain.run());
+
+		// recursion through defer()
+		assertEquals(Try.success(500_000_500_000L), sum(1_000_000).run());
+		assertThrows(StackOverflowError.class, () -> eagerSum(1_000_000));
+	}
+
+	@Test
+	void failures() {
+		AtomicInteger calls = new AtomicInteger();
+		Trampoline<Integer> failing = Trampoline.of(() -> 1 / 0).map(x -> calls.incrementAndGet());
+
+		// failure skips map() and flatMap() until recover()
+		assertEquals(ArithmeticException.class, failing.run().getCause().getClass());
+		assertEquals(0, calls.get());
+		assertEquals(Try.success(-1), failing.flatMap(Trampoline::done).recover(t -> -1).map(x -> x).run());
+		assertEquals(Try.success(2), failing.recoverWith(t -> Trampoline.done(1)).map(x -> x + 1).run());
+		assertEquals(Try.success(3), Trampoline.done(3).recover(t -> -1).run());
+
+		// exceptions thrown by functions are failures, fatal errors are rethrown
+		assertTrue(Trampoline.done(1).map(x -> { throw new IllegalStateException(); }).run().isFailure());
+		assertTrue(Trampoline.done(1).flatMap(x -> { throw new IllegalStateException(); }).run().isFailure());
+		assertTrue(Trampoline.failed(new RuntimeException()).recover(t -> { throw new IllegalStateException(); }).run().getCause() instanceof IllegalStateException);
+		assertThrows(OutOfMemoryError.class, () -> Trampoline.of(() -> { throw new OutOfMemoryError(); }).run());
+		assertThrows(ArithmeticException.class, failing::get);
+
+		// a null instead of a Trampoline is a NullPointerException, not the previous value
+		assertTrue(Trampoline.done(1).flatMap(x -> null).run().getCause() instanceof NullPointerException);
+		assertTrue(Trampoline.done("in").<Integer>flatMap(x -> null).map(i -> i + 1).run().getCause() instanceof NullPointerException);
+		assertTrue(Trampoline.defer(() -> null).run().getCause() instanceof NullPointerException);
+		assertTrue(Trampoline.failed(new RuntimeException()).recoverWith(t -> null).run().getCause() instanceof NullPointerException);
+		assertEquals(Try.success(0), Trampoline.done(1).flatMap(x -> null).recover(t -> 0).run());
+	}
+
+	@Test
+	void laziness() {
+		AtomicInteger calls = new AtomicInteger();
+		Trampoline<Integer> counted = Trampoline.of(calls::incrementAndGet);
+		Trampoline<Integer> mapped = counted.map(x -> x * 10);
+		assertEquals(0, calls.get());
+		assertEquals(Integer.valueOf(10), mapped.get());
+		assertEquals(Integer.valueOf(20), mapped.get());
+
+		// retry() runs the whole description again
+		AtomicInteger attempts = new AtomicInteger();
+		Trampoline<Integer> flaky = Trampoline.of(() -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new IllegalStateException("attempt " + attempts.get());
+			}
+			return attempts.get();
+		});
+		assertEquals(Try.success(3), flaky.retry(5).run());
+		attempts.set(0);
+		assertEquals("attempt 2", flaky.retry(1).run().getCause().getMessage());
+	}
+
+	@Test
+	void interoperability() {
+		assertEquals(Try.success(2), Trampoline.fromTry(Try.success(1)).map(x -> x + 1).run());
+		assertTrue(Trampoline.fromTry(Try.failure(new IllegalStateException())).run().isFailure());
+		assertEquals(Either.right(2), Trampoline.fromEither(Either.right(1)).map(x -> x + 1).toEither());
+		assertEquals(Option.some(2), Trampoline.fromOption(Option.some(1)).map(x -> x + 1).toOption());
+		assertEquals(NoSuchElementException.class, Trampoline.fromOption(Option.none()).toEither().getLeft().getClass());
+		assertEquals(Option.none(), Trampoline.failed(new IllegalStateException()).toOption());
+
+		// flatMapTry(), flatMapEither()
+		assertEquals(Try.success(5), Trampoline.done("5").flatMapTry(s -> Try.of(() -> Integer.parseInt(s))).run());
+		assertTrue(Trampoline.done("x").flatMapTry(s -> Try.of(() -> Integer.parseInt(s))).run().isFailure());
+		assertEquals(Try.success(6), Trampoline.done(3).flatMapEither(x -> Either.right(x * 2)).run());
+		assertTrue(Trampoline.done(3).flatMapEither(x -> Either.left(new IllegalStateException())).run().isFailure());
+	}
+}
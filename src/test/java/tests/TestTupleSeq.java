@@ -0,0 +1,149 @@
+package tests;
+
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.Tuple3;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.DoubleArray;
+import vavr.exercises.collection.IntArray;
+import vavr.exercises.collection.LongArray;
+import vavr.exercises.collection.Tuple2Seq;
+import vavr.exercises.collection.Tuple3Seq;
+
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestTupleSeq {
+	static final Array<String> NAMES = Array.of("a", "b", "c", "d", "e");
+	static final IntArray IDS = IntArray.range(10, 14);
+	static final DoubleArray PRICES = DoubleArray.of(1.5, 2.5, 3.5, 4.5, 5.5, 6.5);
+
+	@Test
+	void sameResultsAsZip() {
+		// zip(), shortest length
+		Tuple2Seq<String, Integer> pairs = Tuple2Seq.zip(NAMES, IDS);
+		assertEquals(NAMES.zip(IDS), pairs.toArray());
+		assertEquals(4, pairs.length());
+
+		// zipAll(), padded to the longest length
+		assertEquals(NAMES.zipAll(IDS, "?", -1), Tuple2Seq.zipAll(NAMES, IDS, "?", -1).toArray());
+		assertEquals(Vector.ofAll(IDS).zipAll(NAMES, -1, "?"), Tuple2Seq.zipAll(IDS, NAMES, -1, "?").toArray());
+
+		// zipWithIndex()
+		assertEquals(NAMES.zipWithIndex(), Tuple2Seq.zipWithIndex(NAMES).toArray());
+		assertEquals(NAMES.zipWithIndex().drop(2), Tuple2Seq.zipWithIndex(NAMES).drop(2).toArray());
+
+		// ofAll()
+		assertEquals(pairs, Tuple2Seq.ofAll(NAMES.zip(IDS)));
+		assertEquals(Tuple2Seq.empty(), Tuple2Seq.ofAll(List.empty()));
+	}
+
+	@Test
+	void componentAccess() {
+		Tuple2Seq<Integer, Double> pairs = Tuple2Seq.zip(IDS, PRICES);
+		assertEquals(Integer.valueOf(12), pairs._1(2));
+		assertEquals(Double.valueOf(3.5), pairs._2(2));
+		assertEquals(Tuple.of(12, 3.5), pairs.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> pairs.get(4));
+		assertThrows(IndexOutOfBoundsException.class, () -> pairs.drop(1)._1(3));
+
+		// forEach(), foldLeft()
+		StringBuilder builder = new StringBuilder();
+		pairs.forEach((id, price) -> builder.append(id).append('=').append(price).append(' '));
+		assertEquals("10=1.5 11=2.5 12=3.5 13=4.5 ", builder.toString());
+		assertEquals(46 + 12.0, pairs.foldLeft(0.0, (sum, id, price) -> sum + id + price), 1e-9);
+	}
+
+	@Test
+	void columnOperations() {
+		Array<Tuple2<String, Integer>> expected = NAMES.zip(IDS);
+		Tuple2Seq<String, Integer> pairs = Tuple2Seq.zip(NAMES, IDS);
+
+		// map1(), map2()
+		assertEquals(expected.map(t -> t.map1(String::toUpperCase)), pairs.map1(String::toUpperCase).toArray());
+		assertEquals(expected.map(t -> t.map2(id -> id * 2)), pairs.map2(id -> id * 2).toArray());
+
+		// update1(), update2(), leaving the original unchanged
+		assertEquals(expected.update(1, Tuple.of("x", 11)), pairs.update1(1, "x").toArray());
+		assertEquals(expected.update(3, Tuple.of("d", 0)), pairs.update2(3, 0).toArray());
+		assertEquals(expected, pairs.toArray());
+
+		// filter()
+		assertEquals(expected.filter(t -> t._2 % 2 == 0), pairs.filter((name, id) -> id % 2 == 0).toArray());
+		assertEquals(expected.drop(1).filter(t -> t._2 % 2 == 0), pairs.drop(1).filter((name, id) -> id % 2 == 0).toArray());
+		assertSame(pairs, pairs.filter((name, id) -> true));
+
+		// take(), drop(), slice() of a slice
+		assertEquals(expected.slice(1, 3), pairs.slice(1, 3).toArray());
+		assertEquals(expected.drop(1).take(2).update(0, Tuple.of("b", 0)), pairs.drop(1).take(2).update2(0, 0).toArray());
+		assertTrue(pairs.slice(3, 1).isEmpty());
+		assertEquals(expected, pairs.take(10).toArray());
+	}
+
+	@Test
+	void updatesKeepPrimitiveColumnsUnboxed() throws ReflectiveOperationException {
+		Tuple2Seq<Integer, Double> pairs = Tuple2Seq.zip(IDS, PRICES);
+		assertEquals("Ints", columnKind(pairs.update1(1, 0), "column1"));
+		assertEquals("Doubles", columnKind(pairs.drop(1).update2(0, 0.0), "column2"));
+		assertEquals(Array.of(Tuple.of(11, 0.0), Tuple.of(12, 3.5)), pairs.drop(1).take(2).update2(0, 0.0).toArray());
+		assertEquals("Ints", columnKind(Tuple2Seq.zipWithIndex(NAMES).update2(2, 7), "column2"));
+		assertEquals(Array.of(0, 1, 7, 3, 4), Tuple2Seq.zipWithIndex(NAMES).update2(2, 7).column2());
+
+		// null does not fit a primitive column
+		assertEquals("Objects", columnKind(pairs.update1(1, null), "column1"));
+		assertNull(pairs.update1(1, null)._1(1));
+
+		Tuple3Seq<String, Long, Double> triples = Tuple3Seq.zip(NAMES, LongArray.of(1, 2, 3), PRICES);
+		assertEquals("Longs", columnKind(triples.update2(0, 0L), "column2"));
+		assertEquals("Doubles", columnKind(triples.update3(0, 0.0), "column3"));
+		assertEquals(Tuple.of("a", 0L, 1.5), triples.update2(0, 0L).get(0));
+	}
+
+	// the class of a column, which is package-private
+	private static String columnKind(Object seq, String column) throws ReflectiveOperationException {
+		Field field = seq.getClass().getDeclaredField(column);
+		field.setAccessible(true);
+		return field.get(seq).getClass().getSimpleName();
+	}
+
+	@Test
+	void sameResultsAsUnzip() {
+		Array<Tuple2<String, Integer>> tuples = NAMES.zip(IDS);
+		assertEquals(tuples.unzip(Function.identity()), Tuple2Seq.zip(NAMES, IDS).unzip());
+		assertEquals(tuples.drop(2).unzip(Function.identity()), Tuple2Seq.zip(NAMES, IDS).drop(2).unzip());
+		assertSame(NAMES, Tuple2Seq.zip(NAMES, NAMES).column1());
+
+		Array<Tuple3<String, Integer, Double>> triples = NAMES.zip(IDS).zipWith(PRICES, (t, price) -> Tuple.of(t._1, t._2, price));
+		Tuple3Seq<String, Integer, Double> seq = Tuple3Seq.zip(NAMES, IDS, PRICES);
+		assertEquals(triples, seq.toArray());
+		assertEquals(triples.unzip3(Function.identity()), seq.unzip3());
+		assertEquals(seq, Tuple3Seq.ofAll(triples));
+		assertEquals(seq, Tuple2Seq.zip(NAMES, IDS).zip(PRICES));
+	}
+
+	@Test
+	void tuple3ColumnOperations() {
+		Array<Tuple3<String, Integer, Double>> triples = NAMES.zip(IDS).zipWith(PRICES, (t, price) -> Tuple.of(t._1, t._2, price));
+		Tuple3Seq<String, Integer, Double> seq = Tuple3Seq.zip(NAMES, IDS, PRICES);
+		assertEquals(triples.map(t -> t.map3(price -> price * 2)), seq.map3(price -> price * 2).toArray());
+		assertEquals(triples.update(0, Tuple.of("a", 10, 0.0)), seq.update3(0, 0.0).toArray());
+		assertEquals(triples.filter(t -> t._3 > 2).drop(1), seq.filter((name, id, price) -> price > 2).drop(1).toArray());
+		assertEquals(triples.slice(1, 3), seq.slice(1, 3).toArray());
+		assertEquals(Tuple.of("c", 12, 3.5), seq.get(2));
+		assertEquals(46.0, seq.foldLeft(0.0, (sum, name, id, price) -> sum + id), 1e-9);
+	}
+
+	@Test
+	void equalsAndToString() {
+		assertEquals(Tuple2Seq.zip(IDS, NAMES), Tuple2Seq.zip(Vector.ofAll(IDS), NAMES));
+		assertEquals(Tuple2Seq.zip(IDS, NAMES).hashCode(), Tuple2Seq.zip(Vector.ofAll(IDS), NAMES).hashCode());
+		assertNotEquals(Tuple2Seq.zip(IDS, NAMES), Tuple2Seq.zip(IDS, NAMES).drop(1));
+		assertEquals("Tuple2Seq((10, a), (11, b))", Tuple2Seq.zip(IDS, NAMES).take(2).toString());
+		assertEquals("Tuple3Seq()", Tuple3Seq.empty().toString());
+	}
+}
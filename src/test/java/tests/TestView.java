@@ -0,0 +1,86 @@
+package tests;
+
+import io.vavr.API;
+import io.vavr.Tuple;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.View;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.vavr.API.$;
+import static io.vavr.API.Case;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestView {
+	static final Array<Character> SOME_CHARACTERS = Array.of('a', 'b', 'c', 'd', 'e', 'f');
+
+	@Test
+	void sameResultsAsEagerChaining() {
+		// filter(), map(), take()
+		assertEquals(SOME_CHARACTERS.filter(c -> c != 'b').map(Character::toUpperCase).take(3),
+				View.of(SOME_CHARACTERS).filter(c -> c != 'b').map(Character::toUpperCase).take(3).toArray());
+
+		// flatMap(), drop(), dropWhile(), takeWhile(), reject()
+		assertEquals(SOME_CHARACTERS.flatMap(c -> Array.of(c, c)).drop(3).dropWhile(c -> c < 'c').takeWhile(c -> c < 'f').reject(c -> c == 'd'),
+				View.of(SOME_CHARACTERS).flatMap(c -> Array.of(c, c)).drop(3).dropWhile(c -> c < 'c').takeWhile(c -> c < 'f').reject(c -> c == 'd').toArray());
+
+		// zipWithIndex(), scanLeft()
+		assertEquals(SOME_CHARACTERS.zipWithIndex(), View.of(SOME_CHARACTERS).zipWithIndex().toArray());
+		assertEquals(SOME_CHARACTERS.scanLeft("", (s, c) -> s + c), View.of(SOME_CHARACTERS).scanLeft("", (s, c) -> s + c).toArray());
+		assertEquals(Array.of(""), View.of(Array.<Character>empty()).scanLeft("", (s, c) -> s + c).toArray());
+		assertEquals(Array.of(0, 1), View.of(SOME_CHARACTERS).scanLeft(0, (n, c) -> n + 1).take(2).toArray());
+		assertEquals(SOME_CHARACTERS.take(0).scanLeft(0, (n, c) -> n + 1), View.of(SOME_CHARACTERS).take(0).scanLeft(0, (n, c) -> n + 1).toArray());
+
+		// collect(PartialFunction)
+		assertEquals(SOME_CHARACTERS.collect(API.<Character, String>Case($('a'), "A")),
+				View.of(SOME_CHARACTERS).collect(API.<Character, String>Case($('a'), "A")).toArray());
+		assertEquals(Array.of("A"), View.of(SOME_CHARACTERS).collect(Case($('a'), "A")).toArray());
+
+		// take() and drop() edge cases
+		assertEquals(Array.empty(), View.of(SOME_CHARACTERS).take(0).toArray());
+		assertEquals(Array.empty(), View.of(SOME_CHARACTERS).drop(10).toArray());
+		assertEquals(SOME_CHARACTERS, View.of(SOME_CHARACTERS).take(10).toArray());
+	}
+
+	@Test
+	void terminalOperations() {
+		View<Integer> numbers = View.of(List.of(1, 2, 3, 4));
+		assertEquals(10, (int) numbers.foldLeft(0, Integer::sum));
+		assertEquals(Option.some(24), numbers.reduceOption((x, y) -> x * y));
+		assertEquals(Option.none(), numbers.filter(x -> x > 10).reduceOption(Integer::sum));
+		assertEquals(Option.some(3), numbers.filter(x -> x > 2).headOption());
+		assertEquals(Option.none(), numbers.filter(x -> x > 10).headOption());
+		assertTrue(numbers.exists(x -> x == 4));
+		assertFalse(numbers.forAll(x -> x < 4));
+		assertEquals(4, numbers.count());
+		assertEquals("[1, 2, 3, 4]", numbers.mkString("[", ", ", "]"));
+		assertEquals("1234", numbers.mkString());
+		assertEquals(List.of(2, 4), numbers.filter(x -> x % 2 == 0).toList());
+		assertEquals(List.of(Tuple.of(1, 0)), numbers.zipWithIndex().take(1).toVector().toList());
+	}
+
+	@Test
+	void lazyAndFused() {
+		// nothing runs before a terminal operation, and only as far as needed
+		AtomicInteger evaluated = new AtomicInteger();
+		View<Integer> view = View.of(Stream.from(0)).map(x -> {
+			evaluated.incrementAndGet();
+			return x * 2;
+		}).filter(x -> x % 3 == 0).take(5);
+		assertEquals(0, evaluated.get());
+		assertEquals(Array.of(0, 6, 12, 18, 24), view.toArray());
+		assertEquals(13, evaluated.get());
+
+		// a view can be traversed again
+		assertEquals(Array.of(0, 6, 12, 18, 24), view.toArray());
+		assertEquals(26, evaluated.get());
+
+		// exists() and headOption() stop early on an infinite source
+		assertTrue(View.of(Stream.from(0)).exists(x -> x == 1000));
+		assertEquals(Option.some(10), View.of(Stream.from(0)).dropWhile(x -> x < 10).headOption());
+	}
+}
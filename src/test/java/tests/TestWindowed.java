@@ -0,0 +1,78 @@
+package tests;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Traversable;
+import org.junit.jupiter.api.Test;
+import vavr.exercises.collection.Windowed;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestWindowed {
+	@Test
+	void sameWindowsAsSliding() {
+		// every window of sliding(size, step), including the shorter last one
+		Random random = new Random(42);
+		for (int length = 0; length < 20; length++) {
+			Array<Integer> xs = Array.fill(length, () -> random.nextInt(100) - 50);
+			for (int size = 1; size < 8; size++) {
+				for (int step = 1; step < 10; step++) {
+					String context = "length " + length + ", size " + size + ", step " + step;
+					assertEquals(xs.sliding(size, step).map(w -> w.sum().doubleValue()).toArray(),
+							Windowed.sum(xs, size, step).toArray(), context);
+					assertEquals(xs.sliding(size, step).map(w -> w.average().get()).toArray(),
+							Windowed.average(xs, size, step).toArray(), context);
+					assertEquals(xs.sliding(size, step).map(Traversable::min).map(o -> o.get()).toArray(),
+							Windowed.min(xs, size, step, Comparator.naturalOrder()).toArray(), context);
+					assertEquals(xs.sliding(size, step).map(Traversable::max).map(o -> o.get()).toArray(),
+							Windowed.max(xs, size, step, Comparator.naturalOrder()).toArray(), context);
+					// a monoid that is not commutative
+					assertEquals(xs.sliding(size, step).map(w -> w.mkString(",")).toArray(),
+							Windowed.fold(xs.map(String::valueOf), size, step, "", (a, b) -> a.isEmpty() ? b : b.isEmpty() ? a : a + "," + b).toArray(),
+							context);
+				}
+			}
+		}
+	}
+
+	@Test
+	void defaults() {
+		// sum(), average(), min(), max() slide by one
+		List<Integer> xs = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+		assertEquals(Array.of(8.0, 6.0, 10.0, 15.0, 16.0, 17.0), Windowed.sum(xs, 3).toArray());
+		assertEquals(Array.of(4.0, 3.0), Windowed.average(List.of(3, 5, 1), 2).toArray());
+		assertEquals(Array.of(1, 1, 1, 1, 2, 2), Windowed.min(xs, 3).toArray());
+		assertEquals(Array.of(4, 4, 5, 9, 9, 9), Windowed.max(xs, 3).toArray());
+		// window larger than the sequence: one window with everything
+		assertEquals(Array.of(31.0), Windowed.sum(xs, 100).toArray());
+	}
+
+	@Test
+	void infiniteStreams() {
+		// lazy, so infinite streams work
+		assertEquals(Array.of(1.0, 3.0, 5.0, 7.0), Windowed.sum(Stream.from(0), 2).take(4).toArray());
+		assertEquals(Array.of(999_499.5), Windowed.average(Stream.from(0), 1000, 1000).drop(999).take(1).toArray());
+		assertEquals(Array.of(6, 8, 10), Windowed.max(Stream.from(0), 3, 2, Comparator.naturalOrder()).drop(2).take(3).toArray());
+	}
+
+	@Test
+	void slideBy() {
+		// slideBy() folds the runs Traversable.slideBy would return
+		List<Integer> xs = List.of(1, 1, 2, 2, 2, 1, 3);
+		assertEquals(xs.slideBy(x -> x).map(Traversable::size).toArray(),
+				Windowed.slideBy(xs, x -> x, 0, (count, x) -> count + 1).toArray());
+		assertEquals(Array.of(2, 6, 1, 3), Windowed.slideBy(xs, x -> x, 0, Integer::sum).toArray());
+		assertEquals(Array.empty(), Windowed.slideBy(List.<Integer>empty(), x -> x, 0, Integer::sum).toArray());
+		assertEquals(Array.of(45, 145), Windowed.slideBy(Stream.from(0), x -> x / 10, 0, Integer::sum).take(2).toArray());
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> Windowed.sum(List.of(1), 0));
+		assertThrows(IllegalArgumentException.class, () -> Windowed.sum(List.of(1), 1, 0));
+	}
+}